@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.loadtest;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One OpenStack neutron server talking to the northbound: it sends requests
+ * one at a time, as the ML2 driver of a neutron worker does, and records the
+ * latency of each per endpoint.
+ *
+ * <p>
+ * A client is used by a single thread. Responses are read to the end so the
+ * connection is kept alive for the next request.
+ */
+final class NeutronLoadClient {
+    private final String baseUrl;
+    private final int index;
+    private final Map<String, EndpointStats> stats = new HashMap<>();
+    private long sequence;
+    private volatile boolean recording;
+
+    NeutronLoadClient(String baseUrl, int index) {
+        this.baseUrl = baseUrl;
+        this.index = index;
+    }
+
+    /**
+     * Returns a UUID for a new object, unique among those of all clients.
+     */
+    String newUuid() {
+        return new UUID(0x4c6f6164L << 32 | index, ++sequence).toString();
+    }
+
+    /**
+     * Starts or stops recording, such as at the end of the warmup.
+     */
+    void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    Map<String, EndpointStats> getStats() {
+        return stats;
+    }
+
+    boolean get(String endpoint, String path) {
+        return send(endpoint, "GET", path, null);
+    }
+
+    boolean post(String endpoint, String path, String content) {
+        return send(endpoint, "POST", path, content);
+    }
+
+    boolean put(String endpoint, String path, String content) {
+        return send(endpoint, "PUT", path, content);
+    }
+
+    boolean delete(String endpoint, String path) {
+        return send(endpoint, "DELETE", path, null);
+    }
+
+    private boolean send(String endpoint, String method, String path, String content) {
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final HttpURLConnection httpConn = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+            httpConn.setRequestMethod(method);
+            httpConn.setRequestProperty("Content-Type", "application/json");
+            httpConn.setRequestProperty("Authorization", "Basic YWRtaW46YWRtaW4=");
+            if (content != null) {
+                httpConn.setDoOutput(true);
+                try (OutputStream output = httpConn.getOutputStream()) {
+                    output.write(content.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            final int responseCode = httpConn.getResponseCode();
+            success = responseCode >= 200 && responseCode < 300;
+            try (InputStream input = success ? httpConn.getInputStream() : httpConn.getErrorStream()) {
+                if (input != null) {
+                    ByteStreams.exhaust(input);
+                }
+            }
+        } catch (IOException e) {
+            success = false;
+        }
+        if (recording) {
+            stats.computeIfAbsent(endpoint, key -> new EndpointStats()).record(System.nanoTime() - start, success);
+        }
+        return success;
+    }
+
+    /**
+     * The latencies of the requests to an endpoint, all kept so the
+     * percentiles of the merged statistics of the clients are exact.
+     */
+    static final class EndpointStats {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latency, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void merge(EndpointStats other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Returns the latencies in nanoseconds at the given percentiles,
+         * by the nearest rank.
+         */
+        long[] percentiles(double... percentiles) {
+            final long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            final long[] result = new long[percentiles.length];
+            for (int i = 0; i < percentiles.length; i++) {
+                final int rank = (int) Math.ceil(percentiles[i] / 100 * count);
+                result[i] = count == 0 ? 0 : sorted[Math.max(rank, 1) - 1];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.neutron.loadtest.NeutronLoadClient.EndpointStats;
+import org.opendaylight.neutron.spi.NeutronMetrics;
+
+/**
+ * Replays a mix of {@link NeutronWorkload}s with concurrent clients against
+ * the northbound, and reports the throughput and latency percentiles of each
+ * endpoint.
+ *
+ * <p>
+ * Unless given the URL of a running northbound, it starts a
+ * {@link NeutronServer} in the same JVM, whose server side
+ * {@link NeutronMetrics} are reported too. Run with:
+ * <pre>
+ * java -cp target/benchmarks.jar org.opendaylight.neutron.loadtest.NeutronLoadGenerator \
+ *     clients=16 duration=60 warmup=10 mix=port-storm:6,full-sync:1,security-rule-churn:3 ports=1000
+ * </pre>
+ * Other arguments are {@code serverThreads=64} and
+ * {@code url=http://host:8080/controller/nb/v2/neutron}.
+ */
+public final class NeutronLoadGenerator {
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9, 100 };
+
+    private final Map<String, String> options = new HashMap<>();
+
+    private NeutronLoadGenerator(String[] args) {
+        options.put("clients", "16");
+        options.put("duration", "60");
+        options.put("warmup", "10");
+        options.put("mix", "port-storm:6,full-sync:1,security-rule-churn:3");
+        options.put("ports", "1000");
+        options.put("serverThreads", "64");
+        for (final String arg : args) {
+            final int equals = arg.indexOf('=');
+            if (equals < 0 || !options.containsKey(arg.substring(0, equals)) && !arg.startsWith("url=")) {
+                throw new IllegalArgumentException("Unknown argument " + arg + ", expected one of "
+                        + options.keySet() + " or url as name=value");
+            }
+            options.put(arg.substring(0, equals), arg.substring(equals + 1));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new NeutronLoadGenerator(args).run(System.out);
+    }
+
+    private int intOption(String name) {
+        return Integer.parseInt(options.get(name));
+    }
+
+    private void run(PrintStream out) throws Exception {
+        final String url = options.get("url");
+        if (url != null) {
+            run(out, url);
+            return;
+        }
+        NeutronMetrics.getInstance().setEnabled(true);
+        try (NeutronServer server = new NeutronServer(intOption("serverThreads"))) {
+            run(out, server.getBaseUri().toString());
+            out.println();
+            out.println("Server side:");
+            out.print(NeutronMetrics.getInstance().dump());
+        }
+    }
+
+    private void run(PrintStream out, String url) throws InterruptedException {
+        final Map<NeutronWorkload, Integer> mix = new EnumMap<>(NeutronWorkload.class);
+        for (final String weight : options.get("mix").split(",")) {
+            final String[] parts = weight.split(":");
+            mix.put(NeutronWorkload.forName(parts[0].trim()), parts.length > 1 ? Integer.parseInt(parts[1]) : 1);
+        }
+        final NeutronWorkload[] steps = mix.entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(NeutronWorkload[]::new);
+
+        out.println("Populating " + url + " with " + options.get("ports") + " ports");
+        if (!NeutronWorkload.populate(new NeutronLoadClient(url, 0), intOption("ports"))) {
+            throw new IllegalStateException("Could not populate " + url);
+        }
+
+        final List<NeutronLoadClient> clients = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        final long end = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(intOption("warmup") + intOption("duration"));
+        for (int i = 1; i <= intOption("clients"); i++) {
+            final NeutronLoadClient client = new NeutronLoadClient(url, i);
+            final Thread thread = new Thread(() -> {
+                while (System.nanoTime() - end < 0) {
+                    steps[ThreadLocalRandom.current().nextInt(steps.length)].run(client);
+                }
+            }, "neutron-load-client-" + i);
+            clients.add(client);
+            threads.add(thread);
+            thread.start();
+        }
+
+        out.println("Running " + options.get("mix") + " with " + clients.size() + " clients, warming up for "
+                + options.get("warmup") + "s");
+        TimeUnit.SECONDS.sleep(intOption("warmup"));
+        NeutronMetrics.getInstance().reset();
+        final long start = System.nanoTime();
+        clients.forEach(client -> client.setRecording(true));
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+
+        final Map<String, EndpointStats> endpoints = new TreeMap<>();
+        for (final NeutronLoadClient client : clients) {
+            client.getStats().forEach((endpoint, stats) ->
+                    endpoints.computeIfAbsent(endpoint, key -> new EndpointStats()).merge(stats));
+        }
+        out.println();
+        out.println(String.format(Locale.ROOT, "%-34s %9s %7s %9s %9s %9s %9s %9s %9s", "endpoint", "count",
+                "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        endpoints.forEach((endpoint, stats) -> {
+            final long[] latencies = stats.percentiles(PERCENTILES);
+            out.println(String.format(Locale.ROOT, "%-34s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f", endpoint,
+                    stats.getCount(), stats.getErrors(), stats.getCount() / seconds, latencies[0] / 1e6,
+                    latencies[1] / 1e6, latencies[2] / 1e6, latencies[3] / 1e6, latencies[4] / 1e6));
+        });
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.loadtest;
+
+import com.sun.jersey.api.container.ContainerFactory;
+import com.sun.jersey.api.core.ApplicationAdapter;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.test.AbstractConcurrentDataBrokerTest;
+import org.opendaylight.neutron.northbound.api.AbstractNeutronNorthbound;
+import org.opendaylight.neutron.northbound.api.NeutronNorthboundRSApplication;
+import org.opendaylight.neutron.transcriber.NeutronTranscriberProvider;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+
+/**
+ * The neutron northbound and transcriber in the current JVM, without OSGi.
+ *
+ * <p>
+ * The transcriber writes to the in-memory data store of the MD-SAL binding
+ * test fixture, with the models found on the classpath. The CRUD services it
+ * registers are kept here, and supplied to the northbound through
+ * {@link AbstractNeutronNorthbound#setServiceSupplier}, so only one server
+ * runs at a time. {@link NeutronNorthboundRSApplication} is served by
+ * Jersey on the HTTP server of the JDK, on the loopback interface under the
+ * context path it has in Karaf.
+ */
+public final class NeutronServer implements AutoCloseable {
+    private static final String CONTEXT_PATH = "/controller/nb/v2/neutron";
+
+    private final ConcurrentMap<Class<?>, Object> services = new ConcurrentHashMap<>();
+    private final NeutronTranscriberProvider transcriber;
+    private final ExecutorService executor;
+    private final HttpServer httpServer;
+    private final URI baseUri;
+
+    /**
+     * Starts a server.
+     *
+     * @param threads number of threads serving requests
+     * @throws Exception if the data store or the HTTP server fail to start
+     */
+    public NeutronServer(int threads) throws Exception {
+        AbstractNeutronNorthbound.setServiceSupplier(services::get);
+        transcriber = new NeutronTranscriberProvider(standaloneContext(), new InMemoryDataBroker().start());
+        transcriber.init();
+
+        executor = Executors.newFixedThreadPool(threads);
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext(CONTEXT_PATH, ContainerFactory.createContainer(HttpHandler.class,
+                new ApplicationAdapter(new NeutronNorthboundRSApplication())));
+        httpServer.setExecutor(executor);
+        httpServer.start();
+        final InetSocketAddress address = httpServer.getAddress();
+        baseUri = URI.create("http://" + address.getHostString() + ":" + address.getPort() + CONTEXT_PATH);
+    }
+
+    /**
+     * Returns the URI of the northbound, such as
+     * http://127.0.0.1:41263/controller/nb/v2/neutron.
+     */
+    public URI getBaseUri() {
+        return baseUri;
+    }
+
+    @Override
+    public void close() throws Exception {
+        httpServer.stop(0);
+        executor.shutdown();
+        transcriber.close();
+        AbstractNeutronNorthbound.setServiceSupplier(null);
+    }
+
+    // just enough of a bundle context for the transcriber to register its services
+    private BundleContext standaloneContext() {
+        return (BundleContext) Proxy.newProxyInstance(BundleContext.class.getClassLoader(),
+                new Class<?>[] { BundleContext.class }, (proxy, method, args) -> {
+                    if (!"registerService".equals(method.getName()) || !(args[0] instanceof Class)) {
+                        throw new UnsupportedOperationException(method.toString());
+                    }
+                    final Class<?> clazz = (Class<?>) args[0];
+                    services.put(clazz, args[1]);
+                    return Proxy.newProxyInstance(ServiceRegistration.class.getClassLoader(),
+                            new Class<?>[] { ServiceRegistration.class }, (registration, registrationMethod, none) -> {
+                                if (!"unregister".equals(registrationMethod.getName())) {
+                                    throw new UnsupportedOperationException(registrationMethod.toString());
+                                }
+                                services.remove(clazz, args[1]);
+                                return null;
+                            });
+                });
+    }
+
+    /**
+     * The MD-SAL binding test fixture, with a data store which commits
+     * concurrently as the production one does.
+     */
+    private static final class InMemoryDataBroker extends AbstractConcurrentDataBrokerTest {
+        InMemoryDataBroker() {
+            super(true);
+        }
+
+        DataBroker start() throws Exception {
+            setup();
+            return getDataBroker();
+        }
+    }
+}
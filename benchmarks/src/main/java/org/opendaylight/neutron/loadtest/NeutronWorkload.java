@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.loadtest;
+
+import java.util.Locale;
+
+/**
+ * The sequences of requests the OpenStack ML2 driver sends, each played by a
+ * client as one step of a workload mix.
+ *
+ * <p>
+ * All of them work on the topology created by {@link #populate}: one network
+ * with one subnet, a security group and a number of ports, all of one tenant.
+ */
+enum NeutronWorkload {
+    /**
+     * A port created by nova, bound to a compute host and deleted, as when
+     * booting and destroying many VMs.
+     */
+    PORT_STORM {
+        @Override
+        void run(NeutronLoadClient client) {
+            final String uuid = client.newUuid();
+            client.post("POST /ports", "/ports", port(uuid, "storm-port"));
+            client.put("PUT /ports/{id}", "/ports/" + uuid, "{ \"port\": {"
+                    + "\"binding:host_id\": \"compute-" + Math.abs(uuid.hashCode() % 64) + "\","
+                    + "\"binding:vif_type\": \"ovs\"," + "\"binding:vif_details\": {},"
+                    + "\"device_owner\": \"compute:nova\"," + "\"device_id\": \"" + client.newUuid() + "\" } }");
+            client.delete("DELETE /ports/{id}", "/ports/" + uuid);
+        }
+    },
+
+    /**
+     * The lists read by the periodic full synchronization of the driver.
+     */
+    FULL_SYNC {
+        @Override
+        void run(NeutronLoadClient client) {
+            client.get("GET /networks", "/networks");
+            client.get("GET /subnets", "/subnets");
+            client.get("GET /ports", "/ports");
+            client.get("GET /security-groups", "/security-groups");
+            client.get("GET /security-group-rules", "/security-group-rules");
+        }
+    },
+
+    /**
+     * A security group rule added and removed by a tenant.
+     */
+    SECURITY_RULE_CHURN {
+        @Override
+        void run(NeutronLoadClient client) {
+            final String uuid = client.newUuid();
+            client.post("POST /security-group-rules", "/security-group-rules", "{ \"security_group_rule\": {"
+                    + "\"id\": \"" + uuid + "\"," + "\"tenant_id\": \"" + TENANT_ID + "\","
+                    + "\"security_group_id\": \"" + SECURITY_GROUP_ID + "\","
+                    + "\"direction\": \"ingress\"," + "\"ethertype\": \"IPv4\"," + "\"protocol\": \"tcp\","
+                    + "\"port_range_min\": 22," + "\"port_range_max\": 22,"
+                    + "\"remote_ip_prefix\": \"10.0.0.0/8\" } }");
+            client.delete("DELETE /security-group-rules/{id}", "/security-group-rules/" + uuid);
+        }
+    };
+
+    static final String TENANT_ID = "9bacb3c5d39d41a79512987f338cf177";
+    static final String NETWORK_ID = "4e8e5957-649f-477b-9e5b-f1f75b21c03c";
+    static final String SUBNET_ID = "3b80198d-4f7b-4f77-9ef5-774d54e17126";
+    static final String SECURITY_GROUP_ID = "521e29d6-67be-4b3f-8d4f-1d4e2a6c9a3b";
+
+    private static final int BULK_SIZE = 100;
+
+    /**
+     * Sends the requests of one step.
+     */
+    abstract void run(NeutronLoadClient client);
+
+    /**
+     * Returns the name of the workload in a mix, such as port-storm.
+     */
+    String getName() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    static NeutronWorkload forName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    /**
+     * Creates the topology the workloads run on, with the given number of
+     * ports in bulk requests.
+     *
+     * @return whether all requests succeeded
+     */
+    static boolean populate(NeutronLoadClient client, int ports) {
+        boolean success = client.post("POST /networks", "/networks", "{ \"network\": {"
+                + "\"id\": \"" + NETWORK_ID + "\"," + "\"tenant_id\": \"" + TENANT_ID + "\","
+                + "\"name\": \"load-net\"," + "\"admin_state_up\": true," + "\"shared\": false,"
+                + "\"router:external\": false," + "\"provider:network_type\": \"vxlan\","
+                + "\"provider:segmentation_id\": 1000," + "\"status\": \"ACTIVE\" } }");
+        success &= client.post("POST /subnets", "/subnets", "{ \"subnet\": {"
+                + "\"id\": \"" + SUBNET_ID + "\"," + "\"tenant_id\": \"" + TENANT_ID + "\","
+                + "\"network_id\": \"" + NETWORK_ID + "\"," + "\"name\": \"load-subnet\","
+                + "\"ip_version\": 4," + "\"cidr\": \"10.0.0.0/8\"," + "\"gateway_ip\": \"10.0.0.1\","
+                + "\"enable_dhcp\": true," + "\"allocation_pools\": [ {"
+                + "\"start\": \"10.0.0.2\"," + "\"end\": \"10.255.255.254\" } ] } }");
+        success &= client.post("POST /security-groups", "/security-groups", "{ \"security_group\": {"
+                + "\"id\": \"" + SECURITY_GROUP_ID + "\"," + "\"tenant_id\": \"" + TENANT_ID + "\","
+                + "\"name\": \"load-sg\"," + "\"description\": \"\" } }");
+        for (int created = 0; created < ports; created += BULK_SIZE) {
+            final StringBuilder content = new StringBuilder("{ \"ports\": [ ");
+            for (int i = created; i < Math.min(created + BULK_SIZE, ports); i++) {
+                if (i > created) {
+                    content.append(", ");
+                }
+                final String port = port(client.newUuid(), "port-" + i);
+                content.append(port, "{ \"port\": ".length(), port.length() - " }".length());
+            }
+            success &= client.post("POST /ports (bulk)", "/ports", content.append(" ] }").toString());
+        }
+        return success;
+    }
+
+    // the MAC and fixed IP are derived from the last 24 bits of the UUID
+    private static String port(String uuid, String name) {
+        final int low = Integer.parseInt(uuid.substring(uuid.length() - 6), 16);
+        final int byte1 = low >>> 16;
+        final int byte2 = low >>> 8 & 0xff;
+        final int byte3 = low & 0xff;
+        return "{ \"port\": {"
+                + "\"id\": \"" + uuid + "\"," + "\"tenant_id\": \"" + TENANT_ID + "\","
+                + "\"network_id\": \"" + NETWORK_ID + "\"," + "\"name\": \"" + name + "\","
+                + "\"admin_state_up\": true," + "\"status\": \"DOWN\"," + "\"port_security_enabled\": true,"
+                + String.format(Locale.ROOT, "\"mac_address\": \"fa:16:3e:%02x:%02x:%02x\",", byte1, byte2, byte3)
+                + "\"binding:host_id\": \"\"," + "\"binding:vnic_type\": \"normal\","
+                + "\"binding:vif_type\": \"unbound\"," + "\"binding:vif_details\": {}," + "\"binding:profile\": {},"
+                + "\"device_owner\": \"\"," + "\"device_id\": \"\"," + "\"allowed_address_pairs\": [],"
+                + "\"security_groups\": [ \"" + SECURITY_GROUP_ID + "\" ],"
+                + "\"fixed_ips\": [ { \"subnet_id\": \"" + SUBNET_ID + "\","
+                + String.format(Locale.ROOT, "\"ip_address\": \"10.%d.%d.%d\" } ] } }", byte1, byte2, byte3);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.northbound.api;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import com.sun.jersey.core.header.OutBoundHeaders;
+import com.sun.jersey.core.util.MultivaluedMapImpl;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.UriInfo;
+import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
+import org.opendaylight.neutron.spi.NeutronQueryResult;
+import org.opendaylight.neutron.transcriber.NeutronResource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Marshals and unmarshals the request objects of every resource through the
+ * {@link NeutronJsonProvider} configured by
+ * {@link NeutronNorthboundRSApplication#getSingletons()}, and writes their
+ * objects through {@link NeutronListStreamingOutput} as list responses are.
+ *
+ * <p>
+ * Payloads are a single object, a bulk of {@value #BULK_SIZE} objects, and a page
+ * of {@value #PAGE_SIZE} objects out of these with its next and previous links.
+ * Each is written formatted and compact. Besides the operations per second,
+ * the {@code bytes} counter gives the bytes written per second, so the size
+ * of a payload is their ratio. Run with {@code -prof gc} for the bytes
+ * allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeutronJsonProviderBenchmark {
+    private static final int BULK_SIZE = 1000;
+    private static final int PAGE_SIZE = 100;
+    private static final URI ABSOLUTE_PATH = URI.create("http://127.0.0.1:8080/controller/nb/v2/neutron/resources");
+    private static final Annotation[] ANNOTATIONS = new Annotation[0];
+    private static final Map<NeutronResource, Class<?>> REQUEST_CLASSES = new EnumMap<>(NeutronResource.class);
+
+    static {
+        REQUEST_CLASSES.put(NeutronResource.BGPVPN, NeutronBgpvpnRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.FIREWALL, NeutronFirewallRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.FIREWALL_POLICY, NeutronFirewallPolicyRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.FIREWALL_RULE, NeutronFirewallRuleRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.FLOATING_IP, NeutronFloatingIpRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.L2GATEWAY, NeutronL2gatewayRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.L2GATEWAY_CONNECTION, NeutronL2gatewayConnectionRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.LOADBALANCER, NeutronLoadBalancerRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.LOADBALANCER_HEALTH_MONITOR, NeutronLoadBalancerHealthMonitorRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.LOADBALANCER_LISTENER, NeutronLoadBalancerListenerRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.LOADBALANCER_POOL, NeutronLoadBalancerPoolRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.METERING_LABEL, NeutronMeteringLabelRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.METERING_LABEL_RULE, NeutronMeteringLabelRuleRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.NETWORK, NeutronNetworkRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.PORT, NeutronPortRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.QOS_POLICY, NeutronQosPolicyRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.ROUTER, NeutronRouterRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.SECURITY_GROUP, NeutronSecurityGroupRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.SECURITY_RULE, NeutronSecurityRuleRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.SFC_FLOW_CLASSIFIER, NeutronSFCFlowClassifierRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.SFC_PORT_CHAIN, NeutronSFCPortChainRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.SFC_PORT_PAIR, NeutronSFCPortPairRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.SFC_PORT_PAIR_GROUP, NeutronSFCPortPairGroupRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.SUBNET, NeutronSubnetRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.TRUNK, NeutronTrunkRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.VPN_IKE_POLICY, NeutronVpnIkePolicyRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.VPN_IPSEC_POLICY, NeutronVpnIpSecPolicyRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.VPN_IPSEC_SITE_CONNECTION, NeutronVpnIpSecSiteConnectionRequest.class);
+        REQUEST_CLASSES.put(NeutronResource.VPN_SERVICE, NeutronVpnServiceRequest.class);
+    }
+
+    public enum Payload {
+        SINGLETON, BULK, PAGE
+    }
+
+    @Param
+    private NeutronResource resource;
+
+    @Param
+    private Payload payload;
+
+    @Param({ "true", "false" })
+    private boolean formatted;
+
+    private NeutronJsonProvider provider;
+    private Class<Object> requestClass;
+    private Class<?> objectClass;
+    private Object request;
+    private List<?> items;
+    private List<NeutronPageLink> links;
+    private byte[] json;
+
+    /**
+     * Bytes written, reported as a rate next to the operations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Output {
+        @SuppressWarnings("checkstyle:VisibilityModifier")
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        CountingOutputStream newStream() {
+            return new CountingOutputStream(ByteStreams.nullOutputStream());
+        }
+
+        void count(CountingOutputStream stream) {
+            bytes += stream.getCount();
+        }
+    }
+
+    @Setup
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void setup() throws IOException {
+        System.setProperty(NeutronNorthboundRSApplication.FORMATTED_OUTPUT_PROPERTY, Boolean.toString(formatted));
+        provider = (NeutronJsonProvider) new NeutronNorthboundRSApplication().getSingletons().iterator().next();
+        requestClass = (Class<Object>) REQUEST_CLASSES.get(resource);
+
+        final NeutronRequestMetadata metadata = NeutronRequestMetadata.of(requestClass);
+        final List<INeutronObject<?>> objects = resource.generate(payload == Payload.SINGLETON ? 1 : BULK_SIZE);
+        objectClass = objects.get(0).getClass();
+        switch (payload) {
+            case SINGLETON:
+                items = objects;
+                request = metadata.newSingletonRequest(objects.get(0));
+                break;
+            case BULK:
+                items = objects;
+                request = metadata.newBulkRequest(objects);
+                break;
+            default:
+                final NeutronQueryResult page = new NeutronQuery(new NeutronFilter()).page(PAGE_SIZE,
+                        objects.get(BULK_SIZE / 2).getID(), false).apply(objects);
+                items = page.getItems();
+                links = PaginatedRequestFactory.createLinks(PAGE_SIZE, page, uriInfo());
+                request = metadata.newPageRequest(items, links);
+                break;
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        write(output);
+        json = output.toByteArray();
+    }
+
+    // the links only need the request path
+    private static UriInfo uriInfo() {
+        return (UriInfo) Proxy.newProxyInstance(UriInfo.class.getClassLoader(), new Class<?>[] { UriInfo.class },
+                (proxy, method, args) -> {
+                    if ("getAbsolutePath".equals(method.getName())) {
+                        return ABSOLUTE_PATH;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private void write(OutputStream output) throws IOException {
+        provider.writeTo(request, requestClass, requestClass, ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                new OutBoundHeaders(), output);
+    }
+
+    @Benchmark
+    public void marshal(Output output) throws IOException {
+        final CountingOutputStream stream = output.newStream();
+        write(stream);
+        output.count(stream);
+    }
+
+    @Benchmark
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void marshalStreamed(Output output) throws IOException {
+        final CountingOutputStream stream = output.newStream();
+        new NeutronListStreamingOutput(requestClass, objectClass, items, links).write(stream);
+        output.count(stream);
+    }
+
+    @Benchmark
+    public Object unmarshal() throws IOException {
+        return provider.readFrom(requestClass, requestClass, ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                new MultivaluedMapImpl(), new ByteArrayInputStream(json));
+    }
+}
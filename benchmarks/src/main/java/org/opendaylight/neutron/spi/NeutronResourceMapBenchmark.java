@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Marshals 10k ports with vif_details, and their vif_details alone once
+ * through {@link NeutronResourceMapPropertyAdapter} and once through the
+ * DOM based mapping it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeutronResourceMapBenchmark {
+    private static final int PORTS = 10000;
+
+    private Marshaller portsMarshaller;
+    private Marshaller mapsMarshaller;
+    private Ports ports;
+    private Maps maps;
+    private DomMaps domMaps;
+
+    @Setup
+    public void setup() throws JAXBException {
+        final Map<String, String> namespacePrefixMapper = new HashMap<>();
+        namespacePrefixMapper.put("binding", "binding");
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(JAXBContextProperties.MEDIA_TYPE, "application/json");
+        properties.put(JAXBContextProperties.JSON_INCLUDE_ROOT, false);
+        properties.put(JAXBContextProperties.JSON_NAMESPACE_SEPARATOR, ':');
+        properties.put(JAXBContextProperties.NAMESPACE_PREFIX_MAPPER, namespacePrefixMapper);
+        final JAXBContext portsContext = JAXBContextFactory.createContext(new Class<?>[] { Ports.class }, properties);
+        final JAXBContext mapsContext = JAXBContextFactory.createContext(
+                new Class<?>[] { Maps.class, DomMaps.class }, properties);
+        portsMarshaller = portsContext.createMarshaller();
+        mapsMarshaller = mapsContext.createMarshaller();
+
+        ports = new Ports();
+        maps = new Maps();
+        domMaps = new DomMaps();
+        for (int i = 0; i < PORTS; i++) {
+            final Map<String, String> vifDetails = new HashMap<>();
+            vifDetails.put("port_filter", "true");
+            vifDetails.put("ovs_hybrid_plug", "false");
+            final NeutronPort port = new NeutronPort();
+            port.setID(String.format("4e8e5957-649f-477b-9e5b-%012d", i));
+            port.setName("port" + i);
+            port.setVIFDetails(vifDetails);
+            ports.ports.add(port);
+            maps.vifDetails.add(vifDetails);
+            domMaps.vifDetails.add(vifDetails);
+        }
+    }
+
+    @Benchmark
+    public void marshalPorts() throws JAXBException {
+        portsMarshaller.marshal(ports, NullOutputStream.INSTANCE);
+    }
+
+    @Benchmark
+    public void marshalVifDetails() throws JAXBException {
+        mapsMarshaller.marshal(maps, NullOutputStream.INSTANCE);
+    }
+
+    @Benchmark
+    public void marshalVifDetailsDom() throws JAXBException {
+        mapsMarshaller.marshal(domMaps, NullOutputStream.INSTANCE);
+    }
+
+    @XmlRootElement
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static final class Ports {
+        @XmlElement(name = "ports")
+        final List<NeutronPort> ports = new ArrayList<>();
+    }
+
+    @XmlRootElement
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static final class Maps {
+        @XmlElement(name = "vif_details")
+        @XmlJavaTypeAdapter(NeutronResourceMapPropertyAdapter.class)
+        final List<Map<String, String>> vifDetails = new ArrayList<>();
+    }
+
+    @XmlRootElement
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static final class DomMaps {
+        @XmlElement(name = "vif_details")
+        @XmlJavaTypeAdapter(DomMapAdapter.class)
+        final List<Map<String, String>> vifDetails = new ArrayList<>();
+    }
+
+    /**
+     * The previous NeutronResourceMapPropertyAdapter.marshal().
+     */
+    public static final class DomMapAdapter extends XmlAdapter<Object, Map<String, String>> {
+        @Override
+        public Map<String, String> unmarshal(Object domTree) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object marshal(Map<String, String> map) throws ParserConfigurationException {
+            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+            DocumentBuilder db = dbf.newDocumentBuilder();
+            Document doc = db.newDocument();
+            Element customXml = doc.createElement("Map");
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                Element keyValuePair = doc.createElement(entry.getKey());
+                keyValuePair.appendChild(doc.createTextNode(entry.getValue()));
+                customXml.appendChild(keyValuePair);
+            }
+            return customXml;
+        }
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int value) throws IOException {
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) throws IOException {
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import com.google.common.net.InetAddresses;
+import java.math.BigInteger;
+import java.net.Inet6Address;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.net.util.SubnetUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the subnet address checks on the parsed CIDR and allocation
+ * pools with the previous implementation, which parsed them again on each
+ * call with {@link SubnetUtils}, {@link BigInteger} and a bit-by-bit loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeutronSubnetBenchmark {
+    private static final int IPV6_LENGTH_BYTES = 8;
+    private static final long IPV6_LSB_MASK = 0x000000FF;
+    private static final int IPV6_BYTE_OFFSET = 7;
+
+    private static final String V4_CIDR = "10.18.0.0/16";
+    private static final String V4_ADDRESS = "10.18.200.17";
+    private static final String V6_CIDR = "2015:0:0:0:0:0:0:0/64";
+    private static final String V6_ADDRESS = "2015::1:0:0:1";
+
+    private NeutronSubnet subnetV4;
+    private NeutronSubnet subnetV6;
+
+    @Setup
+    public void setup() {
+        subnetV4 = newSubnet(4, V4_CIDR, "10.18.0.1", "10.18.0.2", "10.18.127.254", "10.18.128.1", "10.18.255.254");
+        subnetV6 = newSubnet(6, V6_CIDR, "2015::1", "2015::2", "2015::7fff", "2015::8001", "2015::ffff");
+    }
+
+    private static NeutronSubnet newSubnet(int ipVersion, String cidr, String gatewayIp, String... pools) {
+        final NeutronSubnet subnet = new NeutronSubnet();
+        subnet.setIpVersion(ipVersion);
+        subnet.setCidr(cidr);
+        subnet.setGatewayIp(gatewayIp);
+        final List<NeutronSubnetIpAllocationPool> allocationPools = new ArrayList<>();
+        for (int i = 0; i + 1 < pools.length; i += 2) {
+            allocationPools.add(new NeutronSubnetIpAllocationPool(pools[i], pools[i + 1]));
+        }
+        subnet.setAllocationPools(allocationPools);
+        return subnet;
+    }
+
+    @Benchmark
+    public boolean isValidIpV4Previous() {
+        return new SubnetUtils(V4_CIDR).getInfo().isInRange(V4_ADDRESS);
+    }
+
+    @Benchmark
+    public boolean isValidIpV4() {
+        return subnetV4.isValidIp(V4_ADDRESS);
+    }
+
+    @Benchmark
+    public boolean isValidIpV6Previous() {
+        final String[] parts = V6_CIDR.split("/");
+        final int length = Integer.parseInt(parts[1]);
+        final byte[] cidrBytes = ((Inet6Address) InetAddresses.forString(parts[0])).getAddress();
+        final byte[] ipBytes = ((Inet6Address) InetAddresses.forString(V6_ADDRESS)).getAddress();
+        for (int index = 0; index < length; index++) {
+            final int bit = 1 << IPV6_BYTE_OFFSET - index % IPV6_LENGTH_BYTES;
+            if ((cidrBytes[index / IPV6_LENGTH_BYTES] & IPV6_LSB_MASK & bit)
+                    != (ipBytes[index / IPV6_LENGTH_BYTES] & IPV6_LSB_MASK & bit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean isValidIpV6() {
+        return subnetV6.isValidIp(V6_ADDRESS);
+    }
+
+    @Benchmark
+    public boolean isValidCidrV4Previous() {
+        final SubnetUtils.SubnetInfo info = new SubnetUtils(V4_CIDR).getInfo();
+        return info.getNetworkAddress().equals(info.getAddress());
+    }
+
+    @Benchmark
+    public boolean isValidCidrV4() {
+        return subnetV4.isValidCIDR();
+    }
+
+    @Benchmark
+    public boolean gatewayIpPoolOverlapV6Previous() {
+        for (NeutronSubnetIpAllocationPool pool : subnetV6.getAllocationPools()) {
+            final BigInteger inputIp = NeutronSubnetIpAllocationPool.convertV6(subnetV6.getGatewayIp());
+            final BigInteger startIp = NeutronSubnetIpAllocationPool.convertV6(pool.getPoolStart());
+            final BigInteger endIp = NeutronSubnetIpAllocationPool.convertV6(pool.getPoolEnd());
+            if (inputIp.compareTo(startIp) >= 0 && inputIp.compareTo(endIp) <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean gatewayIpPoolOverlapV6() {
+        return subnetV6.gatewayIp_Pool_overlap();
+    }
+
+    @Benchmark
+    public String getLowAddrV6Previous() {
+        String ans = null;
+        for (NeutronSubnetIpAllocationPool pool : subnetV6.getAllocationPools()) {
+            if (ans == null || NeutronSubnetIpAllocationPool.convertV6(pool.getPoolStart())
+                    .compareTo(NeutronSubnetIpAllocationPool.convertV6(ans)) < 0) {
+                ans = pool.getPoolStart();
+            }
+        }
+        return ans;
+    }
+
+    @Benchmark
+    public String getLowAddrV6() {
+        return subnetV6.getLowAddr();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Uuid;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.ports.rev150712.ports.attributes.ports.Port;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.ports.rev150712.ports.attributes.ports.PortBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.ports.rev150712.ports.attributes.ports.PortKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the reflective builder access the transcribers used to do on
+ * every write and key lookup with the accessors bound by
+ * {@link BindingAccessors}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingAccessorsBenchmark {
+
+    private static final Uuid UUID = new Uuid("4e8e5957-649f-477b-9e5b-f1f75b21c03c");
+    private static final Uuid TENANT = new Uuid("9bacb3c5-d4a1-4e07-9cbc-3bd0b4e6b1c4");
+    private static final String NAME = "port1";
+    private static final Long REVISION = 1L;
+    private static final Boolean ADMIN_STATE_UP = Boolean.TRUE;
+    private static final String STATUS = "ACTIVE";
+
+    private Method reflectSetUuid;
+    private Method reflectSetTenantId;
+    private Method reflectSetName;
+    private Method reflectSetRevisionNumber;
+    private Method reflectSetAdminStateUp;
+    private Method reflectSetStatus;
+
+    private Supplier<PortBuilder> newBuilder;
+    private Function<Uuid, PortKey> newKey;
+    private BiConsumer<Object, Uuid> setUuid;
+    private BiConsumer<Object, Uuid> setTenantId;
+    private BiConsumer<Object, String> setName;
+    private BiConsumer<Object, Long> setRevisionNumber;
+    private BiConsumer<Object, Boolean> setAdminStateUp;
+    private BiConsumer<Object, String> setStatus;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        reflectSetUuid = PortBuilder.class.getDeclaredMethod("setUuid", Uuid.class);
+        reflectSetTenantId = PortBuilder.class.getDeclaredMethod("setTenantId", Uuid.class);
+        reflectSetName = PortBuilder.class.getDeclaredMethod("setName", String.class);
+        reflectSetRevisionNumber = PortBuilder.class.getDeclaredMethod("setRevisionNumber", Long.class);
+        reflectSetAdminStateUp = PortBuilder.class.getDeclaredMethod("setAdminStateUp", Boolean.class);
+        reflectSetStatus = PortBuilder.class.getDeclaredMethod("setStatus", String.class);
+
+        newBuilder = BindingAccessors.constructor(PortBuilder.class);
+        newKey = BindingAccessors.constructor(PortKey.class, Uuid.class);
+        setUuid = BindingAccessors.setter(PortBuilder.class, "setUuid", Uuid.class);
+        setTenantId = BindingAccessors.setter(PortBuilder.class, "setTenantId", Uuid.class);
+        setName = BindingAccessors.setter(PortBuilder.class, "setName", String.class);
+        setRevisionNumber = BindingAccessors.setter(PortBuilder.class, "setRevisionNumber", Long.class);
+        setAdminStateUp = BindingAccessors.setter(PortBuilder.class, "setAdminStateUp", Boolean.class);
+        setStatus = BindingAccessors.setter(PortBuilder.class, "setStatus", String.class);
+    }
+
+    @Benchmark
+    public PortBuilder setAttributesReflection() throws IllegalAccessException, InvocationTargetException {
+        final PortBuilder builder = new PortBuilder();
+        reflectSetUuid.invoke(builder, UUID);
+        reflectSetTenantId.invoke(builder, TENANT);
+        reflectSetName.invoke(builder, NAME);
+        reflectSetRevisionNumber.invoke(builder, REVISION);
+        reflectSetAdminStateUp.invoke(builder, ADMIN_STATE_UP);
+        reflectSetStatus.invoke(builder, STATUS);
+        return builder;
+    }
+
+    @Benchmark
+    public PortBuilder setAttributesBound() {
+        final PortBuilder builder = new PortBuilder();
+        setUuid.accept(builder, UUID);
+        setTenantId.accept(builder, TENANT);
+        setName.accept(builder, NAME);
+        setRevisionNumber.accept(builder, REVISION);
+        setAdminStateUp.accept(builder, ADMIN_STATE_UP);
+        setStatus.accept(builder, STATUS);
+        return builder;
+    }
+
+    @Benchmark
+    public PortKey keyReflection() throws ReflectiveOperationException {
+        // the previous key-only lookup: build a whole object to take its key
+        final PortBuilder builder = PortBuilder.class.newInstance();
+        reflectSetUuid.invoke(builder, UUID);
+        final Port port = builder.build();
+        return port.getKey();
+    }
+
+    @Benchmark
+    public PortKey keyBound() {
+        return newKey.apply(UUID);
+    }
+
+    @Benchmark
+    public Port buildBound() {
+        final PortBuilder builder = newBuilder.get();
+        setUuid.accept(builder, UUID);
+        return builder.build();
+    }
+}
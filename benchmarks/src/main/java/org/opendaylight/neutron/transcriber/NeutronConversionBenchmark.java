@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Converts all the objects of a resource type from neutron to MD-SAL and
+ * back, for every transcriber, at increasing data store sizes.
+ *
+ * <p>
+ * A score is the time to convert all {@code size} objects. Run with
+ * {@code -prof gc} for the bytes allocated per conversion, and with
+ * {@code -p resource=PORT} to restrict the run to some resource types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeutronConversionBenchmark {
+
+    @Param
+    private NeutronResource resource;
+
+    @Param({ "1000", "10000", "100000" })
+    private int size;
+
+    @SuppressWarnings("rawtypes")
+    private AbstractTranscriberInterface transcriber;
+    private List<INeutronObject<?>> neutronObjects;
+    private List<DataObject> dataObjects;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        transcriber = resource.newTranscriber();
+        neutronObjects = resource.generate(size);
+        dataObjects = new ArrayList<>(size);
+        for (final INeutronObject<?> neutronObject : neutronObjects) {
+            dataObjects.add(transcriber.toMd(neutronObject));
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void toMd(Blackhole blackhole) {
+        for (final INeutronObject<?> neutronObject : neutronObjects) {
+            blackhole.consume(transcriber.toMd(neutronObject));
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void fromMd(Blackhole blackhole) {
+        for (final DataObject dataObject : dataObjects) {
+            blackhole.consume(transcriber.fromMd(dataObject));
+        }
+    }
+}
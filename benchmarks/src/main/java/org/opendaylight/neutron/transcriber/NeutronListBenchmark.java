@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronPort;
+import org.opendaylight.neutron.spi.NeutronQuery;
+import org.opendaylight.neutron.spi.NeutronQueryResult;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.ports.rev150712.ports.attributes.PortsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.ports.rev150712.ports.attributes.ports.Port;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The per-object work of a port list request besides the conversion: UUID
+ * parsing, the projection of {@code ?fields=} and the paging of
+ * {@code ?limit=&marker=}, at increasing data store sizes.
+ *
+ * <p>
+ * A score is the time to process all {@code size} ports, or to answer the
+ * query of one page from the primed read cache of the transcriber. Run with
+ * {@code -prof gc} for the bytes allocated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeutronListBenchmark {
+    private static final List<String> FIELDS = Arrays.asList("id", "name", "network_id", "mac_address", "fixed_ips");
+    private static final int LIMIT = 100;
+
+    @Param({ "1000", "10000", "100000" })
+    private int size;
+
+    private NeutronPortInterface transcriber;
+    private NeutronPortInterface primed;
+    private List<NeutronPort> ports;
+    private String marker;
+
+    @Setup
+    public void setup() {
+        transcriber = (NeutronPortInterface) NeutronResource.PORT.newTranscriber();
+        ports = new ArrayList<>(size);
+        final List<Port> dataObjects = new ArrayList<>(size);
+        for (final INeutronObject<?> port : NeutronResource.PORT.generate(size)) {
+            ports.add((NeutronPort) port);
+            dataObjects.add(transcriber.toMd((NeutronPort) port));
+        }
+        primed = (NeutronPortInterface) NeutronResource.PORT.newPrimedTranscriber(
+                new PortsBuilder().setPort(dataObjects).build());
+        // UUIDs are in index order
+        marker = ports.get(size / 2).getID();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        primed.close();
+    }
+
+    @Benchmark
+    public void toUuid(Blackhole blackhole) {
+        for (final NeutronPort port : ports) {
+            blackhole.consume(transcriber.toUuid(port.getID()));
+        }
+    }
+
+    @Benchmark
+    public void extractFields(Blackhole blackhole) {
+        for (final NeutronPort port : ports) {
+            blackhole.consume(port.extractFields(FIELDS));
+        }
+    }
+
+    @Benchmark
+    public NeutronQueryResult<NeutronPort> firstPage() {
+        return primed.query(new NeutronQuery<>(new NeutronFilter<NeutronPort>()).page(LIMIT, null, false));
+    }
+
+    @Benchmark
+    public NeutronQueryResult<NeutronPort> markerPage() {
+        return primed.query(new NeutronQuery<>(new NeutronFilter<NeutronPort>()).page(LIMIT, marker, false));
+    }
+
+    @Benchmark
+    public NeutronQueryResult<NeutronPort> reversePage() {
+        return primed.query(new NeutronQuery<>(new NeutronFilter<NeutronPort>()).page(LIMIT, marker, true));
+    }
+}
@@ -0,0 +1,633 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Futures;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
+import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.neutron.spi.NeutronAdminAttributes;
+import org.opendaylight.neutron.spi.NeutronBaseAttributes;
+import org.opendaylight.neutron.spi.NeutronBgpvpn;
+import org.opendaylight.neutron.spi.NeutronFirewall;
+import org.opendaylight.neutron.spi.NeutronFirewallPolicy;
+import org.opendaylight.neutron.spi.NeutronFirewallRule;
+import org.opendaylight.neutron.spi.NeutronFloatingIp;
+import org.opendaylight.neutron.spi.NeutronID;
+import org.opendaylight.neutron.spi.NeutronIps;
+import org.opendaylight.neutron.spi.NeutronL2gateway;
+import org.opendaylight.neutron.spi.NeutronL2gatewayConnection;
+import org.opendaylight.neutron.spi.NeutronL2gatewayDevice;
+import org.opendaylight.neutron.spi.NeutronL2gatewayDeviceInterface;
+import org.opendaylight.neutron.spi.NeutronLoadBalancer;
+import org.opendaylight.neutron.spi.NeutronLoadBalancerHealthMonitor;
+import org.opendaylight.neutron.spi.NeutronLoadBalancerListener;
+import org.opendaylight.neutron.spi.NeutronLoadBalancerPool;
+import org.opendaylight.neutron.spi.NeutronLoadBalancerSessionPersistence;
+import org.opendaylight.neutron.spi.NeutronMeteringLabel;
+import org.opendaylight.neutron.spi.NeutronMeteringLabelRule;
+import org.opendaylight.neutron.spi.NeutronNetwork;
+import org.opendaylight.neutron.spi.NeutronNetworkSegment;
+import org.opendaylight.neutron.spi.NeutronObject;
+import org.opendaylight.neutron.spi.NeutronPort;
+import org.opendaylight.neutron.spi.NeutronPortAllowedAddressPairs;
+import org.opendaylight.neutron.spi.NeutronPortExtraDHCPOption;
+import org.opendaylight.neutron.spi.NeutronQosBandwidthLimitRule;
+import org.opendaylight.neutron.spi.NeutronQosDscpMarkingRule;
+import org.opendaylight.neutron.spi.NeutronQosPolicy;
+import org.opendaylight.neutron.spi.NeutronRoute;
+import org.opendaylight.neutron.spi.NeutronRouter;
+import org.opendaylight.neutron.spi.NeutronRouterNetworkReference;
+import org.opendaylight.neutron.spi.NeutronSFCFlowClassifier;
+import org.opendaylight.neutron.spi.NeutronSFCPortChain;
+import org.opendaylight.neutron.spi.NeutronSFCPortPair;
+import org.opendaylight.neutron.spi.NeutronSFCPortPairGroup;
+import org.opendaylight.neutron.spi.NeutronSecurityGroup;
+import org.opendaylight.neutron.spi.NeutronSecurityRule;
+import org.opendaylight.neutron.spi.NeutronSubnet;
+import org.opendaylight.neutron.spi.NeutronSubnetIpAllocationPool;
+import org.opendaylight.neutron.spi.NeutronTrunk;
+import org.opendaylight.neutron.spi.NeutronTrunkSubPort;
+import org.opendaylight.neutron.spi.NeutronVpnDeadPeerDetection;
+import org.opendaylight.neutron.spi.NeutronVpnIkePolicy;
+import org.opendaylight.neutron.spi.NeutronVpnIpSecPolicy;
+import org.opendaylight.neutron.spi.NeutronVpnIpSecSiteConnection;
+import org.opendaylight.neutron.spi.NeutronVpnLifetime;
+import org.opendaylight.neutron.spi.NeutronVpnService;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * The resource types of the transcriber, with a generator of realistic
+ * objects of each: the attributes OpenStack sets on them are all filled in,
+ * with the nested lists, maps and references a deployment has.
+ *
+ * <p>
+ * Objects are generated from their index, so a benchmark sees the same
+ * objects from one run to the next. They refer to each other through UUIDs
+ * derived from the index and resource type, and share a few tenants.
+ */
+public enum NeutronResource {
+    BGPVPN(NeutronBgpvpnInterface::new, NeutronResource::bgpvpn),
+    FIREWALL(NeutronFirewallInterface::new, NeutronResource::firewall),
+    FIREWALL_POLICY(NeutronFirewallPolicyInterface::new, NeutronResource::firewallPolicy),
+    FIREWALL_RULE(NeutronFirewallRuleInterface::new, NeutronResource::firewallRule),
+    FLOATING_IP(NeutronFloatingIpInterface::new, NeutronResource::floatingIp),
+    L2GATEWAY(NeutronL2gatewayInterface::new, NeutronResource::l2gateway),
+    L2GATEWAY_CONNECTION(NeutronL2gatewayConnectionInterface::new, NeutronResource::l2gatewayConnection),
+    LOADBALANCER(NeutronLoadBalancerInterface::new, NeutronResource::loadBalancer),
+    LOADBALANCER_HEALTH_MONITOR(NeutronLoadBalancerHealthMonitorInterface::new, NeutronResource::healthMonitor),
+    LOADBALANCER_LISTENER(NeutronLoadBalancerListenerInterface::new, NeutronResource::listener),
+    LOADBALANCER_POOL(NeutronLoadBalancerPoolInterface::new, NeutronResource::pool),
+    METERING_LABEL(NeutronMeteringLabelInterface::new, NeutronResource::meteringLabel),
+    METERING_LABEL_RULE(NeutronMeteringLabelRuleInterface::new, NeutronResource::meteringLabelRule),
+    NETWORK(NeutronNetworkInterface::new, NeutronResource::network),
+    PORT(NeutronPortInterface::new, NeutronResource::port),
+    QOS_POLICY(NeutronQosPolicyInterface::new, NeutronResource::qosPolicy),
+    ROUTER(NeutronRouterInterface::new, NeutronResource::router),
+    SECURITY_GROUP(NeutronSecurityGroupInterface::new, NeutronResource::securityGroup),
+    SECURITY_RULE(NeutronSecurityRuleInterface::new, NeutronResource::securityRule),
+    SFC_FLOW_CLASSIFIER(NeutronSFCFlowClassifierInterface::new, NeutronResource::flowClassifier),
+    SFC_PORT_CHAIN(NeutronSFCPortChainInterface::new, NeutronResource::portChain),
+    SFC_PORT_PAIR(NeutronSFCPortPairInterface::new, NeutronResource::portPair),
+    SFC_PORT_PAIR_GROUP(NeutronSFCPortPairGroupInterface::new, NeutronResource::portPairGroup),
+    SUBNET(NeutronSubnetInterface::new, NeutronResource::subnet),
+    TRUNK(NeutronTrunkInterface::new, NeutronResource::trunk),
+    VPN_IKE_POLICY(NeutronVpnIkePolicyInterface::new, NeutronResource::ikePolicy),
+    VPN_IPSEC_POLICY(NeutronVpnIpSecPolicyInterface::new, NeutronResource::ipsecPolicy),
+    VPN_IPSEC_SITE_CONNECTION(NeutronVpnIpSecSiteConnectionsInterface::new, NeutronResource::siteConnection),
+    VPN_SERVICE(NeutronVpnServiceInterface::new, NeutronResource::vpnService);
+
+    private static final int TENANTS = 16;
+
+    // conversions never touch the data store, any use of it is a bug
+    private static final DataBroker NO_DATA_BROKER = proxy(DataBroker.class, (proxy, method, args) -> {
+        throw new UnsupportedOperationException(method.getName());
+    });
+
+    private final Function<DataBroker, AbstractTranscriberInterface<?, ?, ?, ?, ?>> transcriber;
+    private final IntFunction<INeutronObject<?>> generator;
+
+    NeutronResource(Function<DataBroker, AbstractTranscriberInterface<?, ?, ?, ?, ?>> transcriber,
+            IntFunction<INeutronObject<?>> generator) {
+        this.transcriber = transcriber;
+        this.generator = generator;
+    }
+
+    /**
+     * Creates the transcriber of the resource type, on a data broker which
+     * refuses any transaction.
+     */
+    AbstractTranscriberInterface<?, ?, ?, ?, ?> newTranscriber() {
+        return transcriber.apply(NO_DATA_BROKER);
+    }
+
+    /**
+     * Creates the transcriber of the resource type with its read cache primed,
+     * on a data broker which serves the given container and refuses any other
+     * transaction. The transcriber is to be closed.
+     *
+     * @param container the container of the objects, as read from the data store
+     */
+    AbstractTranscriberInterface<?, ?, ?, ?, ?> newPrimedTranscriber(DataObject container) {
+        final ReadOnlyTransaction tx = proxy(ReadOnlyTransaction.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "read":
+                    return Futures.immediateCheckedFuture(Optional.of(container));
+                case "close":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        // the cache listener is never called back, nothing changes the container
+        final DataBroker dataBroker = proxy(DataBroker.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "newReadOnlyTransaction":
+                    return tx;
+                case "registerDataTreeChangeListener":
+                    // closing the registration has nothing to do
+                    return proxy(ListenerRegistration.class, (registration, registrationMethod, unused) ->
+                            "getInstance".equals(registrationMethod.getName()) ? args[1] : null);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        final AbstractTranscriberInterface<?, ?, ?, ?, ?> primed = transcriber.apply(dataBroker);
+        primed.init();
+        return primed;
+    }
+
+    /**
+     * Generates objects of the resource type.
+     *
+     * @param count how many objects
+     * @return the objects, in index order
+     */
+    public List<INeutronObject<?>> generate(int count) {
+        final List<INeutronObject<?>> objects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            objects.add(generator.apply(i));
+        }
+        return objects;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    // UUID of the object of a resource type with a given index
+    static String uuid(NeutronResource resource, int index) {
+        return new UUID(0x4e8e5957649f477bL + resource.ordinal(), index).toString();
+    }
+
+    private static String tenant(int index) {
+        return new UUID(0x9bacb3c5d4a14e07L, index % TENANTS).toString().replace("-", "");
+    }
+
+    private static String ipv4(int index) {
+        return "10." + (index >>> 16 & 0xff) + "." + (index >>> 8 & 0xff) + "." + (index & 0xff);
+    }
+
+    private static String mac(int index) {
+        return String.format("fa:16:3e:%02x:%02x:%02x", index >>> 16 & 0xff, index >>> 8 & 0xff, index & 0xff);
+    }
+
+    private static <T extends NeutronObject<T>> T object(T object, NeutronResource resource, int index) {
+        object.setID(uuid(resource, index));
+        object.setTenantID(tenant(index));
+        object.setProjectID(tenant(index));
+        object.setRevisionNumber(Long.valueOf(index % 7 + 1));
+        return object;
+    }
+
+    private static <T extends NeutronBaseAttributes<T>> T base(T object, NeutronResource resource, int index) {
+        object(object, resource, index);
+        object.setName(resource.name().toLowerCase() + "-" + index);
+        return object;
+    }
+
+    private static <T extends NeutronAdminAttributes<T>> T admin(T object, NeutronResource resource, int index) {
+        base(object, resource, index);
+        object.setAdminStateUp(Boolean.TRUE);
+        object.setStatus("ACTIVE");
+        return object;
+    }
+
+    private static List<String> uuids(NeutronResource resource, int index, int count) {
+        final List<String> uuids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            uuids.add(uuid(resource, index + i));
+        }
+        return uuids;
+    }
+
+    private static List<NeutronID> ids(NeutronResource resource, int index, int count) {
+        final List<NeutronID> ids = new ArrayList<>(count);
+        for (final String uuid : uuids(resource, index, count)) {
+            ids.add(new NeutronID(uuid));
+        }
+        return ids;
+    }
+
+    private static NeutronIps fixedIp(int index) {
+        final NeutronIps ip = new NeutronIps();
+        ip.setIpAddress(ipv4(index));
+        ip.setSubnetUUID(uuid(SUBNET, index >>> 8));
+        return ip;
+    }
+
+    private static NeutronRoute route(int index) {
+        final NeutronRoute route = new NeutronRoute();
+        route.setDestination("192.168." + (index & 0xff) + ".0/24");
+        route.setNextHop(ipv4(index));
+        return route;
+    }
+
+    private static NeutronVpnLifetime lifetime() {
+        final NeutronVpnLifetime lifetime = new NeutronVpnLifetime();
+        lifetime.setUnits("seconds");
+        lifetime.setValue(3600);
+        return lifetime;
+    }
+
+    private static INeutronObject<?> bgpvpn(int index) {
+        final NeutronBgpvpn bgpvpn = admin(new NeutronBgpvpn(), BGPVPN, index);
+        bgpvpn.setType("l3");
+        bgpvpn.setTechnique("mpls");
+        bgpvpn.setAutoAggregate(false);
+        bgpvpn.setVnid(Long.valueOf(index + 1));
+        bgpvpn.setRouteTargets(Collections.singletonList("64512:" + index));
+        bgpvpn.setImportTargets(Arrays.asList("64512:" + index, "64513:" + index));
+        bgpvpn.setExportTargets(Collections.singletonList("64512:" + index));
+        bgpvpn.setRouteDistinguishers(Collections.singletonList("64512:" + (index + 1)));
+        bgpvpn.setRouters(uuids(ROUTER, index, 1));
+        bgpvpn.setNetworks(uuids(NETWORK, index, 2));
+        return bgpvpn;
+    }
+
+    private static INeutronObject<?> firewall(int index) {
+        final NeutronFirewall firewall = base(new NeutronFirewall(), FIREWALL, index);
+        firewall.setFirewallAdminStateIsUp(Boolean.TRUE);
+        firewall.setFirewallIsShared(Boolean.FALSE);
+        firewall.setFirewallPolicyID(uuid(FIREWALL_POLICY, index));
+        return firewall;
+    }
+
+    private static INeutronObject<?> firewallPolicy(int index) {
+        final NeutronFirewallPolicy policy = base(new NeutronFirewallPolicy(), FIREWALL_POLICY, index);
+        policy.setFirewallPolicyIsShared(Boolean.FALSE);
+        policy.setFirewallPolicyIsAudited(Boolean.TRUE);
+        return policy;
+    }
+
+    private static INeutronObject<?> firewallRule(int index) {
+        final NeutronFirewallRule rule = base(new NeutronFirewallRule(), FIREWALL_RULE, index);
+        rule.setFirewallRuleIsShared(Boolean.FALSE);
+        rule.setFirewallRuleIsEnabled(Boolean.TRUE);
+        rule.setFirewallRulePolicyID(uuid(FIREWALL_POLICY, index / 10));
+        rule.setFirewallRuleProtocol("tcp");
+        rule.setFirewallRuleIpVer(4);
+        rule.setFirewallRuleSrcIpAddr("10.0.0.0/8");
+        rule.setFirewallRuleDstIpAddr(ipv4(index));
+        rule.setFirewallRuleSrcPortRangeMin(1024);
+        rule.setFirewallRuleSrcPortRangeMax(65535);
+        rule.setFirewallRuleDstPortRangeMin(443);
+        rule.setFirewallRuleDstPortRangeMax(443);
+        rule.setFirewallRulePosition(index % 10 + 1);
+        rule.setFirewallRuleAction("allow");
+        return rule;
+    }
+
+    private static INeutronObject<?> floatingIp(int index) {
+        final NeutronFloatingIp floatingIp = object(new NeutronFloatingIp(), FLOATING_IP, index);
+        floatingIp.setFloatingNetworkUUID(uuid(NETWORK, 0));
+        floatingIp.setPortUUID(uuid(PORT, index));
+        floatingIp.setFixedIpAddress(ipv4(index));
+        floatingIp.setFloatingIpAddress("172.24." + (index >>> 8 & 0xff) + "." + (index & 0xff));
+        floatingIp.setRouterUUID(uuid(ROUTER, index / 100));
+        floatingIp.setStatus("ACTIVE");
+        return floatingIp;
+    }
+
+    private static INeutronObject<?> l2gateway(int index) {
+        final NeutronL2gateway l2gateway = base(new NeutronL2gateway(), L2GATEWAY, index);
+        final List<NeutronL2gatewayDevice> devices = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final NeutronL2gatewayDeviceInterface deviceInterface = new NeutronL2gatewayDeviceInterface();
+            deviceInterface.setInterfaceName("eth" + i);
+            deviceInterface.setSegmentationId(Arrays.asList(100 + i, 200 + i));
+            final NeutronL2gatewayDevice device = new NeutronL2gatewayDevice();
+            device.setID(uuid(L2GATEWAY, index * 2 + i + 1000000));
+            device.setDeviceName("switch-" + index + "-" + i);
+            device.setNeutronL2gatewayDeviceInterfaces(Collections.singletonList(deviceInterface));
+            devices.add(device);
+        }
+        l2gateway.setNeutronL2gatewayDevices(devices);
+        return l2gateway;
+    }
+
+    private static INeutronObject<?> l2gatewayConnection(int index) {
+        final NeutronL2gatewayConnection connection = object(new NeutronL2gatewayConnection(),
+                L2GATEWAY_CONNECTION, index);
+        connection.setL2gatewayID(uuid(L2GATEWAY, index));
+        connection.setNetworkID(uuid(NETWORK, index));
+        connection.setSegmentID(index % 4094 + 1);
+        connection.setPortID(uuid(PORT, index));
+        return connection;
+    }
+
+    private static INeutronObject<?> loadBalancer(int index) {
+        final NeutronLoadBalancer loadBalancer = admin(new NeutronLoadBalancer(), LOADBALANCER, index);
+        loadBalancer.setLoadBalancerVipAddress(ipv4(index));
+        loadBalancer.setLoadBalancerVipSubnetID(uuid(SUBNET, index >>> 8));
+        return loadBalancer;
+    }
+
+    private static INeutronObject<?> healthMonitor(int index) {
+        final NeutronLoadBalancerHealthMonitor healthMonitor = object(new NeutronLoadBalancerHealthMonitor(),
+                LOADBALANCER_HEALTH_MONITOR, index);
+        healthMonitor.setLoadBalancerHealthMonitorType("HTTP");
+        healthMonitor.setLoadBalancerHealthMonitorDelay(5);
+        healthMonitor.setLoadBalancerHealthMonitorTimeout(3);
+        healthMonitor.setLoadBalancerHealthMonitorMaxRetries(3);
+        healthMonitor.setLoadBalancerHealthMonitorHttpMethod("GET");
+        healthMonitor.setLoadBalancerHealthMonitorUrlPath("/healthz");
+        healthMonitor.setLoadBalancerHealthMonitorExpectedCodes("200-204");
+        healthMonitor.setLoadBalancerHealthMonitorAdminStateIsUp(Boolean.TRUE);
+        healthMonitor.setLoadBalancerHealthMonitorPools(ids(LOADBALANCER_POOL, index, 1));
+        return healthMonitor;
+    }
+
+    private static INeutronObject<?> listener(int index) {
+        final NeutronLoadBalancerListener listener = base(new NeutronLoadBalancerListener(),
+                LOADBALANCER_LISTENER, index);
+        listener.setLoadBalancerListenerAdminStateIsUp(Boolean.TRUE);
+        listener.setNeutronLoadBalancerListenerProtocol("HTTP");
+        listener.setNeutronLoadBalancerListenerProtocolPort("80");
+        listener.setNeutronLoadBalancerListenerDefaultPoolID(uuid(LOADBALANCER_POOL, index));
+        listener.setNeutronLoadBalancerListenerConnectionLimit(1000);
+        listener.setNeutronLoadBalancerListenerLoadBalancerIDs(ids(LOADBALANCER, index, 1));
+        return listener;
+    }
+
+    private static INeutronObject<?> pool(int index) {
+        final NeutronLoadBalancerPool pool = base(new NeutronLoadBalancerPool(), LOADBALANCER_POOL, index);
+        pool.setLoadBalancerPoolProtocol("HTTP");
+        pool.setLoadBalancerPoolLbAlgorithm("ROUND_ROBIN");
+        pool.setLoadBalancerPoolHealthMonitorID(uuid(LOADBALANCER_HEALTH_MONITOR, index));
+        pool.setLoadBalancerPoolAdminStateIsUp(Boolean.TRUE);
+        pool.setLoadBalancerPoolListeners(ids(LOADBALANCER_LISTENER, index, 1));
+        pool.setLoadBalancerSessionPersistence(new NeutronLoadBalancerSessionPersistence("session", "APP_COOKIE"));
+        return pool;
+    }
+
+    private static INeutronObject<?> meteringLabel(int index) {
+        final NeutronMeteringLabel label = base(new NeutronMeteringLabel(), METERING_LABEL, index);
+        label.setMeteringLabelShared(Boolean.FALSE);
+        return label;
+    }
+
+    private static INeutronObject<?> meteringLabelRule(int index) {
+        final NeutronMeteringLabelRule rule = object(new NeutronMeteringLabelRule(), METERING_LABEL_RULE, index);
+        rule.setMeteringLabelRuleLabelID(uuid(METERING_LABEL, index / 4));
+        rule.setMeteringLabelRuleDirection(index % 2 == 0 ? "ingress" : "egress");
+        rule.setMeteringLabelRuleRemoteIpPrefix("10." + (index & 0xff) + ".0.0/16");
+        rule.setMeteringLabelRuleExcluded(Boolean.FALSE);
+        return rule;
+    }
+
+    private static INeutronObject<?> network(int index) {
+        final NeutronNetwork network = admin(new NeutronNetwork(), NETWORK, index);
+        network.setShared(false);
+        network.setRouterExternal(index == 0);
+        network.setProviderNetworkType("vxlan");
+        network.setProviderPhysicalNetwork("physnet1");
+        network.setProviderSegmentationID(String.valueOf(index + 1000));
+        final NeutronNetworkSegment segment = new NeutronNetworkSegment();
+        segment.setProviderNetworkType("vlan");
+        segment.setProviderPhysicalNetwork("physnet2");
+        segment.setProviderSegmentationID(String.valueOf(index % 4094 + 1));
+        network.setSegments(Collections.singletonList(segment));
+        network.setMtu(1450);
+        network.setVlanTransparent(Boolean.FALSE);
+        return network;
+    }
+
+    private static INeutronObject<?> port(int index) {
+        final NeutronPort port = admin(new NeutronPort(), PORT, index);
+        port.setNetworkUUID(uuid(NETWORK, index >>> 8));
+        port.setMacAddress(mac(index));
+        port.setFixedIps(Arrays.asList(fixedIp(index), fixedIp(index + 0x800000)));
+        port.setDeviceID(uuid(ROUTER, index));
+        port.setDeviceOwner("compute:nova");
+        final List<NeutronSecurityGroup> securityGroups = new ArrayList<>();
+        for (final String uuid : uuids(SECURITY_GROUP, index % TENANTS, 2)) {
+            final NeutronSecurityGroup securityGroup = new NeutronSecurityGroup();
+            securityGroup.setID(uuid);
+            securityGroups.add(securityGroup);
+        }
+        port.setSecurityGroups(securityGroups);
+        port.setAllowedAddressPairs(Arrays.asList(
+                new NeutronPortAllowedAddressPairs(mac(index), "10.254.0.0/16"),
+                new NeutronPortAllowedAddressPairs(mac(index + 1), ipv4(index + 1))));
+        port.setExtraDHCPOptions(Collections.singletonList(
+                new NeutronPortExtraDHCPOption("pxelinux.0", "bootfile-name", 4)));
+        final Map<String, String> vifDetails = new HashMap<>();
+        vifDetails.put("port_filter", "true");
+        vifDetails.put("ovs_hybrid_plug", "false");
+        vifDetails.put("datapath_type", "system");
+        vifDetails.put("bridge_name", "br-int");
+        port.setVIFDetails(vifDetails);
+        port.setBindinghostID("compute-" + index % 100);
+        port.setBindingvnicType("normal");
+        port.setBindingvifType("ovs");
+        port.setQosPolicyId(uuid(QOS_POLICY, index % TENANTS));
+        port.setPortSecurityEnabled(Boolean.TRUE);
+        return port;
+    }
+
+    private static INeutronObject<?> qosPolicy(int index) {
+        final NeutronQosPolicy policy = base(new NeutronQosPolicy(), QOS_POLICY, index);
+        policy.setPolicyIsShared(Boolean.FALSE);
+        final NeutronQosBandwidthLimitRule bandwidthLimit = object(new NeutronQosBandwidthLimitRule(),
+                QOS_POLICY, index + 1000000);
+        bandwidthLimit.setMaxKbps(BigInteger.valueOf(10000));
+        bandwidthLimit.setMaxBurstKbps(BigInteger.valueOf(1000));
+        policy.setQosBandwidthLimitRules(Collections.singletonList(bandwidthLimit));
+        final NeutronQosDscpMarkingRule dscpMarking = object(new NeutronQosDscpMarkingRule(),
+                QOS_POLICY, index + 2000000);
+        dscpMarking.setDscpMark((short) 26);
+        policy.setDscpMarkingRules(Collections.singletonList(dscpMarking));
+        return policy;
+    }
+
+    private static INeutronObject<?> router(int index) {
+        final NeutronRouter router = admin(new NeutronRouter(), ROUTER, index);
+        router.setDistributed(Boolean.FALSE);
+        router.setGatewayPortId(uuid(PORT, index));
+        router.setRoutes(Arrays.asList(route(index), route(index + 1)));
+        final NeutronRouterNetworkReference gateway = new NeutronRouterNetworkReference();
+        gateway.setNetworkID(uuid(NETWORK, 0));
+        gateway.setEnableSNAT(Boolean.TRUE);
+        gateway.setExternalFixedIps(Collections.singletonList(fixedIp(index)));
+        router.setExternalGatewayInfo(gateway);
+        return router;
+    }
+
+    private static INeutronObject<?> securityGroup(int index) {
+        return base(new NeutronSecurityGroup(), SECURITY_GROUP, index);
+    }
+
+    private static INeutronObject<?> securityRule(int index) {
+        final NeutronSecurityRule rule = object(new NeutronSecurityRule(), SECURITY_RULE, index);
+        rule.setSecurityRuleDirection(index % 2 == 0 ? "ingress" : "egress");
+        rule.setSecurityRuleGroupID(uuid(SECURITY_GROUP, index / 8));
+        rule.setSecurityRemoteGroupID(uuid(SECURITY_GROUP, index / 8));
+        rule.setSecurityRuleRemoteIpPrefix("0.0.0.0/0");
+        rule.setSecurityRuleProtocol("tcp");
+        rule.setSecurityRuleEthertype("IPv4");
+        rule.setSecurityRulePortMin(22);
+        rule.setSecurityRulePortMax(22);
+        return rule;
+    }
+
+    private static INeutronObject<?> flowClassifier(int index) {
+        final NeutronSFCFlowClassifier classifier = base(new NeutronSFCFlowClassifier(), SFC_FLOW_CLASSIFIER,
+                index);
+        classifier.setEthertype("IPv4");
+        classifier.setProtocol("tcp");
+        classifier.setSourcePortRangeMin(100);
+        classifier.setSourcePortRangeMax(200);
+        classifier.setDestinationPortRangeMin(80);
+        classifier.setDestinationPortRangeMax(80);
+        classifier.setSourceIpPrefix("10.0.0.0/24");
+        classifier.setDestinationIpPrefix("11.0.0.0/24");
+        classifier.setLogicalSourcePortUUID(uuid(PORT, index));
+        classifier.setLogicalDestinationPortUUID(uuid(PORT, index + 1));
+        classifier.setL7Parameters(Collections.singletonMap("url", "/index.html"));
+        return classifier;
+    }
+
+    private static INeutronObject<?> portChain(int index) {
+        final NeutronSFCPortChain chain = base(new NeutronSFCPortChain(), SFC_PORT_CHAIN, index);
+        chain.setPortPairGroupsUUID(uuids(SFC_PORT_PAIR_GROUP, index, 2));
+        chain.setFlowClassifiersUUID(uuids(SFC_FLOW_CLASSIFIER, index, 1));
+        chain.setChainParameters(Collections.singletonMap("correlation", "mpls"));
+        return chain;
+    }
+
+    private static INeutronObject<?> portPair(int index) {
+        final NeutronSFCPortPair pair = base(new NeutronSFCPortPair(), SFC_PORT_PAIR, index);
+        pair.setIngressPortUUID(uuid(PORT, index));
+        pair.setEgressPortUUID(uuid(PORT, index + 1));
+        pair.setServiceFunctionParameters(Collections.singletonMap("correlation", "mpls"));
+        return pair;
+    }
+
+    private static INeutronObject<?> portPairGroup(int index) {
+        final NeutronSFCPortPairGroup group = base(new NeutronSFCPortPairGroup(), SFC_PORT_PAIR_GROUP, index);
+        group.setPortPairs(uuids(SFC_PORT_PAIR, index, 2));
+        return group;
+    }
+
+    private static INeutronObject<?> subnet(int index) {
+        final NeutronSubnet subnet = base(new NeutronSubnet(), SUBNET, index);
+        final String prefix = "10." + (index >>> 8 & 0xff) + "." + (index & 0xff) + ".";
+        subnet.setNetworkUUID(uuid(NETWORK, index));
+        subnet.setIpVersion(4);
+        subnet.setCidr(prefix + "0/24");
+        subnet.setGatewayIp(prefix + "1");
+        subnet.setEnableDHCP(Boolean.TRUE);
+        subnet.setAllocationPools(Collections.singletonList(
+                new NeutronSubnetIpAllocationPool(prefix + "2", prefix + "254")));
+        subnet.setDnsNameservers(Arrays.asList("8.8.8.8", "8.8.4.4"));
+        subnet.setHostRoutes(Collections.singletonList(route(index)));
+        return subnet;
+    }
+
+    private static INeutronObject<?> trunk(int index) {
+        final NeutronTrunk trunk = admin(new NeutronTrunk(), TRUNK, index);
+        trunk.setPortId(uuid(PORT, index));
+        final List<NeutronTrunkSubPort> subPorts = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            final NeutronTrunkSubPort subPort = new NeutronTrunkSubPort();
+            subPort.setPortId(uuid(PORT, index + i));
+            subPort.setSegmentationType("vlan");
+            subPort.setSegmentationId(String.valueOf(100 + i));
+            subPorts.add(subPort);
+        }
+        trunk.setSubPorts(subPorts);
+        return trunk;
+    }
+
+    private static INeutronObject<?> ikePolicy(int index) {
+        final NeutronVpnIkePolicy policy = base(new NeutronVpnIkePolicy(), VPN_IKE_POLICY, index);
+        policy.setAuthAlgorithm("sha1");
+        policy.setEncryptionAlgorithm("aes-128");
+        policy.setPhase1NegotiationMode("main");
+        policy.setPerfectForwardSecrecy("group5");
+        policy.setIkeVersion("v1");
+        policy.setLifetime(lifetime());
+        return policy;
+    }
+
+    private static INeutronObject<?> ipsecPolicy(int index) {
+        final NeutronVpnIpSecPolicy policy = base(new NeutronVpnIpSecPolicy(), VPN_IPSEC_POLICY, index);
+        policy.setTransformProtocol("esp");
+        policy.setEncapsulationMode("tunnel");
+        policy.setAuthAlgorithm("sha1");
+        policy.setEncryptionAlgorithm("aes-128");
+        policy.setPerfectForwardSecrecy("group5");
+        policy.setLifetime(lifetime());
+        return policy;
+    }
+
+    private static INeutronObject<?> siteConnection(int index) {
+        final NeutronVpnIpSecSiteConnection connection = admin(new NeutronVpnIpSecSiteConnection(),
+                VPN_IPSEC_SITE_CONNECTION, index);
+        connection.setPeerAddress("172.24.4.226");
+        connection.setPeerID("172.24.4.226");
+        connection.setPeerCidrs(Collections.singletonList("10.2.0.0/24"));
+        connection.setRouteMode("static");
+        connection.setMtu(1500);
+        connection.setAuthMode("psk");
+        connection.setPreSharedKey("secret");
+        connection.setInitiator("bi-directional");
+        connection.setIkePolicyID(uuid(VPN_IKE_POLICY, index % TENANTS));
+        connection.setIpsecPolicyID(uuid(VPN_IPSEC_POLICY, index % TENANTS));
+        connection.setVpnServiceID(uuid(VPN_SERVICE, index));
+        final NeutronVpnDeadPeerDetection deadPeerDetection = new NeutronVpnDeadPeerDetection();
+        deadPeerDetection.setAction("hold");
+        deadPeerDetection.setInterval(30);
+        deadPeerDetection.setTimeout(120);
+        connection.setDeadPeerDetection(deadPeerDetection);
+        return connection;
+    }
+
+    private static INeutronObject<?> vpnService(int index) {
+        final NeutronVpnService service = admin(new NeutronVpnService(), VPN_SERVICE, index);
+        service.setRouterUUID(uuid(ROUTER, index));
+        service.setSubnetUUID(uuid(SUBNET, index));
+        return service;
+    }
+}
@@ -8,11 +8,18 @@
 
 package org.opendaylight.neutron.hostconfig.ovs;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -24,22 +31,42 @@ import org.opendaylight.controller.md.sal.binding.api.DataObjectModification;
 import org.opendaylight.controller.md.sal.binding.api.DataTreeChangeListener;
 import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
 import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.neutron.hostconfig.utils.NeutronHostconfigCoalescer;
+import org.opendaylight.neutron.hostconfig.utils.NeutronHostconfigSource;
 import org.opendaylight.neutron.hostconfig.utils.NeutronHostconfigUtils;
 import org.opendaylight.ovsdb.utils.mdsal.utils.MdsalUtils;
 import org.opendaylight.ovsdb.utils.southbound.utils.SouthboundUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.Hostconfig;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.HostconfigKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.OvsdbNodeAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.OpenvswitchExternalIds;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.TopologyId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyKey;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Maintains the hostconfigs of the OVS nodes from the external IDs of their
+ * OVSDB node.
+ *
+ * <p>
+ * OVSDB nodes change constantly, on statistics and interface updates. Their
+ * changes are therefore processed by a {@link NeutronHostconfigCoalescer},
+ * off the notification thread and only with the newest state of each node.
+ * The hostconfigs of the nodes processed together are written in one
+ * transaction, skipping those whose config did not change. The hostconfigs
+ * are reconciled with the OVSDB topology after startup and on demand.
+ */
 @Singleton
 public class NeutronHostconfigOvsListener implements ClusteredDataTreeChangeListener<Node> {
     private static final Logger LOG = LoggerFactory.getLogger(NeutronHostconfigOvsListener.class);
@@ -47,34 +74,44 @@ public class NeutronHostconfigOvsListener implements ClusteredDataTreeChangeList
     private final SouthboundUtils southboundUtils;
     private final NeutronHostconfigUtils neutronHostconfig;
     private ListenerRegistration<DataTreeChangeListener<Node>> listenerRegistration;
+    private NeutronHostconfigCoalescer<NodeKey, NodeChange> coalescer;
     private static final String OS_HOST_CONFIG_HOST_ID_KEY = "odl_os_hostconfig_hostid";
     private static final String OS_HOST_CONFIG_CONFIG_KEY_PREFIX = "odl_os_hostconfig_config_odl_";
     private static int HOST_TYPE_STR_LEN = 8;
+    private static final String HOST_TYPE_PREFIX = "ODL ";
+    private static final int MAX_BATCH_NODES = 100;
+    private static final TopologyId TOPOLOGY_NETCONF = new TopologyId("topology-netconf");
 
     @Inject
     public NeutronHostconfigOvsListener(final DataBroker dataBroker) {
         this.dataBroker = dataBroker;
         MdsalUtils mdsalUtils = new MdsalUtils(dataBroker);
         this.southboundUtils = new SouthboundUtils(mdsalUtils);
-        this.neutronHostconfig = new NeutronHostconfigUtils(dataBroker);
+        this.neutronHostconfig = new NeutronHostconfigUtils(dataBroker, "ovs");
     }
 
     private void processChanges(Collection<DataTreeModification<Node>> changes) {
-        LOG.info("onDataTreeChanged: Received Data Tree Changed ...", changes);
+        LOG.debug("onDataTreeChanged: Received Data Tree Changed ...", changes);
         for (DataTreeModification<Node> change : changes) {
             final InstanceIdentifier<Node> key = change.getRootPath().getRootIdentifier();
             final DataObjectModification<Node> mod = change.getRootNode();
-            LOG.info("onDataTreeChanged: Received Data Tree Changed Update of Type={} for Key={}",
+            LOG.debug("onDataTreeChanged: Received Data Tree Changed Update of Type={} for Key={}",
                     mod.getModificationType(), key);
             switch (mod.getModificationType()) {
                 case DELETE:
-                    updateHostConfig(mod.getDataAfter(), NeutronHostconfigUtils.Action.DELETE);
+                    // a deleted bridge node says nothing of its host, whose OVSDB node may still be up
+                    if (southboundUtils.extractOvsdbNode(mod.getDataBefore()) != null) {
+                        coalescer.submit(mod.getDataBefore().getKey(),
+                                new NodeChange(mod.getDataBefore(), NeutronHostconfigUtils.Action.DELETE));
+                    }
                     break;
                 case SUBTREE_MODIFIED:
-                    updateHostConfig(mod.getDataAfter(), NeutronHostconfigUtils.Action.UPDATE);
+                    coalescer.submit(mod.getDataAfter().getKey(),
+                            new NodeChange(mod.getDataAfter(), NeutronHostconfigUtils.Action.UPDATE));
                     break;
                 case WRITE:
-                    updateHostConfig(mod.getDataAfter(), NeutronHostconfigUtils.Action.ADD);
+                    coalescer.submit(mod.getDataAfter().getKey(),
+                            new NodeChange(mod.getDataAfter(), NeutronHostconfigUtils.Action.ADD));
                     break;
                 default:
                     LOG.error("onDataTreeChanged: Invalid modification type={}",
@@ -91,10 +128,13 @@ public class NeutronHostconfigOvsListener implements ClusteredDataTreeChangeList
     }
 
     private InstanceIdentifier<Node> createNodeIdentifier() {
+        return createTopologyIdentifier(SouthboundUtils.OVSDB_TOPOLOGY_ID).child(Node.class);
+    }
+
+    private static InstanceIdentifier<Topology> createTopologyIdentifier(TopologyId topologyId) {
         return InstanceIdentifier
                 .create(NetworkTopology.class)
-                .child(Topology.class, new TopologyKey(SouthboundUtils.OVSDB_TOPOLOGY_ID))
-                .child(Node.class);
+                .child(Topology.class, new TopologyKey(topologyId));
     }
 
     @PostConstruct
@@ -103,7 +143,9 @@ public class NeutronHostconfigOvsListener implements ClusteredDataTreeChangeList
         DataTreeIdentifier<Node> dataTreeIdentifier =
                 new DataTreeIdentifier<>(LogicalDatastoreType.OPERATIONAL, createNodeIdentifier());
         LOG.info("Neutron Hostconfig DataChange listener registration {}", dataTreeIdentifier);
+        coalescer = new NeutronHostconfigCoalescer<>("ovs", 1, MAX_BATCH_NODES, this::updateHostConfigs);
         listenerRegistration = dataBroker.registerDataTreeChangeListener(dataTreeIdentifier, this);
+        neutronHostconfig.startReconciliation(new OvsdbHostconfigSource());
     }
 
     @PreDestroy
@@ -112,16 +154,32 @@ public class NeutronHostconfigOvsListener implements ClusteredDataTreeChangeList
             listenerRegistration.close();
             LOG.trace("HostConfig listener Closed");
         }
+        if (coalescer != null) {
+            coalescer.close();
+        }
+        neutronHostconfig.close();
     }
 
-    private void updateHostConfig(Node node, NeutronHostconfigUtils.Action action) {
+    private void updateHostConfigs(Map<NodeKey, NodeChange> changes) {
+        final List<Hostconfig> updated = new ArrayList<>();
+        final List<Hostconfig> deleted = new ArrayList<>();
+        for (NodeChange change : changes.values()) {
+            addHostConfigs(change.node, change.action == NeutronHostconfigUtils.Action.DELETE ? deleted : updated);
+        }
+        // a host whose OVSDB node was replaced keeps the hostconfigs its new node provides
+        final Set<HostconfigKey> updatedKeys = new HashSet<>();
+        updated.forEach(hostConfig -> updatedKeys.add(hostConfig.getKey()));
+        deleted.removeIf(hostConfig -> updatedKeys.contains(hostConfig.getKey()));
+        neutronHostconfig.updateMdsal(updated, deleted);
+    }
+
+    private void addHostConfigs(Node node, List<Hostconfig> hostConfigs) {
         String hostId = getExternalId(node, OS_HOST_CONFIG_HOST_ID_KEY);
         if (hostId == null) {
             return;
         }
         for (Map.Entry<String, String> entry : extractHostConfig(node).entrySet()) {
-            neutronHostconfig.updateMdsal(neutronHostconfig.buildHostConfigInfo(hostId, entry.getKey(),
-                    entry.getValue()), action);
+            hostConfigs.add(neutronHostconfig.buildHostConfigInfo(hostId, entry.getKey(), entry.getValue()));
         }
     }
 
@@ -139,7 +197,7 @@ public class NeutronHostconfigOvsListener implements ClusteredDataTreeChangeList
                         if (hostType.length() > HOST_TYPE_STR_LEN) {
                             hostType = hostType.substring(0, HOST_TYPE_STR_LEN);
                         }
-                        hostType = "ODL " + hostType.toUpperCase();
+                        hostType = HOST_TYPE_PREFIX + hostType.toUpperCase();
                         if (null != openvswitchExternalIds.getExternalIdValue()) {
                             config.put(hostType, openvswitchExternalIds.getExternalIdValue());
                         }
@@ -172,4 +230,48 @@ public class NeutronHostconfigOvsListener implements ClusteredDataTreeChangeList
         }
         return ovsdbNode;
     }
+
+    private final class OvsdbHostconfigSource implements NeutronHostconfigSource {
+        @Override
+        public Map<HostconfigKey, Hostconfig> readHostconfigs(ReadOnlyTransaction readTx)
+                throws ReadFailedException {
+            final List<Hostconfig> hostConfigs = new ArrayList<>();
+            final Optional<Topology> topology = readTx.read(LogicalDatastoreType.OPERATIONAL,
+                    createTopologyIdentifier(SouthboundUtils.OVSDB_TOPOLOGY_ID)).checkedGet();
+            if (topology.isPresent() && topology.get().getNode() != null) {
+                for (Node node : topology.get().getNode()) {
+                    // the bridge nodes have the hostconfigs of their OVSDB node, which is listed too
+                    if (southboundUtils.extractOvsdbNode(node) != null) {
+                        addHostConfigs(node, hostConfigs);
+                    }
+                }
+            }
+            final Map<HostconfigKey, Hostconfig> result = new HashMap<>();
+            hostConfigs.forEach(hostConfig -> result.put(hostConfig.getKey(), hostConfig));
+            return result;
+        }
+
+        // the hostconfigs of the NETCONF nodes are written by the VPP listener
+        @Override
+        public Predicate<Hostconfig> readOwnership(ReadOnlyTransaction readTx) throws ReadFailedException {
+            final Set<String> netconfNodeIds = new HashSet<>();
+            final Optional<Topology> topology = readTx.read(LogicalDatastoreType.OPERATIONAL,
+                    createTopologyIdentifier(TOPOLOGY_NETCONF)).checkedGet();
+            if (topology.isPresent() && topology.get().getNode() != null) {
+                topology.get().getNode().forEach(node -> netconfNodeIds.add(node.getNodeId().getValue()));
+            }
+            return hostConfig -> hostConfig.getHostType().startsWith(HOST_TYPE_PREFIX)
+                    && !netconfNodeIds.contains(hostConfig.getHostId());
+        }
+    }
+
+    private static final class NodeChange {
+        private final Node node;
+        private final NeutronHostconfigUtils.Action action;
+
+        NodeChange(Node node, NeutronHostconfigUtils.Action action) {
+            this.node = node;
+            this.action = action;
+        }
+    }
 }
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.hostconfig.utils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the changes of topology nodes off the notification thread,
+ * keeping only the latest pending change of each node.
+ *
+ * <p>
+ * A change submitted for a node which already has one pending replaces it,
+ * and keeps its place in the queue, so a node whose state churns is
+ * processed once with its newest state. Nodes are processed in the order
+ * their first pending change arrived, by up to {@code threads} threads, and
+ * the changes of one node are never processed concurrently. A batch processor
+ * receives the changes of up to {@code maxBatch} nodes at once, so they can be
+ * written in a single transaction. When {@code maxPending} nodes have a change
+ * pending, the change of another node waits for room, which pushes back on
+ * the notifications.
+ *
+ * @param <K> node key
+ * @param <V> node change
+ */
+public final class NeutronHostconfigCoalescer<K, V> implements NeutronHostconfigCoalescerMXBean, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(NeutronHostconfigCoalescer.class);
+
+    private static final String MBEAN_NAME_PREFIX = "org.opendaylight.neutron:type=HostconfigCoalescer,name=";
+
+    private final String name;
+    private final int threads;
+    private final int maxBatch;
+    private final int maxPending;
+    private final Consumer<Map<K, V>> processor;
+    private final ExecutorService executor;
+    private final ObjectName mbeanName;
+
+    // guarded by this, in the order of the first pending change of each node
+    private final Map<K, Pending<V>> pending = new LinkedHashMap<>();
+    // guarded by this
+    private final Set<K> inFlight = new HashSet<>();
+    // guarded by this
+    private int workers;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile long lastLagNanos;
+    private volatile long maxLagNanos;
+
+    /**
+     * Creates a coalescer and exposes its statistics over JMX.
+     *
+     * @param name name of the threads and of the MXBean
+     * @param threads number of nodes processed concurrently
+     * @param processor processes the change of a node
+     */
+    public NeutronHostconfigCoalescer(String name, int threads, BiConsumer<K, V> processor) {
+        this(name, threads, 1, batch -> batch.forEach(processor));
+    }
+
+    /**
+     * Creates a coalescer processing the changes of several nodes at once,
+     * and exposes its statistics over JMX.
+     *
+     * @param name name of the threads and of the MXBean
+     * @param threads number of batches processed concurrently
+     * @param maxBatch highest number of nodes in a batch
+     * @param processor processes the changes of a batch of nodes, in queue order
+     */
+    public NeutronHostconfigCoalescer(String name, int threads, int maxBatch, Consumer<Map<K, V>> processor) {
+        this(name, threads, maxBatch, Integer.MAX_VALUE, processor);
+    }
+
+    /**
+     * Creates a coalescer processing the changes of several nodes at once,
+     * with a bounded queue, and exposes its statistics over JMX.
+     *
+     * @param name name of the threads and of the MXBean
+     * @param threads number of batches processed concurrently
+     * @param maxBatch highest number of nodes in a batch
+     * @param maxPending highest number of nodes with a pending change
+     * @param processor processes the changes of a batch of nodes, in queue order
+     */
+    public NeutronHostconfigCoalescer(String name, int threads, int maxBatch, int maxPending,
+            Consumer<Map<K, V>> processor) {
+        this.name = name;
+        this.threads = threads;
+        this.maxBatch = maxBatch;
+        this.maxPending = maxPending;
+        this.processor = processor;
+        this.executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("neutron-hostconfig-" + name + "-%d").setDaemon(true).build());
+        this.mbeanName = registerMBean();
+    }
+
+    private ObjectName registerMBean() {
+        try {
+            final ObjectName objectName = new ObjectName(MBEAN_NAME_PREFIX + name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (final JMException e) {
+            LOG.warn("Failed to register {} hostconfig coalescer MXBean", name, e);
+            return null;
+        }
+    }
+
+    /**
+     * Queues the change of a node, replacing the one pending for it if any.
+     * Waits while the queue is full, unless the thread is interrupted.
+     */
+    public void submit(K key, V change) {
+        submitted.increment();
+        synchronized (this) {
+            boolean waited = false;
+            while (true) {
+                final Pending<V> previous = pending.get(key);
+                if (previous != null) {
+                    previous.change = change;
+                    coalesced.increment();
+                    return;
+                }
+                if (pending.size() < maxPending || Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                if (!waited) {
+                    blocked.increment();
+                    waited = true;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            pending.put(key, new Pending<>(change, System.nanoTime()));
+            startWorker();
+        }
+    }
+
+    // starts a worker if fewer are running than threads and pending nodes, guarded by this
+    private void startWorker() {
+        if (workers < threads && workers < pending.size()) {
+            workers++;
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        boolean idle = false;
+        try {
+            while (true) {
+                final Map<K, V> batch = new LinkedHashMap<>();
+                final long queued;
+                synchronized (this) {
+                    queued = takeNext(batch);
+                    if (batch.isEmpty()) {
+                        workers--;
+                        idle = true;
+                        return;
+                    }
+                    inFlight.addAll(batch.keySet());
+                    notifyAll();
+                }
+
+                final long lag = System.nanoTime() - queued;
+                lastLagNanos = lag;
+                if (lag > maxLagNanos) {
+                    maxLagNanos = lag;
+                }
+                try {
+                    processor.accept(batch);
+                } catch (RuntimeException e) {
+                    failed.add(batch.size());
+                    LOG.warn("Failed to process hostconfig changes of {}", batch.keySet(), e);
+                } finally {
+                    processed.add(batch.size());
+                    synchronized (this) {
+                        inFlight.removeAll(batch.keySet());
+                    }
+                }
+            }
+        } finally {
+            // an error thrown by the processor ends this worker, another one takes over the pending changes
+            if (!idle) {
+                synchronized (this) {
+                    workers--;
+                    startWorker();
+                }
+            }
+        }
+    }
+
+    // moves the oldest pending changes of nodes not being processed to the
+    // batch and returns when the first of them was queued, guarded by this
+    private long takeNext(Map<K, V> batch) {
+        long queued = 0;
+        final Iterator<Map.Entry<K, Pending<V>>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < maxBatch) {
+            final Map.Entry<K, Pending<V>> entry = iterator.next();
+            if (!inFlight.contains(entry.getKey())) {
+                iterator.remove();
+                if (batch.isEmpty()) {
+                    queued = entry.getValue().queued;
+                }
+                batch.put(entry.getKey(), entry.getValue().change);
+            }
+        }
+        return queued;
+    }
+
+    @Override
+    public synchronized int getQueueDepth() {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    @Override
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getLastLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastLagNanos);
+    }
+
+    @Override
+    public long getMaxLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos);
+    }
+
+    @Override
+    public synchronized long getOldestPendingMillis() {
+        final Iterator<Pending<V>> iterator = pending.values().iterator();
+        return iterator.hasNext() ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - iterator.next().queued) : 0;
+    }
+
+    @Override
+    public void resetLag() {
+        maxLagNanos = 0;
+    }
+
+    /**
+     * Stops processing, dropping the pending changes, and withdraws the MXBean.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            pending.clear();
+            notifyAll();
+        }
+        executor.shutdown();
+        if (mbeanName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+            } catch (final JMException e) {
+                LOG.warn("Failed to unregister MXBean {}", mbeanName, e);
+            }
+        }
+    }
+
+    private static final class Pending<V> {
+        // guarded by the coalescer
+        private V change;
+        private final long queued;
+
+        Pending(V change, long queued) {
+            this.change = change;
+            this.queued = queued;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.hostconfig.utils;
+
+/**
+ * JMX view of the processing of the node changes of a hostconfig listener.
+ * Lags are measured from the arrival of the first change pending for a
+ * node to the start of its processing.
+ */
+public interface NeutronHostconfigCoalescerMXBean {
+
+    /**
+     * Nodes with a change waiting to be processed.
+     */
+    int getQueueDepth();
+
+    /**
+     * Nodes whose change is being processed.
+     */
+    int getInFlightCount();
+
+    /**
+     * Changes submitted.
+     */
+    long getSubmittedCount();
+
+    /**
+     * Changes which replaced one pending for the same node.
+     */
+    long getCoalescedCount();
+
+    /**
+     * Changes which waited for room in the queue.
+     */
+    long getBlockedCount();
+
+    /**
+     * Changes processed, including those which failed.
+     */
+    long getProcessedCount();
+
+    /**
+     * Changes whose processing failed.
+     */
+    long getFailedCount();
+
+    /**
+     * Lag of the change processed last.
+     */
+    long getLastLagMillis();
+
+    /**
+     * Highest lag since the start or the last {@link #resetLag()}.
+     */
+    long getMaxLagMillis();
+
+    /**
+     * Age of the oldest change waiting to be processed, 0 if none is.
+     */
+    long getOldestPendingMillis();
+
+    /**
+     * Resets the highest lag.
+     */
+    void resetLag();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.hostconfig.utils;
+
+import java.util.Map;
+import java.util.function.Predicate;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.Hostconfig;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.HostconfigKey;
+
+/**
+ * The hostconfigs a topology provides, against which
+ * {@link NeutronHostconfigUtils#reconcile()} sweeps the OPERATIONAL
+ * hostconfigs. Both methods read in the transaction the hostconfigs are read
+ * in, so they all come from the same snapshot.
+ */
+public interface NeutronHostconfigSource {
+
+    /**
+     * Reads the hostconfigs of the nodes of the topology.
+     *
+     * @param readTx transaction to read the topology in
+     * @return the hostconfigs by key
+     * @throws ReadFailedException if the topology could not be read
+     */
+    Map<HostconfigKey, Hostconfig> readHostconfigs(ReadOnlyTransaction readTx) throws ReadFailedException;
+
+    /**
+     * Reads which hostconfigs are written for this topology, and are stale
+     * when none of its nodes provides them.
+     *
+     * @param readTx transaction to read in
+     * @return accepts the hostconfigs owned by this topology
+     * @throws ReadFailedException if what is needed could not be read
+     */
+    Predicate<Hostconfig> readOwnership(ReadOnlyTransaction readTx) throws ReadFailedException;
+}
@@ -8,25 +8,96 @@
 
 package org.opendaylight.neutron.hostconfig.utils;
 
+import com.google.common.base.Optional;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.Hostconfigs;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.Hostconfig;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.HostconfigBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.HostconfigKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class NeutronHostconfigUtils {
+/**
+ * Writes hostconfigs into the OPERATIONAL data store.
+ *
+ * <p>
+ * A digest of the config last written for each hostconfig is kept, so an
+ * update which would write the same config again is suppressed. This relies
+ * on the hostconfigs being written by this instance only; the digests are
+ * forgotten when a write fails, and can be dropped with {@link #forgetAll()}
+ * when the data store may have changed under it.
+ *
+ * <p>
+ * Given a {@link NeutronHostconfigSource}, it also reconciles the hostconfigs
+ * with the nodes of a topology, after a delay at startup and on demand. Each
+ * transaction stamps the hostconfigs it writes with a generation, taken when
+ * it is submitted; the reconciliation leaves alone the hostconfigs stamped
+ * after it read the topology, whose newer config it would otherwise revert.
+ */
+public class NeutronHostconfigUtils implements NeutronHostconfigWriterMXBean, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(NeutronHostconfigUtils.class);
+    private static final String MBEAN_NAME_PREFIX = "org.opendaylight.neutron:type=HostconfigWriter,name=";
+
+    /**
+     * System property which sets after how many seconds from the start the
+     * hostconfigs are reconciled with the topology, 60 by default, giving the
+     * nodes time to reconnect. The startup reconciliation is disabled when it
+     * is negative.
+     */
+    public static final String RECONCILE_DELAY_PROPERTY = "org.opendaylight.neutron.hostconfig.reconcileDelay";
+
+    private static final long DEFAULT_RECONCILE_DELAY = 60;
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final String name;
     private final DataBroker dataBroker;
+    private final ObjectName mbeanName;
+    private final Map<HostconfigKey, WrittenConfig> lastWrites = new ConcurrentHashMap<>();
+    // orders the submits of the transactions with the generations they stamp
+    private final Object submitLock = new Object();
+    // guarded by submitLock
+    private long generation;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder failedTransactions = new LongAdder();
+    private NeutronHostconfigSource source;
+    private ScheduledExecutorService reconcileExecutor;
+    private volatile long lastReconcileMillis = -1;
+    private volatile int lastReconcileTouchedCount;
 
     public enum Action {
         ADD,
@@ -36,35 +107,316 @@ public class NeutronHostconfigUtils {
 
     public NeutronHostconfigUtils(final DataBroker dataBroker) {
         this.dataBroker = dataBroker;
+        this.name = "hostconfig";
+        this.mbeanName = null;
+    }
+
+    /**
+     * Creates a writer whose counters are exposed over JMX.
+     *
+     * @param dataBroker the data broker
+     * @param name name of the MXBean, such as the type of the hosts
+     */
+    public NeutronHostconfigUtils(final DataBroker dataBroker, final String name) {
+        this.dataBroker = dataBroker;
+        this.name = name;
+        this.mbeanName = registerMBean();
+    }
+
+    private ObjectName registerMBean() {
+        try {
+            final ObjectName objectName = new ObjectName(MBEAN_NAME_PREFIX + name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (final JMException e) {
+            LOG.warn("Failed to register {} hostconfig writer MXBean", name, e);
+            return null;
+        }
     }
 
     public void updateMdsal(Hostconfig hostConfig, Action action) {
-        InstanceIdentifier<Hostconfig> hostConfigId;
         if (hostConfig == null) {
             return;
         }
-        try {
-            switch (action) {
-                case ADD:
-                case UPDATE:
-                    final WriteTransaction writeTx = dataBroker.newWriteOnlyTransaction();
-                    hostConfigId = createInstanceIdentifier(hostConfig);
-                    writeTx.put(LogicalDatastoreType.OPERATIONAL, hostConfigId, hostConfig, true);
-                    writeTx.submit().get();
-                    LOG.trace("Hostconfig updated for node {}", hostConfig.getHostId());
-                    break;
-                case DELETE:
-                    final WriteTransaction delTx = dataBroker.newWriteOnlyTransaction();
-                    hostConfigId = createInstanceIdentifier(hostConfig);
-                    delTx.delete(LogicalDatastoreType.OPERATIONAL, hostConfigId);
-                    LOG.trace("Hostconfig deleted for node {}", hostConfig.getHostId());
-                    delTx.submit().get();
-                    break;
-                default:
-                    break;
+        if (action == Action.DELETE) {
+            updateMdsal(Collections.emptyList(), Collections.singletonList(hostConfig));
+        } else {
+            updateMdsal(Collections.singletonList(hostConfig), Collections.emptyList());
+        }
+    }
+
+    /**
+     * Puts and deletes hostconfigs in one transaction, such as all the host
+     * types of a set of nodes. Puts of configs which are the last ones written
+     * are suppressed, and no transaction is submitted if nothing is left.
+     *
+     * @param updated hostconfigs to add or update
+     * @param deletedConfigs hostconfigs to delete
+     */
+    public void updateMdsal(Collection<Hostconfig> updated, Collection<Hostconfig> deletedConfigs) {
+        final List<Hostconfig> puts = new ArrayList<>(updated.size());
+        final List<HashCode> putDigests = new ArrayList<>(updated.size());
+        for (final Hostconfig hostConfig : updated) {
+            final HashCode digest = digest(hostConfig);
+            final WrittenConfig last = lastWrites.get(hostConfig.getKey());
+            if (last != null && digest.equals(last.digest)) {
+                suppressed.increment();
+                LOG.trace("Hostconfig unchanged for node {}", hostConfig.getHostId());
+            } else {
+                puts.add(hostConfig);
+                putDigests.add(digest);
             }
+        }
+        if (puts.isEmpty() && deletedConfigs.isEmpty()) {
+            return;
+        }
+
+        submit(puts, putDigests, deletedConfigs, Long.MAX_VALUE);
+    }
+
+    /*
+     * Puts and deletes in one transaction, keeping the digests of what was
+     * committed. Hostconfigs stamped after the given generation are left out.
+     */
+    private boolean submit(List<Hostconfig> puts, List<HashCode> putDigests, Collection<Hostconfig> deletedConfigs,
+            long notAfter) {
+        final WriteTransaction writeTx = dataBroker.newWriteOnlyTransaction();
+        final List<Hostconfig> putConfigs = new ArrayList<>(puts.size());
+        final List<HashCode> putConfigDigests = new ArrayList<>(puts.size());
+        final List<Hostconfig> deleteConfigs = new ArrayList<>(deletedConfigs.size());
+        final long txGeneration;
+        final ListenableFuture<Void> commit;
+        synchronized (submitLock) {
+            txGeneration = ++generation;
+            for (int i = 0; i < puts.size(); i++) {
+                final Hostconfig hostConfig = puts.get(i);
+                if (stamp(hostConfig.getKey(), txGeneration, notAfter)) {
+                    writeTx.put(LogicalDatastoreType.OPERATIONAL, createInstanceIdentifier(hostConfig), hostConfig,
+                            true);
+                    putConfigs.add(hostConfig);
+                    putConfigDigests.add(putDigests.get(i));
+                }
+            }
+            for (final Hostconfig hostConfig : deletedConfigs) {
+                if (stamp(hostConfig.getKey(), txGeneration, notAfter)) {
+                    writeTx.delete(LogicalDatastoreType.OPERATIONAL, createInstanceIdentifier(hostConfig));
+                    deleteConfigs.add(hostConfig);
+                }
+            }
+            if (putConfigs.isEmpty() && deleteConfigs.isEmpty()) {
+                writeTx.cancel();
+                return true;
+            }
+            commit = writeTx.submit();
+        }
+        transactions.increment();
+        try {
+            commit.get();
         } catch (InterruptedException | ExecutionException e) {
+            failedTransactions.increment();
+            putConfigs.forEach(hostConfig -> settle(hostConfig.getKey(), txGeneration, null));
+            deleteConfigs.forEach(hostConfig -> settle(hostConfig.getKey(), txGeneration, null));
             LOG.warn("Hostconfig transaction commit failed to DS.", e);
+            return false;
+        }
+        for (int i = 0; i < putConfigs.size(); i++) {
+            settle(putConfigs.get(i).getKey(), txGeneration, putConfigDigests.get(i));
+            LOG.trace("Hostconfig updated for node {}", putConfigs.get(i).getHostId());
+        }
+        for (final Hostconfig hostConfig : deleteConfigs) {
+            settle(hostConfig.getKey(), txGeneration, null);
+            LOG.trace("Hostconfig deleted for node {}", hostConfig.getHostId());
+        }
+        written.add(putConfigs.size());
+        deleted.add(deleteConfigs.size());
+        return true;
+    }
+
+    // Marks a hostconfig as being written, with no digest until the commit completes, unless it was stamped
+    // after notAfter.
+    private boolean stamp(HostconfigKey key, long txGeneration, long notAfter) {
+        final WrittenConfig last = lastWrites.get(key);
+        if (last != null && last.generation > notAfter) {
+            return false;
+        }
+        lastWrites.put(key, new WrittenConfig(txGeneration, null));
+        return true;
+    }
+
+    // Records the outcome of a write, unless a later one has stamped the hostconfig since.
+    private void settle(HostconfigKey key, long txGeneration, HashCode digest) {
+        lastWrites.computeIfPresent(key, (hostConfigKey, last) -> last.generation != txGeneration ? last
+                : digest == null ? null : new WrittenConfig(txGeneration, digest));
+    }
+
+    /**
+     * Reconciles the hostconfigs with the topology of the given source after
+     * the delay set by {@link #RECONCILE_DELAY_PROPERTY}, and lets them be
+     * reconciled on demand through {@link #reconcile()}.
+     *
+     * @param hostconfigSource the hostconfigs the topology provides
+     */
+    public synchronized void startReconciliation(NeutronHostconfigSource hostconfigSource) {
+        this.source = hostconfigSource;
+        final long delay = Long.getLong(RECONCILE_DELAY_PROPERTY, DEFAULT_RECONCILE_DELAY);
+        if (delay >= 0 && reconcileExecutor == null) {
+            reconcileExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("neutron-hostconfig-" + name + "-reconcile").setDaemon(true).build());
+            reconcileExecutor.schedule(this::reconcile, delay, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Sweeps the OPERATIONAL hostconfigs: those the topology provides and
+     * which are missing or differ are put, and those owned by the topology
+     * which none of its nodes provides any more are deleted. The topology and
+     * the hostconfigs are read once, in one transaction, and the changes are
+     * written in transactions of up to 500 hostconfigs.
+     *
+     * @return a report of the sweep
+     */
+    @Override
+    public synchronized String reconcile() {
+        if (source == null) {
+            return "No topology to reconcile the " + name + " hostconfigs with";
+        }
+        final long start = System.nanoTime();
+        final long snapshotGeneration;
+        synchronized (submitLock) {
+            snapshotGeneration = generation;
+        }
+        final Map<HostconfigKey, Hostconfig> expected;
+        final Map<HostconfigKey, Hostconfig> existing = new HashMap<>();
+        final Predicate<Hostconfig> owned;
+        try (ReadOnlyTransaction readTx = dataBroker.newReadOnlyTransaction()) {
+            final Optional<Hostconfigs> hostconfigs = readTx.read(LogicalDatastoreType.OPERATIONAL,
+                    InstanceIdentifier.create(Neutron.class).child(Hostconfigs.class)).checkedGet();
+            if (hostconfigs.isPresent() && hostconfigs.get().getHostconfig() != null) {
+                hostconfigs.get().getHostconfig().forEach(hostConfig -> existing.put(hostConfig.getKey(), hostConfig));
+            }
+            expected = source.readHostconfigs(readTx);
+            owned = source.readOwnership(readTx);
+        } catch (final ReadFailedException e) {
+            LOG.warn("Failed to read the {} hostconfigs to reconcile", name, e);
+            return "Failed to read the " + name + " hostconfigs to reconcile: " + e.getMessage();
+        }
+
+        final List<Hostconfig> puts = new ArrayList<>();
+        final List<HashCode> putDigests = new ArrayList<>();
+        for (final Hostconfig hostConfig : expected.values()) {
+            final HashCode digest = digest(hostConfig);
+            final Hostconfig current = existing.get(hostConfig.getKey());
+            if (current != null && digest.equals(digest(current))) {
+                lastWrites.compute(hostConfig.getKey(), (key, last) -> last != null
+                        && last.generation > snapshotGeneration ? last : new WrittenConfig(snapshotGeneration, digest));
+            } else {
+                puts.add(hostConfig);
+                putDigests.add(digest);
+            }
+        }
+        final List<Hostconfig> deletes = new ArrayList<>();
+        for (final Hostconfig hostConfig : existing.values()) {
+            if (!expected.containsKey(hostConfig.getKey()) && owned.test(hostConfig)) {
+                deletes.add(hostConfig);
+            }
+        }
+
+        int touched = 0;
+        int failedChunks = 0;
+        int put = 0;
+        int delete = 0;
+        while (put < puts.size() || delete < deletes.size()) {
+            final int putEnd = Math.min(puts.size(), put + RECONCILE_CHUNK_SIZE);
+            final int deleteEnd = Math.min(deletes.size(), delete + RECONCILE_CHUNK_SIZE - (putEnd - put));
+            if (submit(puts.subList(put, putEnd), putDigests.subList(put, putEnd),
+                    deletes.subList(delete, deleteEnd), snapshotGeneration)) {
+                touched += putEnd - put + deleteEnd - delete;
+            } else {
+                failedChunks++;
+            }
+            put = putEnd;
+            delete = deleteEnd;
+        }
+
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastReconcileMillis = elapsed;
+        lastReconcileTouchedCount = touched;
+        final String report = String.format(Locale.ROOT,
+                "Reconciled %d %s hostconfigs with the %d of the topology in %d ms: %d put, %d deleted,"
+                + " %d failed transactions", existing.size(), name, expected.size(), elapsed, puts.size(),
+                deletes.size(), failedChunks);
+        LOG.info("{}", report);
+        return report;
+    }
+
+    private static HashCode digest(Hostconfig hostConfig) {
+        return Hashing.murmur3_128().hashString(String.valueOf(hostConfig.getConfig()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Forgets the configs last written, so the next update of every
+     * hostconfig is written.
+     */
+    public void forgetAll() {
+        lastWrites.replaceAll((key, last) -> new WrittenConfig(last.generation, null));
+    }
+
+    @Override
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    @Override
+    public long getDeletedCount() {
+        return deleted.sum();
+    }
+
+    @Override
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    @Override
+    public long getTransactionCount() {
+        return transactions.sum();
+    }
+
+    @Override
+    public long getFailedTransactionCount() {
+        return failedTransactions.sum();
+    }
+
+    @Override
+    public int getKnownHostconfigCount() {
+        return (int) lastWrites.values().stream().filter(last -> last.digest != null).count();
+    }
+
+    @Override
+    public long getLastReconcileMillis() {
+        return lastReconcileMillis;
+    }
+
+    @Override
+    public int getLastReconcileTouchedCount() {
+        return lastReconcileTouchedCount;
+    }
+
+    /**
+     * Stops the reconciliation and withdraws the MXBean.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (reconcileExecutor != null) {
+                reconcileExecutor.shutdownNow();
+            }
+        }
+        if (mbeanName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+            } catch (final JMException e) {
+                LOG.warn("Failed to unregister MXBean {}", mbeanName, e);
+            }
         }
     }
 
@@ -81,6 +433,18 @@ public class NeutronHostconfigUtils {
                 .child(Hostconfig.class, hostconfig.getKey());
     }
 
+    private static final class WrittenConfig {
+        // generation of the transaction which wrote it last
+        private final long generation;
+        // digest of the config committed, or null while the write is in flight or forgotten
+        private final HashCode digest;
+
+        WrittenConfig(long generation, HashCode digest) {
+            this.generation = generation;
+            this.digest = digest;
+        }
+    }
+
     /**
      * Used for parsing model revisions.
      */
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.hostconfig.utils;
+
+/**
+ * JMX view of the hostconfig writes of a hostconfig listener, and control of
+ * their reconciliation with its topology.
+ */
+public interface NeutronHostconfigWriterMXBean {
+
+    /**
+     * Hostconfigs put into the data store.
+     */
+    long getWrittenCount();
+
+    /**
+     * Hostconfigs deleted from the data store.
+     */
+    long getDeletedCount();
+
+    /**
+     * Hostconfig updates not written because their config was already the
+     * last one written.
+     */
+    long getSuppressedCount();
+
+    /**
+     * Transactions submitted.
+     */
+    long getTransactionCount();
+
+    /**
+     * Transactions which failed to commit.
+     */
+    long getFailedTransactionCount();
+
+    /**
+     * Hostconfigs whose last written config is known.
+     */
+    int getKnownHostconfigCount();
+
+    /**
+     * Duration of the last reconciliation with the topology, -1 if none ran.
+     */
+    long getLastReconcileMillis();
+
+    /**
+     * Hostconfigs put or deleted by the last reconciliation.
+     */
+    int getLastReconcileTouchedCount();
+
+    /**
+     * Reconciles the hostconfigs with the topology now.
+     *
+     * @return a report of the reconciliation
+     */
+    String reconcile();
+}
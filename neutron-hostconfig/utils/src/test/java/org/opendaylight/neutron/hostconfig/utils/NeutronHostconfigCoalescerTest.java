@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.hostconfig.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.After;
+import org.junit.Test;
+
+public class NeutronHostconfigCoalescerTest {
+    private static final long TIMEOUT_SECONDS = 10;
+    // how long a thread which should stay blocked is watched
+    private static final long BLOCKED_MILLIS = 200;
+
+    private final CountDownLatch firstStarted = new CountDownLatch(1);
+    private final CountDownLatch firstReleased = new CountDownLatch(1);
+    private final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+    private NeutronHostconfigCoalescer<String, Integer> coalescer;
+
+    @After
+    public void closeCoalescer() {
+        firstReleased.countDown();
+        if (coalescer != null) {
+            coalescer.close();
+        }
+    }
+
+    // records the batches as "key=change" and holds the first one until released
+    private Consumer<Map<String, Integer>> recorder(Consumer<Map<String, Integer>> then) {
+        final AtomicBoolean first = new AtomicBoolean(true);
+        return batch -> {
+            if (first.getAndSet(false)) {
+                firstStarted.countDown();
+                await(firstReleased);
+            }
+            batch.forEach((key, change) -> processed.add(key + "=" + change));
+            then.accept(batch);
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (coalescer.getQueueDepth() + coalescer.getInFlightCount() > 0) {
+            assertTrue("The coalescer did not process its changes", System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testLatestChangeKeepsItsPlaceInQueue() throws Exception {
+        coalescer = new NeutronHostconfigCoalescer<>("test-latest", 1, 1, recorder(batch -> { }));
+        coalescer.submit("a", 1);
+        await(firstStarted);
+        coalescer.submit("b", 1);
+        coalescer.submit("c", 1);
+        coalescer.submit("b", 2);
+        firstReleased.countDown();
+
+        awaitIdle();
+        assertEquals(Arrays.asList("a=1", "b=2", "c=1"), processed);
+        assertEquals(4, coalescer.getSubmittedCount());
+        assertEquals(1, coalescer.getCoalescedCount());
+        assertEquals(3, coalescer.getProcessedCount());
+    }
+
+    @Test
+    public void testNodeIsNeverProcessedConcurrently() throws Exception {
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final CountDownLatch otherProcessed = new CountDownLatch(1);
+        final Consumer<Map<String, Integer>> recorder = recorder(batch -> {
+            if (batch.containsKey("b")) {
+                otherProcessed.countDown();
+            }
+        });
+        coalescer = new NeutronHostconfigCoalescer<>("test-exclusion", 4, 1, batch -> {
+            final boolean isA = batch.containsKey("a");
+            if (isA && concurrent.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            try {
+                recorder.accept(batch);
+            } finally {
+                if (isA) {
+                    concurrent.decrementAndGet();
+                }
+            }
+        });
+        coalescer.submit("a", 1);
+        await(firstStarted);
+        coalescer.submit("a", 2);
+        coalescer.submit("b", 1);
+
+        // another thread processes b, but leaves a to the thread holding it
+        await(otherProcessed);
+        assertEquals(Collections.singletonList("b=1"), processed);
+        assertEquals(1, coalescer.getQueueDepth());
+        firstReleased.countDown();
+
+        awaitIdle();
+        assertEquals(Arrays.asList("b=1", "a=1", "a=2"), processed);
+        assertFalse(overlapped.get());
+    }
+
+    @Test
+    public void testBatchesAreCapped() throws Exception {
+        final List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+        coalescer = new NeutronHostconfigCoalescer<>("test-batch", 1, 3, recorder(batch -> sizes.add(batch.size())));
+        coalescer.submit("a", 1);
+        await(firstStarted);
+        for (final String key : Arrays.asList("b", "c", "d", "e", "f", "g", "h")) {
+            coalescer.submit(key, 1);
+        }
+        firstReleased.countDown();
+
+        awaitIdle();
+        assertEquals(Arrays.asList(1, 3, 3, 1), sizes);
+        assertEquals(Arrays.asList("a=1", "b=1", "c=1", "d=1", "e=1", "f=1", "g=1", "h=1"), processed);
+    }
+
+    @Test
+    public void testSubmitWaitsWhileQueueIsFull() throws Exception {
+        coalescer = new NeutronHostconfigCoalescer<>("test-backpressure", 1, 1, 2, recorder(batch -> { }));
+        coalescer.submit("a", 1);
+        await(firstStarted);
+        coalescer.submit("b", 1);
+        coalescer.submit("c", 1);
+        // a node with a pending change takes no room
+        coalescer.submit("b", 2);
+
+        final Thread submitter = new Thread(() -> coalescer.submit("d", 1));
+        submitter.start();
+        submitter.join(BLOCKED_MILLIS);
+        assertTrue("The submit did not wait for room", submitter.isAlive());
+        assertEquals(1, coalescer.getBlockedCount());
+        assertEquals(2, coalescer.getQueueDepth());
+
+        firstReleased.countDown();
+        submitter.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse("The submit did not resume", submitter.isAlive());
+        awaitIdle();
+        assertEquals(Arrays.asList("a=1", "b=2", "c=1", "d=1"), processed);
+    }
+
+    @Test
+    public void testErrorDoesNotStallProcessing() throws Exception {
+        final CountDownLatch nextSubmitted = new CountDownLatch(1);
+        coalescer = new NeutronHostconfigCoalescer<>("test-error", 1, 1, batch -> {
+            if (batch.containsKey("a")) {
+                firstStarted.countDown();
+                await(nextSubmitted);
+                throw new AssertionError("Failing processor");
+            }
+            batch.forEach((key, change) -> processed.add(key + "=" + change));
+        });
+        coalescer.submit("a", 1);
+        await(firstStarted);
+        // submitted while the only worker is busy, which then ends with the error
+        coalescer.submit("b", 1);
+        nextSubmitted.countDown();
+
+        awaitIdle();
+        assertEquals(Collections.singletonList("b=1"), processed);
+        assertEquals(2, coalescer.getProcessedCount());
+        coalescer.submit("c", 1);
+        awaitIdle();
+        assertEquals(Arrays.asList("b=1", "c=1"), processed);
+    }
+}
@@ -8,16 +8,19 @@
 
 package org.opendaylight.neutron.hostconfig.vpp;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
@@ -27,29 +30,51 @@ import org.opendaylight.controller.md.sal.binding.api.DataObjectModification;
 import org.opendaylight.controller.md.sal.binding.api.DataTreeChangeListener;
 import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
 import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.neutron.hostconfig.utils.NeutronHostconfigCoalescer;
+import org.opendaylight.neutron.hostconfig.utils.NeutronHostconfigSource;
 import org.opendaylight.neutron.hostconfig.utils.NeutronHostconfigUtils;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeConnectionStatus;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.status.available.capabilities.AvailableCapability;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.Hostconfig;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.HostconfigKey;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.TopologyId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyKey;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Maintains the hostconfigs of the VPP nodes connected over NETCONF.
+ *
+ * <p>
+ * Node changes are processed by a {@link NeutronHostconfigCoalescer}, so
+ * different nodes are processed in parallel, as when many of them reconnect
+ * after a restart. A node is processed with its newest state only, whatever
+ * the changes that led to it: its hostconfigs are written if it is a
+ * connected VPP node, and deleted otherwise. The hostconfigs are reconciled
+ * with the NETCONF topology after startup and on demand.
+ */
 public class NeutronHostconfigVppListener implements ClusteredDataTreeChangeListener<Node> {
 
     private static final Logger LOG = LoggerFactory.getLogger(NeutronHostconfigVppListener.class);
     private final DataBroker dataBroker;
     private final NeutronHostconfigUtils neutronHostconfig;
     private ListenerRegistration<DataTreeChangeListener<Node>> listenerRegistration;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(1);
+    // the newest state of each node, null once it is deleted
+    private final NeutronHostconfigCoalescer<NodeKey, Node> coalescer;
+    private static final int THREADS = 4;
+    private static final int MAX_PENDING_NODES = 10000;
 
     private static final TopologyId TOPOLOGY_NETCONF = new TopologyId("topology-netconf");
     private static final QName V3PO_1704_CAPABILITY = QName.create(
@@ -61,7 +86,8 @@ public class NeutronHostconfigVppListener implements ClusteredDataTreeChangeList
     private static final QName INTERFACES_CAPABILITY =
             QName.create(URI.create("urn:ietf:params:xml:ns:yang:ietf-interfaces"),
                     NeutronHostconfigUtils.parseDate("2014-05-08"), "ietf-interfaces");
-    private static final List<QName> REQUIRED_CAPABILITIES = new ArrayList<>();
+    private static final Set<String> REQUIRED_CAPABILITIES = ImmutableSet.of(V3PO_1704_CAPABILITY.toString(),
+            V3PO_1701_CAPABILITY.toString(), INTERFACES_CAPABILITY.toString());
     private SocketInfo socketInfo;
 
     public NeutronHostconfigVppListener(final DataBroker dataBroker, String spath, String sname, String vhostMode) {
@@ -72,44 +98,30 @@ public class NeutronHostconfigVppListener implements ClusteredDataTreeChangeList
                 "Supported values for vhostuser-mode are client and server.");
         this.socketInfo =
                 new SocketInfo(Preconditions.checkNotNull(spath), Preconditions.checkNotNull(sname), vhostModeChecked);
-        this.neutronHostconfig = new NeutronHostconfigUtils(dataBroker);
-        REQUIRED_CAPABILITIES.add(V3PO_1704_CAPABILITY);
-        REQUIRED_CAPABILITIES.add(V3PO_1701_CAPABILITY);
-        REQUIRED_CAPABILITIES.add(INTERFACES_CAPABILITY);
+        this.neutronHostconfig = new NeutronHostconfigUtils(dataBroker, "vpp");
+        this.coalescer = new NeutronHostconfigCoalescer<>("vpp", THREADS, 1, MAX_PENDING_NODES,
+                batch -> batch.forEach(this::processNode));
     }
 
     @Override
     public void onDataTreeChanged(@Nonnull Collection<DataTreeModification<Node>> changes) {
-        LOG.info("onDataTreeChanged: Received Data Tree Changed ...", changes);
-        executorService.submit(() -> {
-            for (DataTreeModification<Node> change : Preconditions.checkNotNull(changes, "Changes may not be null!")) {
-                processDataTreeModification(change);
+        LOG.debug("onDataTreeChanged: Received Data Tree Changed ...", changes);
+        for (DataTreeModification<Node> change : Preconditions.checkNotNull(changes, "Changes may not be null!")) {
+            final DataObjectModification<Node> mod = change.getRootNode();
+            LOG.debug("onDataTreeChanged: Received Data Tree Changed Update of Type={} for Key={}",
+                    mod.getModificationType(), mod.getIdentifier());
+            final Node node = mod.getDataAfter() != null ? mod.getDataAfter() : mod.getDataBefore();
+            if (node != null) {
+                coalescer.submit(node.getKey(), mod.getDataAfter());
             }
-        });
+        }
     }
 
-    private void processDataTreeModification(DataTreeModification<Node> change) {
-        final InstanceIdentifier<Node> key = change.getRootPath().getRootIdentifier();
-        final DataObjectModification<Node> mod = change.getRootNode();
-        LOG.info("onDataTreeChanged: Received Data Tree Changed Update of Type={} for Key={}",
-                mod.getModificationType(), key);
-        switch (mod.getModificationType()) {
-            case SUBTREE_MODIFIED:
-                if (validateVppNode(mod.getDataAfter())) {
-                    updateHostConfig(mod.getDataAfter(), NeutronHostconfigUtils.Action.UPDATE);
-                } else {
-                    updateHostConfig(mod.getDataBefore(), NeutronHostconfigUtils.Action.DELETE);
-                }
-                break;
-            case DELETE:
-                updateHostConfig(mod.getDataBefore(), NeutronHostconfigUtils.Action.DELETE);
-                break;
-            case WRITE:
-                if (validateVppNode(mod.getDataAfter())) {
-                    updateHostConfig(mod.getDataAfter(), NeutronHostconfigUtils.Action.ADD);
-                }
-                break;
-            default:
+    private void processNode(NodeKey key, Node node) {
+        if (node != null && validateVppNode(node)) {
+            updateHostConfig(key.getNodeId(), NeutronHostconfigUtils.Action.UPDATE);
+        } else {
+            updateHostConfig(key.getNodeId(), NeutronHostconfigUtils.Action.DELETE);
         }
     }
 
@@ -123,14 +135,21 @@ public class NeutronHostconfigVppListener implements ClusteredDataTreeChangeList
         listenerRegistration =
                 dataBroker.registerDataTreeChangeListener(dataTreeIdentifier, NeutronHostconfigVppListener.this);
         LOG.info("Registered listener to netconf nodes {}.", dataTreeIdentifier.getRootIdentifier());
+        neutronHostconfig.startReconciliation(new VppHostconfigSource());
     }
 
-    private void updateHostConfig(Node node, NeutronHostconfigUtils.Action action) {
-        for (Map.Entry<String, String> entry : HostconfigUtil.createHostconfigsDataFor(node.getNodeId(), socketInfo)
+    private void updateHostConfig(NodeId nodeId, NeutronHostconfigUtils.Action action) {
+        final List<Hostconfig> hostConfigs = new ArrayList<>();
+        for (Map.Entry<String, String> entry : HostconfigUtil.createHostconfigsDataFor(nodeId, socketInfo)
             .entrySet()) {
-            LOG.info("Updating hostconfig for node {}. Action: {}.", node.getKey(), action);
-            neutronHostconfig.updateMdsal(neutronHostconfig.buildHostConfigInfo(node.getNodeId().getValue(),
-                    entry.getKey(), entry.getValue()), action);
+            hostConfigs.add(neutronHostconfig.buildHostConfigInfo(nodeId.getValue(),
+                    entry.getKey(), entry.getValue()));
+        }
+        LOG.info("Updating hostconfig for node {}. Action: {}.", nodeId.getValue(), action);
+        if (action == NeutronHostconfigUtils.Action.DELETE) {
+            neutronHostconfig.updateMdsal(Collections.emptyList(), hostConfigs);
+        } else {
+            neutronHostconfig.updateMdsal(hostConfigs, Collections.emptyList());
         }
     }
 
@@ -173,9 +192,40 @@ public class NeutronHostconfigVppListener implements ClusteredDataTreeChangeList
     }
 
     private boolean capabilityCheck(final List<AvailableCapability> capabilities) {
-        final List<String> availableCapabilities =
-                capabilities.stream().map(AvailableCapability::getCapability).collect(Collectors.toList());
-        return REQUIRED_CAPABILITIES.stream().map(QName::toString).allMatch(availableCapabilities::contains);
+        return capabilities.stream().map(AvailableCapability::getCapability).filter(REQUIRED_CAPABILITIES::contains)
+                .distinct().count() == REQUIRED_CAPABILITIES.size();
+    }
+
+    private final class VppHostconfigSource implements NeutronHostconfigSource {
+        @Override
+        public Map<HostconfigKey, Hostconfig> readHostconfigs(ReadOnlyTransaction readTx)
+                throws ReadFailedException {
+            final Map<HostconfigKey, Hostconfig> hostConfigs = new HashMap<>();
+            final Optional<Topology> topology = readTx.read(LogicalDatastoreType.OPERATIONAL,
+                    InstanceIdentifier.create(NetworkTopology.class)
+                        .child(Topology.class, new TopologyKey(TOPOLOGY_NETCONF))).checkedGet();
+            if (topology.isPresent() && topology.get().getNode() != null) {
+                for (Node node : topology.get().getNode()) {
+                    if (validateVppNode(node)) {
+                        for (Map.Entry<String, String> entry
+                                : HostconfigUtil.createHostconfigsDataFor(node.getNodeId(), socketInfo).entrySet()) {
+                            final Hostconfig hostConfig = neutronHostconfig.buildHostConfigInfo(
+                                    node.getNodeId().getValue(), entry.getKey(), entry.getValue());
+                            hostConfigs.put(hostConfig.getKey(), hostConfig);
+                        }
+                    }
+                }
+            }
+            return hostConfigs;
+        }
+
+        // the hostconfigs with the config this listener writes
+        @Override
+        public Predicate<Hostconfig> readOwnership(ReadOnlyTransaction readTx) {
+            return hostConfig -> hostConfig.getConfig() != null && hostConfig.getConfig().equals(
+                    HostconfigUtil.createHostconfigsDataFor(new NodeId(hostConfig.getHostId()), socketInfo)
+                        .get(hostConfig.getHostType()));
+        }
     }
 
     public void close() throws Exception {
@@ -183,5 +233,7 @@ public class NeutronHostconfigVppListener implements ClusteredDataTreeChangeList
             listenerRegistration.close();
             LOG.info("HostConfig listener Closed");
         }
+        coalescer.close();
+        neutronHostconfig.close();
     }
 }
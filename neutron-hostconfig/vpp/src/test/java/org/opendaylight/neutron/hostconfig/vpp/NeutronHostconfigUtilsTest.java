@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.hostconfig.vpp;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Futures;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.management.JMX;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.neutron.hostconfig.utils.NeutronHostconfigSource;
+import org.opendaylight.neutron.hostconfig.utils.NeutronHostconfigUtils;
+import org.opendaylight.neutron.hostconfig.utils.NeutronHostconfigWriterMXBean;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.Hostconfigs;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.Hostconfig;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.hostconfig.rev150712.hostconfig.attributes.hostconfigs.HostconfigKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class NeutronHostconfigUtilsTest extends HostconfigsDataBrokerTest {
+
+    private static final String HOST_TYPE = HostconfigUtil.L2_HOST_TYPE;
+    private static final String SOCKET_PATH = "/tmp";
+    private static final String SOCKET_PREFIX = "socket_";
+    private static final String VHOSTUSER_MODE = "server";
+
+    private volatile boolean failCommits;
+    private NeutronHostconfigUtils utils;
+
+    @Before
+    public void init() {
+        System.setProperty(NeutronHostconfigUtils.RECONCILE_DELAY_PROPERTY, "-1");
+        utils = new NeutronHostconfigUtils(failingDataBroker());
+    }
+
+    @After
+    public void close() {
+        utils.close();
+        System.clearProperty(NeutronHostconfigUtils.RECONCILE_DELAY_PROPERTY);
+    }
+
+    // the data broker of the test, whose write transactions fail to commit while failCommits is set
+    private DataBroker failingDataBroker() {
+        final DataBroker dataBroker = getDataBroker();
+        return (DataBroker) Proxy.newProxyInstance(DataBroker.class.getClassLoader(),
+            new Class<?>[] { DataBroker.class }, (proxy, method, args) -> {
+                final Object result = invoke(dataBroker, method, args);
+                if (!"newWriteOnlyTransaction".equals(method.getName())) {
+                    return result;
+                }
+                final WriteTransaction writeTx = (WriteTransaction) result;
+                return Proxy.newProxyInstance(WriteTransaction.class.getClassLoader(),
+                    new Class<?>[] { WriteTransaction.class }, (txProxy, txMethod, txArgs) -> {
+                        if ("submit".equals(txMethod.getName()) && failCommits) {
+                            writeTx.cancel();
+                            return Futures.immediateFailedCheckedFuture(
+                                    new TransactionCommitFailedException("Refused"));
+                        }
+                        return invoke(writeTx, txMethod, txArgs);
+                    });
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Map<HostconfigKey, Hostconfig> readHostconfigs() throws Exception {
+        try (ReadOnlyTransaction readTx = getDataBroker().newReadOnlyTransaction()) {
+            final Optional<Hostconfigs> hostconfigs = readTx.read(LogicalDatastoreType.OPERATIONAL,
+                    InstanceIdentifier.create(Neutron.class).child(Hostconfigs.class)).checkedGet();
+            final Map<HostconfigKey, Hostconfig> result = new HashMap<>();
+            if (hostconfigs.isPresent() && hostconfigs.get().getHostconfig() != null) {
+                hostconfigs.get().getHostconfig().forEach(hostConfig -> result.put(hostConfig.getKey(), hostConfig));
+            }
+            return result;
+        }
+    }
+
+    private void writeHostconfigs(Collection<Hostconfig> hostConfigs) throws Exception {
+        final WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        for (Hostconfig hostConfig : hostConfigs) {
+            writeTx.put(LogicalDatastoreType.OPERATIONAL, InstanceIdentifier.create(Neutron.class)
+                    .child(Hostconfigs.class).child(Hostconfig.class, hostConfig.getKey()), hostConfig, true);
+        }
+        writeTx.submit().checkedGet();
+    }
+
+    @Test
+    public void testUnchangedConfigIsSuppressed() throws Exception {
+        final Hostconfig hostConfig = utils.buildHostConfigInfo("node1", HOST_TYPE, "config");
+        utils.updateMdsal(hostConfig, NeutronHostconfigUtils.Action.ADD);
+        utils.updateMdsal(hostConfig, NeutronHostconfigUtils.Action.UPDATE);
+        Assert.assertEquals(1, utils.getWrittenCount());
+        Assert.assertEquals(1, utils.getSuppressedCount());
+        Assert.assertEquals(1, utils.getTransactionCount());
+        Assert.assertEquals(1, utils.getKnownHostconfigCount());
+
+        utils.updateMdsal(utils.buildHostConfigInfo("node1", HOST_TYPE, "changed"),
+                NeutronHostconfigUtils.Action.UPDATE);
+        Assert.assertEquals(2, utils.getWrittenCount());
+        Assert.assertEquals("changed", readHostconfigs().get(hostConfig.getKey()).getConfig());
+
+        // a deleted hostconfig is written again
+        utils.updateMdsal(hostConfig, NeutronHostconfigUtils.Action.DELETE);
+        Assert.assertEquals(1, utils.getDeletedCount());
+        Assert.assertEquals(0, utils.getKnownHostconfigCount());
+        utils.updateMdsal(hostConfig, NeutronHostconfigUtils.Action.ADD);
+        Assert.assertEquals(3, utils.getWrittenCount());
+
+        // and so is a forgotten one
+        utils.forgetAll();
+        utils.updateMdsal(hostConfig, NeutronHostconfigUtils.Action.UPDATE);
+        Assert.assertEquals(4, utils.getWrittenCount());
+        Assert.assertEquals(1, utils.getSuppressedCount());
+    }
+
+    @Test
+    public void testFailedCommitForgetsConfig() throws Exception {
+        final Hostconfig hostConfig = utils.buildHostConfigInfo("node1", HOST_TYPE, "config");
+        failCommits = true;
+        utils.updateMdsal(hostConfig, NeutronHostconfigUtils.Action.ADD);
+        Assert.assertEquals(1, utils.getFailedTransactionCount());
+        Assert.assertEquals(0, utils.getWrittenCount());
+        Assert.assertEquals(0, utils.getKnownHostconfigCount());
+        Assert.assertFalse(readHostconfigs().containsKey(hostConfig.getKey()));
+
+        // the same config is not suppressed, as it was not written
+        failCommits = false;
+        utils.updateMdsal(hostConfig, NeutronHostconfigUtils.Action.ADD);
+        Assert.assertEquals(0, utils.getSuppressedCount());
+        Assert.assertEquals(1, utils.getWrittenCount());
+        Assert.assertEquals(1, utils.getKnownHostconfigCount());
+        Assert.assertEquals("config", readHostconfigs().get(hostConfig.getKey()).getConfig());
+    }
+
+    @Test
+    public void testReconcileInChunks() throws Exception {
+        // 200 of the 1200 expected hostconfigs are up to date, 101 owned ones are stale, one is not owned
+        final Map<HostconfigKey, Hostconfig> expected = new HashMap<>();
+        final Map<HostconfigKey, Hostconfig> existing = new HashMap<>();
+        for (int i = 0; i < 1200; i++) {
+            final Hostconfig hostConfig = utils.buildHostConfigInfo("node" + i, HOST_TYPE, "config" + i);
+            expected.put(hostConfig.getKey(), hostConfig);
+            if (i < 200) {
+                existing.put(hostConfig.getKey(), hostConfig);
+            }
+        }
+        for (int i = 0; i < 101; i++) {
+            final Hostconfig hostConfig = utils.buildHostConfigInfo("stale" + i, HOST_TYPE, "stale");
+            existing.put(hostConfig.getKey(), hostConfig);
+        }
+        final Hostconfig other = utils.buildHostConfigInfo("other", "other type", "other");
+        existing.put(other.getKey(), other);
+        writeHostconfigs(existing.values());
+
+        utils.startReconciliation(new NeutronHostconfigSource() {
+            @Override
+            public Map<HostconfigKey, Hostconfig> readHostconfigs(ReadOnlyTransaction readTx) {
+                return expected;
+            }
+
+            @Override
+            public Predicate<Hostconfig> readOwnership(ReadOnlyTransaction readTx) {
+                return hostConfig -> HOST_TYPE.equals(hostConfig.getHostType());
+            }
+        });
+        utils.reconcile();
+
+        // 1000 puts and 101 deletes in chunks of 500
+        Assert.assertEquals(3, utils.getTransactionCount());
+        Assert.assertEquals(1000, utils.getWrittenCount());
+        Assert.assertEquals(101, utils.getDeletedCount());
+        Assert.assertEquals(1101, utils.getLastReconcileTouchedCount());
+        Assert.assertEquals(1200, utils.getKnownHostconfigCount());
+        final Map<HostconfigKey, Hostconfig> reconciled = readHostconfigs();
+        Assert.assertEquals(1201, reconciled.size());
+        Assert.assertTrue(reconciled.containsKey(other.getKey()));
+        Assert.assertTrue(reconciled.keySet().containsAll(expected.keySet()));
+
+        // nothing is left to do, and the up to date configs are known
+        utils.reconcile();
+        Assert.assertEquals(0, utils.getLastReconcileTouchedCount());
+        Assert.assertEquals(3, utils.getTransactionCount());
+        utils.updateMdsal(expected.values(), Collections.emptyList());
+        Assert.assertEquals(1200, utils.getSuppressedCount());
+        Assert.assertEquals(3, utils.getTransactionCount());
+    }
+
+    @Test
+    public void testVppReconcileKeepsOtherHostconfigs() throws Exception {
+        final SocketInfo socketInfo = new SocketInfo(SOCKET_PATH, SOCKET_PREFIX, VHOSTUSER_MODE);
+        // the hostconfig of a VPP node which is gone, and one of an OVS host
+        final Hostconfig stale = utils.buildHostConfigInfo("gone", HOST_TYPE,
+                HostconfigUtil.createHostconfigsDataFor(new NodeId("gone"), socketInfo).get(HOST_TYPE));
+        final Hostconfig ovs = utils.buildHostConfigInfo("ovs-host", HOST_TYPE,
+                "{\"supported_vnic_types\": [{\"vnic_type\": \"normal\", \"vif_type\": \"ovs\"}]}");
+        writeHostconfigs(Arrays.asList(stale, ovs));
+
+        final NeutronHostconfigVppListener listener =
+                new NeutronHostconfigVppListener(getDataBroker(), SOCKET_PATH, SOCKET_PREFIX, VHOSTUSER_MODE);
+        try {
+            listener.init();
+            JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+                    new ObjectName("org.opendaylight.neutron:type=HostconfigWriter,name=vpp"),
+                    NeutronHostconfigWriterMXBean.class).reconcile();
+        } finally {
+            listener.close();
+        }
+
+        final Map<HostconfigKey, Hostconfig> reconciled = readHostconfigs();
+        Assert.assertFalse(reconciled.containsKey(stale.getKey()));
+        Assert.assertTrue(reconciled.containsKey(ovs.getKey()));
+    }
+}
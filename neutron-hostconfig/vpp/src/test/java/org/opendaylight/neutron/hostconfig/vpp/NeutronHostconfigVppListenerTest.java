@@ -98,6 +98,26 @@ public class NeutronHostconfigVppListenerTest extends HostconfigsDataBrokerTest
         Assert.assertEquals(sf.get(), Integer.valueOf(2));
     }
 
+    @Test
+    public void testWriteOfConnectingNodeDeletesHostconfig() throws Exception {
+        InstanceIdentifier<Node> iid = InstanceIdentifier.builder(NetworkTopology.class)
+            .child(Topology.class, new TopologyKey(new TopologyId("topology-netconf")))
+            .child(Node.class, new NodeKey(new NodeId(NODE_ID)))
+            .build();
+        WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, iid,
+                createNetconfNode(NODE_ID, V3PO_1704_CAPABILITY, V3PO_1701_CAPABILITY, INTERFACES), true);
+        writeTx.submit().get();
+        Assert.assertEquals(sf.get(), Integer.valueOf(1));
+        sf = SettableFuture.create();
+        // the node is replaced, as when it is mounted again, and is not connected yet
+        writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, iid, createNetconfNode(NODE_ID, ConnectionStatus.Connecting),
+                true);
+        writeTx.submit().get();
+        Assert.assertEquals(sf.get(), Integer.valueOf(2));
+    }
+
     private InstanceIdentifier<Hostconfig> hostConfigIid(@Nonnull NodeId nodeId) {
         return InstanceIdentifier.builder(Neutron.class)
             .child(Hostconfigs.class)
@@ -106,11 +126,15 @@ public class NeutronHostconfigVppListenerTest extends HostconfigsDataBrokerTest
     }
 
     private Node createNetconfNode(NodeId nodeId, String... capabilities) {
+        return createNetconfNode(nodeId, ConnectionStatus.Connected, capabilities);
+    }
+
+    private Node createNetconfNode(NodeId nodeId, ConnectionStatus connectionStatus, String... capabilities) {
         List<AvailableCapability> caps = Arrays.asList(capabilities)
             .stream()
             .map(name -> new AvailableCapabilityBuilder().setCapability(name).build())
             .collect(Collectors.toList());
-        NetconfNode netconfNode = new NetconfNodeBuilder().setConnectionStatus(ConnectionStatus.Connected)
+        NetconfNode netconfNode = new NetconfNodeBuilder().setConnectionStatus(connectionStatus)
             .setAvailableCapabilities(new AvailableCapabilitiesBuilder().setAvailableCapability(caps).build())
             .build();
         return new NodeBuilder().setNodeId(nodeId).addAugmentation(NetconfNode.class, netconfNode).build();
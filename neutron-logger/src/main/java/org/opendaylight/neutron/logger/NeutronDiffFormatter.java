@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.logger;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.binding.api.DataObjectModification;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Formats a change as one JSON line per modified object, holding only the
+ * leaves which changed with their values before and after:
+ * <pre>
+ * {"datastore":"OPERATIONAL","op":"update","type":"Port","path":"Neutron/Ports/Port[4e8e5957-...]",
+ *  "leaves":{"status":["DOWN","ACTIVE"]}}
+ * </pre>
+ * Created objects have all their leaves which are set, with a null value
+ * before; deleted objects have none. Leaves are read through the getters of
+ * the binding interfaces, which are looked up once per type. An instance is
+ * not thread-safe.
+ */
+final class NeutronDiffFormatter {
+    private final Map<Class<?>, List<Method>> getters = new HashMap<>();
+    private final Map<Class<?>, Optional<Method>> valueGetters = new HashMap<>();
+
+    /**
+     * Formats the objects modified under a modification.
+     *
+     * @param datastore data store of the modification
+     * @param modification the modification
+     * @param filter accepts the type names of the objects to format
+     * @param sink receives the JSON line of each formatted object
+     * @return number of modified objects not accepted by the filter
+     */
+    long formatChanges(@Nonnull LogicalDatastoreType datastore,
+            @Nonnull DataObjectModification<? extends DataObject> modification, @Nonnull Predicate<String> filter,
+            @Nonnull Consumer<String> sink) {
+        return formatModification(datastore, "", modification, filter, sink);
+    }
+
+    private long formatModification(LogicalDatastoreType datastore, String parentPath,
+            DataObjectModification<? extends DataObject> modification, Predicate<String> filter,
+            Consumer<String> sink) {
+        final String path = parentPath + formatPathArgument(modification.getIdentifier());
+        final DataObject before = modification.getDataBefore();
+        final DataObject after = modification.getDataAfter();
+        final String op;
+        switch (modification.getModificationType()) {
+            case DELETE:
+                op = "delete";
+                break;
+            case WRITE:
+                op = before == null ? "create" : "update";
+                break;
+            case SUBTREE_MODIFIED:
+                op = "update";
+                break;
+            default:
+                return 0;
+        }
+
+        final StringBuilder leaves = new StringBuilder();
+        if (after != null) {
+            for (final Method getter : getGetters(after.getImplementedInterface())) {
+                final Object valueBefore = before == null ? null : invoke(getter, before);
+                final Object valueAfter = invoke(getter, after);
+                if (!Objects.equals(valueBefore, valueAfter)) {
+                    leaves.append(leaves.length() == 0 ? "" : ",");
+                    appendString(leaves, leafName(getter));
+                    leaves.append(":[");
+                    appendValue(leaves, valueBefore);
+                    leaves.append(',');
+                    appendValue(leaves, valueAfter);
+                    leaves.append(']');
+                }
+            }
+        }
+
+        long suppressed = 0;
+        if (after == null || leaves.length() > 0) {
+            final String typeName = modification.getDataType().getSimpleName();
+            if (filter.test(typeName)) {
+                final StringBuilder json = new StringBuilder("{\"datastore\":");
+                appendString(json, datastore.name());
+                json.append(",\"op\":");
+                appendString(json, op);
+                json.append(",\"type\":");
+                appendString(json, typeName);
+                json.append(",\"path\":");
+                appendString(json, path);
+                if (after != null) {
+                    json.append(",\"leaves\":{").append(leaves).append('}');
+                }
+                sink.accept(json.append('}').toString());
+            } else {
+                suppressed++;
+            }
+        }
+
+        // the children of a deleted object are deleted with it
+        if (after != null) {
+            for (final DataObjectModification<? extends DataObject> child : modification.getModifiedChildren()) {
+                suppressed += formatModification(datastore, path + "/", child, filter, sink);
+            }
+        }
+        return suppressed;
+    }
+
+    private String formatPathArgument(InstanceIdentifier.PathArgument argument) {
+        final String typeName = argument.getType().getSimpleName();
+        if (!(argument instanceof InstanceIdentifier.IdentifiableItem)) {
+            return typeName;
+        }
+        final Object key = ((InstanceIdentifier.IdentifiableItem<?, ?>) argument).getKey();
+        final StringBuilder builder = new StringBuilder(typeName).append('[');
+        final List<Method> keyGetters = getGetters(key.getClass());
+        for (int i = 0; i < keyGetters.size(); i++) {
+            builder.append(i == 0 ? "" : ",").append(toText(invoke(keyGetters.get(i), key)));
+        }
+        return builder.append(']').toString();
+    }
+
+    // the getters of the leaves and leaf-lists, or the key components
+    private List<Method> getGetters(Class<?> type) {
+        return getters.computeIfAbsent(type, NeutronDiffFormatter::findGetters);
+    }
+
+    private static List<Method> findGetters(Class<?> type) {
+        final List<Method> result = new ArrayList<>();
+        for (final Method method : type.getMethods()) {
+            final String name = method.getName();
+            if (method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())
+                    && (name.startsWith("get") || name.startsWith("is")) && !"getClass".equals(name)
+                    && !"getImplementedInterface".equals(name) && !"getKey".equals(name)
+                    && !isDataContainer(method.getGenericReturnType())) {
+                result.add(method);
+            }
+        }
+        result.sort(Comparator.comparing(NeutronDiffFormatter::leafName));
+        return result;
+    }
+
+    // containers, lists and augmentations are modified children of their own
+    private static boolean isDataContainer(Type type) {
+        if (type instanceof Class) {
+            return DataContainer.class.isAssignableFrom((Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterized = (ParameterizedType) type;
+            return isDataContainer(parameterized.getRawType()) || List.class.equals(parameterized.getRawType())
+                    && isDataContainer(parameterized.getActualTypeArguments()[0]);
+        }
+        return false;
+    }
+
+    private static String leafName(Method getter) {
+        final String name = getter.getName().substring(getter.getName().startsWith("is") ? 2 : 3);
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Object invoke(Method method, Object object) {
+        try {
+            return method.invoke(object);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot call " + method + " on " + object, e);
+        }
+    }
+
+    // typedefs and unions hold their value in getValue()
+    private Object unwrap(Object value) {
+        Object unwrapped = value;
+        while (unwrapped != null && !(unwrapped instanceof Enum)) {
+            final Optional<Method> valueGetter = valueGetters.computeIfAbsent(unwrapped.getClass(), type -> {
+                try {
+                    return Optional.of(type.getMethod("getValue"));
+                } catch (NoSuchMethodException e) {
+                    return Optional.empty();
+                }
+            });
+            if (!valueGetter.isPresent()) {
+                break;
+            }
+            unwrapped = invoke(valueGetter.get(), unwrapped);
+        }
+        return unwrapped instanceof char[] ? new String((char[]) unwrapped) : unwrapped;
+    }
+
+    private String toText(Object value) {
+        final Object unwrapped = unwrap(value);
+        if (unwrapped instanceof Enum) {
+            return ((Enum<?>) unwrapped).name();
+        }
+        if (unwrapped instanceof Class) {
+            return ((Class<?>) unwrapped).getSimpleName();
+        }
+        return String.valueOf(unwrapped);
+    }
+
+    private void appendValue(StringBuilder json, Object value) {
+        final Object unwrapped = unwrap(value);
+        if (unwrapped == null || unwrapped instanceof Boolean || unwrapped instanceof Number) {
+            json.append(unwrapped);
+        } else if (unwrapped instanceof List) {
+            json.append('[');
+            boolean first = true;
+            for (final Object element : (List<?>) unwrapped) {
+                json.append(first ? "" : ",");
+                appendValue(json, element);
+                first = false;
+            }
+            json.append(']');
+        } else {
+            appendString(json, toText(unwrapped));
+        }
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            switch (character) {
+                case '"':
+                case '\\':
+                    json.append('\\').append(character);
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20) {
+                        json.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        json.append(character);
+                    }
+                    break;
+            }
+        }
+        json.append('"');
+    }
+}
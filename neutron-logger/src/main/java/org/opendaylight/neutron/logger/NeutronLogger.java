@@ -9,8 +9,17 @@
 package org.opendaylight.neutron.logger;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import javax.annotation.Nonnull;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -29,10 +38,72 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Logs the changes of the neutron data stores at INFO.
+ *
+ * <p>
+ * Changes are formatted and logged by a background thread, so that the
+ * notification thread is not held up by large changes such as bulk imports.
+ * Notifications arriving while the queue of those waiting to be logged is
+ * full are dropped and counted. In the full mode the modified objects
+ * are logged, and in the diff mode only their leaves which changed, both
+ * subject to per-type sampling and rate limits; in the summary mode only
+ * their number per type and modification.
+ */
 @Singleton
 public final class NeutronLogger {
     private static final Logger LOG = LoggerFactory.getLogger(NeutronLogger.class);
 
+    /**
+     * System property which selects what is logged of a change: {@code full},
+     * the default, logs the modified objects, {@code diff} one JSON line per
+     * modified object with the leaves which changed, as formatted by
+     * {@link NeutronDiffFormatter}, and {@code summary} how many objects of
+     * each type were written and deleted.
+     */
+    static final String MODE_PROPERTY = "org.opendaylight.neutron.logger.mode";
+
+    /**
+     * System property which sets how many change notifications wait at most
+     * to be logged.
+     */
+    static final String QUEUE_SIZE_PROPERTY = "org.opendaylight.neutron.logger.queueSize";
+
+    /**
+     * System property which sets that one in how many modified objects of a
+     * type is logged in the full and diff modes, 1 by default. Suffixed with a type,
+     * as in {@code org.opendaylight.neutron.logger.sampling.Port}, it sets it
+     * for that type only.
+     */
+    static final String SAMPLING_PROPERTY = "org.opendaylight.neutron.logger.sampling";
+
+    /**
+     * System property which sets how many modified objects of a type are
+     * logged at most per second in the full and diff modes; 0, the default, is no
+     * limit. Suffixed with a type, as in
+     * {@code org.opendaylight.neutron.logger.rateLimit.Port}, it sets it for
+     * that type only.
+     */
+    static final String RATE_LIMIT_PROPERTY = "org.opendaylight.neutron.logger.rateLimit";
+
+    private static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    enum Mode {
+        FULL, DIFF, SUMMARY
+    }
+
+    private final Mode mode;
+    private final int queueSize;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder dropped = new LongAdder();
+
+    // used by the logging thread only
+    private final NeutronDiffFormatter diffFormatter = new NeutronDiffFormatter();
+    // by type name, used by the logging thread only
+    private final Map<String, ResourceLimiter> limiters = new HashMap<>();
+    // modified objects left out of the current message, used by the logging thread only
+    private long suppressed;
+
     private DataBroker db;
     private ClusteredDataTreeChangeListener<Neutron> configurationDataTreeChangeListener;
     private ListenerRegistration<? extends ClusteredDataTreeChangeListener<Neutron>> configurationRegisteredListener;
@@ -43,6 +114,27 @@ public final class NeutronLogger {
     public NeutronLogger(@Nonnull DataBroker db) {
         LOG.info("Creating NeutronLogger {}", db);
         this.db = Preconditions.checkNotNull(db, "null db");
+        this.mode = getConfiguredMode();
+        this.queueSize = Math.max(1, Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE));
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat("neutron-logger-%d").setDaemon(true).build(),
+                (task, rejectingExecutor) -> dropped.increment());
+    }
+
+    private static Mode getConfiguredMode() {
+        final String mode = System.getProperty(MODE_PROPERTY, Mode.FULL.name());
+        try {
+            return Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown {} {}, logging changes in full", MODE_PROPERTY, mode);
+            return Mode.FULL;
+        }
+    }
+
+    private ResourceLimiter getLimiter(String typeName) {
+        return limiters.computeIfAbsent(typeName, type -> new ResourceLimiter(
+                Math.max(1, Long.getLong(SAMPLING_PROPERTY + "." + type, Long.getLong(SAMPLING_PROPERTY, 1))),
+                Math.max(0, Long.getLong(RATE_LIMIT_PROPERTY + "." + type, Long.getLong(RATE_LIMIT_PROPERTY, 0)))));
     }
 
     private <T extends DataObject> void formatModification(@Nonnull final StringBuilder messageBuilder,
@@ -57,12 +149,20 @@ public final class NeutronLogger {
                 }
                 break;
             case WRITE:
+                if (!getLimiter(typeName).tryAcquire()) {
+                    suppressed++;
+                    break;
+                }
                 messageBuilder.append("\n");
                 messageBuilder.append("WRITE: type: ").append(typeName).append("\n");
                 final T dataAfter = objectModification.getDataAfter();
                 messageBuilder.append(dataAfter.toString());
                 break;
             case DELETE:
+                if (!getLimiter(typeName).tryAcquire()) {
+                    suppressed++;
+                    break;
+                }
                 messageBuilder.append("\n");
                 messageBuilder.append("DELETE: type: ").append(typeName).append("\n");
                 final T dataBefore = objectModification.getDataBefore();
@@ -90,10 +190,84 @@ public final class NeutronLogger {
         }
     }
 
+    private <T extends DataObject> void countModification(@Nonnull final Map<String, Integer> counts,
+            @Nonnull final DataObjectModification<T> objectModification) {
+        switch (objectModification.getModificationType()) {
+            case SUBTREE_MODIFIED:
+                for (final DataObjectModification<? extends DataObject> child :
+                        objectModification.getModifiedChildren()) {
+                    countModification(counts, child);
+                }
+                break;
+            case WRITE:
+            case DELETE:
+                counts.merge(objectModification.getModificationType() + ": type: "
+                        + objectModification.getDataType().getSimpleName(), 1, Integer::sum);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private <T extends DataObject> void summarizeChanges(@Nonnull final StringBuilder messageBuilder,
+            @Nonnull final Collection<DataTreeModification<T>> changes) {
+        final Map<String, Integer> configurationCounts = new TreeMap<>();
+        final Map<String, Integer> operationalCounts = new TreeMap<>();
+        for (DataTreeModification<T> modification : changes) {
+            countModification(modification.getRootPath().getDatastoreType() == LogicalDatastoreType.OPERATIONAL
+                    ? operationalCounts : configurationCounts, modification.getRootNode());
+        }
+        appendCounts(messageBuilder, "CONFIGURATION: ", configurationCounts);
+        appendCounts(messageBuilder, "OPERATIONAL: ", operationalCounts);
+    }
+
+    private static void appendCounts(@Nonnull final StringBuilder messageBuilder, @Nonnull final String datastore,
+            @Nonnull final Map<String, Integer> counts) {
+        if (!counts.isEmpty()) {
+            messageBuilder.append(datastore);
+            counts.forEach((kind, count) -> messageBuilder.append("\n").append(kind).append(" count: ").append(count));
+        }
+    }
+
+    // called on the notification thread
+    private void queueChanges(String prefix, @Nonnull Collection<DataTreeModification<Neutron>> changes) {
+        if (LOG.isInfoEnabled()) {
+            executor.execute(() -> logChanges(prefix, changes));
+        }
+    }
+
+    // called on the logging thread
     private void logChanges(String prefix, @Nonnull Collection<DataTreeModification<Neutron>> changes) {
+        final long droppedChanges = dropped.sumThenReset();
+        if (droppedChanges > 0) {
+            LOG.warn("{} change notifications were not logged, more than {} were waiting", droppedChanges,
+                    queueSize);
+        }
+
+        if (mode == Mode.DIFF) {
+            long suppressedChanges = 0;
+            for (DataTreeModification<Neutron> modification : changes) {
+                suppressedChanges += diffFormatter.formatChanges(modification.getRootPath().getDatastoreType(),
+                        modification.getRootNode(), typeName -> getLimiter(typeName).tryAcquire(), LOG::info);
+            }
+            if (suppressedChanges > 0) {
+                LOG.info("{}{} modified objects not logged by sampling or rate limit", prefix, suppressedChanges);
+            }
+            return;
+        }
+
         final StringBuilder messageBuilder = new StringBuilder();
         messageBuilder.append(prefix);
-        formatChanges(messageBuilder, changes);
+        if (mode == Mode.SUMMARY) {
+            summarizeChanges(messageBuilder, changes);
+        } else {
+            suppressed = 0;
+            formatChanges(messageBuilder, changes);
+            if (suppressed > 0) {
+                messageBuilder.append("\n").append(suppressed)
+                        .append(" modified objects not logged by sampling or rate limit");
+            }
+        }
         LOG.info(messageBuilder.toString());
     }
 
@@ -107,7 +281,7 @@ public final class NeutronLogger {
         configurationDataTreeChangeListener = new ClusteredDataTreeChangeListener<Neutron>() {
             @Override
             public void onDataTreeChanged(Collection<DataTreeModification<Neutron>> changes) {
-                logChanges("Configuration DataTreeChanged ", changes);
+                queueChanges("Configuration DataTreeChanged ", changes);
             }
         };
         configurationRegisteredListener = db.registerDataTreeChangeListener(configurationDataTreeId,
@@ -118,7 +292,7 @@ public final class NeutronLogger {
         operationalDataTreeChangeListener = new ClusteredDataTreeChangeListener<Neutron>() {
             @Override
             public void onDataTreeChanged(Collection<DataTreeModification<Neutron>> changes) {
-                logChanges("Operational DataTreeChanged ", changes);
+                queueChanges("Operational DataTreeChanged ", changes);
             }
         };
         operationalRegisteredListener = db.registerDataTreeChangeListener(operationalDataTreeId,
@@ -131,5 +305,42 @@ public final class NeutronLogger {
         configurationRegisteredListener = null;
         operationalRegisteredListener.close();
         operationalRegisteredListener = null;
+        executor.shutdown();
+    }
+
+    /**
+     * Lets through one in {@code sampling} modified objects of a type, and
+     * at most {@code rateLimit} of them per second when it is positive.
+     */
+    private static final class ResourceLimiter {
+        private final long sampling;
+        private final long rateLimit;
+        private long seen;
+        private long windowStart;
+        private long windowCount;
+
+        ResourceLimiter(long sampling, long rateLimit) {
+            this.sampling = sampling;
+            this.rateLimit = rateLimit;
+            this.windowStart = System.nanoTime();
+        }
+
+        boolean tryAcquire() {
+            if (seen++ % sampling != 0) {
+                return false;
+            }
+            if (rateLimit > 0) {
+                final long now = System.nanoTime();
+                if (now - windowStart >= TimeUnit.SECONDS.toNanos(1)) {
+                    windowStart = now;
+                    windowCount = 0;
+                }
+                if (windowCount >= rateLimit) {
+                    return false;
+                }
+                windowCount++;
+            }
+            return true;
+        }
     }
 }
@@ -8,11 +8,22 @@
 
 package org.opendaylight.neutron.spi;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * This interface defines the methods for CRUD of NB neutron objects.
  *
+ * <p>
+ * Objects returned by the read methods may be shared with other callers
+ * and must be treated as read-only. Copy an object before changing it.
+ *
+ * <p>
+ * The asynchronous variants of the methods return without waiting for the
+ * datastore. By default they run the synchronous method and return its
+ * result as a completed future.
  */
 
 public interface INeutronCRUD<T extends INeutronObject<T>> {
@@ -39,6 +50,18 @@ public interface INeutronCRUD<T extends INeutronObject<T>> {
 
     T get(String uuid);
 
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @param uuid
+     *            UUID of the Neutron object
+     * @return future of the Neutron object, or of null if it does not exist
+     */
+
+    default ListenableFuture<T> getAsync(String uuid) {
+        return Futures.immediateFuture(get(uuid));
+    }
+
     /**
      * Applications call this interface method to return all Neutron objects.
      *
@@ -47,6 +70,43 @@ public interface INeutronCRUD<T extends INeutronObject<T>> {
 
     List<T> getAll();
 
+    /**
+     * Applications call this interface method to return the Neutron objects
+     * matching a filter. Implementations may answer equality conditions on
+     * indexed attributes without testing every object.
+     *
+     * @param filter
+     *            attribute conditions the returned objects must satisfy
+     * @return List of OpenStackNeutrons objects
+     */
+
+    default List<T> getAll(NeutronFilter<T> filter) {
+        final List<T> result = new ArrayList<>();
+        for (final T object : getAll()) {
+            if (filter.test(object)) {
+                result.add(object);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applications call this interface method to run a list query: filter,
+     * sort, page and project the Neutron objects in one request.
+     *
+     * @param query
+     *            the list query
+     * @return the requested page of OpenStackNeutrons objects
+     * @throws java.util.NoSuchElementException
+     *             if the page marker does not exist
+     * @throws IllegalArgumentException
+     *             if the requested page is out of bounds
+     */
+
+    default NeutronQueryResult<T> query(NeutronQuery<T> query) {
+        return query.apply(getAll(query.getFilter()));
+    }
+
     /**
      * Applications call this interface method to add a Neutron object to the
      * concurrent map.
@@ -58,6 +118,39 @@ public interface INeutronCRUD<T extends INeutronObject<T>> {
 
     boolean add(T input);
 
+    /**
+     * Asynchronous variant of {@link #add(INeutronObject)}.
+     *
+     * @param input
+     *            OpenStackNeutron object
+     * @return future of whether the object was added or not
+     */
+
+    default ListenableFuture<Boolean> addAsync(T input) {
+        return Futures.immediateFuture(add(input));
+    }
+
+    /**
+     * Applications call this interface method to add several Neutron objects
+     * at once. Implementations may write them in few transactions instead of
+     * one per object.
+     *
+     * @param inputs
+     *            OpenStackNeutron objects
+     * @return for each input, in order, whether the object was added or not
+     * @throws IllegalStateException
+     *             if some objects could not be written; those of the
+     *             transactions committed before may have been added
+     */
+
+    default List<Boolean> addAll(List<T> inputs) {
+        final List<Boolean> result = new ArrayList<>(inputs.size());
+        for (final T input : inputs) {
+            result.add(add(input));
+        }
+        return result;
+    }
+
     /**
      * Applications call this interface method to remove a Neutron object to the
      * concurrent map.
@@ -69,6 +162,18 @@ public interface INeutronCRUD<T extends INeutronObject<T>> {
 
     boolean remove(String uuid);
 
+    /**
+     * Asynchronous variant of {@link #remove(String)}.
+     *
+     * @param uuid
+     *            identifier for the neutron object
+     * @return future of whether the object was removed or not
+     */
+
+    default ListenableFuture<Boolean> removeAsync(String uuid) {
+        return Futures.immediateFuture(remove(uuid));
+    }
+
     /**
      * Applications call this interface method to edit a Neutron object.
      *
@@ -80,4 +185,18 @@ public interface INeutronCRUD<T extends INeutronObject<T>> {
      */
 
     boolean update(String uuid, T delta);
+
+    /**
+     * Asynchronous variant of {@link #update(String, INeutronObject)}.
+     *
+     * @param uuid
+     *            identifier of the neutron object
+     * @param delta
+     *            OpenStackNeutron object containing changes to apply
+     * @return future of whether the object was updated or not
+     */
+
+    default ListenableFuture<Boolean> updateAsync(String uuid, T delta) {
+        return Futures.immediateFuture(update(uuid, delta));
+    }
 }
@@ -8,32 +8,152 @@
 
 package org.opendaylight.neutron.spi;
 
-import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
 import org.osgi.framework.FrameworkUtil;
-import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceReference;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.osgi.framework.SynchronousBundleListener;
+import org.osgi.util.tracker.ServiceTracker;
 
 public final class NeutronCRUDInterfaces {
-    private static final Logger LOG = LoggerFactory.getLogger(NeutronCRUDInterfaces.class);
+    // trackers by caller class, closed when the caller's bundle stops
+    private static final ClassValue<CallerTrackers> TRACKERS = new ClassValue<CallerTrackers>() {
+        @Override
+        protected CallerTrackers computeValue(Class<?> type) {
+            return new CallerTrackers(type);
+        }
+    };
 
     private NeutronCRUDInterfaces() {
         throw new UnsupportedOperationException("NeutronCRUDInterfaces class shouldn't be instantiated");
     }
 
+    /**
+     * Returns the highest ranked service of the given CRUD interface.
+     *
+     * <p>
+     * The first call for a caller class opens a service tracker in the
+     * caller's bundle, later calls return the service cached by the tracker
+     * without going through the service registry. The trackers are closed
+     * when the bundle stops, and opened again in its new context if it is
+     * restarted.
+     *
+     * @param clazz CRUD interface
+     * @param bundle caller, whose bundle is used to look the service up
+     * @return the service, or null if none is registered or the caller is not in a started bundle
+     */
     public static <T extends INeutronObject<T>, I extends INeutronCRUD<T>> I fetchINeutronCRUD(
         Class<I> clazz, Object bundle) {
-        try {
-            BundleContext bundleCtx = FrameworkUtil.getBundle(bundle.getClass()).getBundleContext();
-            Collection<ServiceReference<I>> services = bundleCtx.getServiceReferences(clazz, null);
-            for (ServiceReference<I> service : services) {
-                return bundleCtx.getService(service);
+        final CachingServiceTracker<?> tracker = TRACKERS.get(bundle.getClass()).get(clazz);
+        return tracker == null ? null : clazz.cast(tracker.getCachedService());
+    }
+
+    /**
+     * The trackers of one caller class. They belong to the context of the
+     * caller's bundle, which is no longer valid once the bundle stops, so they
+     * are then closed and dropped; a bundle restarted without being refreshed
+     * keeps its classes, and gets new trackers in its new context.
+     */
+    private static final class CallerTrackers implements SynchronousBundleListener {
+        private final Class<?> callerClass;
+        private final ConcurrentMap<Class<?>, CachingServiceTracker<?>> trackers = new ConcurrentHashMap<>();
+
+        CallerTrackers(Class<?> callerClass) {
+            this.callerClass = callerClass;
+        }
+
+        CachingServiceTracker<?> get(Class<?> clazz) {
+            final CachingServiceTracker<?> tracker = trackers.get(clazz);
+            return tracker != null ? tracker : trackers.computeIfAbsent(clazz, this::open);
+        }
+
+        private <S> CachingServiceTracker<S> open(Class<S> clazz) {
+            final Bundle bundle = FrameworkUtil.getBundle(callerClass);
+            // a stopping bundle has dropped its trackers already, don't open one it would keep
+            if (bundle == null || (bundle.getState() & (Bundle.STARTING | Bundle.ACTIVE)) == 0) {
+                // not in a started bundle; don't cache, a later call may succeed
+                return null;
+            }
+            final BundleContext bundleCtx = bundle.getBundleContext();
+            if (bundleCtx == null) {
+                return null;
+            }
+            // adding the same listener again does nothing
+            bundleCtx.addBundleListener(this);
+            final CachingServiceTracker<S> tracker = new CachingServiceTracker<>(bundleCtx, clazz);
+            tracker.open();
+            return tracker;
+        }
+
+        @Override
+        public void bundleChanged(BundleEvent event) {
+            if (event.getType() != BundleEvent.STOPPING
+                    || !event.getBundle().equals(FrameworkUtil.getBundle(callerClass))) {
+                return;
+            }
+            for (final Class<?> clazz : trackers.keySet()) {
+                final CachingServiceTracker<?> tracker = trackers.remove(clazz);
+                if (tracker != null) {
+                    tracker.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Service tracker which keeps the highest ranked service in a volatile
+     * field, so that reading it takes no lock.
+     */
+    private static final class CachingServiceTracker<S> extends ServiceTracker<S, S> {
+        private volatile ServiceReference<S> cachedReference;
+        private volatile S cachedService;
+
+        CachingServiceTracker(BundleContext context, Class<S> clazz) {
+            super(context, clazz, null);
+        }
+
+        S getCachedService() {
+            return cachedService;
+        }
+
+        @Override
+        public S addingService(ServiceReference<S> reference) {
+            final S service = super.addingService(reference);
+            if (service != null) {
+                synchronized (this) {
+                    // the new service is not tracked yet, so compare it to the cached one
+                    if (cachedReference == null || reference.compareTo(cachedReference) > 0) {
+                        cache(reference, service);
+                    }
+                }
             }
-        } catch (InvalidSyntaxException e) {
-            LOG.error("Error in getInstances", e);
+            return service;
+        }
+
+        @Override
+        public void modifiedService(ServiceReference<S> reference, S service) {
+            // the ranking may have changed
+            recompute();
+        }
+
+        @Override
+        public void removedService(ServiceReference<S> reference, S service) {
+            // the service is no longer tracked here
+            recompute();
+            super.removedService(reference, service);
+        }
+
+        private synchronized void recompute() {
+            final ServiceReference<S> reference = getServiceReference();
+            cache(reference, reference == null ? null : getService(reference));
+        }
+
+        private void cache(ServiceReference<S> reference, S service) {
+            cachedService = service;
+            cachedReference = reference;
         }
-        return null;
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Conjunction of attribute equality conditions on neutron objects, as given
+ * by the query parameters of a list request.
+ *
+ * <p>
+ * Conditions are named after the OpenStack attribute they test, e.g.
+ * "network_id". An implementation of {@link INeutronCRUD#getAll(NeutronFilter)}
+ * may use the attribute names and expected values to look up candidates in an
+ * index, and then tests every candidate against the complete filter. The
+ * attributes a filter can test are also the ones a list can be sorted by,
+ * see {@link #getAttribute(String)}.
+ *
+ * @param <T> neutron object type
+ */
+public final class NeutronFilter<T extends INeutronObject<T>> implements Predicate<T> {
+
+    public static final String ID = "id";
+    public static final String TENANT_ID = "tenant_id";
+
+    private final Map<String, Object> equalities = new LinkedHashMap<>();
+    private final Map<String, Function<? super T, ?>> attributes = new HashMap<>();
+    private final List<Predicate<T>> conditions = new ArrayList<>();
+
+    /**
+     * Adds a condition that the given attribute equals the expected value.
+     * A null expected value, i.e. an absent query parameter, adds no condition,
+     * but the attribute is still known to {@link #getAttribute(String)}.
+     *
+     * @param attribute OpenStack name of the attribute
+     * @param getter accessor of the attribute
+     * @param value expected value, or null
+     * @return this filter
+     */
+    public <V> NeutronFilter<T> eq(String attribute, Function<? super T, V> getter, V value) {
+        attributes.put(attribute, getter);
+        if (value != null) {
+            equalities.put(attribute, value);
+            conditions.add(object -> value.equals(getter.apply(object)));
+        }
+        return this;
+    }
+
+    /**
+     * Returns the expected value of every attribute condition, by attribute name.
+     */
+    public Map<String, Object> getEqualities() {
+        return Collections.unmodifiableMap(equalities);
+    }
+
+    /**
+     * Returns the accessor of an attribute given to {@link #eq}, or null if
+     * the attribute is unknown.
+     */
+    public Function<? super T, ?> getAttribute(String attribute) {
+        return attributes.get(attribute);
+    }
+
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    @Override
+    public boolean test(T object) {
+        for (final Predicate<T> condition : conditions) {
+            if (!condition.test(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "NeutronFilter" + equalities;
+    }
+}
@@ -10,7 +10,6 @@ package org.opendaylight.neutron.spi;
 
 import com.google.common.base.Preconditions;
 import java.io.Serializable;
-import java.util.regex.Pattern;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -22,7 +21,6 @@ public class NeutronID implements Serializable {
     private static final long serialVersionUID = 1L;
     private static final String UUID_PATTERN_REGEX =
             "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
-    private static final Pattern UUID_PATTERN = Pattern.compile(UUID_PATTERN_REGEX);
 
     // See OpenStack Network API v2.0 Reference for description of
     // annotated attributes
@@ -32,7 +30,7 @@ public class NeutronID implements Serializable {
 
     private void checkUuidPattern(String uuid) {
         Preconditions.checkNotNull(uuid, "Supplied value may not be null");
-        Preconditions.checkArgument(UUID_PATTERN.matcher(uuid).matches(),
+        Preconditions.checkArgument(NeutronUuid.isCanonical(uuid),
                 "Supplied value \"%s\" does not match uuid pattern \"%s\"", uuid, UUID_PATTERN_REGEX);
     }
 
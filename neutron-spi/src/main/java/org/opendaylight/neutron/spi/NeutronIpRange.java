@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import com.google.common.net.InetAddresses;
+import java.util.Objects;
+
+/**
+ * Parsed, immutable range of IPv4 or IPv6 addresses, such as an allocation
+ * pool or a single address.
+ *
+ * <p>
+ * Addresses are kept as 128 bit numbers in two longs, IPv4 addresses in the
+ * low 32 bits, so that comparisons are a few long compares.
+ */
+public final class NeutronIpRange {
+    private static final int IPV4_LENGTH_BYTES = 4;
+    private static final int IPV6_LENGTH_BYTES = 16;
+    private static final int IPV4_DOTTED_QUADS = 4;
+    private static final int IPV4_DOTTED_QUAD_MASK = 255;
+    private static final int BYTE_LENGTH = 8;
+    private static final int DECIMAL_RADIX = 10;
+    private static final long BYTE_MASK = 0xFF;
+
+    private final boolean ipv6;
+    private final long startHigh;
+    private final long startLow;
+    private final long endHigh;
+    private final long endLow;
+    // strings this range was parsed from, to tell whether a cached range is stale
+    private final String start;
+    private final String end;
+
+    private NeutronIpRange(boolean ipv6, String start, String end, long startHigh, long startLow, long endHigh,
+            long endLow) {
+        this.ipv6 = ipv6;
+        this.start = start;
+        this.end = end;
+        this.startHigh = startHigh;
+        this.startLow = startLow;
+        this.endHigh = endHigh;
+        this.endLow = endLow;
+    }
+
+    /**
+     * Parses a range of addresses. A null address stands for the all-zero
+     * address.
+     *
+     * @param start first address of the range
+     * @param end last address of the range
+     * @param ipv6 whether the addresses are IPv6 or IPv4
+     * @return the parsed range
+     * @throws IllegalArgumentException if an address is not a valid address
+     *             of the given family
+     */
+    public static NeutronIpRange of(String start, String end, boolean ipv6) {
+        if (!ipv6) {
+            return new NeutronIpRange(false, start, end, 0, parseV4(start), 0, parseV4(end));
+        }
+        final byte[] startBytes = parseV6(start);
+        final byte[] endBytes = parseV6(end);
+        return new NeutronIpRange(true, start, end, high(startBytes), low(startBytes), high(endBytes), low(endBytes));
+    }
+
+    /**
+     * Parses a single address as a range of one.
+     *
+     * @param address the address, null for the all-zero address
+     * @param ipv6 whether the address is IPv6 or IPv4
+     * @return the parsed range
+     * @throws IllegalArgumentException if the address is not a valid address
+     *             of the given family
+     */
+    public static NeutronIpRange of(String address, boolean ipv6) {
+        if (!ipv6) {
+            final long bits = parseV4(address);
+            return new NeutronIpRange(false, address, address, 0, bits, 0, bits);
+        }
+        final byte[] bytes = parseV6(address);
+        return new NeutronIpRange(true, address, address, high(bytes), low(bytes), high(bytes), low(bytes));
+    }
+
+    public boolean isIpv6() {
+        return ipv6;
+    }
+
+    long getStartHigh() {
+        return startHigh;
+    }
+
+    long getStartLow() {
+        return startLow;
+    }
+
+    long getEndHigh() {
+        return endHigh;
+    }
+
+    long getEndLow() {
+        return endLow;
+    }
+
+    /**
+     * Tells whether this range was parsed from the given strings.
+     */
+    boolean isParsedFrom(String otherStart, String otherEnd, boolean otherIpv6) {
+        return ipv6 == otherIpv6 && Objects.equals(start, otherStart) && Objects.equals(end, otherEnd);
+    }
+
+    /**
+     * Tells whether all addresses of the other range are in this range.
+     */
+    public boolean contains(NeutronIpRange other) {
+        return ipv6 == other.ipv6
+                && compare(startHigh, startLow, other.startHigh, other.startLow) <= 0
+                && compare(other.endHigh, other.endLow, endHigh, endLow) <= 0;
+    }
+
+    /**
+     * Tells whether this range and the other one have an address in common.
+     */
+    public boolean overlaps(NeutronIpRange other) {
+        return ipv6 == other.ipv6
+                && compare(startHigh, startLow, other.endHigh, other.endLow) <= 0
+                && compare(other.startHigh, other.startLow, endHigh, endLow) <= 0;
+    }
+
+    /**
+     * Orders ranges of the same family by their first address.
+     */
+    public int compareStart(NeutronIpRange other) {
+        return compare(startHigh, startLow, other.startHigh, other.startLow);
+    }
+
+    static int compare(long high1, long low1, long high2, long low2) {
+        final int result = Long.compareUnsigned(high1, high2);
+        return result != 0 ? result : Long.compareUnsigned(low1, low2);
+    }
+
+    /**
+     * Parses a dotted decimal IPv4 address without splitting it.
+     */
+    static long parseV4(String address) {
+        if (address == null) {
+            return 0;
+        }
+        long ans = 0;
+        int quads = 0;
+        int quad = -1;
+        for (int i = 0; i < address.length(); i++) {
+            final char ch = address.charAt(i);
+            if (ch == '.') {
+                if (quad < 0) {
+                    throw new IllegalArgumentException("Invalid IPv4 address " + address);
+                }
+                ans = ans << BYTE_LENGTH | quad;
+                quads++;
+                quad = -1;
+                continue;
+            }
+            final int digit = Character.digit(ch, DECIMAL_RADIX);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid IPv4 address " + address);
+            }
+            quad = (quad < 0 ? 0 : quad * DECIMAL_RADIX) + digit;
+            if (quad > IPV4_DOTTED_QUAD_MASK) {
+                throw new IllegalArgumentException("Invalid IPv4 address " + address);
+            }
+        }
+        if (quad < 0 || quads != IPV4_DOTTED_QUADS - 1) {
+            throw new IllegalArgumentException("Invalid IPv4 address " + address);
+        }
+        return ans << BYTE_LENGTH | quad;
+    }
+
+    /**
+     * Returns the 16 bytes of an IPv6 address.
+     */
+    static byte[] parseV6(String address) {
+        if (address == null) {
+            return new byte[IPV6_LENGTH_BYTES];
+        }
+        if (address.indexOf(':') < 0) {
+            throw new IllegalArgumentException("Invalid IPv6 address " + address);
+        }
+        final byte[] bytes = InetAddresses.forString(address).getAddress();
+        if (bytes.length == IPV4_LENGTH_BYTES) {
+            // forString() returns IPv4-mapped IPv6 addresses as IPv4 addresses
+            final byte[] mapped = new byte[IPV6_LENGTH_BYTES];
+            mapped[IPV6_LENGTH_BYTES - IPV4_LENGTH_BYTES - 1] = (byte) BYTE_MASK;
+            mapped[IPV6_LENGTH_BYTES - IPV4_LENGTH_BYTES - 2] = (byte) BYTE_MASK;
+            System.arraycopy(bytes, 0, mapped, IPV6_LENGTH_BYTES - IPV4_LENGTH_BYTES, IPV4_LENGTH_BYTES);
+            return mapped;
+        }
+        return bytes;
+    }
+
+    static long high(byte[] bytes) {
+        return toLong(bytes, 0, IPV6_LENGTH_BYTES / 2);
+    }
+
+    static long low(byte[] bytes) {
+        return toLong(bytes, IPV6_LENGTH_BYTES / 2, IPV6_LENGTH_BYTES);
+    }
+
+    private static long toLong(byte[] bytes, int from, int to) {
+        long ans = 0;
+        for (int i = from; i < to; i++) {
+            ans = ans << BYTE_LENGTH | bytes[i] & BYTE_MASK;
+        }
+        return ans;
+    }
+
+    @Override
+    public String toString() {
+        return "NeutronIpRange [start=" + start + ", end=" + end + "]";
+    }
+}
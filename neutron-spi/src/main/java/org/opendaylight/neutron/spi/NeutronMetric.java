@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One series of {@link NeutronMetrics}: the durations of an operation on a
+ * resource, or a quantity measured along it.
+ */
+final class NeutronMetric {
+    private final boolean timed;
+    private final NeutronMetricHistogram histogram = new NeutronMetricHistogram();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private volatile long since = System.nanoTime();
+
+    NeutronMetric(boolean timed) {
+        this.timed = timed;
+    }
+
+    void record(long value, boolean success) {
+        histogram.record(value);
+        max.accumulate(value);
+        if (success) {
+            successes.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    long getCount() {
+        return successes.sum() + errors.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    long getPercentile(double percentile) {
+        return Math.min(histogram.getPercentile(percentile), max.get());
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    void reset() {
+        histogram.reset();
+        successes.reset();
+        errors.reset();
+        max.reset();
+        since = System.nanoTime();
+    }
+
+    /**
+     * Appends the series as "count=N errors=N rate=N/s p50=N p99=N p999=N max=N",
+     * durations being in microseconds. Quantities have no error count.
+     */
+    void appendTo(StringBuilder sb) {
+        final long count = getCount();
+        final long elapsed = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - since));
+        final String unit = timed ? "us" : "";
+        sb.append("count=").append(count);
+        if (timed) {
+            sb.append(" errors=").append(getErrors());
+        }
+        sb.append(" rate=").append(String.format(Locale.ROOT, "%.1f", count * 1000.0 / elapsed)).append("/s");
+        sb.append(" p50=").append(getPercentile(50)).append(unit);
+        sb.append(" p99=").append(getPercentile(99)).append(unit);
+        sb.append(" p999=").append(getPercentile(99.9)).append(unit);
+        sb.append(" max=").append(getMax()).append(unit);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies, throughput and error counts of the operations of the neutron
+ * northbound, per resource and per operation.
+ *
+ * <p>
+ * Callers time an operation with
+ * <pre>
+ *     final long start = NeutronMetrics.start();
+ *     ...
+ *     NeutronMetrics.stop("Port", "create", start, success);
+ * </pre>
+ * When metrics are disabled, {@link #start()} returns 0 and {@link #stop}
+ * returns at once, so that instrumented code only pays for a volatile read.
+ * Metrics are disabled by default; they are enabled with the system property
+ * {@value #ENABLED_PROPERTY} or at runtime over JMX.
+ */
+public final class NeutronMetrics implements NeutronMetricsMXBean {
+
+    /**
+     * System property which enables metrics from startup.
+     */
+    public static final String ENABLED_PROPERTY = "org.opendaylight.neutron.metrics";
+
+    /**
+     * Name under which the metrics are registered on the platform MBean server.
+     */
+    public static final String MBEAN_NAME = "org.opendaylight.neutron:type=Metrics";
+
+    private static final NeutronMetrics INSTANCE = new NeutronMetrics();
+
+    // resource name -> operation name -> series
+    private final ConcurrentMap<String, ConcurrentMap<String, NeutronMetric>> metrics = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private NeutronMetrics() {
+    }
+
+    public static NeutronMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return the start time to pass to {@link #stop}, 0 if metrics are disabled
+     */
+    public static long start() {
+        return INSTANCE.enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the duration of an operation.
+     *
+     * @param resource the resource operated on, e.g. "Port"
+     * @param operation the operation, e.g. "create"
+     * @param start what {@link #start()} returned when the operation started
+     * @param success whether the operation succeeded
+     */
+    public static void stop(String resource, String operation, long start, boolean success) {
+        if (start == 0) {
+            return;
+        }
+        final long elapsed = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        INSTANCE.series(resource, operation, true).record(elapsed, success);
+    }
+
+    /**
+     * Records a quantity, such as the number of objects returned by a list.
+     *
+     * @param resource the resource operated on
+     * @param name what is measured
+     * @param value the quantity
+     */
+    public static void value(String resource, String name, long value) {
+        if (!INSTANCE.enabled) {
+            return;
+        }
+        INSTANCE.series(resource, name, false).record(value, true);
+    }
+
+    private NeutronMetric series(String resource, String name, boolean timed) {
+        return metrics.computeIfAbsent(resource, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, key -> new NeutronMetric(timed));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the metrics as text, one series per line, sorted by resource and
+     * operation, such as
+     * "Port create count=12 errors=0 rate=0.4/s p50=1663us p99=2815us p999=2930us max=2930us".
+     */
+    @Override
+    public String dump() {
+        final StringBuilder sb = new StringBuilder();
+        metrics.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(resource -> resource.getValue()
+                .entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(series -> {
+                    sb.append(resource.getKey()).append(' ').append(series.getKey()).append(' ');
+                    series.getValue().appendTo(sb);
+                    sb.append('\n');
+                }));
+        return sb.toString();
+    }
+
+    @Override
+    public void reset() {
+        metrics.values().forEach(operations -> operations.values().forEach(NeutronMetric::reset));
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+/**
+ * JMX view of {@link NeutronMetrics}.
+ */
+public interface NeutronMetricsMXBean {
+
+    /**
+     * Whether metrics are being recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Starts or stops recording metrics. Metrics already recorded are kept.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the metrics as text, one series per line.
+     */
+    String dump();
+
+    /**
+     * Forgets the metrics recorded so far.
+     */
+    void reset();
+}
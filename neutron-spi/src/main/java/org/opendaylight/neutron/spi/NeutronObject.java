@@ -10,7 +10,12 @@
 package org.opendaylight.neutron.spi;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
@@ -33,6 +38,26 @@ public abstract class NeutronObject<T extends NeutronObject> extends NeutronID
 
     private static final long serialVersionUID = 1L;
 
+    // few distinct tenants own many objects, keep one copy of each id
+    private static final Interner<String> TENANT_IDS = Interners.newWeakInterner();
+
+    // no-argument constructor of the type argument, resolved once per subclass
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type.getGenericSuperclass();
+            final Type[] types = parameterizedType.getActualTypeArguments();
+            final Class<?> cls = (Class<?>) types[NEUTRON_OBJECT_CLASS_TYPE_INDEX];
+            try {
+                return MethodHandles.publicLookup().findConstructor(cls, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // should not happen.
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
     @XmlElement(name = "tenant_id")
     String tenantID;
 
@@ -58,13 +83,13 @@ public abstract class NeutronObject<T extends NeutronObject> extends NeutronID
 
     @Override
     public void setTenantID(String tenantID) {
-        this.tenantID = tenantID;
+        this.tenantID = intern(tenantID);
     }
 
     @Override
     @JsonIgnore
     public void setTenantID(Uuid tenantID) {
-        this.tenantID = tenantID.getValue().replace("-", "");
+        this.tenantID = intern(NeutronUuid.dedash(tenantID.getValue()));
     }
 
     @Override
@@ -74,7 +99,11 @@ public abstract class NeutronObject<T extends NeutronObject> extends NeutronID
 
     @Override
     public void setProjectID(String projectID) {
-        this.projectID = projectID;
+        this.projectID = intern(projectID);
+    }
+
+    private static String intern(String id) {
+        return id == null ? null : TENANT_IDS.intern(id);
     }
 
     @Override
@@ -114,25 +143,27 @@ public abstract class NeutronObject<T extends NeutronObject> extends NeutronID
 
     @Override
     public T extractFields(List<String> fields) {
-        ParameterizedType parameterizedType = (ParameterizedType) getClass().getGenericSuperclass();
-        Type[] types = parameterizedType.getActualTypeArguments();
-        @SuppressWarnings("unchecked")
-        Class<T> cls = (Class<T>) types[NEUTRON_OBJECT_CLASS_TYPE_INDEX];
-        T ans;
-        try {
-            ans = cls.newInstance();
-        } catch (IllegalAccessException | InstantiationException e) {
-            // should not happen.
-            throw new IllegalStateException(e);
-        }
+        final T ans = newInstance();
         for (String s : fields) {
             if (!extractField(s, ans)) {
-                LOG.warn("Unknown {} {}.", cls.getSimpleName(), s);
+                LOG.warn("Unknown {} {}.", ans.getClass().getSimpleName(), s);
             }
         }
         return ans;
     }
 
+    @SuppressWarnings({ "unchecked", "checkstyle:IllegalCatch" })
+    private T newInstance() {
+        try {
+            return (T) (Object) CONSTRUCTORS.get(getClass()).invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // should not happen.
+            throw new IllegalStateException(e);
+        }
+    }
+
     protected boolean extractField(String field, T ans) {
         switch (field) {
             case "id":
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * List request on a neutron resource, as given by the query parameters of a
+ * northbound list call: attribute filters, the fields projection, paging
+ * (limit, marker and page_reverse) and sort keys.
+ *
+ * <p>
+ * A query is handed to {@link INeutronCRUD#query(NeutronQuery)} as a whole,
+ * so that the implementation can answer it from its indexes instead of
+ * materialising every object. {@link #apply(Collection)} implements the
+ * sorting, paging and projection steps for implementations which only
+ * filter.
+ *
+ * <p>
+ * Results are ordered by the sort keys, then by ID. Paging follows the
+ * previous northbound behaviour: it only applies when a limit is given and
+ * more than one object matches.
+ *
+ * @param <T> neutron object type
+ */
+public final class NeutronQuery<T extends INeutronObject<T>> {
+
+    private static final Comparator<INeutronObject<?>> ID_COMPARATOR =
+        (o1, o2) -> o1.getID().compareTo(o2.getID());
+    private static final String SORT_ASC = "asc";
+    private static final String SORT_DESC = "desc";
+
+    private final NeutronFilter<T> filter;
+    private final List<Comparator<? super T>> sortKeys = new ArrayList<>();
+    private final List<String> sortKeyNames = new ArrayList<>();
+    private final List<String> sortDirNames = new ArrayList<>();
+    private List<String> fields = Collections.emptyList();
+    private Integer limit;
+    private String marker;
+    private boolean pageReverse;
+
+    public NeutronQuery(NeutronFilter<T> filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Sets the attributes to return, an empty or null list returns them all.
+     */
+    public NeutronQuery<T> fields(List<String> fieldList) {
+        this.fields = fieldList == null ? Collections.<String>emptyList() : fieldList;
+        return this;
+    }
+
+    /**
+     * Requests a page of at most limit objects after the marker, or before
+     * it if pageReverse is set. A null limit requests all objects.
+     */
+    public NeutronQuery<T> page(Integer pageLimit, String pageMarker, Boolean reverse) {
+        this.limit = pageLimit;
+        this.marker = pageMarker;
+        this.pageReverse = reverse != null && reverse;
+        return this;
+    }
+
+    /**
+     * Adds a sort key, applied after the previously added ones.
+     */
+    public NeutronQuery<T> sortBy(Comparator<? super T> sortKey) {
+        sortKeys.add(sortKey);
+        return this;
+    }
+
+    /**
+     * Adds the sort keys of a list request, as given by its sort_key and
+     * sort_dir parameters. A key names an attribute of the filter, and its
+     * direction is "asc" or "desc". Absent values are least in ascending
+     * order. Null lists add no sort key.
+     *
+     * @throws IllegalArgumentException if the keys and directions differ in
+     *             number, a key is unknown or a direction is invalid
+     */
+    public NeutronQuery<T> sortBy(List<String> keys, List<String> dirs) {
+        final List<String> keyList = keys == null ? Collections.<String>emptyList() : keys;
+        final List<String> dirList = dirs == null ? Collections.<String>emptyList() : dirs;
+        if (keyList.size() != dirList.size()) {
+            throw new IllegalArgumentException("The number of sort_keys and sort_dirs must be same");
+        }
+        for (int i = 0; i < keyList.size(); i++) {
+            final String key = keyList.get(i);
+            final String dir = dirList.get(i);
+            final Function<? super T, ?> getter = filter.getAttribute(key);
+            if (getter == null) {
+                throw new IllegalArgumentException(key + " is invalid attribute for sort_keys");
+            }
+            final boolean descending = SORT_DESC.equals(dir);
+            if (!descending && !SORT_ASC.equals(dir)) {
+                throw new IllegalArgumentException(dir + " is invalid value for sort_dirs, valid values are '"
+                        + SORT_ASC + "' and '" + SORT_DESC + "'");
+            }
+            final Comparator<T> sortKey = (o1, o2) -> compareValues(getter.apply(o1), getter.apply(o2));
+            sortBy(descending ? sortKey.reversed() : sortKey);
+            sortKeyNames.add(key);
+            sortDirNames.add(dir);
+        }
+        return this;
+    }
+
+    // attributes are mostly strings, numbers and booleans; others compare by their text
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object value1, Object value2) {
+        if (value1 == null) {
+            return value2 == null ? 0 : -1;
+        }
+        if (value2 == null) {
+            return 1;
+        }
+        if (value1 instanceof Comparable && value1.getClass() == value2.getClass()) {
+            return ((Comparable<Object>) value1).compareTo(value2);
+        }
+        return String.valueOf(value1).compareTo(String.valueOf(value2));
+    }
+
+    public NeutronFilter<T> getFilter() {
+        return filter;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public String getMarker() {
+        return marker;
+    }
+
+    public boolean isPageReverse() {
+        return pageReverse;
+    }
+
+    /**
+     * Returns the attribute names given to {@link #sortBy(List, List)}.
+     */
+    public List<String> getSortKeys() {
+        return Collections.unmodifiableList(sortKeyNames);
+    }
+
+    /**
+     * Returns the directions given to {@link #sortBy(List, List)}, one per sort key.
+     */
+    public List<String> getSortDirs() {
+        return Collections.unmodifiableList(sortDirNames);
+    }
+
+    public boolean isSorted() {
+        return !sortKeys.isEmpty();
+    }
+
+    /**
+     * Returns the result order: the sort keys, then ID.
+     */
+    public Comparator<T> getComparator() {
+        Comparator<T> comparator = null;
+        for (final Comparator<? super T> sortKey : sortKeys) {
+            comparator = comparator == null ? sortKey::compare : comparator.thenComparing(sortKey);
+        }
+        return comparator == null ? ID_COMPARATOR::compare : comparator.thenComparing(ID_COMPARATOR);
+    }
+
+    /**
+     * Sorts, pages and projects the objects matching the filter.
+     *
+     * @param matches objects which satisfy {@link #getFilter()}
+     * @return the requested page
+     * @throws NoSuchElementException if no matching object has the marker ID
+     * @throws IllegalArgumentException if the requested page is out of bounds
+     */
+    public NeutronQueryResult<T> apply(Collection<T> matches) {
+        final List<T> sorted = new ArrayList<>(matches);
+        if (limit == null || sorted.size() <= 1) {
+            if (isSorted()) {
+                Collections.sort(sorted, getComparator());
+            }
+            return new NeutronQueryResult<>(project(sorted));
+        }
+        Collections.sort(sorted, getComparator());
+        int offset = 0;
+        if (marker != null) {
+            offset = indexOf(sorted, marker);
+            if (offset < 0) {
+                throw new NoSuchElementException("UUID for marker: " + marker + " could not be found");
+            }
+        }
+        return page(sorted, offset);
+    }
+
+    /**
+     * Cuts the page out of the sorted matching objects.
+     *
+     * @param sorted all matching objects in result order
+     * @param offset position of the marker, ignored if there is none
+     * @return the requested page
+     * @throws IllegalArgumentException if the requested page is out of bounds
+     */
+    public NeutronQueryResult<T> page(List<T> sorted, int offset) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+        int startPos = 0;
+        if (marker != null) {
+            startPos = pageReverse ? offset - limit : offset + 1;
+        }
+        boolean firstPage = startPos == 0;
+        boolean lastPage = false;
+        final List<T> page;
+        if (startPos + limit >= sorted.size()) {
+            page = sorted.subList(Math.min(startPos, sorted.size()), sorted.size());
+            lastPage = true;
+        } else if (startPos < 0) {
+            if (startPos + limit <= 0) {
+                throw new IllegalArgumentException(
+                        "Requested page is out of bounds. Please check the supplied limit and marker");
+            }
+            page = sorted.subList(0, startPos + limit);
+            firstPage = true;
+        } else {
+            page = sorted.subList(startPos, startPos + limit);
+        }
+        if (page.isEmpty()) {
+            return new NeutronQueryResult<>(page, null, null, true, true);
+        }
+        return new NeutronQueryResult<>(project(page), page.get(0).getID(), page.get(page.size() - 1).getID(),
+                firstPage, lastPage);
+    }
+
+    private static <T extends INeutronObject<T>> int indexOf(List<T> objects, String id) {
+        for (int i = 0; i < objects.size(); i++) {
+            if (id.equals(objects.get(i).getID())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private List<T> project(List<T> objects) {
+        if (fields.isEmpty()) {
+            return new ArrayList<>(objects);
+        }
+        final List<T> ans = new ArrayList<>(objects.size());
+        for (final T object : objects) {
+            ans.add(object.extractFields(fields));
+        }
+        return ans;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.util.List;
+
+/**
+ * Result of a {@link NeutronQuery}: the objects of the requested page, and
+ * the information needed to link to the neighbouring pages.
+ *
+ * @param <T> neutron object type
+ */
+public final class NeutronQueryResult<T extends INeutronObject<T>> {
+
+    private final List<T> items;
+    private final boolean paged;
+    private final String firstId;
+    private final String lastId;
+    private final boolean firstPage;
+    private final boolean lastPage;
+
+    /**
+     * Creates an unpaged result.
+     */
+    public NeutronQueryResult(List<T> items) {
+        this.items = items;
+        this.paged = false;
+        this.firstId = null;
+        this.lastId = null;
+        this.firstPage = true;
+        this.lastPage = true;
+    }
+
+    /**
+     * Creates a page of a paged result.
+     *
+     * @param items objects of the page
+     * @param firstId ID of the first object of the page, null if it is empty
+     * @param lastId ID of the last object of the page, null if it is empty
+     * @param firstPage whether there is no page before this one
+     * @param lastPage whether there is no page after this one
+     */
+    public NeutronQueryResult(List<T> items, String firstId, String lastId, boolean firstPage, boolean lastPage) {
+        this.items = items;
+        this.paged = true;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.firstPage = firstPage;
+        this.lastPage = lastPage;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public boolean isPaged() {
+        return paged;
+    }
+
+    public String getFirstId() {
+        return firstId;
+    }
+
+    public String getLastId() {
+        return lastId;
+    }
+
+    public boolean isFirstPage() {
+        return firstPage;
+    }
+
+    public boolean isLastPage() {
+        return lastPage;
+    }
+}
@@ -8,55 +8,71 @@
 
 package org.opendaylight.neutron.spi;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.w3c.dom.Text;
-
-public final class NeutronResourceMapPropertyAdapter extends XmlAdapter<Object, Map<String, String>> {
-    private static final Logger LOG = LoggerFactory.getLogger(NeutronResourceMapPropertyAdapter.class);
+import org.eclipse.persistence.oxm.annotations.XmlVariableNode;
+
+/**
+ * Maps a map of strings to a JSON object whose member names are the keys.
+ *
+ * <p>
+ * The map is adapted to a list of members, each of which MOXy reads and
+ * writes under its own key as name ({@link XmlVariableNode}), directly on
+ * the stream. Previously each map was converted to and from a DOM tree.
+ */
+public final class NeutronResourceMapPropertyAdapter
+        extends XmlAdapter<NeutronResourceMapPropertyAdapter.JsonObject, Map<String, String>> {
 
     @Override
-    public Map<String, String> unmarshal(Object domTree) {
+    public Map<String, String> unmarshal(JsonObject object) {
         Map<String, String> map = new HashMap<>();
-        Element content = (Element) domTree;
-        NodeList childNodes = content.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            Node child = childNodes.item(i);
-            String key = child.getNodeName();
-            String value = ((Text) child.getChildNodes().item(0)).getWholeText();
-            map.put(key, value);
+        if (object != null && object.members != null) {
+            for (Member member : object.members) {
+                map.put(member.name, member.value);
+            }
         }
         return map;
     }
 
     @Override
-    public Object marshal(Map<String, String> map) {
-        try {
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            Document doc = db.newDocument();
-            Element customXml = doc.createElement("Map");
-            if (map != null) {
-                for (Map.Entry<String, String> entry : map.entrySet()) {
-                    Element keyValuePair = doc.createElement(entry.getKey());
-                    keyValuePair.appendChild(doc.createTextNode(entry.getValue()));
-                    customXml.appendChild(keyValuePair);
-                }
+    public JsonObject marshal(Map<String, String> map) {
+        JsonObject object = new JsonObject();
+        if (map != null) {
+            object.members = new ArrayList<>(map.size());
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                object.members.add(new Member(entry.getKey(), entry.getValue()));
             }
-            return customXml;
-        } catch (javax.xml.parsers.ParserConfigurationException e) {
-            LOG.error("ParserConfigurationException", e);
+        }
+        return object;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static final class JsonObject {
+        @XmlVariableNode("name")
+        List<Member> members;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static final class Member {
+        @XmlTransient
+        String name;
+
+        @XmlValue
+        String value;
+
+        Member() {
         }
 
-        return null;
+        Member(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
     }
 }
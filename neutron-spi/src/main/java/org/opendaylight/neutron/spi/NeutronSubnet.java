@@ -8,10 +8,8 @@
 
 package org.opendaylight.neutron.spi;
 
-import com.google.common.net.InetAddresses;
 import java.io.Serializable;
 import java.math.BigInteger;
-import java.net.Inet6Address;
 import java.util.ArrayList;
 import java.util.List;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -29,12 +27,8 @@ public final class NeutronSubnet extends NeutronBaseAttributes<NeutronSubnet> im
     private static final Logger LOG = LoggerFactory.getLogger(NeutronCRUDInterfaces.class);
 
     private static final long serialVersionUID = 1L;
-    private static final int IPV4_VERSION = 4;
-    private static final int IPV6_VERSION = 6;
-    private static final int IPV6_LENGTH = 128;
-    private static final int IPV6_LENGTH_BYTES = 8;
-    private static final long IPV6_LSB_MASK = 0x000000FF;
-    private static final int IPV6_BYTE_OFFSET = 7;
+    static final int IPV4_VERSION = 4;
+    static final int IPV6_VERSION = 6;
 
     // See OpenStack Network API v2.0 Reference for description of
     // annotated attributes
@@ -69,6 +63,9 @@ public final class NeutronSubnet extends NeutronBaseAttributes<NeutronSubnet> im
     @XmlElement(name = "ipv6_ra_mode", nillable = true)
     String ipV6RaMode;
 
+    // cidr as parsed by the last validity check, see getParsedCidr()
+    private transient volatile NeutronSubnetCidr parsedCidr;
+
     public String getNetworkUUID() {
         return networkUUID;
     }
@@ -206,42 +203,15 @@ public final class NeutronSubnet extends NeutronBaseAttributes<NeutronSubnet> im
      * a new subnet)
      */
     public boolean isValidCIDR() {
-        // fix for Bug 2290 - need to wrap the existing test as
-        // IPv4 because SubnetUtils doesn't support IPv6
-        if (ipVersion == IPV4_VERSION) {
-            try {
-                SubnetUtils util = new SubnetUtils(cidr);
-                SubnetInfo info = util.getInfo();
-                if (!info.getNetworkAddress().equals(info.getAddress())) {
-                    return false;
-                }
-            } catch (IllegalArgumentException e) {
-                LOG.warn("Failure in isValidCIDR()", e);
-                return false;
-            }
-            return true;
+        if (ipVersion != IPV4_VERSION && ipVersion != IPV6_VERSION) {
+            return false;
         }
-        if (ipVersion == IPV6_VERSION) {
-            // fix for Bug2290 - this is custom code because no classes
-            // with ODL-friendly licenses have been found
-            // extract address (in front of /) and length (after /)
-            String[] parts = cidr.split("/");
-            if (parts.length != 2) {
-                return false;
-            }
-            int length = Integer.parseInt(parts[1]);
-            //TODO?: limit check on length
-            // convert to byte array
-            byte[] addrBytes = ((Inet6Address) InetAddresses.forString(parts[0])).getAddress();
-            for (int index = length; index < IPV6_LENGTH; index++) {
-                if (((((int) addrBytes[index / IPV6_LENGTH_BYTES]) & IPV6_LSB_MASK)
-                        & (1 << (IPV6_BYTE_OFFSET - (index % IPV6_LENGTH_BYTES)))) != 0) {
-                    return (false);
-                }
-            }
-            return (true);
+        try {
+            return getParsedCidr().isNetworkAddress();
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Failure in isValidCIDR()", e);
+            return false;
         }
-        return false;
     }
 
     /* test to see if the gateway IP specified overlaps with specified
@@ -249,11 +219,13 @@ public final class NeutronSubnet extends NeutronBaseAttributes<NeutronSubnet> im
      * or assigning a gateway IP)
      */
     public boolean gatewayIp_Pool_overlap() {
+        if (ipVersion != IPV4_VERSION && ipVersion != IPV6_VERSION) {
+            return false;
+        }
+        final boolean ipv6 = ipVersion == IPV6_VERSION;
+        final NeutronIpRange gateway = NeutronIpRange.of(gatewayIp, ipv6);
         for (NeutronSubnetIpAllocationPool pool : allocationPools) {
-            if (ipVersion == IPV4_VERSION && pool.contains(gatewayIp)) {
-                return true;
-            }
-            if (ipVersion == IPV6_VERSION && pool.containsV6(gatewayIp)) {
+            if (pool.getRange(ipv6).contains(gateway)) {
                 return true;
             }
         }
@@ -321,33 +293,27 @@ public final class NeutronSubnet extends NeutronBaseAttributes<NeutronSubnet> im
      * is valid for this subnet or not
      */
     public boolean isValidIp(String ipAddress) {
-        if (ipVersion == IPV4_VERSION) {
-            try {
-                SubnetUtils util = new SubnetUtils(cidr);
-                SubnetInfo info = util.getInfo();
-                return info.isInRange(ipAddress);
-            } catch (IllegalArgumentException e) {
-                LOG.warn("Failure in isValidIp()", e);
-                return false;
-            }
+        if (ipVersion != IPV4_VERSION && ipVersion != IPV6_VERSION) {
+            return false;
+        }
+        try {
+            return getParsedCidr().containsHosts(NeutronIpRange.of(ipAddress, ipVersion == IPV6_VERSION));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Failure in isValidIp()", e);
+            return false;
         }
+    }
 
-        if (ipVersion == IPV6_VERSION) {
-            String[] parts = cidr.split("/");
-            int length = Integer.parseInt(parts[1]);
-            byte[] cidrBytes = ((Inet6Address) InetAddresses.forString(parts[0])).getAddress();
-            byte[] ipBytes = ((Inet6Address) InetAddresses.forString(ipAddress)).getAddress();
-            for (int index = 0; index < length; index++) {
-                if (((((int) cidrBytes[index / IPV6_LENGTH_BYTES]) & IPV6_LSB_MASK) & (1 << (IPV6_BYTE_OFFSET
-                        - (index % IPV6_LENGTH_BYTES)))) != (
-                            (((int) ipBytes[index / IPV6_LENGTH_BYTES]) & IPV6_LSB_MASK)
-                            & (1 << (IPV6_BYTE_OFFSET - (index % IPV6_LENGTH_BYTES))))) {
-                    return (false);
-                }
-            }
-            return (true);
+    /* returns the parsed cidr, parsing it again only if cidr or
+     * ipVersion changed since the last call
+     */
+    private NeutronSubnetCidr getParsedCidr() {
+        NeutronSubnetCidr parsed = parsedCidr;
+        if (parsed == null || !parsed.isParsedFrom(cidr, ipVersion)) {
+            parsed = NeutronSubnetCidr.parse(cidr, ipVersion);
+            parsedCidr = parsed;
         }
-        return false;
+        return parsed;
     }
 
     /* method to get the lowest available address of the subnet.
@@ -355,22 +321,17 @@ public final class NeutronSubnet extends NeutronBaseAttributes<NeutronSubnet> im
      * low addresses.
      */
     public String getLowAddr() {
-        String ans = null;
+        if (ipVersion != IPV4_VERSION && ipVersion != IPV6_VERSION) {
+            return allocationPools.isEmpty() ? null : allocationPools.get(0).getPoolStart();
+        }
+        final boolean ipv6 = ipVersion == IPV6_VERSION;
+        NeutronSubnetIpAllocationPool ans = null;
         for (NeutronSubnetIpAllocationPool pool : allocationPools) {
-            if (ans == null) {
-                ans = pool.getPoolStart();
-            } else {
-                if (ipVersion == IPV4_VERSION && NeutronSubnetIpAllocationPool
-                        .convert(pool.getPoolStart()) < NeutronSubnetIpAllocationPool.convert(ans)) {
-                    ans = pool.getPoolStart();
-                }
-                if (ipVersion == IPV6_VERSION && NeutronSubnetIpAllocationPool.convertV6(pool.getPoolStart())
-                        .compareTo(NeutronSubnetIpAllocationPool.convertV6(ans)) < 0) {
-                    ans = pool.getPoolStart();
-                }
+            if (ans == null || pool.getRange(ipv6).compareStart(ans.getRange(ipv6)) < 0) {
+                ans = pool;
             }
         }
-        return ans;
+        return ans == null ? null : ans.getPoolStart();
     }
 
     @Override
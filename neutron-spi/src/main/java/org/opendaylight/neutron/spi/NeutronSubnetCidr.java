@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.util.Objects;
+
+/**
+ * Parsed, immutable CIDR of a subnet.
+ *
+ * <p>
+ * The network address is kept as a 128 bit number in two longs, an IPv4
+ * address in the low 32 bits, together with the masks of the prefix, so that
+ * testing an address against the subnet is a mask-and-compare on each half.
+ */
+public final class NeutronSubnetCidr {
+    private static final int IPV4_LENGTH = 32;
+    private static final int IPV6_LENGTH = 128;
+    private static final int LONG_LENGTH = 64;
+    private static final long IPV4_MASK = 0xFFFFFFFFL;
+    // IPv4 networks from /31 on have no network and broadcast addresses (RFC 3021)
+    private static final int IPV4_POINT_TO_POINT_LENGTH = 31;
+
+    private final boolean ipv6;
+    private final int prefixLength;
+    private final long addressHigh;
+    private final long addressLow;
+    private final long maskHigh;
+    private final long maskLow;
+    // string this CIDR was parsed from, to tell whether a cached CIDR is stale
+    private final String cidr;
+
+    private NeutronSubnetCidr(String cidr, boolean ipv6, int prefixLength, long addressHigh, long addressLow) {
+        this.cidr = cidr;
+        this.ipv6 = ipv6;
+        this.prefixLength = prefixLength;
+        this.addressHigh = addressHigh;
+        this.addressLow = addressLow;
+        if (ipv6) {
+            this.maskHigh = mask(Math.min(prefixLength, LONG_LENGTH));
+            this.maskLow = mask(Math.max(prefixLength - LONG_LENGTH, 0));
+        } else {
+            this.maskHigh = 0;
+            this.maskLow = mask(LONG_LENGTH - IPV4_LENGTH + prefixLength) & IPV4_MASK;
+        }
+    }
+
+    /**
+     * Parses the CIDR of a subnet.
+     *
+     * @param cidr address and prefix length, separated by a slash
+     * @param ipVersion 4 or 6
+     * @return the parsed CIDR
+     * @throws IllegalArgumentException if the CIDR is not valid for the IP version
+     */
+    public static NeutronSubnetCidr parse(String cidr, int ipVersion) {
+        final boolean ipv6;
+        if (ipVersion == NeutronSubnet.IPV6_VERSION) {
+            ipv6 = true;
+        } else if (ipVersion == NeutronSubnet.IPV4_VERSION) {
+            ipv6 = false;
+        } else {
+            throw new IllegalArgumentException("Unknown IP version " + ipVersion);
+        }
+        final int slash = cidr == null ? -1 : cidr.indexOf('/');
+        if (slash < 0) {
+            throw new IllegalArgumentException("Invalid CIDR " + cidr);
+        }
+        final int prefixLength = Integer.parseInt(cidr.substring(slash + 1));
+        if (prefixLength < 0 || prefixLength > (ipv6 ? IPV6_LENGTH : IPV4_LENGTH)) {
+            throw new IllegalArgumentException("Invalid prefix length in CIDR " + cidr);
+        }
+        final String address = cidr.substring(0, slash);
+        if (!ipv6) {
+            return new NeutronSubnetCidr(cidr, false, prefixLength, 0, NeutronIpRange.parseV4(address));
+        }
+        final byte[] bytes = NeutronIpRange.parseV6(address);
+        return new NeutronSubnetCidr(cidr, true, prefixLength, NeutronIpRange.high(bytes),
+                NeutronIpRange.low(bytes));
+    }
+
+    // the top length bits of a long
+    private static long mask(int length) {
+        return length == 0 ? 0 : -1L << LONG_LENGTH - length;
+    }
+
+    public boolean isIpv6() {
+        return ipv6;
+    }
+
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * Tells whether this CIDR was parsed from the given string and IP version.
+     */
+    boolean isParsedFrom(String otherCidr, int otherIpVersion) {
+        return ipv6 == (otherIpVersion == NeutronSubnet.IPV6_VERSION) && Objects.equals(cidr, otherCidr);
+    }
+
+    /**
+     * Tells whether the address of the CIDR is its network address, that is
+     * whether its host bits are all zero.
+     */
+    public boolean isNetworkAddress() {
+        return (addressHigh & ~maskHigh) == 0 && (addressLow & ~maskLow) == 0;
+    }
+
+    /**
+     * Tells whether all addresses of the range are in this subnet.
+     */
+    public boolean contains(NeutronIpRange range) {
+        return ipv6 == range.isIpv6()
+                && inNetwork(range.getStartHigh(), range.getStartLow())
+                && inNetwork(range.getEndHigh(), range.getEndLow());
+    }
+
+    /**
+     * Tells whether all addresses of the range are host addresses of this
+     * subnet. For IPv4 this excludes the network and broadcast addresses,
+     * as {@code SubnetUtils.SubnetInfo.isInRange()} did.
+     */
+    public boolean containsHosts(NeutronIpRange range) {
+        if (!contains(range)) {
+            return false;
+        }
+        if (ipv6 || prefixLength >= IPV4_POINT_TO_POINT_LENGTH) {
+            return true;
+        }
+        final long network = addressLow & maskLow;
+        final long broadcast = network | ~maskLow & IPV4_MASK;
+        return range.getStartLow() != network && range.getEndLow() != broadcast;
+    }
+
+    private boolean inNetwork(long high, long low) {
+        return ((high ^ addressHigh) & maskHigh) == 0 && ((low ^ addressLow) & maskLow) == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "NeutronSubnetCidr [cidr=" + cidr + "]";
+    }
+}
@@ -43,6 +43,9 @@ public final class NeutronSubnetIpAllocationPool implements Serializable {
     @XmlElement(name = "end")
     String poolEnd;
 
+    // pool as parsed by the last containment check, see getRange()
+    private transient volatile NeutronIpRange range;
+
     public NeutronSubnetIpAllocationPool() {
     }
 
@@ -77,10 +80,7 @@ public final class NeutronSubnetIpAllocationPool implements Serializable {
      */
 
     public boolean contains(String inputString) {
-        long inputIp = convert(inputString);
-        long startIp = convert(poolStart);
-        long endIp = convert(poolEnd);
-        return inputIp >= startIp && inputIp <= endIp;
+        return getRange(false).contains(NeutronIpRange.of(inputString, false));
     }
 
     /**
@@ -115,10 +115,24 @@ public final class NeutronSubnetIpAllocationPool implements Serializable {
      */
 
     public boolean containsV6(String inputString) {
-        BigInteger inputIp = convertV6(inputString);
-        BigInteger startIp = convertV6(poolStart);
-        BigInteger endIp = convertV6(poolEnd);
-        return inputIp.compareTo(startIp) >= 0 && inputIp.compareTo(endIp) <= 0;
+        return getRange(true).contains(NeutronIpRange.of(inputString, true));
+    }
+
+    /**
+     * This method returns the parsed pool, parsing it again only if the
+     * start or end address changed since the last call.
+     *
+     * @param ipv6
+     *            whether the pool is an IPv6 or an IPv4 pool
+     * @return the pool as a range of addresses
+     */
+    NeutronIpRange getRange(boolean ipv6) {
+        NeutronIpRange parsed = range;
+        if (parsed == null || !parsed.isParsedFrom(poolStart, poolEnd, ipv6)) {
+            parsed = NeutronIpRange.of(poolStart, poolEnd, ipv6);
+            range = parsed;
+        }
+        return parsed;
     }
 
     /**
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+/**
+ * Parsers of the textual forms of UUIDs neutron receives, which validate
+ * and convert them in one pass, without regular expressions and without
+ * throwing on invalid input.
+ *
+ * <p>
+ * Neutron identifiers are RFC 4122 strings, "8-4-4-4-12" hexadecimal digits.
+ * OpenStack also sends tenant and project ids without dashes. The methods
+ * work on either form and keep the case of the digits, since identifiers are
+ * stored and compared as strings.
+ *
+ * <p>
+ * Identifiers are not held as two longs: the REST API returns them as they
+ * were received, in upper or lower case, the model keys objects by their
+ * string, and pages follow the string order of the identifiers, which the
+ * signed order of two longs does not match. Tenant and project ids, the
+ * ones shared by many objects, are interned instead.
+ */
+public final class NeutronUuid {
+    private static final int LENGTH = 36;
+    private static final int HEX_RADIX = 16;
+    // offsets of the dashes in the RFC 4122 form
+    private static final int DASH1 = 8;
+    private static final int DASH2 = 13;
+    private static final int DASH3 = 18;
+    private static final int DASH4 = 23;
+
+    private NeutronUuid() {
+    }
+
+    /**
+     * Tells whether a string is a UUID in the RFC 4122 form.
+     */
+    public static boolean isCanonical(String value) {
+        if (value == null || value.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            final char ch = value.charAt(i);
+            if (isDashOffset(i) ? ch != '-' : Character.digit(ch, HEX_RADIX) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a UUID in the RFC 4122 form, which is the string itself if it
+     * is in that form already.
+     *
+     * @param value UUID with dashes in any places, or without dashes
+     * @return the UUID in RFC 4122 form, or null if the string has not exactly
+     *         32 hexadecimal digits besides dashes
+     */
+    public static String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        final char[] chars = new char[LENGTH];
+        int pos = 0;
+        // whether every digit is where the RFC 4122 form has it
+        boolean canonical = value.length() == LENGTH;
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch == '-') {
+                continue;
+            }
+            if (pos == LENGTH || Character.digit(ch, HEX_RADIX) < 0) {
+                return null;
+            }
+            if (isDashOffset(pos)) {
+                chars[pos++] = '-';
+            }
+            canonical = canonical && i == pos;
+            chars[pos++] = ch;
+        }
+        if (pos != LENGTH) {
+            return null;
+        }
+        return canonical ? value : new String(chars);
+    }
+
+    /**
+     * Returns a string without its dashes, which is the string itself if it
+     * has none.
+     */
+    public static String dedash(String value) {
+        if (value == null || value.indexOf('-') < 0) {
+            return value;
+        }
+        final char[] chars = new char[value.length()];
+        int pos = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch != '-') {
+                chars[pos++] = ch;
+            }
+        }
+        return new String(chars, 0, pos);
+    }
+
+    private static boolean isDashOffset(int offset) {
+        return offset == DASH1 || offset == DASH2 || offset == DASH3 || offset == DASH4;
+    }
+}
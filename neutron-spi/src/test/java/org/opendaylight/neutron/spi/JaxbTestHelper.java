@@ -9,10 +9,12 @@
 package org.opendaylight.neutron.spi;
 
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.transform.stream.StreamSource;
 import org.eclipse.persistence.jaxb.JAXBContextProperties;
@@ -23,24 +25,44 @@ public class JaxbTestHelper {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static Object jaxbUnmarshall(Object schemaObject, String json) throws JAXBException {
         Class cls = schemaObject.getClass();
-        Class[] types = new Class[1];
-        types[0] = cls;
+        Map<String, String> namespacePrefixMapper = createNamespacePrefixMapper();
+        JAXBContext jc = createContext(cls, namespacePrefixMapper);
+
+        Unmarshaller unmarshaller = jc.createUnmarshaller();
+        unmarshaller.setProperty(UnmarshallerProperties.JSON_NAMESPACE_PREFIX_MAPPER, namespacePrefixMapper);
+
+        StringReader reader = new StringReader(json);
+        StreamSource stream = new StreamSource(reader);
+        return unmarshaller.unmarshal(stream, cls).getValue();
+    }
+
+    public static String jaxbMarshall(Object schemaObject) throws JAXBException {
+        JAXBContext jc = createContext(schemaObject.getClass(), createNamespacePrefixMapper());
+
+        Marshaller marshaller = jc.createMarshaller();
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(schemaObject, writer);
+        return writer.toString();
+    }
+
+    private static Map<String, String> createNamespacePrefixMapper() {
         Map<String, String> namespacePrefixMapper = new HashMap<>(3);
         namespacePrefixMapper.put("router", "router");
         namespacePrefixMapper.put("provider", "provider");
         namespacePrefixMapper.put("binding", "binding");
+        return namespacePrefixMapper;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static JAXBContext createContext(Class cls, Map<String, String> namespacePrefixMapper)
+            throws JAXBException {
+        Class[] types = new Class[1];
+        types[0] = cls;
         Map<String, Object> jaxbProperties = new HashMap<>(2);
         jaxbProperties.put(JAXBContextProperties.MEDIA_TYPE, "application/json");
         jaxbProperties.put(JAXBContextProperties.JSON_INCLUDE_ROOT, false);
         jaxbProperties.put(JAXBContextProperties.JSON_NAMESPACE_SEPARATOR, ':');
         jaxbProperties.put(JAXBContextProperties.NAMESPACE_PREFIX_MAPPER, namespacePrefixMapper);
-        JAXBContext jc = JAXBContext.newInstance(types, jaxbProperties);
-
-        Unmarshaller unmarshaller = jc.createUnmarshaller();
-        unmarshaller.setProperty(UnmarshallerProperties.JSON_NAMESPACE_PREFIX_MAPPER, namespacePrefixMapper);
-
-        StringReader reader = new StringReader(json);
-        StreamSource stream = new StreamSource(reader);
-        return unmarshaller.unmarshal(stream, cls).getValue();
+        return JAXBContext.newInstance(types, jaxbProperties);
     }
 }
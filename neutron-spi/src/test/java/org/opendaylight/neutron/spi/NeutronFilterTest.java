@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NeutronFilterTest {
+
+    private static NeutronPort port(String networkId, String deviceId) {
+        NeutronPort port = new NeutronPort();
+        port.setNetworkUUID(networkId);
+        port.setDeviceID(deviceId);
+        return port;
+    }
+
+    @Test
+    public void nullValueAddsNoConditionTest() {
+        NeutronFilter<NeutronPort> filter = new NeutronFilter<NeutronPort>()
+                .eq("network_id", NeutronPort::getNetworkUUID, null);
+        Assert.assertTrue("Filter without conditions should be empty", filter.isEmpty());
+        Assert.assertTrue("Empty filter should match every object", filter.test(port("net1", "dev1")));
+    }
+
+    @Test
+    public void equalitiesTest() {
+        NeutronFilter<NeutronPort> filter = new NeutronFilter<NeutronPort>()
+                .eq("network_id", NeutronPort::getNetworkUUID, "net1")
+                .eq("device_id", NeutronPort::getDeviceID, "dev1");
+        Assert.assertEquals("Wrong number of equalities", 2, filter.getEqualities().size());
+        Assert.assertEquals("Wrong expected value", "net1", filter.getEqualities().get("network_id"));
+        Assert.assertTrue("Filter should match port with both attributes", filter.test(port("net1", "dev1")));
+        Assert.assertFalse("Filter should not match port on other network", filter.test(port("net2", "dev1")));
+        Assert.assertFalse("Filter should not match port without device", filter.test(port("net1", null)));
+    }
+}
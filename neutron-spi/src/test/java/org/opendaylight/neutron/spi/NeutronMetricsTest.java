@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.util.SortedMap;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NeutronMetricsTest {
+
+    @After
+    public void tearDown() {
+        NeutronMetrics.getInstance().setEnabled(false);
+        NeutronMetrics.getInstance().reset();
+    }
+
+    @Test
+    public void histogramTest() {
+        for (long value = 0; value < 1L << 20; value = value * 2 + 1) {
+            long highest = NeutronMetricHistogram.highestValue(NeutronMetricHistogram.bucket(value));
+            Assert.assertTrue("histogram Test 1: bucket of " + value + " failed",
+                    highest >= value && highest <= value + value / 8);
+        }
+        NeutronMetricHistogram histogram = new NeutronMetricHistogram();
+        Assert.assertEquals("histogram Test 2: empty percentile failed", 0, histogram.getPercentile(50));
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        Assert.assertEquals("histogram Test 3: count failed", 1000, histogram.getCount());
+        assertNear("histogram Test 4: p50 failed", 500, histogram.getPercentile(50));
+        assertNear("histogram Test 5: p99 failed", 990, histogram.getPercentile(99));
+        histogram.record(Long.MAX_VALUE);
+        Assert.assertEquals("histogram Test 6: overflow failed", Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void histogramSnapshotTest() {
+        NeutronMetricHistogram histogram = new NeutronMetricHistogram();
+        Assert.assertTrue("histogram snapshot Test 1: empty failed", histogram.snapshot().isEmpty());
+        histogram.record(3);
+        histogram.record(3);
+        histogram.record(100);
+        histogram.record(Long.MAX_VALUE);
+        SortedMap<Long, Long> snapshot = histogram.snapshot();
+        Assert.assertEquals("histogram snapshot Test 2: buckets failed", 3, snapshot.size());
+        Assert.assertEquals("histogram snapshot Test 3: exact bucket failed", Long.valueOf(2), snapshot.get(3L));
+        long bound = NeutronMetricHistogram.highestValue(NeutronMetricHistogram.bucket(100));
+        Assert.assertEquals("histogram snapshot Test 4: bucket failed", Long.valueOf(1), snapshot.get(bound));
+        Assert.assertEquals("histogram snapshot Test 5: overflow failed", Long.valueOf(1),
+                snapshot.get(Long.MAX_VALUE));
+        histogram.reset();
+        Assert.assertTrue("histogram snapshot Test 6: reset failed", histogram.snapshot().isEmpty());
+    }
+
+    @Test
+    public void disabledTest() {
+        NeutronMetrics metrics = NeutronMetrics.getInstance();
+        metrics.setEnabled(false);
+        long start = NeutronMetrics.start();
+        Assert.assertEquals("disabled Test 1: start failed", 0, start);
+        NeutronMetrics.stop("Disabled", "create", start, true);
+        NeutronMetrics.value("Disabled", "converted", 5);
+        Assert.assertFalse("disabled Test 2: dump failed", metrics.dump().contains("Disabled"));
+    }
+
+    @Test
+    public void dumpTest() {
+        NeutronMetrics metrics = NeutronMetrics.getInstance();
+        metrics.setEnabled(true);
+        NeutronMetrics.stop("Port", "create", NeutronMetrics.start(), true);
+        NeutronMetrics.stop("Port", "create", NeutronMetrics.start(), false);
+        NeutronMetrics.value("Network", "converted", 100);
+        String dump = metrics.dump();
+        String[] lines = dump.split("\n");
+        Assert.assertEquals("dump Test 1: line count failed", 2, lines.length);
+        Assert.assertTrue("dump Test 2: value series failed",
+                lines[0].startsWith("Network converted count=1 rate="));
+        Assert.assertTrue("dump Test 3: value series failed", lines[0].endsWith(" max=100"));
+        Assert.assertTrue("dump Test 4: timed series failed",
+                lines[1].startsWith("Port create count=2 errors=1 rate="));
+        Assert.assertTrue("dump Test 5: timed series failed", lines[1].endsWith("us"));
+
+        metrics.reset();
+        Assert.assertTrue("dump Test 6: reset failed", metrics.dump().startsWith("Network converted count=0 "));
+    }
+
+    private static void assertNear(String message, long expected, long actual) {
+        Assert.assertTrue(message + ": " + actual, actual >= expected && actual <= expected + expected / 8);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NeutronQueryTest {
+
+    private static final String UUID_PREFIX = "4e8e5957-649f-477b-9e5b-f1f75b21c0";
+
+    private static List<NeutronNetwork> networks(int count) {
+        List<NeutronNetwork> networks = new ArrayList<>();
+        // added in reverse order to check the result is sorted by ID
+        for (int i = count; i > 0; i--) {
+            NeutronNetwork network = new NeutronNetwork();
+            network.setID(id(i));
+            networks.add(network);
+        }
+        return networks;
+    }
+
+    private static String id(int index) {
+        return UUID_PREFIX + String.format("%02d", index);
+    }
+
+    private static NeutronQuery<NeutronNetwork> sortableQuery() {
+        return new NeutronQuery<>(new NeutronFilter<NeutronNetwork>()
+                .eq(NeutronFilter.ID, NeutronNetwork::getID, null)
+                .eq("name", NeutronNetwork::getName, null)
+                .eq("mtu", NeutronNetwork::getMtu, null));
+    }
+
+    private static List<String> ids(List<NeutronNetwork> networks) {
+        List<String> ids = new ArrayList<>();
+        for (NeutronNetwork network : networks) {
+            ids.add(network.getID());
+        }
+        return ids;
+    }
+
+    private static NeutronQuery<NeutronNetwork> query() {
+        return new NeutronQuery<>(new NeutronFilter<NeutronNetwork>());
+    }
+
+    @Test
+    public void unpagedTest() {
+        NeutronQueryResult<NeutronNetwork> result = query().apply(networks(5));
+        Assert.assertFalse("Query without limit should not be paged", result.isPaged());
+        Assert.assertEquals("Query without limit should return all objects", 5, result.getItems().size());
+    }
+
+    @Test
+    public void pageForwardTest() {
+        NeutronQueryResult<NeutronNetwork> result = query().page(2, null, false).apply(networks(5));
+        Assert.assertTrue("Query with limit should be paged", result.isPaged());
+        Assert.assertEquals("Wrong page size", 2, result.getItems().size());
+        Assert.assertEquals("Wrong first object", id(1), result.getFirstId());
+        Assert.assertEquals("Wrong last object", id(2), result.getLastId());
+        Assert.assertTrue("First page not detected", result.isFirstPage());
+        Assert.assertFalse("Wrong last page", result.isLastPage());
+
+        result = query().page(2, id(4), false).apply(networks(5));
+        Assert.assertEquals("Wrong page size after marker", 1, result.getItems().size());
+        Assert.assertEquals("Wrong object after marker", id(5), result.getFirstId());
+        Assert.assertTrue("Last page not detected", result.isLastPage());
+    }
+
+    @Test
+    public void pageReverseTest() {
+        NeutronQueryResult<NeutronNetwork> result = query().page(2, id(4), true).apply(networks(5));
+        Assert.assertEquals("Wrong first object before marker", id(2), result.getFirstId());
+        Assert.assertEquals("Wrong last object before marker", id(3), result.getLastId());
+        Assert.assertFalse("Wrong first page", result.isFirstPage());
+
+        result = query().page(2, id(2), true).apply(networks(5));
+        Assert.assertEquals("Wrong truncated page size", 1, result.getItems().size());
+        Assert.assertTrue("First page not detected", result.isFirstPage());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void unknownMarkerTest() {
+        query().page(2, id(9), false).apply(networks(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pageOutOfBoundsTest() {
+        query().page(2, id(1), true).apply(networks(5));
+    }
+
+    @Test
+    public void sortKeysTest() {
+        List<NeutronNetwork> networks = networks(4);
+        // names b, a, b and no name, by ID
+        networks.get(3).setName("b");
+        networks.get(2).setName("a");
+        networks.get(1).setName("b");
+        NeutronQueryResult<NeutronNetwork> result = sortableQuery()
+                .sortBy(Collections.singletonList("name"), Collections.singletonList("asc")).apply(networks);
+        Assert.assertEquals("Wrong ascending order", Arrays.asList(id(4), id(2), id(1), id(3)),
+                ids(result.getItems()));
+
+        result = sortableQuery().sortBy(Arrays.asList("name", "id"), Arrays.asList("desc", "desc")).apply(networks);
+        Assert.assertEquals("Wrong descending order", Arrays.asList(id(3), id(1), id(2), id(4)),
+                ids(result.getItems()));
+    }
+
+    @Test
+    public void sortedPageTest() {
+        List<NeutronNetwork> networks = networks(5);
+        NeutronQuery<NeutronNetwork> query = sortableQuery()
+                .sortBy(Collections.singletonList("id"), Collections.singletonList("desc")).page(2, id(4), false);
+        NeutronQueryResult<NeutronNetwork> result = query.apply(networks);
+        Assert.assertEquals("Wrong page after marker", Arrays.asList(id(3), id(2)), ids(result.getItems()));
+        Assert.assertEquals("Sort keys not kept", Collections.singletonList("id"), query.getSortKeys());
+        Assert.assertEquals("Sort directions not kept", Collections.singletonList("desc"), query.getSortDirs());
+    }
+
+    @Test
+    public void noSortKeysTest() {
+        NeutronQuery<NeutronNetwork> query = sortableQuery().sortBy(null, null);
+        Assert.assertFalse("Query without sort keys should not be sorted", query.isSorted());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownSortKeyTest() {
+        sortableQuery().sortBy(Collections.singletonList("status"), Collections.singletonList("asc"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSortDirTest() {
+        sortableQuery().sortBy(Collections.singletonList("name"), Collections.singletonList("up"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingSortDirTest() {
+        sortableQuery().sortBy(Arrays.asList("name", "id"), Collections.singletonList("asc"));
+    }
+}
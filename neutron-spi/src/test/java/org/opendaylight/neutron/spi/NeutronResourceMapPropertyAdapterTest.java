@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.bind.JAXBException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NeutronResourceMapPropertyAdapterTest {
+
+    @Test
+    public void marshalTest() throws JAXBException {
+        NeutronPort port = new NeutronPort();
+        port.setID("4e8e5957-649f-477b-9e5b-f1f75b21c03c");
+        Map<String, String> vifDetails = new HashMap<>();
+        vifDetails.put("port_filter", "true");
+        port.setVIFDetails(vifDetails);
+
+        String json = JaxbTestHelper.jaxbMarshall(port);
+        Assert.assertTrue("NeutronResourceMapPropertyAdapter Test 1: marshalled vif_details failed: " + json,
+                json.contains("\"binding:vif_details\":{\"port_filter\":\"true\"}"));
+    }
+
+    @Test
+    public void roundTripTest() throws JAXBException {
+        NeutronPort port = new NeutronPort();
+        Map<String, String> vifDetails = new HashMap<>();
+        vifDetails.put("port_filter", "true");
+        vifDetails.put("ovs_hybrid_plug", "false");
+        // not a valid XML element name, which the DOM based mapping did not support
+        vifDetails.put("1 key", "\"quoted\"");
+        port.setVIFDetails(vifDetails);
+
+        NeutronPort result = (NeutronPort) JaxbTestHelper.jaxbUnmarshall(new NeutronPort(),
+                JaxbTestHelper.jaxbMarshall(port));
+        Assert.assertEquals("NeutronResourceMapPropertyAdapter Test 2: round trip of vif_details failed",
+                vifDetails, result.getVIFDetails());
+    }
+
+    @Test
+    public void emptyMapTest() throws JAXBException {
+        NeutronPort port = new NeutronPort();
+        port.setVIFDetails(new HashMap<>());
+
+        NeutronPort result = (NeutronPort) JaxbTestHelper.jaxbUnmarshall(new NeutronPort(),
+                JaxbTestHelper.jaxbMarshall(port));
+        Assert.assertTrue("NeutronResourceMapPropertyAdapter Test 3: round trip of empty vif_details failed",
+                result.getVIFDetails() == null || result.getVIFDetails().isEmpty());
+    }
+}
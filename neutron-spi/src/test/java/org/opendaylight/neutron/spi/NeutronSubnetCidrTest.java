@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NeutronSubnetCidrTest {
+
+    @Test
+    public void isNetworkAddressTest() {
+        Assert.assertTrue("isNetworkAddress Test 1: 10.18.0.0/24 failed",
+                NeutronSubnetCidr.parse("10.18.0.0/24", 4).isNetworkAddress());
+        Assert.assertFalse("isNetworkAddress Negative Test 1: 10.18.0.0/8 failed",
+                NeutronSubnetCidr.parse("10.18.0.0/8", 4).isNetworkAddress());
+        Assert.assertTrue("isNetworkAddress Test 2: 0.0.0.0/0 failed",
+                NeutronSubnetCidr.parse("0.0.0.0/0", 4).isNetworkAddress());
+        Assert.assertTrue("isNetworkAddress v6 Test 1: 2015::/64 failed",
+                NeutronSubnetCidr.parse("2015::/64", 6).isNetworkAddress());
+        Assert.assertFalse("isNetworkAddress v6 Negative Test 1: 2015::1:0:0:0/64 failed",
+                NeutronSubnetCidr.parse("2015::1:0:0:0/64", 6).isNetworkAddress());
+        Assert.assertFalse("isNetworkAddress v6 Negative Test 2: 2015::1/127 failed",
+                NeutronSubnetCidr.parse("2015::1/127", 6).isNetworkAddress());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parsePrefixTooLongTest() {
+        NeutronSubnetCidr.parse("10.18.0.0/33", 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseWrongVersionTest() {
+        NeutronSubnetCidr.parse("10.18.0.0/24", 6);
+    }
+
+    @Test
+    public void containsHostsTest() {
+        NeutronSubnetCidr cidr = NeutronSubnetCidr.parse("10.18.0.0/24", 4);
+        Assert.assertTrue("containsHosts Test 1: 10.18.0.1 failed",
+                cidr.containsHosts(NeutronIpRange.of("10.18.0.1", false)));
+        Assert.assertTrue("containsHosts Test 2: 10.18.0.254 failed",
+                cidr.containsHosts(NeutronIpRange.of("10.18.0.254", false)));
+        Assert.assertFalse("containsHosts Negative Test 1: network address failed",
+                cidr.containsHosts(NeutronIpRange.of("10.18.0.0", false)));
+        Assert.assertFalse("containsHosts Negative Test 2: broadcast address failed",
+                cidr.containsHosts(NeutronIpRange.of("10.18.0.255", false)));
+        Assert.assertFalse("containsHosts Negative Test 3: 10.18.1.1 failed",
+                cidr.containsHosts(NeutronIpRange.of("10.18.1.1", false)));
+        Assert.assertFalse("containsHosts Negative Test 4: IPv6 address failed",
+                cidr.containsHosts(NeutronIpRange.of("::a12:1", true)));
+
+        cidr = NeutronSubnetCidr.parse("2015::/120", 6);
+        Assert.assertTrue("containsHosts v6 Test 1: 2015::ff failed",
+                cidr.containsHosts(NeutronIpRange.of("2015::ff", true)));
+        Assert.assertFalse("containsHosts v6 Negative Test 1: 2015::100 failed",
+                cidr.containsHosts(NeutronIpRange.of("2015::100", true)));
+    }
+
+    @Test
+    public void rangeTest() {
+        NeutronIpRange range = NeutronIpRange.of("8000::", "ffff::", true);
+        Assert.assertTrue("range v6 Test 1: addresses above 8000:: failed",
+                range.contains(NeutronIpRange.of("9000::1", true)));
+        Assert.assertTrue("range v6 Test 2: overlapping range failed",
+                range.overlaps(NeutronIpRange.of("7000::", "8000::", true)));
+        Assert.assertFalse("range v6 Negative Test 1: disjoint range failed",
+                range.overlaps(NeutronIpRange.of("7000::", "7fff::", true)));
+
+        range = NeutronIpRange.of("10.18.0.2", "255.255.255.255", false);
+        Assert.assertTrue("range Test 1: 255.255.255.255 failed",
+                range.contains(NeutronIpRange.of("255.255.255.255", false)));
+        Assert.assertTrue("range Test 2: compareStart failed",
+                range.compareStart(NeutronIpRange.of("10.18.0.10", false)) < 0);
+    }
+}
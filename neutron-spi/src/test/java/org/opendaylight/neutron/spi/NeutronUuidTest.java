@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.spi;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NeutronUuidTest {
+    private static final String UUID_STRING = "4e8e5957-649f-477b-9e5b-f1f75b21c03c";
+    private static final String DEDASHED = "4e8e5957649f477b9e5bf1f75b21c03c";
+
+    @Test
+    public void canonicalizeTest() {
+        Assert.assertTrue("canonicalize Test 1: canonical input not returned as is failed",
+                UUID_STRING == NeutronUuid.canonicalize(UUID_STRING));
+        Assert.assertEquals("canonicalize Test 2: dedashed input failed", UUID_STRING,
+                NeutronUuid.canonicalize(DEDASHED));
+        Assert.assertEquals("canonicalize Test 3: misplaced dashes failed", UUID_STRING,
+                NeutronUuid.canonicalize("4e8e-5957649f-477b9e5b-f1f75b21c03c"));
+        Assert.assertEquals("canonicalize Test 4: case not kept failed", UUID_STRING.toUpperCase(),
+                NeutronUuid.canonicalize(DEDASHED.toUpperCase()));
+        Assert.assertNull("canonicalize Negative Test 1: not a UUID failed", NeutronUuid.canonicalize("port1"));
+        Assert.assertNull("canonicalize Negative Test 2: too short failed",
+                NeutronUuid.canonicalize(UUID_STRING.substring(1)));
+        Assert.assertNull("canonicalize Negative Test 3: too long failed", NeutronUuid.canonicalize(DEDASHED + "0"));
+        Assert.assertNull("canonicalize Negative Test 4: not hexadecimal failed",
+                NeutronUuid.canonicalize(UUID_STRING.replace('e', 'g')));
+        Assert.assertNull("canonicalize Negative Test 5: null failed", NeutronUuid.canonicalize(null));
+
+        Assert.assertFalse("isCanonical Negative Test 1: misplaced dashes failed",
+                NeutronUuid.isCanonical("4e8e5957-649f4-77b-9e5b-f1f75b21c03c"));
+    }
+
+    @Test
+    public void dedashTest() {
+        Assert.assertEquals("dedash Test 1: dashed input failed", DEDASHED, NeutronUuid.dedash(UUID_STRING));
+        Assert.assertTrue("dedash Test 2: input without dashes not returned as is failed",
+                DEDASHED == NeutronUuid.dedash(DEDASHED));
+    }
+
+    @Test
+    public void tenantIdInternTest() {
+        NeutronPort port1 = new NeutronPort();
+        port1.setTenantID(new String(DEDASHED));
+        NeutronPort port2 = new NeutronPort();
+        port2.setTenantID(new String(DEDASHED));
+        Assert.assertTrue("tenant id Test 1: tenant ids not shared failed", port1.getTenantID() == port2.getTenantID());
+    }
+}
@@ -8,18 +8,32 @@
 
 package org.opendaylight.neutron.northbound.api;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import com.google.common.util.concurrent.ListenableFuture;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.opendaylight.neutron.spi.INeutronCRUD;
 import org.opendaylight.neutron.spi.INeutronObject;
 import org.opendaylight.neutron.spi.NeutronCRUDInterfaces;
+import org.opendaylight.neutron.spi.NeutronMetrics;
+import org.opendaylight.neutron.spi.NeutronQuery;
+import org.opendaylight.neutron.spi.NeutronQueryResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R extends INeutronRequest<T>,
         I extends INeutronCRUD<T>> {
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractNeutronNorthbound.class);
+
     // T extends INeutronObject<T> as 0th type argument
     private static final int NEUTRON_ARGUMENT_TYPE_INDEX = 0;
     // NeutronRequest extends INeutronRequest<T> as 1st type argument
@@ -30,8 +44,22 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
     protected static final int HTTP_OK_BOTTOM = 200;
     protected static final int HTTP_OK_TOP = 299;
 
+    // northbound class -> its actual type arguments, resolved once per class
+    private static final ClassValue<Type[]> TYPE_ARGUMENTS = new ClassValue<Type[]>() {
+        @Override
+        protected Type[] computeValue(Class<?> type) {
+            ParameterizedType parameterizedType = (ParameterizedType) type.getGenericSuperclass();
+            return parameterizedType.getActualTypeArguments();
+        }
+    };
+
     private static final String INTERFACE_NAME_BASE = " CRUD Interface";
     private static final String UUID_NO_EXIST_BASE = " UUID does not exist.";
+    private static final String WRITE_TIMEOUT_BASE = " write timed out, it may still complete.";
+    private static final String WRITE_FAILED_BASE = " write failed.";
+
+    // replaces the OSGi service registry when set
+    private static volatile Function<Class<?>, Object> serviceSupplier;
 
     protected final String serviceUnavailable() {
         return getResourceName() + INTERFACE_NAME_BASE + RestMessages.SERVICEUNAVAILABLE.toString();
@@ -41,46 +69,114 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
         return getResourceName() + UUID_NO_EXIST_BASE;
     }
 
+    protected final String writeTimeout() {
+        return getResourceName() + WRITE_TIMEOUT_BASE;
+    }
+
+    protected final String writeFailed() {
+        return getResourceName() + WRITE_FAILED_BASE;
+    }
+
     protected abstract String getResourceName();
 
     private <K> Class<K> getActualTypeArgument(final int typeIndex) {
-        ParameterizedType parameterizedType = (ParameterizedType) getClass().getGenericSuperclass();
         @SuppressWarnings("unchecked")
-        Class<K> cls = (Class<K>) parameterizedType.getActualTypeArguments()[typeIndex];
+        Class<K> cls = (Class<K>) TYPE_ARGUMENTS.get(getClass())[typeIndex];
         return cls;
     }
 
+    private NeutronRequestMetadata getRequestMetadata() {
+        // cls = NeturonRequest.class
+        return NeutronRequestMetadata.of(getActualTypeArgument(NEUTRON_REQUEST_TYPE_INDEX));
+    }
+
     private R newNeutronRequest(T neutronObject) {
         // return new R(neutronObject)
+        @SuppressWarnings("unchecked")
+        R request = (R) getRequestMetadata().newSingletonRequest(neutronObject);
+        return request;
+    }
 
-        // argumentClass = T.class
-        Class<T> argumentClass = getActualTypeArgument(NEUTRON_ARGUMENT_TYPE_INDEX);
-        // cls = NeturonRequest.class
-        Class<R> cls = getActualTypeArgument(NEUTRON_REQUEST_TYPE_INDEX);
-        try {
-            // ctor = R constructor
-            Constructor<R> ctor = cls.getDeclaredConstructor(argumentClass);
-            return ctor.newInstance(neutronObject);
-        } catch (NoSuchMethodException | InstantiationException
-                 | IllegalAccessException | InvocationTargetException e) {
-            // This case shouldn't happen
-            throw new IllegalArgumentException(e);
-        }
+    private R newNeutronRequest(List<T> neutronObjects) {
+        // return new R(neutronObjects)
+        @SuppressWarnings("unchecked")
+        R request = (R) getRequestMetadata().newBulkRequest(neutronObjects);
+        return request;
+    }
+
+    private R newNeutronRequest(List<T> neutronObjects, List<NeutronPageLink> links) {
+        // return new R(neutronObjects, links)
+        @SuppressWarnings("unchecked")
+        R request = (R) getRequestMetadata().newPageRequest(neutronObjects, links);
+        return request;
+    }
+
+    /**
+     * Provides the CRUD services instead of the OSGi service registry, to
+     * the northbound run outside of OSGi such as by the benchmarks.
+     *
+     * @param supplier returns the service of a CRUD interface, or null if
+     *            there is none; null to use the service registry again
+     */
+    public static void setServiceSupplier(Function<Class<?>, Object> supplier) {
+        serviceSupplier = supplier;
     }
 
     protected I getNeutronCRUD() {
         // cls = I.class
         Class<I> cls = getActualTypeArgument(NEUTRON_CRUD_TYPE_INDEX);
-        I neutronCrud = NeutronCRUDInterfaces.fetchINeutronCRUD(cls, (Object) this);
+        final Function<Class<?>, Object> supplier = serviceSupplier;
+        I neutronCrud = supplier == null ? NeutronCRUDInterfaces.fetchINeutronCRUD(cls, (Object) this)
+                : cls.cast(supplier.apply(cls));
         if (neutronCrud == null) {
             throw new ServiceUnavailableException(serviceUnavailable());
         }
         return neutronCrud;
     }
 
+    /*
+     * JAX-RS 1.1 as implemented by Jersey 1 cannot suspend a request, so the
+     * request thread waits for the write, but no longer than the configured
+     * timeout: a slow commit then costs a thread for a bounded time.
+     */
+    private boolean await(ListenableFuture<Boolean> future) {
+        try {
+            return future.get(NeutronNorthboundRSApplication.getWriteTimeout(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException(writeTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(writeTimeout());
+        } catch (ExecutionException e) {
+            LOG.error("Write of {} failed", getResourceName(), e.getCause());
+            throw new InternalServerErrorException(writeFailed());
+        }
+    }
+
+    /*
+     * Records the latency of a request in NeutronMetrics, under the resource
+     * name. A request which throws, including with an HTTP error, counts as
+     * an error.
+     */
+    private Response timed(String operation, Supplier<Response> request) {
+        final long start = NeutronMetrics.start();
+        boolean success = false;
+        try {
+            final Response response = request.get();
+            success = true;
+            return response;
+        } finally {
+            NeutronMetrics.stop(getResourceName(), operation, start, success);
+        }
+    }
+
     protected Response show(String uuid,
             // return fields
             List<String> fields) {
+        return timed("show", () -> doShow(uuid, fields));
+    }
+
+    private Response doShow(String uuid, List<String> fields) {
         I neutronCRUD = getNeutronCRUD();
         T ans = neutronCRUD.get(uuid);
         if (ans == null) {
@@ -95,20 +191,80 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
         }
     }
 
+    protected Response list(NeutronQuery<T> query) {
+        return list(query, null);
+    }
+
+    protected Response list(NeutronQuery<T> query, UriInfo uriInfo) {
+        return list(query, null, null, uriInfo);
+    }
+
+    /**
+     * Lists the objects of the query, sorted by the sort_key and sort_dir
+     * parameters of the request. An invalid sort is a bad request.
+     */
+    protected Response list(NeutronQuery<T> query, List<String> sortKeys, List<String> sortDirs, UriInfo uriInfo) {
+        return timed("list", () -> doList(query, sortKeys, sortDirs, uriInfo));
+    }
+
+    private Response doList(NeutronQuery<T> query, List<String> sortKeys, List<String> sortDirs, UriInfo uriInfo) {
+        try {
+            query.sortBy(sortKeys, sortDirs);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+        I neutronCRUD = getNeutronCRUD();
+        NeutronQueryResult<T> result;
+        try {
+            result = neutronCRUD.query(query);
+        } catch (NoSuchElementException e) {
+            throw new ResourceNotFoundException(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        List<NeutronPageLink> links = null;
+        if (result.isPaged()) {
+            // Return a paginated request
+            links = PaginatedRequestFactory.createLinks(query, result, uriInfo);
+        }
+        if (NeutronNorthboundRSApplication.isStreamLists()) {
+            Class<T> argumentClass = getActualTypeArgument(NEUTRON_ARGUMENT_TYPE_INDEX);
+            Class<R> requestClass = getActualTypeArgument(NEUTRON_REQUEST_TYPE_INDEX);
+            return Response.status(HttpURLConnection.HTTP_OK)
+                    .entity(new NeutronListStreamingOutput<>(requestClass, argumentClass, result.getItems(), links))
+                    .build();
+        }
+        if (links != null) {
+            return Response.status(HttpURLConnection.HTTP_OK).entity(newNeutronRequest(result.getItems(), links))
+                    .build();
+        }
+        return Response.status(HttpURLConnection.HTTP_OK).entity(newNeutronRequest(result.getItems())).build();
+    }
+
     protected Response create(final R input) {
+        return timed("create", () -> doCreate(input));
+    }
+
+    private Response doCreate(R input) {
         I neutronCRUD = getNeutronCRUD();
         if (input.isSingleton()) {
             T singleton = input.getSingleton();
 
             singleton.initDefaults();
-            neutronCRUD.add(singleton);
+            await(neutronCRUD.addAsync(singleton));
         } else {
             if (input.getBulk() == null) {
                 throw new BadRequestException("Invalid requests");
             }
             for (T test : input.getBulk()) {
                 test.initDefaults();
-                neutronCRUD.add(test);
+            }
+            try {
+                neutronCRUD.addAll(input.getBulk());
+            } catch (IllegalStateException e) {
+                LOG.error("Bulk create of {} {} failed", input.getBulk().size(), getResourceName(), e);
+                throw new InternalServerErrorException(writeFailed());
             }
         }
         return Response.status(HttpURLConnection.HTTP_CREATED).entity(input).build();
@@ -133,6 +289,10 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
     }
 
     protected Response update(String uuid, final R input) {
+        return timed("update", () -> doUpdate(uuid, input));
+    }
+
+    private Response doUpdate(String uuid, R input) {
         I neutronCRUD = getNeutronCRUD();
         if (!input.isSingleton()) {
             throw new BadRequestException("Only singleton edit supported");
@@ -149,7 +309,7 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
         /*
          * update the object and return it
          */
-        if (!neutronCRUD.update(uuid, delta)) {
+        if (!await(neutronCRUD.updateAsync(uuid, delta))) {
             throw new ResourceNotFoundException(uuidNoExist());
         }
         T updated = neutronCRUD.get(uuid);
@@ -157,12 +317,16 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
     }
 
     protected Response delete(String uuid) {
+        return timed("delete", () -> doDelete(uuid));
+    }
+
+    private Response doDelete(String uuid) {
         final I neutronCRUD = getNeutronCRUD();
 
         /*
          * remove it and return 204 status
          */
-        if (!neutronCRUD.remove(uuid)) {
+        if (!await(neutronCRUD.removeAsync(uuid))) {
             throw new ResourceNotFoundException(uuidNoExist());
         }
 
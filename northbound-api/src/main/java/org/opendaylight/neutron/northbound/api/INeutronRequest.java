@@ -8,45 +8,26 @@
 
 package org.opendaylight.neutron.northbound.api;
 
-import java.lang.reflect.Field;
 import java.util.List;
 import org.opendaylight.neutron.spi.INeutronObject;
 
 public interface INeutronRequest<T extends INeutronObject<T>> {
     default T getSingleton() {
-        // return this.sinleton
-        Class cls = getClass();
-        try {
-            Field field = cls.getDeclaredField("singleton");
-            @SuppressWarnings("unchecked")
-            T value = (T) field.get(this);
-            return value;
-        } catch (IllegalAccessException | NoSuchFieldException e) {
-            throw new IllegalArgumentException(e);
-        }
+        // return this.singleton
+        @SuppressWarnings("unchecked")
+        T value = (T) NeutronRequestMetadata.of(getClass()).getSingleton(this);
+        return value;
     }
 
     default boolean isSingleton() {
-        // return this.sinleton != null
-        Class cls = getClass();
-        try {
-            Field field = cls.getDeclaredField("singleton");
-            return field.get(this) != null;
-        } catch (IllegalAccessException | NoSuchFieldException e) {
-            throw new IllegalArgumentException(e);
-        }
+        // return this.singleton != null
+        return NeutronRequestMetadata.of(getClass()).getSingleton(this) != null;
     }
 
     default List<T> getBulk() {
         // return this.bulkRequest
-        Class cls = getClass();
-        try {
-            Field field = cls.getDeclaredField("bulkRequest");
-            @SuppressWarnings("unchecked")
-            List<T> value = (List<T>) field.get(this);
-            return value;
-        } catch (IllegalAccessException | NoSuchFieldException e) {
-            throw new IllegalArgumentException(e);
-        }
+        @SuppressWarnings("unchecked")
+        List<T> value = (List<T>) NeutronRequestMetadata.of(getClass()).getBulk(this);
+        return value;
     }
 }
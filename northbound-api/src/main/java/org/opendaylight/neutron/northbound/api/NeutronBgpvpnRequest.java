@@ -27,9 +27,17 @@ public final class NeutronBgpvpnRequest implements INeutronRequest<NeutronBgpvpn
     @XmlElement(name = "bgpvpns")
     List<NeutronBgpvpn> bulkRequest;
 
+    @XmlElement(name = "bgpvpns_links")
+    List<NeutronPageLink> links;
+
     NeutronBgpvpnRequest() {
     }
 
+    NeutronBgpvpnRequest(List<NeutronBgpvpn> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronBgpvpnRequest(NeutronBgpvpn bgpvpn) {
         singleton = bgpvpn;
     }
@@ -9,7 +9,6 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -30,6 +29,8 @@ import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronBgpvpnCRUD;
 import org.opendaylight.neutron.spi.NeutronBgpvpn;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Bgpvpn.<br>
@@ -88,39 +89,23 @@ public final class NeutronBgpvpnsNorthbound
             // pagination
             @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronBgpvpnCRUD bgpvpnInterface = getNeutronCRUD();
-        List<NeutronBgpvpn> allBgpvpns = bgpvpnInterface.getAll();
-        List<NeutronBgpvpn> ans = new ArrayList<>();
-        for (NeutronBgpvpn bgpvpn : allBgpvpns) {
-            //match filters: TODO provider extension
-            Boolean adminStateUp = queryAdminStateUp != null ? Boolean.valueOf(queryAdminStateUp) : null;
-            Boolean autoAggregate = queryAutoAggregate != null ? Boolean.valueOf(queryAutoAggregate) : null;
-            if ((queryID == null || queryID.equals(bgpvpn.getID()))
-                    && (queryName == null || queryName.equals(bgpvpn.getName()))
-                    && (adminStateUp == null || adminStateUp.booleanValue() == bgpvpn.isAdminStateUp())
-                    && (queryStatus == null || queryStatus.equals(bgpvpn.getStatus()))
-                    && (autoAggregate == null || autoAggregate.booleanValue() == bgpvpn.isAutoAggregate())
-                    && (queryTenantID == null || queryTenantID.equals(bgpvpn.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(bgpvpn.extractFields(fields));
-                } else {
-                    ans.add(bgpvpn);
-                }
-            }
-        }
-
-        if (limit != null && ans.size() > 1) {
-            // Return a paginated request
-            NeutronBgpvpnRequest request = (NeutronBgpvpnRequest) PaginatedRequestFactory.createRequest(limit, marker,
-                    pageReverse, uriInfo, ans, NeutronBgpvpn.class);
-            return Response.status(HttpURLConnection.HTTP_OK).entity(request).build();
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronBgpvpnRequest(ans)).build();
-
+        //match filters: TODO provider extension
+        Boolean adminStateUp = queryAdminStateUp != null ? Boolean.valueOf(queryAdminStateUp) : null;
+        Boolean autoAggregate = queryAutoAggregate != null ? Boolean.valueOf(queryAutoAggregate) : null;
+        NeutronFilter<NeutronBgpvpn> filter = new NeutronFilter<NeutronBgpvpn>()
+                .eq(NeutronFilter.ID, NeutronBgpvpn::getID, queryID)
+                .eq("name", NeutronBgpvpn::getName, queryName)
+                .eq("admin_state_up", NeutronBgpvpn::isAdminStateUp, adminStateUp)
+                .eq("status", NeutronBgpvpn::getStatus, queryStatus)
+                .eq("auto_aggregate", NeutronBgpvpn::isAutoAggregate, autoAggregate)
+                .eq(NeutronFilter.TENANT_ID, NeutronBgpvpn::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
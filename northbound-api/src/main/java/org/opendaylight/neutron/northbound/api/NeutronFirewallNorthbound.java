@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronFirewallCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronFirewall;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Firewall.<br>
@@ -48,6 +52,9 @@ import org.opendaylight.neutron.spi.NeutronFirewall;
 public final class NeutronFirewallNorthbound
         extends AbstractNeutronNorthbound<NeutronFirewall, NeutronFirewallRequest, INeutronFirewallCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Firewall";
 
     @Override
@@ -76,30 +83,22 @@ public final class NeutronFirewallNorthbound
             @QueryParam("shared") Boolean queryFirewallIsShared,
             @QueryParam("firewall_policy_id") String queryFirewallPolicyID,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronFirewallCRUD firewallInterface = getNeutronCRUD();
-        List<NeutronFirewall> ans = new ArrayList<>();
-        for (NeutronFirewall nsg : firewallInterface.getAll()) {
-            if ((queryFirewallUUID == null || queryFirewallUUID.equals(nsg.getID()))
-                    && (queryFirewallTenantID == null || queryFirewallTenantID.equals(nsg.getTenantID()))
-                    && (queryFirewallName == null || queryFirewallName.equals(nsg.getName()))
-                    && (queryFirewallAdminStateIsUp == null
-                            || queryFirewallAdminStateIsUp.equals(nsg.getFirewallAdminStateIsUp()))
-                    && (queryFirewallIsShared == null || queryFirewallIsShared.equals(nsg.getFirewallIsShared()))
-                    && (queryFirewallPolicyID == null || queryFirewallPolicyID.equals(nsg.getFirewallPolicyID()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronFirewallRequest(ans)).build();
+        NeutronFilter<NeutronFirewall> filter = new NeutronFilter<NeutronFirewall>()
+                .eq(NeutronFilter.ID, NeutronFirewall::getID, queryFirewallUUID)
+                .eq(NeutronFilter.TENANT_ID, NeutronFirewall::getTenantID, queryFirewallTenantID)
+                .eq("name", NeutronFirewall::getName, queryFirewallName)
+                .eq("admin_state_up", NeutronFirewall::getFirewallAdminStateIsUp, queryFirewallAdminStateIsUp)
+                .eq("shared", NeutronFirewall::getFirewallIsShared, queryFirewallIsShared)
+                .eq("firewall_policy_id", NeutronFirewall::getFirewallPolicyID, queryFirewallPolicyID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
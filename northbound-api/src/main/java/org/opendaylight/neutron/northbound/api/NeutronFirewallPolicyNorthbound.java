@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronFirewallPolicyCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronFirewallPolicy;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Firewall Policies.<br>
@@ -48,6 +52,9 @@ import org.opendaylight.neutron.spi.NeutronFirewallPolicy;
 public final class NeutronFirewallPolicyNorthbound extends
         AbstractNeutronNorthbound<NeutronFirewallPolicy, NeutronFirewallPolicyRequest, INeutronFirewallPolicyCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Firewall Policy";
 
     @Override
@@ -75,30 +82,21 @@ public final class NeutronFirewallPolicyNorthbound extends
             @QueryParam("shared") Boolean querySecurityPolicyIsShared,
             @QueryParam("audited") Boolean querySecurityPolicyIsAudited,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronFirewallPolicyCRUD firewallPolicyInterface = getNeutronCRUD();
-        List<NeutronFirewallPolicy> ans = new ArrayList<>();
-        for (NeutronFirewallPolicy nsg : firewallPolicyInterface.getAll()) {
-            if ((queryFirewallPolicyUUID == null || queryFirewallPolicyUUID.equals(nsg.getID()))
-                    && (queryFirewallPolicyTenantID == null || queryFirewallPolicyTenantID.equals(nsg.getTenantID()))
-                    && (queryFirewallPolicyName == null || queryFirewallPolicyName.equals(nsg.getName()))
-                    && (querySecurityPolicyIsShared == null
-                            || querySecurityPolicyIsShared.equals(nsg.getFirewallPolicyIsShared()))
-                    && (querySecurityPolicyIsAudited == null
-                            || querySecurityPolicyIsAudited.equals(nsg.getFirewallPolicyIsAudited()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronFirewallPolicyRequest(ans)).build();
+        NeutronFilter<NeutronFirewallPolicy> filter = new NeutronFilter<NeutronFirewallPolicy>()
+                .eq(NeutronFilter.ID, NeutronFirewallPolicy::getID, queryFirewallPolicyUUID)
+                .eq(NeutronFilter.TENANT_ID, NeutronFirewallPolicy::getTenantID, queryFirewallPolicyTenantID)
+                .eq("name", NeutronFirewallPolicy::getName, queryFirewallPolicyName)
+                .eq("shared", NeutronFirewallPolicy::getFirewallPolicyIsShared, querySecurityPolicyIsShared)
+                .eq("audited", NeutronFirewallPolicy::getFirewallPolicyIsAudited, querySecurityPolicyIsAudited);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -30,9 +30,17 @@ public final class NeutronFirewallRuleRequest implements INeutronRequest<Neutron
     @XmlElement(name = "firewall_rules")
     List<NeutronFirewallRule> bulkRequest;
 
+    @XmlElement(name = "firewall_rules_links")
+    List<NeutronPageLink> links;
+
     NeutronFirewallRuleRequest() {
     }
 
+    NeutronFirewallRuleRequest(List<NeutronFirewallRule> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronFirewallRuleRequest(List<NeutronFirewallRule> bulk) {
         bulkRequest = bulk;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronFirewallRuleCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronFirewallRule;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Firewall Rule.<br>
@@ -47,6 +51,9 @@ import org.opendaylight.neutron.spi.NeutronFirewallRule;
 @Path("fw/firewall_rules")
 public final class NeutronFirewallRulesNorthbound
         extends AbstractNeutronNorthbound<NeutronFirewallRule, NeutronFirewallRuleRequest, INeutronFirewallRuleCRUD> {
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Firewall Rule";
 
     @Override
@@ -84,50 +91,36 @@ public final class NeutronFirewallRulesNorthbound
             @QueryParam("action") String queryFirewallRuleAction,
             @QueryParam("enabled") Boolean queryFirewallRuleIsEnabled,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronFirewallRuleCRUD firewallRuleInterface = getNeutronCRUD();
-        List<NeutronFirewallRule> ans = new ArrayList<>();
-        for (NeutronFirewallRule nsr : firewallRuleInterface.getAll()) {
-            if ((queryFirewallRuleUUID == null || queryFirewallRuleUUID.equals(nsr.getID()))
-                    && (queryFirewallRuleTenantID == null || queryFirewallRuleTenantID.equals(nsr.getTenantID()))
-                    && (queryFirewallRuleName == null || queryFirewallRuleName.equals(nsr.getName()))
-                    && (queryFirewallRuleIsShared == null
-                            || queryFirewallRuleIsShared.equals(nsr.getFirewallRuleIsShared()))
-                    && (queryFirewallRulePolicyID == null
-                            || queryFirewallRulePolicyID.equals(nsr.getFirewallRulePolicyID()))
-                    && (queryFirewallRuleProtocol == null
-                            || queryFirewallRuleProtocol.equals(nsr.getFirewallRuleProtocol()))
-                    && (queryFirewallRuleIpVer == null || queryFirewallRuleIpVer.equals(nsr.getFirewallRuleIpVer()))
-                    && (queryFirewallRuleSrcIpAddr == null
-                            || queryFirewallRuleSrcIpAddr.equals(nsr.getFirewallRuleSrcIpAddr()))
-                    && (queryFirewallRuleDstIpAddr == null
-                            || queryFirewallRuleDstIpAddr.equals(nsr.getFirewallRuleDstIpAddr()))
-                    && (queryFirewallRuleSrcPortRangeMin == null
-                            || queryFirewallRuleSrcPortRangeMin.equals(nsr.getFirewallRuleSrcPortRangeMin()))
-                    && (queryFirewallRuleSrcPortRangeMax == null
-                            || queryFirewallRuleSrcPortRangeMax.equals(nsr.getFirewallRuleSrcPortRangeMax()))
-                    && (queryFirewallRuleDstPortRangeMin == null
-                            || queryFirewallRuleDstPortRangeMin.equals(nsr.getFirewallRuleDstPortRangeMin()))
-                    && (queryFirewallRuleDstPortRangeMax == null
-                            || queryFirewallRuleDstPortRangeMax.equals(nsr.getFirewallRuleDstPortRangeMax()))
-                    && (queryFirewallRulePosition == null
-                            || queryFirewallRulePosition.equals(nsr.getFirewallRulePosition()))
-                    && (queryFirewallRuleAction == null || queryFirewallRuleAction.equals(nsr.getFirewallRuleAction()))
-                    && (queryFirewallRuleIsEnabled == null
-                            || queryFirewallRuleIsEnabled.equals(nsr.getFirewallRuleIsEnabled()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsr.extractFields(fields));
-                } else {
-                    ans.add(nsr);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronFirewallRuleRequest(ans)).build();
+        NeutronFilter<NeutronFirewallRule> filter = new NeutronFilter<NeutronFirewallRule>()
+                .eq(NeutronFilter.ID, NeutronFirewallRule::getID, queryFirewallRuleUUID)
+                .eq(NeutronFilter.TENANT_ID, NeutronFirewallRule::getTenantID, queryFirewallRuleTenantID)
+                .eq("name", NeutronFirewallRule::getName, queryFirewallRuleName)
+                .eq("shared", NeutronFirewallRule::getFirewallRuleIsShared, queryFirewallRuleIsShared)
+                .eq("firewall_policy_id", NeutronFirewallRule::getFirewallRulePolicyID, queryFirewallRulePolicyID)
+                .eq("protocol", NeutronFirewallRule::getFirewallRuleProtocol, queryFirewallRuleProtocol)
+                .eq("ip_version", NeutronFirewallRule::getFirewallRuleIpVer, queryFirewallRuleIpVer)
+                .eq("source_ip_address", NeutronFirewallRule::getFirewallRuleSrcIpAddr, queryFirewallRuleSrcIpAddr)
+                .eq("destination_ip_address", NeutronFirewallRule::getFirewallRuleDstIpAddr, queryFirewallRuleDstIpAddr)
+                .eq("source_port_range_min", NeutronFirewallRule::getFirewallRuleSrcPortRangeMin,
+                        queryFirewallRuleSrcPortRangeMin)
+                .eq("source_port_range_max", NeutronFirewallRule::getFirewallRuleSrcPortRangeMax,
+                        queryFirewallRuleSrcPortRangeMax)
+                .eq("destination_port_range_min", NeutronFirewallRule::getFirewallRuleDstPortRangeMin,
+                        queryFirewallRuleDstPortRangeMin)
+                .eq("destination_port_range_max", NeutronFirewallRule::getFirewallRuleDstPortRangeMax,
+                        queryFirewallRuleDstPortRangeMax)
+                .eq("position", NeutronFirewallRule::getFirewallRulePosition, queryFirewallRulePosition)
+                .eq("action", NeutronFirewallRule::getFirewallRuleAction, queryFirewallRuleAction)
+                .eq("enabled", NeutronFirewallRule::getFirewallRuleIsEnabled, queryFirewallRuleIsEnabled);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
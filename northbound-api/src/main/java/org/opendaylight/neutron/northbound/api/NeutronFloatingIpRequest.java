@@ -27,9 +27,17 @@ public final class NeutronFloatingIpRequest implements INeutronRequest<NeutronFl
     @XmlElement(name = "floatingips")
     List<NeutronFloatingIp> bulkRequest;
 
+    @XmlElement(name = "floatingips_links")
+    List<NeutronPageLink> links;
+
     NeutronFloatingIpRequest() {
     }
 
+    NeutronFloatingIpRequest(List<NeutronFloatingIp> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronFloatingIpRequest(List<NeutronFloatingIp> bulk) {
         bulkRequest = bulk;
     }
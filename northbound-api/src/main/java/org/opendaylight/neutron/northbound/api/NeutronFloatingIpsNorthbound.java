@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronFloatingIpCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronFloatingIp;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs.<br>
@@ -48,6 +52,9 @@ import org.opendaylight.neutron.spi.NeutronFloatingIp;
 @Path("/floatingips")
 public final class NeutronFloatingIpsNorthbound
         extends AbstractNeutronNorthbound<NeutronFloatingIp, NeutronFloatingIpRequest, INeutronFloatingIpCRUD> {
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Floating IP";
 
     @Override
@@ -78,35 +85,25 @@ public final class NeutronFloatingIpsNorthbound
             @QueryParam("router_id") String queryRouterID,
             @QueryParam("status") String queryStatus,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronFloatingIpCRUD floatingIpInterface = getNeutronCRUD();
-        List<NeutronFloatingIp> allFloatingIps = floatingIpInterface.getAll();
-        List<NeutronFloatingIp> ans = new ArrayList<>();
-        for (NeutronFloatingIp floatingIp : allFloatingIps) {
-            //match filters: TODO provider extension and router extension
-            if ((queryID == null || queryID.equals(floatingIp.getID()))
-                    && (queryFloatingNetworkId == null
-                        || queryFloatingNetworkId.equals(floatingIp.getFloatingNetworkUUID()))
-                    && (queryPortId == null || queryPortId.equals(floatingIp.getPortUUID()))
-                    && (queryFixedIpAddress == null || queryFixedIpAddress.equals(floatingIp.getFixedIpAddress()))
-                    && (queryFloatingIpAddress == null
-                        || queryFloatingIpAddress.equals(floatingIp.getFloatingIpAddress()))
-                    && (queryStatus == null || queryStatus.equals(floatingIp.getStatus()))
-                    && (queryRouterID == null || queryRouterID.equals(floatingIp.getRouterUUID()))
-                    && (queryTenantID == null || queryTenantID.equals(floatingIp.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(floatingIp.extractFields(fields));
-                } else {
-                    ans.add(floatingIp);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronFloatingIpRequest(ans)).build();
+        //match filters: TODO provider extension and router extension
+        NeutronFilter<NeutronFloatingIp> filter = new NeutronFilter<NeutronFloatingIp>()
+                .eq(NeutronFilter.ID, NeutronFloatingIp::getID, queryID)
+                .eq("floating_network_id", NeutronFloatingIp::getFloatingNetworkUUID, queryFloatingNetworkId)
+                .eq("port_id", NeutronFloatingIp::getPortUUID, queryPortId)
+                .eq("fixed_ip_address", NeutronFloatingIp::getFixedIpAddress, queryFixedIpAddress)
+                .eq("floating_ip_address", NeutronFloatingIp::getFloatingIpAddress, queryFloatingIpAddress)
+                .eq("status", NeutronFloatingIp::getStatus, queryStatus)
+                .eq("router_id", NeutronFloatingIp::getRouterUUID, queryRouterID)
+                .eq(NeutronFilter.TENANT_ID, NeutronFloatingIp::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
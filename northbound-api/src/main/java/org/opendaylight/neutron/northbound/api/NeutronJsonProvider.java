@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.northbound.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import org.eclipse.persistence.jaxb.rs.MOXyJsonProvider;
+import org.opendaylight.neutron.spi.NeutronMetrics;
+
+/**
+ * {@code MOXyJsonProvider} which records in {@link NeutronMetrics} the time
+ * spent marshalling responses and unmarshalling requests, under the simple
+ * name of the request class.
+ */
+@Produces({ MediaType.APPLICATION_JSON, MediaType.WILDCARD, "application/x-javascript" })
+@Consumes({ MediaType.APPLICATION_JSON, MediaType.WILDCARD })
+public class NeutronJsonProvider extends MOXyJsonProvider {
+
+    @Override
+    public void writeTo(Object object, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException {
+        final long start = NeutronMetrics.start();
+        boolean success = false;
+        try {
+            super.writeTo(object, type, genericType, annotations, mediaType, httpHeaders, entityStream);
+            success = true;
+        } finally {
+            NeutronMetrics.stop(type.getSimpleName(), "marshal", start, success);
+        }
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        final long start = NeutronMetrics.start();
+        boolean success = false;
+        try {
+            final Object object = super.readFrom(type, genericType, annotations, mediaType, httpHeaders,
+                    entityStream);
+            success = true;
+            return object;
+        } finally {
+            NeutronMetrics.stop(type.getSimpleName(), "unmarshal", start, success);
+        }
+    }
+}
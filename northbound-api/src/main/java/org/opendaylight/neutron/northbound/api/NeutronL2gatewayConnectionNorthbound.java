@@ -9,22 +9,26 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronL2gatewayConnectionCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronL2gatewayConnection;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +55,9 @@ public final class NeutronL2gatewayConnectionNorthbound extends AbstractNeutronN
 
     static final Logger LOG = LoggerFactory.getLogger(NeutronL2gatewayConnectionNorthbound.class);
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "L2gatewayConnection";
 
     @Override
@@ -99,30 +106,23 @@ public final class NeutronL2gatewayConnectionNorthbound extends AbstractNeutronN
             @QueryParam("network_id") String queryNetworkID,
             @QueryParam("segment_id") String querySegmentID,
             @QueryParam("port_id") String queryPortID,
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronL2gatewayConnectionCRUD l2gatewayConnectionInterface = getNeutronCRUD();
-        List<NeutronL2gatewayConnection> allL2gatewayConnections = l2gatewayConnectionInterface.getAll();
-        List<NeutronL2gatewayConnection> ans = new ArrayList<>();
-        for (NeutronL2gatewayConnection connection : allL2gatewayConnections) {
-            if ((queryTenantID == null || queryTenantID.equals(connection.getTenantID()))
-                    && (queryConnectionID == null || queryConnectionID.equals(connection.getID()))
-                    && (queryL2gatewayID == null || queryL2gatewayID.equals(connection.getL2gatewayID()))
-                    && (queryNetworkID == null || queryNetworkID.equals(connection.getNetworkID()))
-                    && (querySegmentID == null || (Integer.valueOf(querySegmentID).equals(connection.getSegmentID())))
-                    && (queryPortID == null || queryPortID.equals(connection.getPortID()))) {
-                if (fields.size() > 0) {
-                    ans.add(connection.extractFields(fields));
-                } else {
-                    ans.add(connection);
-                }
-            }
-        }
-        // TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronL2gatewayConnectionRequest(ans)).build();
+        Integer segmentID = querySegmentID != null ? Integer.valueOf(querySegmentID) : null;
+        NeutronFilter<NeutronL2gatewayConnection> filter = new NeutronFilter<NeutronL2gatewayConnection>()
+                .eq(NeutronFilter.TENANT_ID, NeutronL2gatewayConnection::getTenantID, queryTenantID)
+                .eq(NeutronFilter.ID, NeutronL2gatewayConnection::getID, queryConnectionID)
+                .eq("l2gateway_id", NeutronL2gatewayConnection::getL2gatewayID, queryL2gatewayID)
+                .eq("network_id", NeutronL2gatewayConnection::getNetworkID, queryNetworkID)
+                .eq("segment_id", NeutronL2gatewayConnection::getSegmentID, segmentID)
+                .eq("port_id", NeutronL2gatewayConnection::getPortID, queryPortID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
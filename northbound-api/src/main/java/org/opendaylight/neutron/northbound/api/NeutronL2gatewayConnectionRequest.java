@@ -24,9 +24,17 @@ public final class NeutronL2gatewayConnectionRequest implements INeutronRequest<
     @XmlElement(name = "l2gateway_connections")
     List<NeutronL2gatewayConnection> bulkRequest;
 
+    @XmlElement(name = "l2gateway_connections_links")
+    List<NeutronPageLink> links;
+
     NeutronL2gatewayConnectionRequest() {
     }
 
+    NeutronL2gatewayConnectionRequest(List<NeutronL2gatewayConnection> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronL2gatewayConnectionRequest(NeutronL2gatewayConnection l2gatewayConnection) {
         this.singleton = l2gatewayConnection;
     }
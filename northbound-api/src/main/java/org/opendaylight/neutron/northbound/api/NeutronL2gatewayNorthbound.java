@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -19,12 +19,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronL2gatewayCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronL2gateway;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,6 +54,9 @@ public final class NeutronL2gatewayNorthbound
         extends AbstractNeutronNorthbound<NeutronL2gateway, NeutronL2gatewayRequest, INeutronL2gatewayCRUD> {
     static final Logger LOG = LoggerFactory.getLogger(NeutronL2gatewayNorthbound.class);
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "L2gateway";
 
     @Override
@@ -97,27 +104,19 @@ public final class NeutronL2gatewayNorthbound
             @QueryParam("tenant_id") String queryTenantID,
             @QueryParam("devices") String queryNeutronL2gatewayDevice,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronL2gatewayCRUD l2gatewayInterface = getNeutronCRUD();
-        List<NeutronL2gateway> allL2gateways = l2gatewayInterface.getAll();
-        List<NeutronL2gateway> ans = new ArrayList<>();
-        for (NeutronL2gateway l2gateway : allL2gateways) {
-            if ((queryID == null || queryID.equals(l2gateway.getID()))
-                    && (queryName == null || queryName.equals(l2gateway.getName()))
-                    && (queryTenantID == null || queryTenantID.equals(l2gateway.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(l2gateway.extractFields(fields));
-                } else {
-                    ans.add(l2gateway);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronL2gatewayRequest(ans)).build();
+        NeutronFilter<NeutronL2gateway> filter = new NeutronFilter<NeutronL2gateway>()
+                .eq(NeutronFilter.ID, NeutronL2gateway::getID, queryID)
+                .eq("name", NeutronL2gateway::getName, queryName)
+                .eq(NeutronFilter.TENANT_ID, NeutronL2gateway::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
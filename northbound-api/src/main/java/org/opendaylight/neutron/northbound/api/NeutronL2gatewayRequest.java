@@ -19,9 +19,17 @@ public final class NeutronL2gatewayRequest implements INeutronRequest<NeutronL2g
     @XmlElement(name = "l2_gateways")
     List<NeutronL2gateway> bulkRequest;
 
+    @XmlElement(name = "l2_gateways_links")
+    List<NeutronPageLink> links;
+
     NeutronL2gatewayRequest() {
     }
 
+    NeutronL2gatewayRequest(List<NeutronL2gateway> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronL2gatewayRequest(NeutronL2gateway l2gateway) {
         this.singleton = l2gateway;
     }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.northbound.api;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.MarshallerProperties;
+import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.neutron.spi.NeutronMetrics;
+
+/**
+ * List response which is written object by object.
+ *
+ * <p>
+ * Marshalling a request object with {@code MOXyJsonProvider} holds the whole
+ * JSON document in memory next to the objects. This output writes the
+ * envelope of the request object itself and marshals one object at a time
+ * straight to the response stream, so the memory needed beyond the objects
+ * does not grow with their number. The JSON is the same as for the request
+ * object, up to whitespace. Like {@link NeutronJsonProvider}, it records the
+ * time spent writing in {@link NeutronMetrics}.
+ *
+ * @param <T> neutron object type
+ */
+final class NeutronListStreamingOutput<T extends INeutronObject<T>> implements StreamingOutput {
+
+    // with the root element left out the name is never written
+    private static final QName ITEM_NAME = new QName("item");
+    private static final ConcurrentMap<Class<?>, Layout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private final Layout layout;
+    private final String requestName;
+    private final Class<T> objectClass;
+    private final List<T> items;
+    private final List<NeutronPageLink> links;
+
+    /**
+     * Creates the output of a list response.
+     *
+     * @param requestClass request class whose JSON layout is reproduced
+     * @param objectClass class of the listed objects
+     * @param items objects to write
+     * @param links page links, null if the list is not paged
+     */
+    NeutronListStreamingOutput(Class<? extends INeutronRequest<T>> requestClass, Class<T> objectClass,
+            List<T> items, List<NeutronPageLink> links) {
+        this.layout = LAYOUTS.computeIfAbsent(requestClass, cls -> new Layout(cls, objectClass));
+        this.requestName = requestClass.getSimpleName();
+        this.objectClass = objectClass;
+        this.items = items;
+        this.links = links;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        final long start = NeutronMetrics.start();
+        boolean success = false;
+        try {
+            writeList(output);
+            success = true;
+        } finally {
+            NeutronMetrics.stop(requestName, "marshal", start, success);
+        }
+    }
+
+    private void writeList(OutputStream output) throws IOException {
+        final boolean formatted = NeutronNorthboundRSApplication.isFormattedOutput();
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try {
+            final Marshaller marshaller = layout.createMarshaller(formatted);
+            writer.write('{');
+            writeName(writer, layout.itemsName, formatted);
+            writer.write('[');
+            boolean first = true;
+            for (final T item : items) {
+                first = writeSeparator(writer, first, formatted);
+                marshaller.marshal(new JAXBElement<>(ITEM_NAME, objectClass, item), writer);
+            }
+            writer.write(']');
+            if (links != null && layout.linksName != null) {
+                writer.write(',');
+                writeName(writer, layout.linksName, formatted);
+                writer.write('[');
+                first = true;
+                for (final NeutronPageLink link : links) {
+                    first = writeSeparator(writer, first, formatted);
+                    marshaller.marshal(new JAXBElement<>(ITEM_NAME, NeutronPageLink.class, link), writer);
+                }
+                writer.write(']');
+            }
+            if (formatted) {
+                writer.write('\n');
+            }
+            writer.write('}');
+        } catch (JAXBException e) {
+            throw new IOException("Failed to marshal " + objectClass.getSimpleName() + " list", e);
+        }
+        writer.flush();
+    }
+
+    private static void writeName(Writer writer, String name, boolean formatted) throws IOException {
+        writer.write(formatted ? "\n   \"" : "\"");
+        writer.write(name);
+        writer.write(formatted ? "\" : " : "\":");
+    }
+
+    private static boolean writeSeparator(Writer writer, boolean first, boolean formatted) throws IOException {
+        if (!first) {
+            writer.write(',');
+        }
+        if (formatted) {
+            writer.write(' ');
+        }
+        return false;
+    }
+
+    /**
+     * JSON element names and marshalling context of one request class.
+     */
+    private static final class Layout {
+        private final String itemsName;
+        private final String linksName;
+        private final JAXBContext context;
+
+        Layout(Class<?> requestClass, Class<?> objectClass) {
+            final NeutronRequestMetadata metadata = NeutronRequestMetadata.of(requestClass);
+            this.itemsName = metadata.getBulkName();
+            this.linksName = metadata.getLinksName();
+            try {
+                this.context = JAXBContextFactory.createContext(
+                        new Class<?>[] { objectClass, NeutronPageLink.class }, null);
+            } catch (JAXBException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        Marshaller createMarshaller(boolean formatted) throws JAXBException {
+            final Marshaller marshaller = context.createMarshaller();
+            marshaller.setProperty(MarshallerProperties.MEDIA_TYPE, MediaType.APPLICATION_JSON);
+            marshaller.setProperty(MarshallerProperties.JSON_INCLUDE_ROOT, false);
+            marshaller.setProperty(MarshallerProperties.JSON_ATTRIBUTE_PREFIX,
+                    NeutronNorthboundRSApplication.ATTRIBUTE_PREFIX);
+            marshaller.setProperty(MarshallerProperties.JSON_VALUE_WRAPPER,
+                    NeutronNorthboundRSApplication.VALUE_WRAPPER);
+            marshaller.setProperty(MarshallerProperties.JSON_MARSHAL_EMPTY_COLLECTIONS, true);
+            marshaller.setProperty(MarshallerProperties.NAMESPACE_PREFIX_MAPPER,
+                    NeutronNorthboundRSApplication.getNamespacePrefixMapper());
+            marshaller.setProperty(MarshallerProperties.JSON_NAMESPACE_SEPARATOR,
+                    NeutronNorthboundRSApplication.NAMESPACE_SEPARATOR);
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formatted);
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            return marshaller;
+        }
+    }
+}
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronLoadBalancerHealthMonitorCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronLoadBalancerHealthMonitor;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Load Balancer HealthMonitor.<br>
@@ -49,6 +53,9 @@ public final class NeutronLoadBalancerHealthMonitorNorthbound
         extends AbstractNeutronNorthbound<NeutronLoadBalancerHealthMonitor, NeutronLoadBalancerHealthMonitorRequest,
                 INeutronLoadBalancerHealthMonitorCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "LoadBalancerHealthMonitor";
 
     @Override
@@ -82,46 +89,35 @@ public final class NeutronLoadBalancerHealthMonitorNorthbound
             @QueryParam("expected_codes") String queryLoadBalancerHealthMonitorExpectedCodes,
             @QueryParam("admin_state_up") Boolean queryLoadBalancerHealthMonitorIsAdminStateUp,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronLoadBalancerHealthMonitorCRUD loadBalancerHealthMonitorInterface = getNeutronCRUD();
-        List<NeutronLoadBalancerHealthMonitor> allLoadBalancerHealthMonitors = loadBalancerHealthMonitorInterface
-                .getAll();
-        List<NeutronLoadBalancerHealthMonitor> ans = new ArrayList<>();
-        for (NeutronLoadBalancerHealthMonitor nsg : allLoadBalancerHealthMonitors) {
-            if ((queryLoadBalancerHealthMonitorID == null || queryLoadBalancerHealthMonitorID.equals(nsg.getID()))
-                    && (queryLoadBalancerHealthMonitorTenantID == null
-                            || queryLoadBalancerHealthMonitorTenantID.equals(nsg.getTenantID()))
-                    && (queryLoadBalancerHealthMonitorType == null
-                            || queryLoadBalancerHealthMonitorType.equals(nsg.getLoadBalancerHealthMonitorType()))
-                    && (queryLoadBalancerHealthMonitorDelay == null
-                            || queryLoadBalancerHealthMonitorDelay.equals(nsg.getLoadBalancerHealthMonitorDelay()))
-                    && (queryLoadBalancerHealthMonitorTimeout == null
-                            || queryLoadBalancerHealthMonitorTimeout.equals(nsg.getLoadBalancerHealthMonitorTimeout()))
-                    && (queryLoadBalancerHealthMonitorMaxRetries == null || queryLoadBalancerHealthMonitorMaxRetries
-                            .equals(nsg.getLoadBalancerHealthMonitorMaxRetries()))
-                    && (queryLoadBalancerHealthMonitorHttpMethod == null || queryLoadBalancerHealthMonitorHttpMethod
-                            .equals(nsg.getLoadBalancerHealthMonitorHttpMethod()))
-                    && (queryLoadBalancerHealthMonitorUrlPath == null
-                            || queryLoadBalancerHealthMonitorUrlPath.equals(nsg.getLoadBalancerHealthMonitorUrlPath()))
-                    && (queryLoadBalancerHealthMonitorExpectedCodes == null
-                            || queryLoadBalancerHealthMonitorExpectedCodes
-                                    .equals(nsg.getLoadBalancerHealthMonitorExpectedCodes()))
-                    && (queryLoadBalancerHealthMonitorIsAdminStateUp == null
-                            || queryLoadBalancerHealthMonitorIsAdminStateUp
-                                    .equals(nsg.getLoadBalancerHealthMonitorAdminStateIsUp()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronLoadBalancerHealthMonitorRequest(ans))
-                .build();
+        NeutronFilter<NeutronLoadBalancerHealthMonitor> filter = new NeutronFilter<NeutronLoadBalancerHealthMonitor>()
+                .eq(NeutronFilter.ID, NeutronLoadBalancerHealthMonitor::getID, queryLoadBalancerHealthMonitorID)
+                .eq(NeutronFilter.TENANT_ID, NeutronLoadBalancerHealthMonitor::getTenantID,
+                        queryLoadBalancerHealthMonitorTenantID)
+                .eq("type", NeutronLoadBalancerHealthMonitor::getLoadBalancerHealthMonitorType,
+                        queryLoadBalancerHealthMonitorType)
+                .eq("delay", NeutronLoadBalancerHealthMonitor::getLoadBalancerHealthMonitorDelay,
+                        queryLoadBalancerHealthMonitorDelay)
+                .eq("timeout", NeutronLoadBalancerHealthMonitor::getLoadBalancerHealthMonitorTimeout,
+                        queryLoadBalancerHealthMonitorTimeout)
+                .eq("max_retries", NeutronLoadBalancerHealthMonitor::getLoadBalancerHealthMonitorMaxRetries,
+                        queryLoadBalancerHealthMonitorMaxRetries)
+                .eq("http_method", NeutronLoadBalancerHealthMonitor::getLoadBalancerHealthMonitorHttpMethod,
+                        queryLoadBalancerHealthMonitorHttpMethod)
+                .eq("url_path", NeutronLoadBalancerHealthMonitor::getLoadBalancerHealthMonitorUrlPath,
+                        queryLoadBalancerHealthMonitorUrlPath)
+                .eq("expected_codes", NeutronLoadBalancerHealthMonitor::getLoadBalancerHealthMonitorExpectedCodes,
+                        queryLoadBalancerHealthMonitorExpectedCodes)
+                .eq("admin_state_up", NeutronLoadBalancerHealthMonitor::getLoadBalancerHealthMonitorAdminStateIsUp,
+                        queryLoadBalancerHealthMonitorIsAdminStateUp);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
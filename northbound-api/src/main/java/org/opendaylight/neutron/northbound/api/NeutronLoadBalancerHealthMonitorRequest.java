@@ -30,9 +30,18 @@ public final class NeutronLoadBalancerHealthMonitorRequest
     @XmlElement(name = "healthmonitors")
     List<NeutronLoadBalancerHealthMonitor> bulkRequest;
 
+    @XmlElement(name = "healthmonitors_links")
+    List<NeutronPageLink> links;
+
     NeutronLoadBalancerHealthMonitorRequest() {
     }
 
+    NeutronLoadBalancerHealthMonitorRequest(List<NeutronLoadBalancerHealthMonitor> bulkRequest,
+            List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronLoadBalancerHealthMonitorRequest(List<NeutronLoadBalancerHealthMonitor> bulk) {
         bulkRequest = bulk;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronLoadBalancerListenerCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronLoadBalancerListener;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for LoadBalancerListener Policies.<br>
@@ -48,6 +52,9 @@ import org.opendaylight.neutron.spi.NeutronLoadBalancerListener;
 public final class NeutronLoadBalancerListenerNorthbound extends AbstractNeutronNorthbound<NeutronLoadBalancerListener,
         NeutronLoadBalancerListenerRequest, INeutronLoadBalancerListenerCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "LoadBalancerListener";
 
     @Override
@@ -77,36 +84,28 @@ public final class NeutronLoadBalancerListenerNorthbound extends AbstractNeutron
             @QueryParam("protocol_port") String queryLoadBalancerListenerProtocolPort,
             @QueryParam("admin_state_up") Boolean queryLoadBalancerListenerAdminIsUp,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronLoadBalancerListenerCRUD loadBalancerListenerInterface = getNeutronCRUD();
-        List<NeutronLoadBalancerListener> allLoadBalancerListeners = loadBalancerListenerInterface.getAll();
-        List<NeutronLoadBalancerListener> ans = new ArrayList<>();
-        for (NeutronLoadBalancerListener nsg : allLoadBalancerListeners) {
-            if ((queryLoadBalancerListenerID == null || queryLoadBalancerListenerID.equals(nsg.getID()))
-                    && (queryLoadBalancerListenerDefaultPoolID == null || queryLoadBalancerListenerDefaultPoolID
-                            .equals(nsg.getNeutronLoadBalancerListenerDefaultPoolID()))
-                    && (queryLoadBalancerListenerTenantID == null
-                            || queryLoadBalancerListenerTenantID.equals(nsg.getTenantID()))
-                    && (queryLoadBalancerListenerName == null
-                            || queryLoadBalancerListenerName.equals(nsg.getName()))
-                    && (queryLoadBalancerListenerProtocol == null
-                            || queryLoadBalancerListenerProtocol.equals(nsg.getNeutronLoadBalancerListenerProtocol()))
-                    && (queryLoadBalancerListenerProtocolPort == null || queryLoadBalancerListenerProtocolPort
-                            .equals(nsg.getNeutronLoadBalancerListenerProtocolPort()))
-                    && (queryLoadBalancerListenerAdminIsUp == null || queryLoadBalancerListenerAdminIsUp
-                            .equals(nsg.getLoadBalancerListenerAdminStateIsUp()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronLoadBalancerListenerRequest(ans)).build();
+        NeutronFilter<NeutronLoadBalancerListener> filter = new NeutronFilter<NeutronLoadBalancerListener>()
+                .eq(NeutronFilter.ID, NeutronLoadBalancerListener::getID, queryLoadBalancerListenerID)
+                .eq("default_pool_id", NeutronLoadBalancerListener::getNeutronLoadBalancerListenerDefaultPoolID,
+                        queryLoadBalancerListenerDefaultPoolID)
+                .eq(NeutronFilter.TENANT_ID, NeutronLoadBalancerListener::getTenantID,
+                        queryLoadBalancerListenerTenantID)
+                .eq("name", NeutronLoadBalancerListener::getName, queryLoadBalancerListenerName)
+                .eq("protocol", NeutronLoadBalancerListener::getNeutronLoadBalancerListenerProtocol,
+                        queryLoadBalancerListenerProtocol)
+                .eq("protocol_port", NeutronLoadBalancerListener::getNeutronLoadBalancerListenerProtocolPort,
+                        queryLoadBalancerListenerProtocolPort)
+                .eq("admin_state_up", NeutronLoadBalancerListener::getLoadBalancerListenerAdminStateIsUp,
+                        queryLoadBalancerListenerAdminIsUp);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
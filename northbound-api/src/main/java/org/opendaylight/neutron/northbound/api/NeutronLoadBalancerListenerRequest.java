@@ -29,9 +29,17 @@ public final class NeutronLoadBalancerListenerRequest implements INeutronRequest
     @XmlElement(name = "listeners")
     List<NeutronLoadBalancerListener> bulkRequest;
 
+    @XmlElement(name = "listeners_links")
+    List<NeutronPageLink> links;
+
     NeutronLoadBalancerListenerRequest() {
     }
 
+    NeutronLoadBalancerListenerRequest(List<NeutronLoadBalancerListener> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronLoadBalancerListenerRequest(List<NeutronLoadBalancerListener> bulk) {
         bulkRequest = bulk;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronLoadBalancerCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronLoadBalancer;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for LoadBalancers.<br>
@@ -48,6 +52,9 @@ import org.opendaylight.neutron.spi.NeutronLoadBalancer;
 public final class NeutronLoadBalancerNorthbound
         extends AbstractNeutronNorthbound<NeutronLoadBalancer, NeutronLoadBalancerRequest, INeutronLoadBalancerCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "LoadBalancer";
 
     @Override
@@ -76,30 +83,21 @@ public final class NeutronLoadBalancerNorthbound
             @QueryParam("vip_address") String queryLoadBalancerVipAddress,
             @QueryParam("vip_subnet") String queryLoadBalancerVipSubnet,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronLoadBalancerCRUD loadBalancerInterface = getNeutronCRUD();
-        List<NeutronLoadBalancer> allLoadBalancers = loadBalancerInterface.getAll();
-        List<NeutronLoadBalancer> ans = new ArrayList<>();
-        for (NeutronLoadBalancer nsg : allLoadBalancers) {
-            if ((queryLoadBalancerID == null || queryLoadBalancerID.equals(nsg.getID()))
-                    && (queryLoadBalancerTenantID == null || queryLoadBalancerTenantID.equals(nsg.getTenantID()))
-                    && (queryLoadBalancerName == null || queryLoadBalancerName.equals(nsg.getName()))
-                    && (queryLoadBalancerVipAddress == null
-                            || queryLoadBalancerVipAddress.equals(nsg.getLoadBalancerVipAddress()))
-                    && (queryLoadBalancerVipSubnet == null
-                            || queryLoadBalancerVipSubnet.equals(nsg.getLoadBalancerVipSubnetID()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronLoadBalancerRequest(ans)).build();
+        NeutronFilter<NeutronLoadBalancer> filter = new NeutronFilter<NeutronLoadBalancer>()
+                .eq(NeutronFilter.ID, NeutronLoadBalancer::getID, queryLoadBalancerID)
+                .eq(NeutronFilter.TENANT_ID, NeutronLoadBalancer::getTenantID, queryLoadBalancerTenantID)
+                .eq("name", NeutronLoadBalancer::getName, queryLoadBalancerName)
+                .eq("vip_address", NeutronLoadBalancer::getLoadBalancerVipAddress, queryLoadBalancerVipAddress)
+                .eq("vip_subnet", NeutronLoadBalancer::getLoadBalancerVipSubnetID, queryLoadBalancerVipSubnet);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
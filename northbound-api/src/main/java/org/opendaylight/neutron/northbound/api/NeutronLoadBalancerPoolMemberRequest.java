@@ -24,9 +24,17 @@ public final class NeutronLoadBalancerPoolMemberRequest implements INeutronReque
     @XmlElement(name = "members")
     List<NeutronLoadBalancerPoolMember> bulkRequest;
 
+    @XmlElement(name = "members_links")
+    List<NeutronPageLink> links;
+
     NeutronLoadBalancerPoolMemberRequest() {
     }
 
+    NeutronLoadBalancerPoolMemberRequest(List<NeutronLoadBalancerPoolMember> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronLoadBalancerPoolMemberRequest(List<NeutronLoadBalancerPoolMember> bulk) {
         bulkRequest = bulk;
     }
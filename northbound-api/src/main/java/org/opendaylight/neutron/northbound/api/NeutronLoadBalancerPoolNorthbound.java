@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,13 +21,17 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronLoadBalancerPoolCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronLoadBalancerPool;
 import org.opendaylight.neutron.spi.NeutronLoadBalancerPoolMember;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for LoadBalancerPool Policies.<br>
@@ -55,6 +60,9 @@ import org.opendaylight.neutron.spi.NeutronLoadBalancerPoolMember;
 public final class NeutronLoadBalancerPoolNorthbound extends AbstractNeutronNorthbound<NeutronLoadBalancerPool,
         NeutronLoadBalancerPoolRequest, INeutronLoadBalancerPoolCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "LoadBalancerPool";
 
     @Override
@@ -85,36 +93,28 @@ public final class NeutronLoadBalancerPoolNorthbound extends AbstractNeutronNort
             @QueryParam("admin_state_up") Boolean queryLoadBalancerIsAdminStateUp,
             @QueryParam("members") List<NeutronLoadBalancerPoolMember> queryLoadBalancerPoolMembers,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronLoadBalancerPoolCRUD loadBalancerPoolInterface = getNeutronCRUD();
-        List<NeutronLoadBalancerPool> allLoadBalancerPools = loadBalancerPoolInterface.getAll();
-        List<NeutronLoadBalancerPool> ans = new ArrayList<>();
-        for (NeutronLoadBalancerPool nsg : allLoadBalancerPools) {
-            if ((queryLoadBalancerPoolID == null || queryLoadBalancerPoolID.equals(nsg.getID()))
-                    && (queryLoadBalancerPoolTenantID == null
-                            || queryLoadBalancerPoolTenantID.equals(nsg.getTenantID()))
-                    && (queryLoadBalancerPoolName == null
-                            || queryLoadBalancerPoolName.equals(nsg.getName()))
-                    && (queryLoadBalancerPoolLbAlgorithm == null
-                            || queryLoadBalancerPoolLbAlgorithm.equals(nsg.getLoadBalancerPoolLbAlgorithm()))
-                    && (queryLoadBalancerPoolHealthMonitorID == null || queryLoadBalancerPoolHealthMonitorID
-                            .equals(nsg.getLoadBalancerPoolHealthMonitorID()))
-                    && (queryLoadBalancerIsAdminStateUp == null
-                            || queryLoadBalancerIsAdminStateUp.equals(nsg.getLoadBalancerPoolAdminIsStateIsUp()))
-                    && (queryLoadBalancerPoolMembers.size() == 0
-                            || queryLoadBalancerPoolMembers.equals(nsg.getLoadBalancerPoolMembers()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronLoadBalancerPoolRequest(ans)).build();
+        List<NeutronLoadBalancerPoolMember> members =
+                queryLoadBalancerPoolMembers.isEmpty() ? null : queryLoadBalancerPoolMembers;
+        NeutronFilter<NeutronLoadBalancerPool> filter = new NeutronFilter<NeutronLoadBalancerPool>()
+                .eq(NeutronFilter.ID, NeutronLoadBalancerPool::getID, queryLoadBalancerPoolID)
+                .eq(NeutronFilter.TENANT_ID, NeutronLoadBalancerPool::getTenantID, queryLoadBalancerPoolTenantID)
+                .eq("name", NeutronLoadBalancerPool::getName, queryLoadBalancerPoolName)
+                .eq("lb_algorithm", NeutronLoadBalancerPool::getLoadBalancerPoolLbAlgorithm,
+                        queryLoadBalancerPoolLbAlgorithm)
+                .eq("healthmonitor_id", NeutronLoadBalancerPool::getLoadBalancerPoolHealthMonitorID,
+                        queryLoadBalancerPoolHealthMonitorID)
+                .eq("admin_state_up", NeutronLoadBalancerPool::getLoadBalancerPoolAdminIsStateIsUp,
+                        queryLoadBalancerIsAdminStateUp)
+                .eq("members", NeutronLoadBalancerPool::getLoadBalancerPoolMembers, members);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
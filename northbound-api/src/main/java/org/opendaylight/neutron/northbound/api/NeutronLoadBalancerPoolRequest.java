@@ -29,9 +29,17 @@ public final class NeutronLoadBalancerPoolRequest implements INeutronRequest<Neu
     @XmlElement(name = "pools")
     List<NeutronLoadBalancerPool> bulkRequest;
 
+    @XmlElement(name = "pools_links")
+    List<NeutronPageLink> links;
+
     NeutronLoadBalancerPoolRequest() {
     }
 
+    NeutronLoadBalancerPoolRequest(List<NeutronLoadBalancerPool> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronLoadBalancerPoolRequest(List<NeutronLoadBalancerPool> bulk) {
         bulkRequest = bulk;
     }
@@ -29,9 +29,17 @@ public final class NeutronLoadBalancerRequest implements INeutronRequest<Neutron
     @XmlElement(name = "loadbalancers")
     List<NeutronLoadBalancer> bulkRequest;
 
+    @XmlElement(name = "loadbalancers_links")
+    List<NeutronPageLink> links;
+
     NeutronLoadBalancerRequest() {
     }
 
+    NeutronLoadBalancerRequest(List<NeutronLoadBalancer> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronLoadBalancerRequest(List<NeutronLoadBalancer> bulk) {
         bulkRequest = bulk;
     }
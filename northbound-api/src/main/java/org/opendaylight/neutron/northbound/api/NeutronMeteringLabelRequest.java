@@ -27,9 +27,17 @@ public final class NeutronMeteringLabelRequest implements INeutronRequest<Neutro
     @XmlElement(name = "metering_labels")
     List<NeutronMeteringLabel> bulkRequest;
 
+    @XmlElement(name = "metering_labels_links")
+    List<NeutronPageLink> links;
+
     NeutronMeteringLabelRequest() {
     }
 
+    NeutronMeteringLabelRequest(List<NeutronMeteringLabel> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronMeteringLabelRequest(NeutronMeteringLabel label) {
         singleton = label;
     }
@@ -27,9 +27,17 @@ public final class NeutronMeteringLabelRuleRequest implements INeutronRequest<Ne
     @XmlElement(name = "metering_label_rules")
     List<NeutronMeteringLabelRule> buldRequest;
 
+    @XmlElement(name = "metering_label_rules_links")
+    List<NeutronPageLink> links;
+
     NeutronMeteringLabelRuleRequest() {
     }
 
+    NeutronMeteringLabelRuleRequest(List<NeutronMeteringLabelRule> bulkRequest, List<NeutronPageLink> links) {
+        this.buldRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronMeteringLabelRuleRequest(NeutronMeteringLabelRule rule) {
         singleton = rule;
     }
@@ -9,22 +9,26 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronMeteringLabelRuleCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronMeteringLabelRule;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Metering Lable Rules.<br>
@@ -47,6 +51,9 @@ import org.opendaylight.neutron.spi.NeutronMeteringLabelRule;
 @Path("/metering/metering-label-rules")
 public final class NeutronMeteringLabelRulesNorthbound extends AbstractNeutronNorthbound<NeutronMeteringLabelRule,
         NeutronMeteringLabelRuleRequest, INeutronMeteringLabelRuleCRUD> {
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Metering Label Rule";
 
     @Override
@@ -72,27 +79,23 @@ public final class NeutronMeteringLabelRulesNorthbound extends AbstractNeutronNo
             @QueryParam("id") String queryID,
             @QueryParam("direction") String queryDirection,
             @QueryParam("remote_ip_prefix") String queryRemoteIpPrefix,
-            @QueryParam("metering_label_id") String queryLabelID
-    // pagination and sorting are TODO
+            @QueryParam("metering_label_id") String queryLabelID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronMeteringLabelRuleCRUD ruleInterface = getNeutronCRUD();
-        List<NeutronMeteringLabelRule> allNeutronMeteringLabelRule = ruleInterface.getAll();
-        List<NeutronMeteringLabelRule> ans = new ArrayList<>();
-        for (NeutronMeteringLabelRule rule : allNeutronMeteringLabelRule) {
-            if ((queryID == null || queryID.equals(rule.getID()))
-                    && (queryDirection == null || queryDirection.equals(rule.getMeteringLabelRuleDirection()))
-                    && (queryRemoteIpPrefix == null
-                            || queryRemoteIpPrefix.equals(rule.getMeteringLabelRuleRemoteIpPrefix()))
-                    && (queryLabelID == null || queryLabelID.equals(rule.getMeteringLabelRuleLabelID()))) {
-                if (fields.size() > 0) {
-                    ans.add(rule.extractFields(fields));
-                } else {
-                    ans.add(rule);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronMeteringLabelRuleRequest(ans)).build();
+        NeutronFilter<NeutronMeteringLabelRule> filter = new NeutronFilter<NeutronMeteringLabelRule>()
+                .eq(NeutronFilter.ID, NeutronMeteringLabelRule::getID, queryID)
+                .eq("direction", NeutronMeteringLabelRule::getMeteringLabelRuleDirection, queryDirection)
+                .eq("remote_ip_prefix", NeutronMeteringLabelRule::getMeteringLabelRuleRemoteIpPrefix,
+                        queryRemoteIpPrefix)
+                .eq("metering_label_id", NeutronMeteringLabelRule::getMeteringLabelRuleLabelID, queryLabelID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
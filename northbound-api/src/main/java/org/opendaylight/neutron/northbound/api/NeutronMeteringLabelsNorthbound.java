@@ -9,22 +9,26 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronMeteringLabelCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronMeteringLabel;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Metering Lables.<br>
@@ -47,6 +51,9 @@ import org.opendaylight.neutron.spi.NeutronMeteringLabel;
 @Path("/metering/metering-labels")
 public final class NeutronMeteringLabelsNorthbound extends
         AbstractNeutronNorthbound<NeutronMeteringLabel, NeutronMeteringLabelRequest, INeutronMeteringLabelCRUD> {
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Metering Label";
 
     @Override
@@ -71,25 +78,21 @@ public final class NeutronMeteringLabelsNorthbound extends
             // filter fields
             @QueryParam("id") String queryID,
             @QueryParam("name") String queryName,
-            @QueryParam("tenant_id") String queryTenantID
-    // pagination and sorting are TODO
+            @QueryParam("tenant_id") String queryTenantID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronMeteringLabelCRUD labelInterface = getNeutronCRUD();
-        List<NeutronMeteringLabel> allNeutronMeteringLabel = labelInterface.getAll();
-        List<NeutronMeteringLabel> ans = new ArrayList<>();
-        for (NeutronMeteringLabel label : allNeutronMeteringLabel) {
-            if ((queryID == null || queryID.equals(label.getID()))
-                    && (queryName == null || queryName.equals(label.getName()))
-                    && (queryTenantID == null || queryTenantID.equals(label.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(label.extractFields(fields));
-                } else {
-                    ans.add(label);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronMeteringLabelRequest(ans)).build();
+        NeutronFilter<NeutronMeteringLabel> filter = new NeutronFilter<NeutronMeteringLabel>()
+                .eq(NeutronFilter.ID, NeutronMeteringLabel::getID, queryID)
+                .eq("name", NeutronMeteringLabel::getName, queryName)
+                .eq(NeutronFilter.TENANT_ID, NeutronMeteringLabel::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
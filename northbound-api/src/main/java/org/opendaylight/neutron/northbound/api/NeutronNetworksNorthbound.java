@@ -9,7 +9,6 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -29,7 +28,9 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronNetworkCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronNetwork;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Network.<br>
@@ -92,42 +93,26 @@ public final class NeutronNetworksNorthbound
             // linkTitle
             @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronNetworkCRUD networkInterface = getNeutronCRUD();
-        List<NeutronNetwork> allNetworks = networkInterface.getAll();
-        List<NeutronNetwork> ans = new ArrayList<>();
-        for (NeutronNetwork network : allNetworks) {
-            //match filters: TODO provider extension
-            Boolean adminStateUp = queryAdminStateUp != null ? Boolean.valueOf(queryAdminStateUp) : null;
-            Boolean shared = queryShared != null ? Boolean.valueOf(queryShared) : null;
-            Boolean routerExternal = queryRouterExternal != null ? Boolean.valueOf(queryRouterExternal) : null;
-            if ((queryID == null || queryID.equals(network.getID()))
-                    && (queryName == null || queryName.equals(network.getName()))
-                    && (adminStateUp == null || adminStateUp.booleanValue() == network.isAdminStateUp())
-                    && (queryStatus == null || queryStatus.equals(network.getStatus()))
-                    && (shared == null || shared.booleanValue() == network.isShared())
-                    && (routerExternal == null || routerExternal.booleanValue() == network.isRouterExternal())
-                    && (queryTenantID == null || queryTenantID.equals(network.getTenantID()))
-                    && (queryQosPolicyId == null || queryQosPolicyId.equals(network.getQosPolicyId()))) {
-                if (fields.size() > 0) {
-                    ans.add(network.extractFields(fields));
-                } else {
-                    ans.add(network);
-                }
-            }
-        }
-
-        if (limit != null && ans.size() > 1) {
-            // Return a paginated request
-            NeutronNetworkRequest request = (NeutronNetworkRequest) PaginatedRequestFactory.createRequest(limit, marker,
-                    pageReverse, uriInfo, ans, NeutronNetwork.class);
-            return Response.status(HttpURLConnection.HTTP_OK).entity(request).build();
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronNetworkRequest(ans)).build();
-
+        //match filters: TODO provider extension
+        Boolean adminStateUp = queryAdminStateUp != null ? Boolean.valueOf(queryAdminStateUp) : null;
+        Boolean shared = queryShared != null ? Boolean.valueOf(queryShared) : null;
+        Boolean routerExternal = queryRouterExternal != null ? Boolean.valueOf(queryRouterExternal) : null;
+        NeutronFilter<NeutronNetwork> filter = new NeutronFilter<NeutronNetwork>()
+                .eq(NeutronFilter.ID, NeutronNetwork::getID, queryID)
+                .eq("name", NeutronNetwork::getName, queryName)
+                .eq("admin_state_up", NeutronNetwork::isAdminStateUp, adminStateUp)
+                .eq("status", NeutronNetwork::getStatus, queryStatus)
+                .eq("shared", NeutronNetwork::isShared, shared)
+                .eq("router_external", NeutronNetwork::isRouterExternal, routerExternal)
+                .eq(NeutronFilter.TENANT_ID, NeutronNetwork::getTenantID, queryTenantID)
+                .eq("qos_policy_id", NeutronNetwork::getQosPolicyId, queryQosPolicyId);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
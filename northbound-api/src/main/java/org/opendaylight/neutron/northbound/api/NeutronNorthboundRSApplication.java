@@ -13,7 +13,6 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import javax.ws.rs.core.Application;
-import org.eclipse.persistence.jaxb.rs.MOXyJsonProvider;
 
 /**
  * This class is an instance of javax.ws.rs.core.Application and is used to return the classes
@@ -24,6 +23,52 @@ import org.eclipse.persistence.jaxb.rs.MOXyJsonProvider;
 public final class NeutronNorthboundRSApplication extends Application {
     private static final int HASHMAP_SIZE = 3;
 
+    /**
+     * System property which selects pretty-printed (true, the default) or
+     * compact JSON output.
+     */
+    static final String FORMATTED_OUTPUT_PROPERTY = "org.opendaylight.neutron.northbound.formattedOutput";
+
+    /**
+     * System property which selects whether list responses are streamed
+     * (true) or marshalled as one request object (false, the default).
+     * Streamed lists write the envelope of the request object by hand, so
+     * their JSON matches the marshalled one up to whitespace only.
+     */
+    static final String STREAM_LISTS_PROPERTY = "org.opendaylight.neutron.northbound.streamLists";
+
+    /**
+     * System property which sets how many seconds a request waits for its
+     * write to the datastore before it is answered with 503 (30 by default).
+     */
+    static final String WRITE_TIMEOUT_PROPERTY = "org.opendaylight.neutron.northbound.writeTimeout";
+    private static final long DEFAULT_WRITE_TIMEOUT = 30;
+
+    static final String ATTRIBUTE_PREFIX = "@";
+    static final String VALUE_WRAPPER = "$";
+    static final char NAMESPACE_SEPARATOR = ':';
+
+    static boolean isFormattedOutput() {
+        return Boolean.parseBoolean(System.getProperty(FORMATTED_OUTPUT_PROPERTY, "true"));
+    }
+
+    static boolean isStreamLists() {
+        return Boolean.parseBoolean(System.getProperty(STREAM_LISTS_PROPERTY, "false"));
+    }
+
+    static long getWriteTimeout() {
+        return Long.getLong(WRITE_TIMEOUT_PROPERTY, DEFAULT_WRITE_TIMEOUT);
+    }
+
+    static Map<String, String> getNamespacePrefixMapper() {
+        Map<String, String> namespacePrefixMapper = new HashMap<>(HASHMAP_SIZE);
+        // FIXME: fill in next two with XSD
+        namespacePrefixMapper.put("router", "router");
+        namespacePrefixMapper.put("provider", "provider");
+        namespacePrefixMapper.put("binding", "binding");
+        return namespacePrefixMapper;
+    }
+
     @Override
     public Set<Class<?>> getClasses() {
         Set<Class<?>> classes = new HashSet<>();
@@ -58,27 +103,21 @@ public final class NeutronNorthboundRSApplication extends Application {
         classes.add(NeutronQosPolicyNorthbound.class);
         classes.add(NeutronTrunksNorthbound.class);
 
-        classes.add(MOXyJsonProvider.class);
+        classes.add(NeutronJsonProvider.class);
         return classes;
     }
 
     @Override
     public Set<Object> getSingletons() {
-        MOXyJsonProvider moxyJsonProvider = new MOXyJsonProvider();
+        NeutronJsonProvider moxyJsonProvider = new NeutronJsonProvider();
 
-        moxyJsonProvider.setAttributePrefix("@");
-        moxyJsonProvider.setFormattedOutput(true);
+        moxyJsonProvider.setAttributePrefix(ATTRIBUTE_PREFIX);
+        moxyJsonProvider.setFormattedOutput(isFormattedOutput());
         moxyJsonProvider.setIncludeRoot(false);
         moxyJsonProvider.setMarshalEmptyCollections(true);
-        moxyJsonProvider.setValueWrapper("$");
-
-        Map<String, String> namespacePrefixMapper = new HashMap<>(HASHMAP_SIZE);
-        // FIXME: fill in next two with XSD
-        namespacePrefixMapper.put("router", "router");
-        namespacePrefixMapper.put("provider", "provider");
-        namespacePrefixMapper.put("binding", "binding");
-        moxyJsonProvider.setNamespacePrefixMapper(namespacePrefixMapper);
-        moxyJsonProvider.setNamespaceSeparator(':');
+        moxyJsonProvider.setValueWrapper(VALUE_WRAPPER);
+        moxyJsonProvider.setNamespacePrefixMapper(getNamespacePrefixMapper());
+        moxyJsonProvider.setNamespaceSeparator(NAMESPACE_SEPARATOR);
 
         Set<Object> set = new HashSet<>(1);
         set.add(moxyJsonProvider);
@@ -9,7 +9,6 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -28,7 +27,9 @@ import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronPortCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronPort;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs.<br>
@@ -91,41 +92,25 @@ public final class NeutronPortsNorthbound
             // linkTitle
             @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronPortCRUD portInterface = getNeutronCRUD();
-        List<NeutronPort> allPorts = portInterface.getAll();
-        List<NeutronPort> ans = new ArrayList<>();
-        for (NeutronPort port: allPorts) {
-            if ((queryID == null || queryID.equals(port.getID()))
-                    && (queryNetworkID == null || queryNetworkID.equals(port.getNetworkUUID()))
-                    && (queryName == null || queryName.equals(port.getName()))
-                    && (queryAdminStateUp == null || queryAdminStateUp.equals(port.getAdminStateUp()))
-                    && (queryStatus == null || queryStatus.equals(port.getStatus()))
-                    && (queryMACAddress == null || queryMACAddress.equals(port.getMacAddress()))
-                    && (queryDeviceID == null || queryDeviceID.equals(port.getDeviceID()))
-                    && (queryDeviceOwner == null || queryDeviceOwner.equals(port.getDeviceOwner()))
-                    && (queryTenantID == null || queryTenantID.equals(port.getTenantID()))
-                    && (queryPortSecurityEnabled == null
-                            || queryPortSecurityEnabled.equals(port.getPortSecurityEnabled()))
-                    && (queryQosPolicyId == null || queryQosPolicyId.equals(port.getQosPolicyId()))) {
-                if (fields.size() > 0) {
-                    ans.add(port.extractFields(fields));
-                } else {
-                    ans.add(port);
-                }
-            }
-        }
-
-        if (limit != null && ans.size() > 1) {
-            // Return a paginated request
-            NeutronPortRequest request = (NeutronPortRequest) PaginatedRequestFactory.createRequest(limit, marker,
-                    pageReverse, uriInfo, ans, NeutronPort.class);
-            return Response.status(HttpURLConnection.HTTP_OK).entity(request).build();
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronPortRequest(ans)).build();
+        NeutronFilter<NeutronPort> filter = new NeutronFilter<NeutronPort>()
+                .eq(NeutronFilter.ID, NeutronPort::getID, queryID)
+                .eq("network_id", NeutronPort::getNetworkUUID, queryNetworkID)
+                .eq("name", NeutronPort::getName, queryName)
+                .eq("admin_state_up", NeutronPort::getAdminStateUp, queryAdminStateUp)
+                .eq("status", NeutronPort::getStatus, queryStatus)
+                .eq("mac_address", NeutronPort::getMacAddress, queryMACAddress)
+                .eq("device_id", NeutronPort::getDeviceID, queryDeviceID)
+                .eq("device_owner", NeutronPort::getDeviceOwner, queryDeviceOwner)
+                .eq(NeutronFilter.TENANT_ID, NeutronPort::getTenantID, queryTenantID)
+                .eq("port_security_enabled", NeutronPort::getPortSecurityEnabled, queryPortSecurityEnabled)
+                .eq("qos_policy_id", NeutronPort::getQosPolicyId, queryQosPolicyId);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,17 +20,24 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronQosPolicyCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
 import org.opendaylight.neutron.spi.NeutronQosPolicy;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 @Path("/qos/policies")
 public final class NeutronQosPolicyNorthbound
         extends AbstractNeutronNorthbound<NeutronQosPolicy, NeutronQosPolicyRequest, INeutronQosPolicyCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Qos Policy";
 
     @Override
@@ -56,24 +63,19 @@ public final class NeutronQosPolicyNorthbound
             @QueryParam("name") String queryQosPolicyName,
             @QueryParam("shared") Boolean queryQosPolicyIsShared,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse) {
-        INeutronQosPolicyCRUD qosPolicyInterface = getNeutronCRUD();
-        List<NeutronQosPolicy> ans = new ArrayList<>();
-        for (NeutronQosPolicy nsg : qosPolicyInterface.getAll()) {
-            if ((queryQosPolicyUUID == null || queryQosPolicyUUID.equals(nsg.getID()))
-                    && (queryQosPolicyTenantID == null || queryQosPolicyTenantID.equals(nsg.getTenantID()))
-                    && (queryQosPolicyName == null || queryQosPolicyName.equals(nsg.getName()))
-                    && (queryQosPolicyIsShared == null || queryQosPolicyIsShared.equals(nsg.getPolicyIsShared()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronQosPolicyRequest(ans)).build();
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronFilter<NeutronQosPolicy> filter = new NeutronFilter<NeutronQosPolicy>()
+                .eq(NeutronFilter.ID, NeutronQosPolicy::getID, queryQosPolicyUUID)
+                .eq(NeutronFilter.TENANT_ID, NeutronQosPolicy::getTenantID, queryQosPolicyTenantID)
+                .eq("name", NeutronQosPolicy::getName, queryQosPolicyName)
+                .eq("shared", NeutronQosPolicy::getPolicyIsShared, queryQosPolicyIsShared);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
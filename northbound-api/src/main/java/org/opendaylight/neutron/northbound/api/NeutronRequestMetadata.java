@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.northbound.api;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+import javax.xml.bind.annotation.XmlElement;
+
+/**
+ * Fields and constructors of a request class, resolved once per class.
+ *
+ * <p>
+ * The request classes share no accessors, only conventions: a
+ * {@code singleton} field for one object, a list field for several
+ * objects, an optional {@code links} list for paged responses, and a
+ * constructor for each of these cases. They are looked up reflectively
+ * on first use of a class and then accessed through method handles.
+ */
+final class NeutronRequestMetadata {
+    private static final String SINGLETON_FIELD = "singleton";
+    private static final String LINKS_FIELD = "links";
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType PAGE_CONSTRUCTOR_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private static final ClassValue<NeutronRequestMetadata> REGISTRY = new ClassValue<NeutronRequestMetadata>() {
+        @Override
+        protected NeutronRequestMetadata computeValue(Class<?> type) {
+            return new NeutronRequestMetadata(type);
+        }
+    };
+
+    private final Class<?> requestClass;
+    private final String bulkName;
+    private final String linksName;
+    private final MethodHandle singletonGetter;
+    private final MethodHandle bulkGetter;
+    private final MethodHandle singletonConstructor;
+    private final MethodHandle bulkConstructor;
+    private final MethodHandle pageConstructor;
+
+    private NeutronRequestMetadata(Class<?> requestClass) {
+        this.requestClass = requestClass;
+        Field singleton = null;
+        Field bulk = null;
+        Field links = null;
+        for (final Field field : requestClass.getDeclaredFields()) {
+            if (SINGLETON_FIELD.equals(field.getName())) {
+                singleton = field;
+            } else if (LINKS_FIELD.equals(field.getName())) {
+                links = field;
+            } else if (List.class.equals(field.getType()) && field.isAnnotationPresent(XmlElement.class)) {
+                bulk = field;
+            }
+        }
+        if (singleton == null || bulk == null) {
+            throw new IllegalArgumentException(requestClass.getName() + " is not a neutron request class");
+        }
+        bulkName = bulk.getAnnotation(XmlElement.class).name();
+        linksName = links == null ? null : links.getAnnotation(XmlElement.class).name();
+
+        MethodHandle singletonCtor = null;
+        MethodHandle bulkCtor = null;
+        MethodHandle pageCtor = null;
+        try {
+            singletonGetter = LOOKUP.unreflectGetter(singleton).asType(GETTER_TYPE);
+            bulkGetter = LOOKUP.unreflectGetter(bulk).asType(GETTER_TYPE);
+            for (final Constructor<?> ctor : requestClass.getDeclaredConstructors()) {
+                final Class<?>[] parameterTypes = ctor.getParameterTypes();
+                if (parameterTypes.length == 1 && List.class.equals(parameterTypes[0])) {
+                    bulkCtor = LOOKUP.unreflectConstructor(ctor).asType(GETTER_TYPE);
+                } else if (parameterTypes.length == 1) {
+                    singletonCtor = LOOKUP.unreflectConstructor(ctor).asType(GETTER_TYPE);
+                } else if (parameterTypes.length == 2) {
+                    pageCtor = LOOKUP.unreflectConstructor(ctor).asType(PAGE_CONSTRUCTOR_TYPE);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+        singletonConstructor = singletonCtor;
+        bulkConstructor = bulkCtor;
+        pageConstructor = pageCtor;
+    }
+
+    static NeutronRequestMetadata of(Class<?> requestClass) {
+        return REGISTRY.get(requestClass);
+    }
+
+    /**
+     * Returns the JSON name of the object list.
+     */
+    String getBulkName() {
+        return bulkName;
+    }
+
+    /**
+     * Returns the JSON name of the page links, null if the request class has none.
+     */
+    String getLinksName() {
+        return linksName;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    Object getSingleton(Object request) {
+        try {
+            return singletonGetter.invokeExact(request);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    List<?> getBulk(Object request) {
+        try {
+            return (List<?>) (Object) bulkGetter.invokeExact(request);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    Object newSingletonRequest(Object singleton) {
+        try {
+            return constructor(singletonConstructor).invokeExact(singleton);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    Object newBulkRequest(List<?> bulk) {
+        try {
+            return constructor(bulkConstructor).invokeExact((Object) bulk);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    Object newPageRequest(List<?> bulk, List<NeutronPageLink> links) {
+        try {
+            return constructor(pageConstructor).invokeExact((Object) bulk, (Object) links);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private MethodHandle constructor(MethodHandle constructor) {
+        if (constructor == null) {
+            throw new UnsupportedOperationException(requestClass.getName() + " lacks a request constructor");
+        }
+        return constructor;
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        return new IllegalArgumentException(throwable);
+    }
+}
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,11 +20,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronRouterCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronRouter;
 import org.opendaylight.neutron.spi.NeutronRouterInterface;
 
@@ -51,6 +55,9 @@ public final class NeutronRoutersNorthbound
         extends AbstractNeutronNorthbound<NeutronRouter, NeutronRouterRequest, INeutronRouterCRUD> {
     static final String ROUTER_INTERFACE_STR = "network:router_interface";
     static final String ROUTER_GATEWAY_STR = "network:router_gateway";
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Router";
 
     @Override
@@ -80,32 +87,21 @@ public final class NeutronRoutersNorthbound
             @QueryParam("tenant_id") String queryTenantID,
             @QueryParam("external_gateway_info") String queryExternalGatewayInfo,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronRouterCRUD routerInterface = getNeutronCRUD();
-        if (routerInterface == null) {
-            throw new ServiceUnavailableException(serviceUnavailable());
-        }
-        List<NeutronRouter> allRouters = routerInterface.getAll();
-        List<NeutronRouter> ans = new ArrayList<>();
-        for (NeutronRouter router : allRouters) {
-            if ((queryID == null || queryID.equals(router.getID()))
-                    && (queryName == null || queryName.equals(router.getName()))
-                    && (queryAdminStateUp == null || queryAdminStateUp.equals(router.getAdminStateUp()))
-                    && (queryStatus == null || queryStatus.equals(router.getStatus()))
-                    && (queryTenantID == null || queryTenantID.equals(router.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(router.extractFields(fields));
-                } else {
-                    ans.add(router);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronRouterRequest(ans)).build();
+        NeutronFilter<NeutronRouter> filter = new NeutronFilter<NeutronRouter>()
+                .eq(NeutronFilter.ID, NeutronRouter::getID, queryID)
+                .eq("name", NeutronRouter::getName, queryName)
+                .eq("admin_state_up", NeutronRouter::getAdminStateUp, queryAdminStateUp)
+                .eq("status", NeutronRouter::getStatus, queryStatus)
+                .eq(NeutronFilter.TENANT_ID, NeutronRouter::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -19,11 +19,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSFCFlowClassifierCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSFCFlowClassifier;
 
 /**
@@ -47,6 +51,9 @@ import org.opendaylight.neutron.spi.NeutronSFCFlowClassifier;
 @Path("/sfc/flowclassifiers")
 public final class NeutronSFCFlowClassifiersNorthbound extends AbstractNeutronNorthbound<NeutronSFCFlowClassifier,
         NeutronSFCFlowClassifierRequest, INeutronSFCFlowClassifierCRUD> {
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Sfc Flow Classifier";
 
     @Override
@@ -80,41 +87,33 @@ public final class NeutronSFCFlowClassifiersNorthbound extends AbstractNeutronNo
             @QueryParam("source_ip_prefix") String querySourceIpPrefix,
             @QueryParam("destination_ip_prefix") String queryDestinationIpPrefix,
             @QueryParam("logical_source_port") String queryLogicalSourcePort,
-            @QueryParam("logical_destination_port") String queryLogicalDestinationPort) {
-        INeutronSFCFlowClassifierCRUD sfcFlowClassifierInterface = getNeutronCRUD();
-        List<NeutronSFCFlowClassifier> allSFCFlowClassifier = sfcFlowClassifierInterface.getAll();
-        List<NeutronSFCFlowClassifier> ans = new ArrayList<>();
-        for (NeutronSFCFlowClassifier classifier : allSFCFlowClassifier) {
-            if ((queryID == null || queryID.equals(classifier.getID()))
-                    && (queryName == null || queryName.equals(classifier.getName()))
-                    && (queryEthertype == null || queryEthertype.equals(classifier.getEthertype()))
-                    && (queryProtocol == null || queryProtocol.equals(classifier.getProtocol()))
-                    && (querySourcePortRangeMin == null
-                        || querySourcePortRangeMin.equals(classifier.getSourcePortRangeMin()))
-                    && (querySourcePortRangeMax == null
-                        || querySourcePortRangeMax.equals(classifier.getSourcePortRangeMax()))
-                    && (queryDestinationPortRangeMin == null
-                            || queryDestinationPortRangeMin.equals(classifier.getDestinationPortRangeMin()))
-                    && (queryDestinationPortRangeMax == null
-                            || queryDestinationPortRangeMax.equals(classifier.getDestinationPortRangeMax()))
-                    && (querySourceIpPrefix == null || querySourceIpPrefix.equals(classifier.getSourceIpPrefix()))
-                    && (queryDestinationIpPrefix == null
-                            || queryDestinationIpPrefix.equals(classifier.getDestinationIpPrefix()))
-                    && (queryLogicalSourcePort == null
-                            || queryLogicalSourcePort.equals(classifier.getLogicalSourcePortUUID()))
-                    && (queryLogicalDestinationPort == null
-                            || queryLogicalDestinationPort.equals(classifier.getLogicalDestinationPortUUID()))
-                    && (queryTenantID == null || queryTenantID.equals(classifier.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(classifier.extractFields(fields));
-                } else {
-                    ans.add(classifier);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSFCFlowClassifierRequest(ans)).build();
-
+            @QueryParam("logical_destination_port") String queryLogicalDestinationPort,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronFilter<NeutronSFCFlowClassifier> filter = new NeutronFilter<NeutronSFCFlowClassifier>()
+                .eq(NeutronFilter.ID, NeutronSFCFlowClassifier::getID, queryID)
+                .eq("name", NeutronSFCFlowClassifier::getName, queryName)
+                .eq("ethertype", NeutronSFCFlowClassifier::getEthertype, queryEthertype)
+                .eq("protocol", NeutronSFCFlowClassifier::getProtocol, queryProtocol)
+                .eq("source_port_range_min", NeutronSFCFlowClassifier::getSourcePortRangeMin, querySourcePortRangeMin)
+                .eq("source_port_range_max", NeutronSFCFlowClassifier::getSourcePortRangeMax, querySourcePortRangeMax)
+                .eq("destination_port_range_min", NeutronSFCFlowClassifier::getDestinationPortRangeMin,
+                        queryDestinationPortRangeMin)
+                .eq("destination_port_range_max", NeutronSFCFlowClassifier::getDestinationPortRangeMax,
+                        queryDestinationPortRangeMax)
+                .eq("source_ip_prefix", NeutronSFCFlowClassifier::getSourceIpPrefix, querySourceIpPrefix)
+                .eq("destination_ip_prefix", NeutronSFCFlowClassifier::getDestinationIpPrefix, queryDestinationIpPrefix)
+                .eq("logical_source_port", NeutronSFCFlowClassifier::getLogicalSourcePortUUID, queryLogicalSourcePort)
+                .eq("logical_destination_port", NeutronSFCFlowClassifier::getLogicalDestinationPortUUID,
+                        queryLogicalDestinationPort)
+                .eq(NeutronFilter.TENANT_ID, NeutronSFCFlowClassifier::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -26,9 +26,17 @@ public final class NeutronSFCPortChainRequest implements INeutronRequest<Neutron
     @XmlElement(name = "portchains")
     List<NeutronSFCPortChain> bulkRequest;
 
+    @XmlElement(name = "portchains_links")
+    List<NeutronPageLink> links;
+
     NeutronSFCPortChainRequest() {
     }
 
+    NeutronSFCPortChainRequest(List<NeutronSFCPortChain> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronSFCPortChainRequest(List<NeutronSFCPortChain> bulkRequest) {
         this.bulkRequest = bulkRequest;
     }
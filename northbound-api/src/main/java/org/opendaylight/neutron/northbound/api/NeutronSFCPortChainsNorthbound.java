@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -19,11 +19,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSFCPortChainCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSFCPortChain;
 
 /**
@@ -48,6 +52,9 @@ import org.opendaylight.neutron.spi.NeutronSFCPortChain;
 public final class NeutronSFCPortChainsNorthbound
         extends AbstractNeutronNorthbound<NeutronSFCPortChain, NeutronSFCPortChainRequest, INeutronSFCPortChainCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Sfc Port Chain";
 
     @Override
@@ -70,24 +77,20 @@ public final class NeutronSFCPortChainsNorthbound
             @QueryParam("fields") List<String> fields,
             @QueryParam("id") String queryID,
             @QueryParam("name") String queryName,
-            @QueryParam("tenant_id") String queryTenantID) {
-        INeutronSFCPortChainCRUD sfcPortChainInterface = getNeutronCRUD();
-        List<NeutronSFCPortChain> allSFCPortChain = sfcPortChainInterface.getAll();
-        List<NeutronSFCPortChain> ans = new ArrayList<>();
-        for (NeutronSFCPortChain sfcPortChain : allSFCPortChain) {
-            if ((queryID == null || queryID.equals(sfcPortChain.getID()))
-                    && (queryName == null || queryName.equals(sfcPortChain.getName()))
-                    && (queryTenantID == null || queryTenantID.equals(sfcPortChain.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(sfcPortChain.extractFields(fields));
-                } else {
-                    ans.add(sfcPortChain);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSFCPortChainRequest(ans)).build();
-
+            @QueryParam("tenant_id") String queryTenantID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronFilter<NeutronSFCPortChain> filter = new NeutronFilter<NeutronSFCPortChain>()
+                .eq(NeutronFilter.ID, NeutronSFCPortChain::getID, queryID)
+                .eq("name", NeutronSFCPortChain::getName, queryName)
+                .eq(NeutronFilter.TENANT_ID, NeutronSFCPortChain::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -19,11 +19,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSFCPortPairGroupCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSFCPortPairGroup;
 
 /**
@@ -48,6 +52,9 @@ import org.opendaylight.neutron.spi.NeutronSFCPortPairGroup;
 public final class NeutronSFCPortPairGroupsNorthbound extends AbstractNeutronNorthbound<NeutronSFCPortPairGroup,
         NeutronSFCPortPairGroupRequest, INeutronSFCPortPairGroupCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Sfc Port Pair Group";
 
     @Override
@@ -71,24 +78,20 @@ public final class NeutronSFCPortPairGroupsNorthbound extends AbstractNeutronNor
             @QueryParam("id") String queryID,
             @QueryParam("name") String queryName,
             @QueryParam("tenant_id") String queryTenantID,
-            @QueryParam("port_pairs") List<String> queryPortPairsUUID) {
-        INeutronSFCPortPairGroupCRUD sfcPortPairGroupInterface = getNeutronCRUD();
-        List<NeutronSFCPortPairGroup> allSFCPortPairGroup = sfcPortPairGroupInterface.getAll();
-        List<NeutronSFCPortPairGroup> ans = new ArrayList<>();
-        for (NeutronSFCPortPairGroup sfcPortPairGroup : allSFCPortPairGroup) {
-            if ((queryID == null || queryID.equals(sfcPortPairGroup.getID()))
-                    && (queryName == null || queryName.equals(sfcPortPairGroup.getName()))
-                    && (queryTenantID == null || queryTenantID.equals(sfcPortPairGroup.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(sfcPortPairGroup.extractFields(fields));
-                } else {
-                    ans.add(sfcPortPairGroup);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSFCPortPairGroupRequest(ans)).build();
-
+            @QueryParam("port_pairs") List<String> queryPortPairsUUID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronFilter<NeutronSFCPortPairGroup> filter = new NeutronFilter<NeutronSFCPortPairGroup>()
+                .eq(NeutronFilter.ID, NeutronSFCPortPairGroup::getID, queryID)
+                .eq("name", NeutronSFCPortPairGroup::getName, queryName)
+                .eq(NeutronFilter.TENANT_ID, NeutronSFCPortPairGroup::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -26,9 +26,17 @@ public final class NeutronSFCPortPairRequest implements INeutronRequest<NeutronS
     @XmlElement(name = "portpairs")
     List<NeutronSFCPortPair> bulkRequest;
 
+    @XmlElement(name = "portpairs_links")
+    List<NeutronPageLink> links;
+
     NeutronSFCPortPairRequest() {
     }
 
+    NeutronSFCPortPairRequest(List<NeutronSFCPortPair> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronSFCPortPairRequest(List<NeutronSFCPortPair> bulkRequest) {
         this.bulkRequest = bulkRequest;
     }
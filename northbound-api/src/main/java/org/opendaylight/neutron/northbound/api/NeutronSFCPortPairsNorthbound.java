@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -19,11 +19,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSFCPortPairCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSFCPortPair;
 
 /**
@@ -48,6 +52,9 @@ import org.opendaylight.neutron.spi.NeutronSFCPortPair;
 public final class NeutronSFCPortPairsNorthbound
         extends AbstractNeutronNorthbound<NeutronSFCPortPair, NeutronSFCPortPairRequest, INeutronSFCPortPairCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Sfc Port Pair";
 
     @Override
@@ -72,26 +79,22 @@ public final class NeutronSFCPortPairsNorthbound
             @QueryParam("name") String queryName,
             @QueryParam("tenant_id") String queryTenantID,
             @QueryParam("ingress") String queryIngressPort,
-            @QueryParam("egress") String queryEgressPort) {
-        INeutronSFCPortPairCRUD sfcPortPairInterface = getNeutronCRUD();
-        List<NeutronSFCPortPair> allSFCPortPair = sfcPortPairInterface.getAll();
-        List<NeutronSFCPortPair> ans = new ArrayList<>();
-        for (NeutronSFCPortPair sfcPortPair : allSFCPortPair) {
-            if ((queryID == null || queryID.equals(sfcPortPair.getID()))
-                    && (queryName == null || queryName.equals(sfcPortPair.getName()))
-                    && (queryIngressPort == null || queryIngressPort.equals(sfcPortPair.getIngressPortUUID()))
-                    && (queryEgressPort == null || queryEgressPort.equals(sfcPortPair.getEgressPortUUID()))
-                    && (queryTenantID == null || queryTenantID.equals(sfcPortPair.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(sfcPortPair.extractFields(fields));
-                } else {
-                    ans.add(sfcPortPair);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSFCPortPairRequest(ans)).build();
-
+            @QueryParam("egress") String queryEgressPort,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronFilter<NeutronSFCPortPair> filter = new NeutronFilter<NeutronSFCPortPair>()
+                .eq(NeutronFilter.ID, NeutronSFCPortPair::getID, queryID)
+                .eq("name", NeutronSFCPortPair::getName, queryName)
+                .eq("ingress", NeutronSFCPortPair::getIngressPortUUID, queryIngressPort)
+                .eq("egress", NeutronSFCPortPair::getEgressPortUUID, queryEgressPort)
+                .eq(NeutronFilter.TENANT_ID, NeutronSFCPortPair::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -29,9 +29,17 @@ public final class NeutronSecurityGroupRequest implements INeutronRequest<Neutro
     @XmlElement(name = "security_groups")
     List<NeutronSecurityGroup> bulkRequest;
 
+    @XmlElement(name = "security_groups_links")
+    List<NeutronPageLink> links;
+
     NeutronSecurityGroupRequest() {
     }
 
+    NeutronSecurityGroupRequest(List<NeutronSecurityGroup> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronSecurityGroupRequest(List<NeutronSecurityGroup> bulk) {
         bulkRequest = bulk;
     }
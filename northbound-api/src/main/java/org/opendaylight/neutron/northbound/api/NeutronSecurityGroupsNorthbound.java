@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,11 +20,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSecurityGroupCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSecurityGroup;
 
 /**
@@ -47,6 +51,9 @@ import org.opendaylight.neutron.spi.NeutronSecurityGroup;
 @Path("/security-groups")
 public final class NeutronSecurityGroupsNorthbound extends
         AbstractNeutronNorthbound<NeutronSecurityGroup, NeutronSecurityGroupRequest, INeutronSecurityGroupCRUD> {
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Security Group";
 
     @Override
@@ -71,24 +78,18 @@ public final class NeutronSecurityGroupsNorthbound extends
             @QueryParam("id") String querySecurityGroupUUID,
             @QueryParam("name") String querySecurityGroupName,
             @QueryParam("tenant_id") String querySecurityTenantID,
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse) {
-        INeutronSecurityGroupCRUD securityGroupInterface = getNeutronCRUD();
-        List<NeutronSecurityGroup> allSecurityGroups = securityGroupInterface.getAll();
-        List<NeutronSecurityGroup> ans = new ArrayList<>();
-        for (NeutronSecurityGroup nsg : allSecurityGroups) {
-            if ((querySecurityGroupUUID == null || querySecurityGroupUUID.equals(nsg.getID()))
-                    && (querySecurityGroupName == null || querySecurityGroupName.equals(nsg.getName()))
-                    && (querySecurityTenantID == null || querySecurityTenantID.equals(nsg.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSecurityGroupRequest(ans)).build();
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronFilter<NeutronSecurityGroup> filter = new NeutronFilter<NeutronSecurityGroup>()
+                .eq(NeutronFilter.ID, NeutronSecurityGroup::getID, querySecurityGroupUUID)
+                .eq("name", NeutronSecurityGroup::getName, querySecurityGroupName)
+                .eq(NeutronFilter.TENANT_ID, NeutronSecurityGroup::getTenantID, querySecurityTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,11 +20,15 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSecurityRuleCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSecurityRule;
 
 /**
@@ -48,6 +52,9 @@ import org.opendaylight.neutron.spi.NeutronSecurityRule;
 @Path("/security-group-rules")
 public final class NeutronSecurityRulesNorthbound
         extends AbstractNeutronNorthbound<NeutronSecurityRule, NeutronSecurityRuleRequest, INeutronSecurityRuleCRUD> {
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Security Rule";
 
     @Override
@@ -78,39 +85,25 @@ public final class NeutronSecurityRulesNorthbound
             @QueryParam("remote_group_id") String querySecurityRemoteGroupID,
             @QueryParam("security_group_id") String querySecurityRuleGroupID,
             @QueryParam("tenant_id") String querySecurityRuleTenantID,
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse) {
-        INeutronSecurityRuleCRUD securityRuleInterface = getNeutronCRUD();
-        List<NeutronSecurityRule> allSecurityRules = securityRuleInterface.getAll();
-        List<NeutronSecurityRule> ans = new ArrayList<>();
-        for (NeutronSecurityRule nsr : allSecurityRules) {
-            if ((querySecurityRuleUUID == null || querySecurityRuleUUID.equals(nsr.getID()))
-                    && (querySecurityRuleDirection == null
-                            || querySecurityRuleDirection.equals(nsr.getSecurityRuleDirection()))
-                    && (querySecurityRuleProtocol == null
-                            || querySecurityRuleProtocol.equals(nsr.getSecurityRuleProtocol()))
-                    && (querySecurityRulePortMin == null
-                            || querySecurityRulePortMin.equals(nsr.getSecurityRulePortMin()))
-                    && (querySecurityRulePortMax == null
-                            || querySecurityRulePortMax.equals(nsr.getSecurityRulePortMax()))
-                    && (querySecurityRuleEthertype == null
-                            || querySecurityRuleEthertype.equals(nsr.getSecurityRuleEthertype()))
-                    && (querySecurityRuleIpPrefix == null
-                            || querySecurityRuleIpPrefix.equals(nsr.getSecurityRuleRemoteIpPrefix()))
-                    && (querySecurityRuleGroupID == null
-                            || querySecurityRuleGroupID.equals(nsr.getSecurityRuleGroupID()))
-                    && (querySecurityRemoteGroupID == null
-                            || querySecurityRemoteGroupID.equals(nsr.getSecurityRemoteGroupID()))
-                    && (querySecurityRuleTenantID == null || querySecurityRuleTenantID.equals(nsr.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsr.extractFields(fields));
-                } else {
-                    ans.add(nsr);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSecurityRuleRequest(ans)).build();
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronFilter<NeutronSecurityRule> filter = new NeutronFilter<NeutronSecurityRule>()
+                .eq(NeutronFilter.ID, NeutronSecurityRule::getID, querySecurityRuleUUID)
+                .eq("direction", NeutronSecurityRule::getSecurityRuleDirection, querySecurityRuleDirection)
+                .eq("protocol", NeutronSecurityRule::getSecurityRuleProtocol, querySecurityRuleProtocol)
+                .eq("port_range_min", NeutronSecurityRule::getSecurityRulePortMin, querySecurityRulePortMin)
+                .eq("port_range_max", NeutronSecurityRule::getSecurityRulePortMax, querySecurityRulePortMax)
+                .eq("ethertype", NeutronSecurityRule::getSecurityRuleEthertype, querySecurityRuleEthertype)
+                .eq("remote_ip_prefix", NeutronSecurityRule::getSecurityRuleRemoteIpPrefix, querySecurityRuleIpPrefix)
+                .eq("security_group_id", NeutronSecurityRule::getSecurityRuleGroupID, querySecurityRuleGroupID)
+                .eq("remote_group_id", NeutronSecurityRule::getSecurityRemoteGroupID, querySecurityRemoteGroupID)
+                .eq(NeutronFilter.TENANT_ID, NeutronSecurityRule::getTenantID, querySecurityRuleTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
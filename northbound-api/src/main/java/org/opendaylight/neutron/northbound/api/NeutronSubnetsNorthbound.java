@@ -9,7 +9,6 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -28,6 +27,8 @@ import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSubnetCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSubnet;
 
 /**
@@ -88,39 +89,24 @@ public final class NeutronSubnetsNorthbound
             // linkTitle
             @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronSubnetCRUD subnetInterface = getNeutronCRUD();
-        List<NeutronSubnet> allSubnets = subnetInterface.getAll();
-        List<NeutronSubnet> ans = new ArrayList<>();
-        for (NeutronSubnet subnet : allSubnets) {
-            if ((queryID == null || queryID.equals(subnet.getID()))
-                    && (queryNetworkID == null || queryNetworkID.equals(subnet.getNetworkUUID()))
-                    && (queryName == null || queryName.equals(subnet.getName()))
-                    && (queryIPVersion == null || queryIPVersion.equals(subnet.getIpVersion()))
-                    && (queryCIDR == null || queryCIDR.equals(subnet.getCidr()))
-                    && (queryGatewayIp == null || queryGatewayIp.equals(subnet.getGatewayIp()))
-                    && (queryEnableDHCP == null || queryEnableDHCP.equals(subnet.getEnableDHCP()))
-                    && (queryTenantID == null || queryTenantID.equals(subnet.getTenantID()))
-                    && (queryIpV6AddressMode == null || queryIpV6AddressMode.equals(subnet.getIpV6AddressMode()))
-                    && (queryIpV6RaMode == null || queryIpV6RaMode.equals(subnet.getIpV6RaMode()))) {
-                if (fields.size() > 0) {
-                    ans.add(subnet.extractFields(fields));
-                } else {
-                    ans.add(subnet);
-                }
-            }
-        }
-
-        if (limit != null && ans.size() > 1) {
-            // Return a paginated request
-            NeutronSubnetRequest request = (NeutronSubnetRequest) PaginatedRequestFactory.createRequest(limit, marker,
-                    pageReverse, uriInfo, ans, NeutronSubnet.class);
-            return Response.status(HttpURLConnection.HTTP_OK).entity(request).build();
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSubnetRequest(ans)).build();
+        NeutronFilter<NeutronSubnet> filter = new NeutronFilter<NeutronSubnet>()
+                .eq(NeutronFilter.ID, NeutronSubnet::getID, queryID)
+                .eq("network_id", NeutronSubnet::getNetworkUUID, queryNetworkID)
+                .eq("name", NeutronSubnet::getName, queryName)
+                .eq("ip_version", NeutronSubnet::getIpVersion, queryIPVersion)
+                .eq("cidr", NeutronSubnet::getCidr, queryCIDR)
+                .eq("gateway_ip", NeutronSubnet::getGatewayIp, queryGatewayIp)
+                .eq("enable_dhcp", NeutronSubnet::getEnableDHCP, queryEnableDHCP)
+                .eq(NeutronFilter.TENANT_ID, NeutronSubnet::getTenantID, queryTenantID)
+                .eq("ipv6_address_mode", NeutronSubnet::getIpV6AddressMode, queryIpV6AddressMode)
+                .eq("ipv6_ra_mode", NeutronSubnet::getIpV6RaMode, queryIpV6RaMode);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
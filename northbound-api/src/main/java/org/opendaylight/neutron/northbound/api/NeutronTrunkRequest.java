@@ -25,9 +25,17 @@ public final class NeutronTrunkRequest implements INeutronRequest<NeutronTrunk>
     @XmlElement(name = "trunks")
     List<NeutronTrunk> bulkRequest;
 
+    @XmlElement(name = "trunks_links")
+    List<NeutronPageLink> links;
+
     NeutronTrunkRequest() {
     }
 
+    NeutronTrunkRequest(List<NeutronTrunk> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronTrunkRequest(NeutronTrunk trunk) {
         singleton = trunk;
     }
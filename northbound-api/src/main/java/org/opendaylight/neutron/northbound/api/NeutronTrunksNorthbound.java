@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,17 +20,24 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronTrunkCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronTrunk;
 
 @Path("/trunks")
 public final class NeutronTrunksNorthbound
         extends AbstractNeutronNorthbound<NeutronTrunk, NeutronTrunkRequest, INeutronTrunkCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "Trunk";
 
     @Override
@@ -56,24 +63,19 @@ public final class NeutronTrunksNorthbound
             @QueryParam("status") String queryStatus,
             @QueryParam("name") String queryName,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse) {
-        INeutronTrunkCRUD trunkInterface = getNeutronCRUD();
-        List<NeutronTrunk> ans = new ArrayList<>();
-        for (NeutronTrunk nsg : trunkInterface.getAll()) {
-            if ((queryUUID == null || queryUUID.equals(nsg.getID()))
-                    && (queryTenantID == null || queryTenantID.equals(nsg.getTenantID()))
-                    && (queryStatus == null || queryStatus.equals(nsg.getStatus()))
-                    && (queryName == null || queryName.equals(nsg.getName()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronTrunkRequest(ans)).build();
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronFilter<NeutronTrunk> filter = new NeutronFilter<NeutronTrunk>()
+                .eq(NeutronFilter.ID, NeutronTrunk::getID, queryUUID)
+                .eq(NeutronFilter.TENANT_ID, NeutronTrunk::getTenantID, queryTenantID)
+                .eq("status", NeutronTrunk::getStatus, queryStatus)
+                .eq("name", NeutronTrunk::getName, queryName);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
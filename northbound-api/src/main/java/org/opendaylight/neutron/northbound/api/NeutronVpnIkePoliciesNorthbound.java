@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronVpnIkePolicyCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronVpnIkePolicy;
 
 /**
@@ -49,6 +53,9 @@ import org.opendaylight.neutron.spi.NeutronVpnIkePolicy;
 @Path("/vpn/ikepolicies")
 public final class NeutronVpnIkePoliciesNorthbound
         extends AbstractNeutronNorthbound<NeutronVpnIkePolicy, NeutronVpnIkePolicyRequest, INeutronVpnIkePolicyCRUD> {
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "VPNIKEPolicy";
 
     @Override
@@ -77,32 +84,27 @@ public final class NeutronVpnIkePoliciesNorthbound
             @QueryParam("encryption_algorithm") String queryEncryptionAlgorithm,
             @QueryParam("phase1_negotiation_mode") String queryPhase1NegotiationMode,
             @QueryParam("pfs") String queryPFS,
-            @QueryParam("ike_version") String queryIKEVersion
-    // pagination and sorting are TODO
+            @QueryParam("ike_version") String queryIKEVersion,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronVpnIkePolicyCRUD labelInterface = getNeutronCRUD();
-        List<NeutronVpnIkePolicy> allNeutronVpnIkePolicy = labelInterface.getAll();
-        List<NeutronVpnIkePolicy> ans = new ArrayList<>();
-        for (NeutronVpnIkePolicy policy : allNeutronVpnIkePolicy) {
-            if ((queryID == null || queryID.equals(policy.getID()))
-                    && (queryName == null || queryName.equals(policy.getName()))
-                    && (queryAuthAlgorithm == null || queryAuthAlgorithm.equals(policy.getAuthAlgorithm()))
-                    && (queryEncryptionAlgorithm == null
-                            || queryEncryptionAlgorithm.equals(policy.getEncryptionAlgorithm()))
-                    && (queryPhase1NegotiationMode == null
-                            || queryPhase1NegotiationMode.equals(policy.getPhase1NegotiationMode()))
-                    && (queryPFS == null || queryPFS.equals(policy.getPerfectForwardSecrecy()))
-                    && (queryIKEVersion == null || queryIKEVersion.equals(policy.getIkeVersion()))
-                    && (queryTenantID == null || queryTenantID.equals(policy.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(policy.extractFields(fields));
-                } else {
-                    ans.add(policy);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronVpnIkePolicyRequest(ans)).build();
+        NeutronFilter<NeutronVpnIkePolicy> filter = new NeutronFilter<NeutronVpnIkePolicy>()
+                .eq(NeutronFilter.ID, NeutronVpnIkePolicy::getID, queryID)
+                .eq("name", NeutronVpnIkePolicy::getName, queryName)
+                .eq("auth_algorithm", NeutronVpnIkePolicy::getAuthAlgorithm, queryAuthAlgorithm)
+                .eq("encryption_algorithm", NeutronVpnIkePolicy::getEncryptionAlgorithm, queryEncryptionAlgorithm)
+                .eq("phase1_negotiation_mode", NeutronVpnIkePolicy::getPhase1NegotiationMode,
+                        queryPhase1NegotiationMode)
+                .eq("pfs", NeutronVpnIkePolicy::getPerfectForwardSecrecy, queryPFS)
+                .eq("ike_version", NeutronVpnIkePolicy::getIkeVersion, queryIKEVersion)
+                .eq(NeutronFilter.TENANT_ID, NeutronVpnIkePolicy::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -24,9 +24,17 @@ public final class NeutronVpnIkePolicyRequest implements INeutronRequest<Neutron
     @XmlElement(name = "ikepolicies")
     List<NeutronVpnIkePolicy> bulkRequest;
 
+    @XmlElement(name = "ikepolicies_links")
+    List<NeutronPageLink> links;
+
     NeutronVpnIkePolicyRequest() {
     }
 
+    NeutronVpnIkePolicyRequest(List<NeutronVpnIkePolicy> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronVpnIkePolicyRequest(NeutronVpnIkePolicy policy) {
         singleton = policy;
     }
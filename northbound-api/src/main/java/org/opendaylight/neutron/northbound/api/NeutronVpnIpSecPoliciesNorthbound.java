@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronVpnIpSecPolicyCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronVpnIpSecPolicy;
 
 /**
@@ -50,6 +54,9 @@ import org.opendaylight.neutron.spi.NeutronVpnIpSecPolicy;
 public final class NeutronVpnIpSecPoliciesNorthbound extends
         AbstractNeutronNorthbound<NeutronVpnIpSecPolicy, NeutronVpnIpSecPolicyRequest, INeutronVpnIpSecPolicyCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "VPNIPSECPolicy";
 
     @Override
@@ -78,31 +85,26 @@ public final class NeutronVpnIpSecPoliciesNorthbound extends
             @QueryParam("encapsulation_mode") String queryEncapsulationMode,
             @QueryParam("auth_algorithm") String queryAuthAlgorithm,
             @QueryParam("encryption_algorithm") String queryEncryptionAlgorithm,
-            @QueryParam("pfs") String queryPFS
-    // pagination and sorting are TODO
+            @QueryParam("pfs") String queryPFS,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronVpnIpSecPolicyCRUD policyInterface = getNeutronCRUD();
-        List<NeutronVpnIpSecPolicy> allNeutronVpnIPSecPolicies = policyInterface.getAll();
-        List<NeutronVpnIpSecPolicy> ans = new ArrayList<>();
-        for (NeutronVpnIpSecPolicy policy : allNeutronVpnIPSecPolicies) {
-            if ((queryID == null || queryID.equals(policy.getID()))
-                    && (queryName == null || queryName.equals(policy.getName()))
-                    && (queryAuthAlgorithm == null || queryAuthAlgorithm.equals(policy.getAuthAlgorithm()))
-                    && (queryEncryptionAlgorithm == null
-                            || queryEncryptionAlgorithm.equals(policy.getEncryptionAlgorithm()))
-                    && (queryPFS == null || queryPFS.equals(policy.getPerfectForwardSecrecy()))
-                    && (queryTransformProtocol == null || queryTransformProtocol.equals(policy.getTransformProtocol()))
-                    && (queryEncapsulationMode == null || queryEncapsulationMode.equals(policy.getEncapsulationMode()))
-                    && (queryTenantID == null || queryTenantID.equals(policy.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(policy.extractFields(fields));
-                } else {
-                    ans.add(policy);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronVpnIpSecPolicyRequest(ans)).build();
+        NeutronFilter<NeutronVpnIpSecPolicy> filter = new NeutronFilter<NeutronVpnIpSecPolicy>()
+                .eq(NeutronFilter.ID, NeutronVpnIpSecPolicy::getID, queryID)
+                .eq("name", NeutronVpnIpSecPolicy::getName, queryName)
+                .eq("auth_algorithm", NeutronVpnIpSecPolicy::getAuthAlgorithm, queryAuthAlgorithm)
+                .eq("encryption_algorithm", NeutronVpnIpSecPolicy::getEncryptionAlgorithm, queryEncryptionAlgorithm)
+                .eq("pfs", NeutronVpnIpSecPolicy::getPerfectForwardSecrecy, queryPFS)
+                .eq("transform_protocol", NeutronVpnIpSecPolicy::getTransformProtocol, queryTransformProtocol)
+                .eq("encapsulation_mode", NeutronVpnIpSecPolicy::getEncapsulationMode, queryEncapsulationMode)
+                .eq(NeutronFilter.TENANT_ID, NeutronVpnIpSecPolicy::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -24,9 +24,17 @@ public final class NeutronVpnIpSecPolicyRequest implements INeutronRequest<Neutr
     @XmlElement(name = "ipsecpolicies")
     List<NeutronVpnIpSecPolicy> bulkRequest;
 
+    @XmlElement(name = "ipsecpolicies_links")
+    List<NeutronPageLink> links;
+
     NeutronVpnIpSecPolicyRequest() {
     }
 
+    NeutronVpnIpSecPolicyRequest(List<NeutronVpnIpSecPolicy> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronVpnIpSecPolicyRequest(NeutronVpnIpSecPolicy policy) {
         singleton = policy;
     }
@@ -24,9 +24,17 @@ public final class NeutronVpnIpSecSiteConnectionRequest implements INeutronReque
     @XmlElement(name = "ipsec_site_connections")
     List<NeutronVpnIpSecSiteConnection> bulkRequest;
 
+    @XmlElement(name = "ipsec_site_connections_links")
+    List<NeutronPageLink> links;
+
     NeutronVpnIpSecSiteConnectionRequest() {
     }
 
+    NeutronVpnIpSecSiteConnectionRequest(List<NeutronVpnIpSecSiteConnection> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronVpnIpSecSiteConnectionRequest(NeutronVpnIpSecSiteConnection connection) {
         singleton = connection;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronVpnIpSecSiteConnectionsCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronVpnIpSecSiteConnection;
 
 /**
@@ -51,6 +55,9 @@ public final class NeutronVpnIpSecSiteConnectionsNorthbound
         extends AbstractNeutronNorthbound<NeutronVpnIpSecSiteConnection,
         NeutronVpnIpSecSiteConnectionRequest, INeutronVpnIpSecSiteConnectionsCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "VPNIPSECSiteConnections";
 
     @Override
@@ -86,38 +93,33 @@ public final class NeutronVpnIpSecSiteConnectionsNorthbound
             @QueryParam("status") String queryStatus,
             @QueryParam("ikepolicy_id") String queryIkePolicyID,
             @QueryParam("ipsecpolicy_id") String queryIpSecPolicyID,
-            @QueryParam("vpnservice_id") String queryVpnServiceID
-    // pagination and sorting are TODO
+            @QueryParam("vpnservice_id") String queryVpnServiceID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronVpnIpSecSiteConnectionsCRUD labelInterface = getNeutronCRUD();
-        List<NeutronVpnIpSecSiteConnection> allNeutronVpnIPSecSiteConnection = labelInterface.getAll();
-        List<NeutronVpnIpSecSiteConnection> ans = new ArrayList<>();
-        for (NeutronVpnIpSecSiteConnection siteConnection : allNeutronVpnIPSecSiteConnection) {
-            if ((queryID == null || queryID.equals(siteConnection.getID()))
-                    && (queryTenantID == null || queryTenantID.equals(siteConnection.getTenantID()))
-                    && (queryName == null || queryName.equals(siteConnection.getName()))
-                    && (queryPeerAddress == null || queryPeerAddress.equals(siteConnection.getPeerAddress()))
-                    && (queryPeerID == null || queryPeerID.equals(siteConnection.getPeerID()))
-                    && (queryRouteMode == null || queryRouteMode.equals(siteConnection.getRouteMode()))
-                    && (queryMtu == null || queryMtu.equals(siteConnection.getMtu()))
-                    && (queryAuthMode == null || queryAuthMode.equals(siteConnection.getAuthMode()))
-                    && (queryPsk == null || queryPsk.equals(siteConnection.getPreSharedKey()))
-                    && (queryInitiator == null || queryInitiator.equals(siteConnection.getInitiator()))
-                    && (queryAdminStateUp == null || queryAdminStateUp.equals(siteConnection.getAdminStateUp()))
-                    && (queryStatus == null || queryStatus.equals(siteConnection.getStatus()))
-                    && (queryIkePolicyID == null || queryIkePolicyID.equals(siteConnection.getIkePolicyID()))
-                    && (queryIpSecPolicyID == null || queryIpSecPolicyID.equals(siteConnection.getIpsecPolicyID()))
-                    && (queryVpnServiceID == null || queryVpnServiceID.equals(siteConnection.getVpnServiceID()))) {
-                if (fields.size() > 0) {
-                    ans.add(siteConnection.extractFields(fields));
-                } else {
-                    ans.add(siteConnection);
-                }
-            }
-        }
-
-        // TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronVpnIpSecSiteConnectionRequest(ans)).build();
+        NeutronFilter<NeutronVpnIpSecSiteConnection> filter = new NeutronFilter<NeutronVpnIpSecSiteConnection>()
+                .eq(NeutronFilter.ID, NeutronVpnIpSecSiteConnection::getID, queryID)
+                .eq(NeutronFilter.TENANT_ID, NeutronVpnIpSecSiteConnection::getTenantID, queryTenantID)
+                .eq("name", NeutronVpnIpSecSiteConnection::getName, queryName)
+                .eq("peer_address", NeutronVpnIpSecSiteConnection::getPeerAddress, queryPeerAddress)
+                .eq("peer_id", NeutronVpnIpSecSiteConnection::getPeerID, queryPeerID)
+                .eq("route_mode", NeutronVpnIpSecSiteConnection::getRouteMode, queryRouteMode)
+                .eq("mtu", NeutronVpnIpSecSiteConnection::getMtu, queryMtu)
+                .eq("auth_mode", NeutronVpnIpSecSiteConnection::getAuthMode, queryAuthMode)
+                .eq("psk", NeutronVpnIpSecSiteConnection::getPreSharedKey, queryPsk)
+                .eq("initiator", NeutronVpnIpSecSiteConnection::getInitiator, queryInitiator)
+                .eq("admin_state_up", NeutronVpnIpSecSiteConnection::getAdminStateUp, queryAdminStateUp)
+                .eq("status", NeutronVpnIpSecSiteConnection::getStatus, queryStatus)
+                .eq("ikepolicy_id", NeutronVpnIpSecSiteConnection::getIkePolicyID, queryIkePolicyID)
+                .eq("ipsecpolicy_id", NeutronVpnIpSecSiteConnection::getIpsecPolicyID, queryIpSecPolicyID)
+                .eq("vpnservice_id", NeutronVpnIpSecSiteConnection::getVpnServiceID, queryVpnServiceID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -24,9 +24,17 @@ public final class NeutronVpnServiceRequest implements INeutronRequest<NeutronVp
     @XmlElement(name = "vpnservices")
     List<NeutronVpnService> bulkRequest;
 
+    @XmlElement(name = "vpnservices_links")
+    List<NeutronPageLink> links;
+
     NeutronVpnServiceRequest() {
     }
 
+    NeutronVpnServiceRequest(List<NeutronVpnService> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronVpnServiceRequest(NeutronVpnService service) {
         singleton = service;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -20,12 +20,16 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronVpnServiceCRUD;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronVpnService;
 
 /**
@@ -50,6 +54,9 @@ import org.opendaylight.neutron.spi.NeutronVpnService;
 public final class NeutronVpnServicesNorthbound
         extends AbstractNeutronNorthbound<NeutronVpnService, NeutronVpnServiceRequest, INeutronVpnServiceCRUD> {
 
+    @Context
+    UriInfo uriInfo;
+
     private static final String RESOURCE_NAME = "VpnService";
 
     @Override
@@ -79,31 +86,23 @@ public final class NeutronVpnServicesNorthbound
             @QueryParam("status") String queryStatus,
             @QueryParam("subnet_id") String querySubnetID,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronVpnServiceCRUD vpnServiceInterface = getNeutronCRUD();
-        List<NeutronVpnService> allVPNService = vpnServiceInterface.getAll();
-        List<NeutronVpnService> ans = new ArrayList<>();
-        for (NeutronVpnService vpnService : allVPNService) {
-            if ((queryID == null || queryID.equals(vpnService.getID()))
-                    && (queryName == null || queryName.equals(vpnService.getName()))
-                    && (queryAdminStateUp == null || queryAdminStateUp.equals(vpnService.getAdminStateUp()))
-                    && (queryStatus == null || queryStatus.equals(vpnService.getStatus()))
-                    && (querySubnetID == null || querySubnetID.equals(vpnService.getSubnetUUID()))
-                    && (queryRouterID == null || queryRouterID.equals(vpnService.getRouterUUID()))
-                    && (queryTenantID == null || queryTenantID.equals(vpnService.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(vpnService.extractFields(fields));
-                } else {
-                    ans.add(vpnService);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronVpnServiceRequest(ans)).build();
+        NeutronFilter<NeutronVpnService> filter = new NeutronFilter<NeutronVpnService>()
+                .eq(NeutronFilter.ID, NeutronVpnService::getID, queryID)
+                .eq("name", NeutronVpnService::getName, queryName)
+                .eq("admin_state_up", NeutronVpnService::getAdminStateUp, queryAdminStateUp)
+                .eq("status", NeutronVpnService::getStatus, queryStatus)
+                .eq("subnet_id", NeutronVpnService::getSubnetUUID, querySubnetID)
+                .eq("router_id", NeutronVpnService::getRouterUUID, queryRouterID)
+                .eq(NeutronFilter.TENANT_ID, NeutronVpnService::getTenantID, queryTenantID);
+        return list(new NeutronQuery<>(filter).fields(fields).page(limit, marker, pageReverse),
+                sortKeys, sortDirs, uriInfo);
     }
 
     /**
@@ -10,33 +10,57 @@ package org.opendaylight.neutron.transcriber;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.util.concurrent.CheckedFuture;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.opendaylight.controller.md.sal.binding.api.ClusteredDataTreeChangeListener;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.DataObjectModification;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
 import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.binding.api.ReadTransaction;
-import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
-import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
-import org.opendaylight.controller.md.sal.common.api.data.OptimisticLockFailedException;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
-import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
 import org.opendaylight.neutron.spi.INeutronAdminAttributes;
 import org.opendaylight.neutron.spi.INeutronBaseAttributes;
 import org.opendaylight.neutron.spi.INeutronCRUD;
 import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.opendaylight.neutron.spi.NeutronMetrics;
+import org.opendaylight.neutron.spi.NeutronQuery;
+import org.opendaylight.neutron.spi.NeutronQueryResult;
+import org.opendaylight.neutron.spi.NeutronUuid;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Uuid;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.attrs.rev150712.AdminAttributes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.attrs.rev150712.BaseAttributes;
 import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.Augmentable;
 import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
@@ -88,20 +112,24 @@ public abstract class AbstractTranscriberInterface<
     private static final int MD_LIST_CLASS_TYPE_INDEX = 0;
     // U extends ChildOf<? super Neutron> & Augmentable<U> as 1st type argument
     private static final int MD_CONTAINER_CLASS_TYPE_INDEX = 1;
+    // K extends Identifier<T> as 2nd type argument
+    private static final int MD_KEY_CLASS_TYPE_INDEX = 2;
     // V extends DataObject as 4th type argument
     private static final int MD_PARENT_CLASS_TYPE_INDEX = 4;
     // S extends INeutronObject<S> as 3rd type argument
     private static final int NEUTRON_OBJECT_TYPE_INDEX = 3;
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractTranscriberInterface.class);
-    private static final int DEDASHED_UUID_LENGTH = 32;
-    private static final int DEDASHED_UUID_START = 0;
-    private static final int DEDASHED_UUID_DIV1 = 8;
-    private static final int DEDASHED_UUID_DIV2 = 12;
-    private static final int DEDASHED_UUID_DIV3 = 16;
-    private static final int DEDASHED_UUID_DIV4 = 20;
+    // tenant ids are shared by many objects, keep one Uuid of each in the data store
+    private static final Interner<Uuid> TENANT_UUIDS = Interners.newWeakInterner();
 
-    private static final int RETRY_MAX = 2;
+    // Bulk adds commit this many objects per transaction.
+    private static final int ADD_ALL_CHUNK_SIZE = 500;
+
+    private static final String CACHE_MBEAN_NAME_PREFIX = "org.opendaylight.neutron:type=TranscriberCache,name=";
+    private static final String WRITER_MBEAN_NAME_PREFIX = "org.opendaylight.neutron:type=TranscriberWriter,name=";
+    private static final String WRITE_COALESCER_MBEAN_NAME_PREFIX =
+            "org.opendaylight.neutron:type=TranscriberGroupCommit,name=";
 
     private final DataBroker db;
 
@@ -109,17 +137,31 @@ public abstract class AbstractTranscriberInterface<
     private final Class<U> mdContainerClass;
     private final Class<T> mdListClass;
 
+    // Every neutron resource list is keyed by its uuid leaf
+    private final Function<K, Uuid> getKeyUuid;
+    private final Function<Uuid, K> newKey;
+
+    private final NeutronObjectCache<S> cache;
+    private ListenerRegistration<CacheListener> cacheListenerRegistration;
+    private ObjectName cacheMBeanName;
+    private final NeutronTransactionWriter writer;
+    private ObjectName writerMBeanName;
+    // null unless group commit is enabled
+    private final NeutronWriteCoalescer<T> writeCoalescer;
+    private ObjectName writeCoalescerMBeanName;
+
     // Unfortunately odl yangtools doesn't model yang model "uses" as
-    // class/interface hierarchy. So we need to resort to use reflection
-    // to call setter method.
+    // class/interface hierarchy. So we need to resort to setters looked
+    // up by name, bound once in the constructor.
     private final Class<? extends Builder<T>> builderClass;
-    private final Method setUuid;
-    private final Method setTenantId;
-    private final Method setProjectId;
-    private final Method setName;
-    private final Method setAdminStateUp;
-    private final Method setStatus;
-    private final Method setRevisionNumber;
+    private final Supplier<? extends Builder<T>> newBuilder;
+    private final BiConsumer<Object, Uuid> setUuid;
+    private final BiConsumer<Object, Uuid> setTenantId;
+    private final BiConsumer<Object, String> setProjectId;
+    private final BiConsumer<Object, String> setName;
+    private final BiConsumer<Object, Boolean> setAdminStateUp;
+    private final BiConsumer<Object, String> setStatus;
+    private final BiConsumer<Object, Long> setRevisionNumber;
 
     protected Class<V> getMdParentClass(final Type[] types) {
         @SuppressWarnings("unchecked")
@@ -142,13 +184,22 @@ public abstract class AbstractTranscriberInterface<
         mdParentClass = getMdParentClass(types);
         @SuppressWarnings("unchecked")
         Class<S> neutronObjectClass = (Class<S>) types[NEUTRON_OBJECT_TYPE_INDEX];
+        @SuppressWarnings("unchecked")
+        final Class<K> mdKeyClass = (Class<K>) types[MD_KEY_CLASS_TYPE_INDEX];
+        cache = new NeutronObjectCache<>(mdListClass.getSimpleName());
+        cache.addIndex(NeutronFilter.TENANT_ID, INeutronObject::getTenantID);
+        writer = new NeutronTransactionWriter(db, cache.getResourceName());
+        writeCoalescer = NeutronWriteCoalescer.isEnabled() ? NeutronWriteCoalescer.create(writer) : null;
         try {
-            setUuid = builderClass.getDeclaredMethod("setUuid", Uuid.class);
-            setTenantId = builderClass.getDeclaredMethod("setTenantId", Uuid.class);
+            getKeyUuid = BindingAccessors.getter(mdKeyClass, "getUuid", Uuid.class);
+            newKey = BindingAccessors.constructor(mdKeyClass, Uuid.class);
+            newBuilder = BindingAccessors.constructor(builderClass);
+            setUuid = BindingAccessors.setter(builderClass, "setUuid", Uuid.class);
+            setTenantId = BindingAccessors.setter(builderClass, "setTenantId", Uuid.class);
             if (INeutronBaseAttributes.class.isAssignableFrom(neutronObjectClass)) {
-                setName = builderClass.getDeclaredMethod("setName", String.class);
-                setProjectId = builderClass.getDeclaredMethod("setProjectId", String.class);
-                setRevisionNumber = builderClass.getDeclaredMethod("setRevisionNumber", Long.class);
+                setName = BindingAccessors.setter(builderClass, "setName", String.class);
+                setProjectId = BindingAccessors.setter(builderClass, "setProjectId", String.class);
+                setRevisionNumber = BindingAccessors.setter(builderClass, "setRevisionNumber", Long.class);
             } else {
                 setName = null;
                 setProjectId = null;
@@ -156,8 +207,8 @@ public abstract class AbstractTranscriberInterface<
             }
 
             if (INeutronAdminAttributes.class.isAssignableFrom(neutronObjectClass)) {
-                setAdminStateUp = builderClass.getDeclaredMethod("setAdminStateUp", Boolean.class);
-                setStatus = builderClass.getDeclaredMethod("setStatus", String.class);
+                setAdminStateUp = BindingAccessors.setter(builderClass, "setAdminStateUp", Boolean.class);
+                setStatus = BindingAccessors.setter(builderClass, "setStatus", String.class);
             } else {
                 setAdminStateUp = null;
                 setStatus = null;
@@ -167,35 +218,124 @@ public abstract class AbstractTranscriberInterface<
         }
     }
 
+    /**
+     * Indexes the cached objects by an attribute, to answer equality
+     * conditions of {@link #getAll(NeutronFilter)} on it. Subclasses call
+     * this from their constructor.
+     *
+     * @param attribute OpenStack name of the attribute, as used in {@link NeutronFilter}
+     * @param extractor accessor of the attribute
+     */
+    protected final void addIndex(String attribute, Function<S, ?> extractor) {
+        cache.addIndex(attribute, extractor);
+    }
+
     public DataBroker getDataBroker() {
         Preconditions.checkNotNull(db);
         return db;
     }
 
     private InstanceIdentifier<T> createInstanceIdentifier(T item) {
-        return InstanceIdentifier.create(mdParentClass).child(mdContainerClass).child(mdListClass, item.getKey());
+        return createInstanceIdentifier(item.getKey());
+    }
+
+    private InstanceIdentifier<T> createInstanceIdentifier(K key) {
+        return InstanceIdentifier.create(mdParentClass).child(mdContainerClass).child(mdListClass, key);
     }
 
     private InstanceIdentifier<U> createInstanceIdentifier() {
         return InstanceIdentifier.create(mdParentClass).child(mdContainerClass);
     }
 
-    protected <S1 extends INeutronBaseAttributes<S1>, M extends BaseAttributes, B extends Builder<M>>
-        void toMdIds(INeutronObject<S1> neutronObject, B builder) {
+    /**
+     * Starts maintaining the read cache of this resource: registers the datastore
+     * change listener, loads the current content and exposes the cache statistics
+     * over JMX. Until this is called all reads go to the datastore.
+     */
+    public void init() {
+        final DataTreeIdentifier<U> dataTreeIdentifier =
+                new DataTreeIdentifier<>(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier());
+        cacheListenerRegistration = getDataBroker().registerDataTreeChangeListener(dataTreeIdentifier,
+                new CacheListener());
+        primeCache();
+        cacheMBeanName = registerMBean(cache, CACHE_MBEAN_NAME_PREFIX);
+        writerMBeanName = registerMBean(writer, WRITER_MBEAN_NAME_PREFIX);
+        if (writeCoalescer != null) {
+            writeCoalescerMBeanName = registerMBean(writeCoalescer, WRITE_COALESCER_MBEAN_NAME_PREFIX);
+        }
+    }
+
+    private void primeCache() {
+        try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+            final Optional<U> container =
+                    tx.read(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier()).checkedGet();
+            cache.prime(fromMdList(container.orNull()));
+        } catch (final ReadFailedException e) {
+            // the cache stays unprimed and is loaded by the next change of the container
+            LOG.warn("Failed to load {} cache", cache.getResourceName(), e);
+        }
+    }
+
+    private ObjectName registerMBean(Object mbean, String namePrefix) {
         try {
-            if (neutronObject.getID() != null) {
-                setUuid.invoke(builder, toUuid(neutronObject.getID()));
-            } else {
-                LOG.warn("Attempting to write neutron object {} without UUID", builderClass.getSimpleName());
-            }
-            if (neutronObject.getTenantID() != null && !neutronObject.getTenantID().isEmpty()) {
-                setTenantId.invoke(builder, toUuid(neutronObject.getTenantID()));
-            }
-            if (neutronObject.getProjectID() != null) {
-                setProjectId.invoke(builder, neutronObject.getTenantID());
+            final ObjectName name = new ObjectName(namePrefix + cache.getResourceName());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, name);
+            return name;
+        } catch (final JMException e) {
+            LOG.warn("Failed to register {} MXBean {}", cache.getResourceName(), namePrefix, e);
+            return null;
+        }
+    }
+
+    private void unregisterMBean(ObjectName name) {
+        if (name == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (final JMException e) {
+            LOG.warn("Failed to unregister MXBean {}", name, e);
+        }
+    }
+
+    private String keyToUuid(K key) {
+        final Uuid uuid = getKeyUuid.apply(key);
+        return uuid == null ? null : uuid.getValue();
+    }
+
+    private K toKey(String uuid) {
+        return newKey.apply(toUuid(uuid));
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private List<S> fromMdList(U dataObjects) {
+        final List<S> result = new ArrayList<>();
+        if (dataObjects == null || getDataObjectList(dataObjects) == null) {
+            return result;
+        }
+        for (final T dataObject : getDataObjectList(dataObjects)) {
+            try {
+                result.add(fromMd(dataObject));
+            } catch (final RuntimeException e) {
+                LOG.warn("Failed to convert {}, not caching it", dataObject, e);
+                cache.conversionFailed(null);
             }
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new IllegalArgumentException(e);
+        }
+        return result;
+    }
+
+    protected <S1 extends INeutronBaseAttributes<S1>, M extends BaseAttributes, B extends Builder<M>>
+        void toMdIds(INeutronObject<S1> neutronObject, B builder) {
+        if (neutronObject.getID() != null) {
+            setUuid.accept(builder, toUuid(neutronObject.getID()));
+        } else {
+            LOG.warn("Attempting to write neutron object {} without UUID", builderClass.getSimpleName());
+        }
+        if (neutronObject.getTenantID() != null && !neutronObject.getTenantID().isEmpty()) {
+            setTenantId.accept(builder, toTenantUuid(neutronObject.getTenantID()));
+        }
+        if (neutronObject.getProjectID() != null) {
+            setProjectId.accept(builder, neutronObject.getTenantID());
         }
     }
 
@@ -215,15 +355,11 @@ public abstract class AbstractTranscriberInterface<
     protected <S1 extends INeutronBaseAttributes<S1>, M extends BaseAttributes, B extends Builder<M>>
         void toMdBaseAttributes(S1 neutronObject, B builder) {
         toMdIds(neutronObject, builder);
-        try {
-            if (neutronObject.getName() != null) {
-                setName.invoke(builder, neutronObject.getName());
-            }
-            if (neutronObject.getRevisionNumber() != null) {
-                setRevisionNumber.invoke(builder, neutronObject.getRevisionNumber());
-            }
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new IllegalArgumentException(e);
+        if (neutronObject.getName() != null) {
+            setName.accept(builder, neutronObject.getName());
+        }
+        if (neutronObject.getRevisionNumber() != null) {
+            setRevisionNumber.accept(builder, neutronObject.getRevisionNumber());
         }
     }
 
@@ -241,15 +377,11 @@ public abstract class AbstractTranscriberInterface<
     protected <S1 extends INeutronAdminAttributes<S1>, M extends BaseAttributes & AdminAttributes, B extends Builder<M>>
         void toMdAdminAttributes(S1 neutronObject, B builder) {
         toMdBaseAttributes(neutronObject, builder);
-        try {
-            if (neutronObject.getAdminStateUp() != null) {
-                setAdminStateUp.invoke(builder, neutronObject.getAdminStateUp());
-            }
-            if (neutronObject.getStatus() != null) {
-                setStatus.invoke(builder, neutronObject.getStatus());
-            }
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new IllegalArgumentException(e);
+        if (neutronObject.getAdminStateUp() != null) {
+            setAdminStateUp.accept(builder, neutronObject.getAdminStateUp());
+        }
+        if (neutronObject.getStatus() != null) {
+            setStatus.accept(builder, neutronObject.getStatus());
         }
     }
 
@@ -267,14 +399,8 @@ public abstract class AbstractTranscriberInterface<
     protected abstract T toMd(S neutronObject);
 
     protected T toMd(String uuid) {
-        Builder<T> builder;
-        try {
-            builder = builderClass.newInstance();
-            setUuid.invoke(builder, toUuid(uuid));
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            // should not happen.
-            throw new IllegalArgumentException(e);
-        }
+        final Builder<T> builder = newBuilder.get();
+        setUuid.accept(builder, toUuid(uuid));
         return builder.build();
     }
 
@@ -287,13 +413,18 @@ public abstract class AbstractTranscriberInterface<
                 ReadFailedException> future = tx.read(LogicalDatastoreType.CONFIGURATION, path);
         if (future != null) {
             Optional<W> optional;
+            final long start = NeutronMetrics.start();
+            boolean success = false;
             try {
                 optional = future.checkedGet();
+                success = true;
                 if (optional.isPresent()) {
                     result = optional.get();
                 }
             } catch (final ReadFailedException e) {
                 LOG.warn("Failed to read {}", path, e);
+            } finally {
+                NeutronMetrics.stop(cache.getResourceName(), "read", start, success);
             }
         }
         return result;
@@ -305,117 +436,73 @@ public abstract class AbstractTranscriberInterface<
         }
     }
 
-    private void addMd(S neutronObject, WriteTransaction tx) throws InterruptedException, ExecutionException {
-        // TODO think about adding existence logic
-        updateMd(neutronObject, tx);
-    }
-
-    protected boolean addMd(S neutronObject) {
-        try {
-            final WriteTransaction tx = getDataBroker().newWriteOnlyTransaction();
-            addMd(neutronObject, tx);
-            return true;
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.warn("Transaction failed", e);
-        }
-        return false;
-    }
-
-    private void updateMd(S neutronObject, WriteTransaction tx) throws InterruptedException, ExecutionException {
-        Preconditions.checkNotNull(tx);
-
-        final T item = toMd(neutronObject);
-        final InstanceIdentifier<T> iid = createInstanceIdentifier(item);
-        tx.put(LogicalDatastoreType.CONFIGURATION, iid, item, true);
-        final CheckedFuture<Void, TransactionCommitFailedException> future = tx.submit();
-        // Check if it's successfully committed, otherwise exception will be thrown.
-        future.get();
-    }
-
-    protected boolean updateMd(S neutronObject) {
-        int retries = RETRY_MAX;
-        while (retries-- >= 0) {
-            try {
-                final WriteTransaction tx = getDataBroker().newWriteOnlyTransaction();
-                updateMd(neutronObject, tx);
-                return true;
-            } catch (InterruptedException | ExecutionException e) {
-                if (e.getCause() instanceof OptimisticLockFailedException) {
-                    LOG.warn("Got OptimisticLockFailedException - {} {}", neutronObject, retries);
-                    continue;
-                }
-                // TODO: rethrow exception. don't mask exception
-                LOG.error("Transaction failed", e);
-            }
-            break;
+    // The change notification for our own write may lag behind the commit,
+    // so reads of the item bypass the cache for a while.
+    private void markWritten(K key) {
+        final String uuid = keyToUuid(key);
+        if (uuid != null) {
+            cache.markWritten(uuid);
         }
-        return false;
     }
 
-    private void removeMd(T item, WriteTransaction tx) throws InterruptedException, ExecutionException {
-        Preconditions.checkNotNull(tx);
-        final InstanceIdentifier<T> iid = createInstanceIdentifier(item);
-        tx.delete(LogicalDatastoreType.CONFIGURATION, iid);
-        final CheckedFuture<Void, TransactionCommitFailedException> future = tx.submit();
-        // Check if it's successfully committed, otherwise exception will be thrown.
-        future.get();
+    protected Uuid toUuid(String uuid) {
+        return new Uuid(canonicalUuid(uuid));
     }
 
-    protected boolean removeMd(T item) {
-        final ReadWriteTransaction tx = getDataBroker().newReadWriteTransaction();
-        try {
-            removeMd(item, tx);
-            return true;
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.warn("Transaction failed", e);
-        }
-        return false;
+    protected Uuid toTenantUuid(String tenantId) {
+        return TENANT_UUIDS.intern(toUuid(tenantId));
     }
 
-    protected Uuid toUuid(String uuid) {
+    // Someone may not have followed RFC 4122, accept UUIDs with dashes
+    // anywhere or none and insert them where they belong.
+    private static String canonicalUuid(String uuid) {
         Preconditions.checkNotNull(uuid);
-        Uuid result;
-        try {
-            result = new Uuid(uuid);
-        } catch (final IllegalArgumentException e) {
-            // OK... someone didn't follow RFC 4122... lets try this the hard way
-            final String dedashed = uuid.replace("-", "");
-            if (dedashed.length() == DEDASHED_UUID_LENGTH) {
-                final String redashed = dedashed.substring(DEDASHED_UUID_START, DEDASHED_UUID_DIV1) + "-"
-                        + dedashed.substring(DEDASHED_UUID_DIV1, DEDASHED_UUID_DIV2) + "-"
-                        + dedashed.substring(DEDASHED_UUID_DIV2, DEDASHED_UUID_DIV3) + "-"
-                        + dedashed.substring(DEDASHED_UUID_DIV3, DEDASHED_UUID_DIV4) + "-"
-                        + dedashed.substring(DEDASHED_UUID_DIV4, DEDASHED_UUID_LENGTH);
-                result = new Uuid(redashed);
-            } else {
-                throw e;
-            }
-        }
+        final String result = NeutronUuid.canonicalize(uuid);
+        Preconditions.checkArgument(result != null, "Supplied value \"%s\" is not a UUID", uuid);
         return result;
     }
 
     @Override
     public void close() throws Exception {
-        // TODO Auto-generated method stub
-
+        if (cacheListenerRegistration != null) {
+            cacheListenerRegistration.close();
+            cacheListenerRegistration = null;
+        }
+        unregisterMBean(cacheMBeanName);
+        cacheMBeanName = null;
+        if (writeCoalescer != null) {
+            writeCoalescer.flush();
+            unregisterMBean(writeCoalescerMBeanName);
+            writeCoalescerMBeanName = null;
+        }
+        writer.close();
+        unregisterMBean(writerMBeanName);
+        writerMBeanName = null;
+        cache.clear();
     }
 
     private boolean exists(String uuid, ReadTransaction tx) {
         Preconditions.checkNotNull(tx);
-        final T dataObject = readMd(createInstanceIdentifier(toMd(uuid)), tx);
+        final T dataObject = readMd(createInstanceIdentifier(toKey(uuid)), tx);
         return dataObject != null;
     }
 
     @Override
     public boolean exists(String uuid) {
-        try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
-            return exists(uuid, tx);
-        }
+        return timed("exists", () -> {
+            final String key = canonicalUuid(uuid);
+            if (cache.canServe(key)) {
+                return cache.get(key) != null;
+            }
+            try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+                return exists(uuid, tx);
+            }
+        });
     }
 
     private S get(String uuid, ReadTransaction tx) {
         Preconditions.checkNotNull(tx);
-        final T dataObject = readMd(createInstanceIdentifier(toMd(uuid)), tx);
+        final T dataObject = readMd(createInstanceIdentifier(toKey(uuid)), tx);
         if (dataObject == null) {
             return null;
         }
@@ -424,9 +511,35 @@ public abstract class AbstractTranscriberInterface<
 
     @Override
     public S get(String uuid) {
-        try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
-            return get(uuid, tx);
+        return timed("get", () -> {
+            final String key = canonicalUuid(uuid);
+            if (cache.canServe(key)) {
+                return cache.get(key);
+            }
+            try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+                return get(uuid, tx);
+            }
+        });
+    }
+
+    @Override
+    public ListenableFuture<S> getAsync(String uuid) {
+        final long start = NeutronMetrics.start();
+        final String key = canonicalUuid(uuid);
+        if (cache.canServe(key)) {
+            return timed("getAsync", start, Futures.immediateFuture(cache.get(key)));
         }
+        final InstanceIdentifier<T> iid = createInstanceIdentifier(toKey(uuid));
+        final ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction();
+        final ListenableFuture<Optional<T>> read = tx.read(LogicalDatastoreType.CONFIGURATION, iid);
+        read.addListener(tx::close, MoreExecutors.directExecutor());
+        final ListenableFuture<S> result = Futures.transformAsync(read,
+                optional -> Futures.immediateFuture(optional.isPresent() ? fromMd(optional.get()) : null),
+                MoreExecutors.directExecutor());
+        return timed("getAsync", start, Futures.catching(result, ReadFailedException.class, e -> {
+            LOG.warn("Failed to read {}", iid, e);
+            return null;
+        }, MoreExecutors.directExecutor()));
     }
 
     protected abstract List<T> getDataObjectList(U dataObjects);
@@ -436,9 +549,12 @@ public abstract class AbstractTranscriberInterface<
         final Set<S> allNeutronObjects = new HashSet<>();
         final U dataObjects = readMd(createInstanceIdentifier(), tx);
         if (dataObjects != null) {
+            final long start = NeutronMetrics.start();
             for (final T dataObject : getDataObjectList(dataObjects)) {
                 allNeutronObjects.add(fromMd(dataObject));
             }
+            NeutronMetrics.stop(cache.getResourceName(), "convert", start, true);
+            NeutronMetrics.value(cache.getResourceName(), "converted", allNeutronObjects.size());
         }
         LOG.debug("Exiting _getAll, Found {} OpenStackFirewall", allNeutronObjects.size());
         final List<S> ans = new ArrayList<>();
@@ -446,101 +562,361 @@ public abstract class AbstractTranscriberInterface<
         return ans;
     }
 
+    private List<S> getAll(NeutronFilter<S> filter, ReadTransaction tx) {
+        final List<S> ans = new ArrayList<>();
+        for (final S neutronObject : getAll(tx)) {
+            if (filter.test(neutronObject)) {
+                ans.add(neutronObject);
+            }
+        }
+        return ans;
+    }
+
     @Override
     public List<S> getAll() {
+        return timed("getAll", () -> {
+            if (cache.canServeAll()) {
+                return getAllCached();
+            }
+            try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+                return getAll(tx);
+            }
+        });
+    }
+
+    @Override
+    public List<S> getAll(NeutronFilter<S> filter) {
+        return timed("getAll", () -> {
+            if (cache.canServeAll()) {
+                return getAllCached(filter);
+            }
+            try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+                return getAll(filter, tx);
+            }
+        });
+    }
+
+    private List<S> getAllCached() {
+        final Set<String> recentlyWritten = cache.recentlyWritten();
+        if (recentlyWritten.isEmpty()) {
+            return new ArrayList<>(cache.values());
+        }
+        // overlay the objects written through this node which may not have been notified yet
+        final Map<String, S> allNeutronObjects = new HashMap<>(cache.asMap());
         try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
-            return getAll(tx);
+            for (final String uuid : recentlyWritten) {
+                final S neutronObject = get(uuid, tx);
+                if (neutronObject == null) {
+                    allNeutronObjects.remove(uuid);
+                } else {
+                    allNeutronObjects.put(uuid, neutronObject);
+                }
+            }
         }
+        return new ArrayList<>(allNeutronObjects.values());
     }
 
-    private boolean add(S input, ReadWriteTransaction tx) throws InterruptedException, ExecutionException {
-        Preconditions.checkNotNull(tx);
-        if (exists(input.getID(), tx)) {
-            tx.cancel();
-            return false;
+    private List<S> getAllCached(NeutronFilter<S> filter) {
+        final Set<String> recentlyWritten = cache.recentlyWritten();
+        final Map<String, S> matches = new HashMap<>();
+        for (final S neutronObject : cache.find(filter.getEqualities())) {
+            if (!recentlyWritten.contains(neutronObject.getID()) && filter.test(neutronObject)) {
+                matches.put(neutronObject.getID(), neutronObject);
+            }
+        }
+        if (!recentlyWritten.isEmpty()) {
+            // objects written through this node may not have been notified yet
+            try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+                for (final String uuid : recentlyWritten) {
+                    final S neutronObject = get(uuid, tx);
+                    if (neutronObject != null && filter.test(neutronObject)) {
+                        matches.put(uuid, neutronObject);
+                    }
+                }
+            }
         }
-        addMd(input, tx);
-        return true;
+        return new ArrayList<>(matches.values());
     }
 
+    /**
+     * Answers a page of the default UUID order by walking the cache from the
+     * marker, instead of sorting every match. Filters on an indexed attribute
+     * walk the UUIDs of the index entry, so their pages cost in proportion to
+     * the page rather than to the matches. Sorted queries are left to
+     * {@link #getAll(NeutronFilter)}, as are reads while the cache is not
+     * primed.
+     */
     @Override
-    public boolean add(S input) {
-        int retries = RETRY_MAX;
-        while (retries-- >= 0) {
-            final ReadWriteTransaction tx = getDataBroker().newReadWriteTransaction();
-            try {
-                return add(input, tx);
-            } catch (InterruptedException | ExecutionException e) {
-                if (e.getCause() instanceof OptimisticLockFailedException) {
-                    LOG.warn("Got OptimisticLockFailedException - {} {}", input, retries);
-                    continue;
+    public NeutronQueryResult<S> query(NeutronQuery<S> query) {
+        return timed("query", () -> queryCache(query));
+    }
+
+    private NeutronQueryResult<S> queryCache(NeutronQuery<S> query) {
+        final Integer limit = query.getLimit();
+        final NeutronFilter<S> filter = query.getFilter();
+        if (limit == null || limit < 1 || query.isSorted()) {
+            return INeutronCRUD.super.query(query);
+        }
+        if (!cache.canServeAll()) {
+            try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+                return query.apply(getAll(filter, tx));
+            }
+        }
+        final Set<String> recentlyWritten = cache.recentlyWritten();
+        final NavigableMap<String, S> written = getWritten(recentlyWritten, filter);
+        final String marker = query.getMarker();
+        if (marker == null) {
+            // page_reverse without a marker also starts from the first object
+            final List<S> window = walk(filter, null, false, limit + 1, recentlyWritten, written);
+            return window.size() <= 1 ? query.apply(window) : query.page(window, 0);
+        }
+        final S markerObject = recentlyWritten.contains(marker) ? written.get(marker) : cache.get(marker);
+        if (markerObject == null || !filter.test(markerObject)) {
+            // a listing of at most one object is not paged, so the marker is not looked up
+            final List<S> window = walk(filter, null, false, 2, recentlyWritten, written);
+            if (window.size() <= 1) {
+                return query.apply(window);
+            }
+            throw new NoSuchElementException("UUID for marker: " + marker + " could not be found");
+        }
+        final boolean reverse = query.isPageReverse();
+        final List<S> window = walk(filter, marker, reverse, limit + 1, recentlyWritten, written);
+        if (window.isEmpty() && walk(filter, marker, !reverse, 1, recentlyWritten, written).isEmpty()) {
+            return query.apply(Collections.singletonList(markerObject));
+        }
+        // lay out the window in UUID order around the marker, as NeutronQuery.page() expects
+        if (reverse) {
+            Collections.reverse(window);
+            window.add(markerObject);
+            return query.page(window, window.size() - 1);
+        }
+        window.add(0, markerObject);
+        return query.page(window, 0);
+    }
+
+    /**
+     * Reads the recently written objects which match the filter from the datastore.
+     */
+    private NavigableMap<String, S> getWritten(Set<String> recentlyWritten, NeutronFilter<S> filter) {
+        final NavigableMap<String, S> written = new TreeMap<>();
+        if (recentlyWritten.isEmpty()) {
+            return written;
+        }
+        try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+            for (final String uuid : recentlyWritten) {
+                final S neutronObject = get(uuid, tx);
+                if (neutronObject != null && filter.test(neutronObject)) {
+                    written.put(uuid, neutronObject);
                 }
-                // TODO: rethrow exception. don't mask exception
-                LOG.error("Transaction failed", e);
             }
-            break;
         }
-        return false;
+        return written;
+    }
+
+    /**
+     * Collects up to count matching objects after the marker, or before it
+     * in descending order, overlaying the recently written ones.
+     */
+    private List<S> walk(NeutronFilter<S> filter, String marker, boolean descending, int count,
+            Set<String> recentlyWritten, NavigableMap<String, S> written) {
+        final List<S> ans = new ArrayList<>(count);
+        for (final S neutronObject : cache.walk(filter.getEqualities(), marker, descending)) {
+            if (ans.size() == count) {
+                break;
+            }
+            if (!recentlyWritten.contains(neutronObject.getID()) && filter.test(neutronObject)) {
+                ans.add(neutronObject);
+            }
+        }
+        NavigableMap<String, S> range = written;
+        if (marker != null) {
+            range = descending ? written.headMap(marker, false) : written.tailMap(marker, false);
+        }
+        if (!range.isEmpty()) {
+            // at most count cached objects come first, so merging the few written ones is cheap
+            final Comparator<S> order = (o1, o2) -> o1.getID().compareTo(o2.getID());
+            ans.addAll(range.values());
+            ans.sort(descending ? order.reversed() : order);
+            if (ans.size() > count) {
+                ans.subList(count, ans.size()).clear();
+            }
+        }
+        return ans;
     }
 
-    private boolean remove(String uuid, ReadWriteTransaction tx) throws InterruptedException, ExecutionException {
-        Preconditions.checkNotNull(tx);
-        if (!exists(uuid, tx)) {
-            tx.cancel();
-            return false;
+    @Override
+    public boolean add(S input) {
+        return await(addAsync(input));
+    }
+
+    @Override
+    public ListenableFuture<Boolean> addAsync(S input) {
+        final long start = NeutronMetrics.start();
+        final T item = toMd(input);
+        final InstanceIdentifier<T> iid = createInstanceIdentifier(item);
+        return write("add", start, new NeutronObjectWrite<>(NeutronObjectWrite.Operation.CREATE, iid, iid, item,
+                () -> markWritten(item.getKey())));
+    }
+
+    @Override
+    public List<Boolean> addAll(List<S> inputs) {
+        return timed("addAll", () -> {
+            final List<Boolean> results = new ArrayList<>(inputs.size());
+            for (int from = 0; from < inputs.size(); from += ADD_ALL_CHUNK_SIZE) {
+                final List<S> chunk = inputs.subList(from, Math.min(from + ADD_ALL_CHUNK_SIZE, inputs.size()));
+                results.addAll(addChunk(chunk));
+            }
+            return results;
+        });
+    }
+
+    // One transaction of the writer's chain per chunk; an object repeated in the request is refused
+    // like an existing one, as the batch checks each write against the ones before it.
+    private List<Boolean> addChunk(List<S> chunk) {
+        final List<NeutronObjectWrite<T>> writes = new ArrayList<>(chunk.size());
+        for (final S input : chunk) {
+            final T item = toMd(input);
+            final InstanceIdentifier<T> iid = createInstanceIdentifier(item);
+            writes.add(new NeutronObjectWrite<>(NeutronObjectWrite.Operation.CREATE, iid, iid, item,
+                    () -> markWritten(item.getKey())));
+        }
+        try {
+            return writer.write(new NeutronBatchWrite<>(writes)).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while adding " + chunk.size() + " "
+                    + cache.getResourceName(), e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Failed to add " + chunk.size() + " " + cache.getResourceName(),
+                    e.getCause());
         }
-        removeMd(toMd(uuid), tx);
-        return true;
     }
 
     @Override
     public boolean remove(String uuid) {
-        int retries = RETRY_MAX;
-        while (retries-- >= 0) {
-            final ReadWriteTransaction tx = getDataBroker().newReadWriteTransaction();
-            try {
-                return remove(uuid, tx);
-            } catch (InterruptedException | ExecutionException e) {
-                if (e.getCause() instanceof OptimisticLockFailedException) {
-                    LOG.warn("Got OptimisticLockFailedException - {} {}", uuid, retries);
-                    continue;
+        return await(removeAsync(uuid));
+    }
+
+    @Override
+    public ListenableFuture<Boolean> removeAsync(String uuid) {
+        final long start = NeutronMetrics.start();
+        final K key = toKey(uuid);
+        final InstanceIdentifier<T> iid = createInstanceIdentifier(key);
+        return write("remove", start, new NeutronObjectWrite<>(NeutronObjectWrite.Operation.DELETE, iid, iid, null,
+                () -> markWritten(key)));
+    }
+
+    @Override
+    public boolean update(String uuid, S delta) {
+        return await(updateAsync(uuid, delta));
+    }
+
+    @Override
+    public ListenableFuture<Boolean> updateAsync(String uuid, S delta) {
+        final long start = NeutronMetrics.start();
+        final T item = toMd(delta);
+        return write("update", start, new NeutronObjectWrite<>(NeutronObjectWrite.Operation.UPDATE,
+                createInstanceIdentifier(toKey(uuid)), createInstanceIdentifier(item), item,
+                () -> markWritten(item.getKey())));
+    }
+
+    private ListenableFuture<Boolean> write(String operation, long start, NeutronObjectWrite<T> write) {
+        // a delta under another key than the one updated is checked and written apart
+        if (writeCoalescer != null && write.isChecked()) {
+            return timed(operation, start, writeCoalescer.submit(write));
+        }
+        return timed(operation, start, writer.write(write));
+    }
+
+    /*
+     * Records the latency of a CRUD call in NeutronMetrics. A call which
+     * throws counts as an error; one which returns false does not, as the
+     * caller asked for a missing or existing object.
+     */
+    private <R> R timed(String operation, Supplier<R> call) {
+        final long start = NeutronMetrics.start();
+        boolean success = false;
+        try {
+            final R result = call.get();
+            success = true;
+            return result;
+        } finally {
+            NeutronMetrics.stop(cache.getResourceName(), operation, start, success);
+        }
+    }
+
+    private <R> ListenableFuture<R> timed(String operation, long start, ListenableFuture<R> future) {
+        if (start != 0) {
+            Futures.addCallback(future, new FutureCallback<R>() {
+                @Override
+                public void onSuccess(R result) {
+                    NeutronMetrics.stop(cache.getResourceName(), operation, start, true);
                 }
-                // TODO: rethrow exception. don't mask exception
-                LOG.error("Transaction failed", e);
-            }
-            break;
+
+                @Override
+                public void onFailure(Throwable cause) {
+                    NeutronMetrics.stop(cache.getResourceName(), operation, start, false);
+                }
+            }, MoreExecutors.directExecutor());
         }
-        return false;
+        return future;
     }
 
-    private boolean update(String uuid, S delta, ReadWriteTransaction tx)
-            throws InterruptedException, ExecutionException {
-        Preconditions.checkNotNull(tx);
-        if (!exists(uuid, tx)) {
-            tx.cancel();
-            return false;
+    private static boolean await(ListenableFuture<Boolean> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            LOG.error("Interrupted while waiting for transaction", e);
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            LOG.error("Transaction failed", e);
         }
-        updateMd(delta, tx);
-        return true;
+        return false;
     }
 
-    @Override
-    public boolean update(String uuid, S delta) {
-        int retries = RETRY_MAX;
-        while (retries-- >= 0) {
-            final ReadWriteTransaction tx = getDataBroker().newReadWriteTransaction();
-            try {
-                return update(uuid, delta, tx);
-            } catch (InterruptedException | ExecutionException e) {
-                if (e.getCause() instanceof OptimisticLockFailedException) {
-                    LOG.warn("Got OptimisticLockFailedException - {} {} {}", uuid, delta, retries);
-                    continue;
+    private final class CacheListener implements ClusteredDataTreeChangeListener<U> {
+        @Override
+        public void onDataTreeChanged(Collection<DataTreeModification<U>> changes) {
+            for (final DataTreeModification<U> change : changes) {
+                final DataObjectModification<U> rootNode = change.getRootNode();
+                switch (rootNode.getModificationType()) {
+                    case SUBTREE_MODIFIED:
+                        for (final DataObjectModification<? extends DataObject> child
+                                : rootNode.getModifiedChildren()) {
+                            if (mdListClass.equals(child.getDataType())) {
+                                @SuppressWarnings("unchecked")
+                                final DataObjectModification<T> item = (DataObjectModification<T>) child;
+                                applyItem(item);
+                            }
+                        }
+                        break;
+                    case WRITE:
+                    case DELETE:
+                        cache.replaceAll(fromMdList(rootNode.getDataAfter()));
+                        break;
+                    default:
+                        LOG.warn("Unhandled modification type {}", rootNode.getModificationType());
+                        break;
                 }
-                // TODO: rethrow exception. don't mask exception
-                LOG.error("Transaction failed", e);
             }
-            break;
         }
-        return false;
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        private void applyItem(DataObjectModification<T> item) {
+            final T after = item.getDataAfter();
+            if (after == null) {
+                final T before = item.getDataBefore();
+                if (before != null) {
+                    cache.remove(keyToUuid(before.getKey()));
+                }
+                return;
+            }
+            try {
+                cache.put(fromMd(after));
+            } catch (final RuntimeException e) {
+                LOG.warn("Failed to convert {}, dropping it from the cache", after, e);
+                cache.conversionFailed(keyToUuid(after.getKey()));
+            }
+        }
     }
 }
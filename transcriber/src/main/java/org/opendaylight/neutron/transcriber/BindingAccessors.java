@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Accessors of generated binding classes which are only known at runtime.
+ *
+ * <p>
+ * Yangtools does not model the "uses" of a grouping as a common builder
+ * interface, so the transcribers have to look the builder setters up by
+ * name. Instead of calling them with {@code Method.invoke} on every write,
+ * each one is bound once to a functional interface with
+ * {@link LambdaMetafactory}, which the JIT compiles like a direct call.
+ */
+final class BindingAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType BI_CONSUMER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private BindingAccessors() {
+    }
+
+    /**
+     * Binds the no-argument constructor of a class.
+     */
+    static <O> Supplier<O> constructor(Class<O> cls) throws NoSuchMethodException {
+        final MethodHandle handle = findConstructor(cls, MethodType.methodType(void.class));
+        return bind(Supplier.class, "get", SUPPLIER_TYPE, handle, MethodType.methodType(cls));
+    }
+
+    /**
+     * Binds the one-argument constructor of a class, such as the
+     * constructor of a list key from its key leaf.
+     */
+    static <A, O> Function<A, O> constructor(Class<O> cls, Class<A> argumentClass) throws NoSuchMethodException {
+        final MethodHandle handle = findConstructor(cls, MethodType.methodType(void.class, argumentClass));
+        return bind(Function.class, "apply", FUNCTION_TYPE, handle, MethodType.methodType(cls, argumentClass));
+    }
+
+    /**
+     * Binds a public getter.
+     */
+    static <O, V> Function<O, V> getter(Class<O> cls, String name, Class<V> valueClass)
+            throws NoSuchMethodException {
+        final Method method = cls.getMethod(name);
+        if (!valueClass.isAssignableFrom(method.getReturnType())) {
+            throw new NoSuchMethodException(cls.getName() + "." + name + " does not return " + valueClass.getName());
+        }
+        return bind(Function.class, "apply", FUNCTION_TYPE, unreflect(method),
+                MethodType.methodType(method.getReturnType(), cls));
+    }
+
+    /**
+     * Binds a builder setter declared by the given class. Its return value,
+     * the builder itself, is dropped.
+     */
+    static <V> BiConsumer<Object, V> setter(Class<?> cls, String name, Class<V> valueClass)
+            throws NoSuchMethodException {
+        final Method method = cls.getDeclaredMethod(name, valueClass);
+        return bind(BiConsumer.class, "accept", BI_CONSUMER_TYPE, unreflect(method),
+                MethodType.methodType(void.class, cls, valueClass));
+    }
+
+    private static MethodHandle findConstructor(Class<?> cls, MethodType type) throws NoSuchMethodException {
+        try {
+            return LOOKUP.findConstructor(cls, type);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "checkstyle:IllegalCatch" })
+    private static <F> F bind(Class<?> functionalInterface, String methodName, MethodType methodType,
+            MethodHandle implementation, MethodType instantiatedType) {
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(LOOKUP, methodName,
+                    MethodType.methodType(functionalInterface), methodType, implementation, instantiatedType);
+            return (F) site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Failed to bind " + implementation, e);
+        }
+    }
+}
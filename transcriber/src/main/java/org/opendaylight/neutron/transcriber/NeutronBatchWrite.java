@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Writes of several objects in one transaction. The existence reads are
+ * issued together, and each write is checked against the state left by the
+ * writes before it, as if they had been committed one after the other. Its
+ * result is, for each write in order, whether the object was written.
+ */
+final class NeutronBatchWrite<T extends DataObject> implements NeutronWriteTask<List<Boolean>> {
+    private final List<NeutronObjectWrite<T>> writes;
+    private boolean[] applied;
+
+    /**
+     * Creates a batch.
+     *
+     * @param writes the writes, each of which must check the written object
+     */
+    NeutronBatchWrite(List<NeutronObjectWrite<T>> writes) {
+        for (final NeutronObjectWrite<T> write : writes) {
+            Preconditions.checkArgument(write.isChecked(), "%s does not check the written object", write);
+        }
+        this.writes = writes;
+    }
+
+    @Override
+    public ListenableFuture<Boolean> prepare(ReadWriteTransaction tx) {
+        // issue the reads of all objects before waiting for any of them
+        final Map<InstanceIdentifier<T>, ListenableFuture<Boolean>> reads = new HashMap<>();
+        for (final NeutronObjectWrite<T> write : writes) {
+            reads.computeIfAbsent(write.getPath(), path -> NeutronObjectWrite.exists(path, tx));
+        }
+        return Futures.whenAllComplete(reads.values()).call(() -> apply(reads, tx), MoreExecutors.directExecutor());
+    }
+
+    private boolean apply(Map<InstanceIdentifier<T>, ListenableFuture<Boolean>> reads, ReadWriteTransaction tx) {
+        final Map<InstanceIdentifier<T>, Boolean> existing = new HashMap<>();
+        for (final Map.Entry<InstanceIdentifier<T>, ListenableFuture<Boolean>> read : reads.entrySet()) {
+            existing.put(read.getKey(), Futures.getUnchecked(read.getValue()));
+        }
+        applied = new boolean[writes.size()];
+        boolean anyApplied = false;
+        for (int i = 0; i < writes.size(); i++) {
+            final NeutronObjectWrite<T> write = writes.get(i);
+            applied[i] = write.isApplicable(existing.get(write.getPath()));
+            if (applied[i]) {
+                existing.put(write.getPath(), write.apply(tx));
+                anyApplied = true;
+            }
+        }
+        return anyApplied;
+    }
+
+    @Override
+    public void submitted() {
+        for (int i = 0; i < writes.size(); i++) {
+            if (applied[i]) {
+                writes.get(i).submitted();
+            }
+        }
+    }
+
+    @Override
+    public List<Boolean> result(boolean committed) {
+        final List<Boolean> result = new ArrayList<>(writes.size());
+        for (int i = 0; i < writes.size(); i++) {
+            result.add(committed && applied[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "batch of " + writes.size() + " writes";
+    }
+}
@@ -27,6 +27,7 @@ public final class NeutronFloatingIpInterface
 
     NeutronFloatingIpInterface(DataBroker db) {
         super(FloatingipBuilder.class, db);
+        addIndex("port_id", NeutronFloatingIp::getPortUUID);
     }
 
     // IfNBFloatingIpCRUD interface methods
@@ -58,7 +59,7 @@ public final class NeutronFloatingIpInterface
             floatingipBuilder.setStatus(floatingIp.getStatus());
         }
         if (floatingIp.getTenantID() != null) {
-            floatingipBuilder.setTenantId(toUuid(floatingIp.getTenantID()));
+            floatingipBuilder.setTenantId(toTenantUuid(floatingIp.getTenantID()));
         }
         if (floatingIp.getID() != null) {
             floatingipBuilder.setUuid(toUuid(floatingIp.getID()));
@@ -71,7 +71,7 @@ public final class NeutronL2gatewayConnectionInterface
             l2gatewayConnectionBuilder.setSegmentId((neutronObject.getSegmentID()));
         }
         if (neutronObject.getTenantID() != null) {
-            l2gatewayConnectionBuilder.setTenantId(toUuid(neutronObject.getTenantID()));
+            l2gatewayConnectionBuilder.setTenantId(toTenantUuid(neutronObject.getTenantID()));
         }
         if (neutronObject.getPortID() != null) {
             l2gatewayConnectionBuilder.setPortId(toUuid(neutronObject.getPortID()));
@@ -97,7 +97,7 @@ public final class NeutronL2gatewayInterface
             l2gatewayBuilder.setUuid(toUuid(neutronObject.getID()));
         }
         if (neutronObject.getTenantID() != null) {
-            l2gatewayBuilder.setTenantId(toUuid(neutronObject.getTenantID()));
+            l2gatewayBuilder.setTenantId(toTenantUuid(neutronObject.getTenantID()));
         }
 
         if (neutronObject.getNeutronL2gatewayDevices() != null) {
@@ -72,7 +72,7 @@ public final class NeutronLoadBalancerHealthMonitorInterface
             healthmonitorBuilder.setPools(listUuid);
         }
         if (healthMonitor.getTenantID() != null) {
-            healthmonitorBuilder.setTenantId(toUuid(healthMonitor.getTenantID()));
+            healthmonitorBuilder.setTenantId(toTenantUuid(healthMonitor.getTenantID()));
         }
         if (healthMonitor.getLoadBalancerHealthMonitorTimeout() != null) {
             healthmonitorBuilder.setTimeout(Long.valueOf(healthMonitor.getLoadBalancerHealthMonitorTimeout()));
@@ -101,7 +101,7 @@ public final class NeutronLoadBalancerPoolInterface
             poolBuilder.setSessionPersistence(sessionPersistenceBuilder.build());
         }
         if (pool.getTenantID() != null) {
-            poolBuilder.setTenantId(toUuid(pool.getTenantID()));
+            poolBuilder.setTenantId(toTenantUuid(pool.getTenantID()));
         }
         if (pool.getID() != null) {
             poolBuilder.setUuid(toUuid(pool.getID()));
@@ -280,7 +280,7 @@ public final class NeutronLoadBalancerPoolInterface
             memberBuilder.setSubnetId(toUuid(member.getPoolMemberSubnetID()));
         }
         if (member.getTenantID() != null) {
-            memberBuilder.setTenantId(toUuid(member.getTenantID()));
+            memberBuilder.setTenantId(toTenantUuid(member.getTenantID()));
         }
         if (member.getPoolMemberWeight() != null) {
             memberBuilder.setWeight(member.getPoolMemberWeight());
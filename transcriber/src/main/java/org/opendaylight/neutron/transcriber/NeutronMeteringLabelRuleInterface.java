@@ -46,7 +46,7 @@ public final class NeutronMeteringLabelRuleInterface
             meteringRuleBuilder.setUuid(toUuid(meteringLabelRule.getID()));
         }
         if (meteringLabelRule.getTenantID() != null) {
-            meteringRuleBuilder.setTenantId(toUuid(meteringLabelRule.getTenantID()));
+            meteringRuleBuilder.setTenantId(toTenantUuid(meteringLabelRule.getTenantID()));
         }
         if (meteringLabelRule.getMeteringLabelRuleLabelID() != null) {
             meteringRuleBuilder.setMeteringLabelId(toUuid(meteringLabelRule.getMeteringLabelRuleLabelID()));
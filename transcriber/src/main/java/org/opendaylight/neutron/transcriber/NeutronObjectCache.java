@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.neutron.spi.NeutronFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory copy of the neutron objects of one resource container.
+ *
+ * <p>
+ * The cache is filled and kept current by the datastore change listener of
+ * {@link AbstractTranscriberInterface}; readers never open a transaction for
+ * a key the cache can answer. Objects are keyed by their canonical UUID
+ * string and are shared between callers, so they must not be modified.
+ *
+ * <p>
+ * Two situations make a read bypass the cache. Until a complete view of the
+ * container has been loaded the cache is not primed. And a key written
+ * through this node is read from the datastore for a short window after the
+ * write, since the change notification for it may not have been delivered
+ * yet and the writer expects to read its own update back.
+ *
+ * <p>
+ * Attributes which are frequently used as query filters can be indexed, so
+ * that equality lookups cost in proportion to the number of matches.
+ *
+ * <p>
+ * Objects are kept ordered by UUID, which is the default list order, and so
+ * are the entries of the indexes, so that a page of a listing, filtered or
+ * not, can be read by walking from its marker.
+ */
+final class NeutronObjectCache<S extends INeutronObject<S>> implements NeutronObjectCacheMXBean {
+    private static final Logger LOG = LoggerFactory.getLogger(NeutronObjectCache.class);
+
+    // Change notifications are delivered well within this window after the commit.
+    private static final long RECENT_WRITE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(5);
+    // Expired recent-write marks are swept every so many notifications.
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final String resourceName;
+    private final ConcurrentNavigableMap<String, S> objects = new ConcurrentSkipListMap<>();
+    // uuid -> System.nanoTime() deadline until which reads of uuid bypass the cache
+    private final ConcurrentMap<String, Long> recentWrites = new ConcurrentHashMap<>();
+    // attribute name -> index, only added to before the cache is in use
+    private final Map<String, NeutronObjectIndex<S>> indexes = new HashMap<>();
+
+    private volatile boolean primed;
+    // guarded by this
+    private boolean notified;
+    // guarded by this
+    private int changesSincePurge;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder removes = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder conversionFailures = new LongAdder();
+
+    NeutronObjectCache(String resourceName) {
+        this.resourceName = resourceName;
+    }
+
+    String getResourceName() {
+        return resourceName;
+    }
+
+    void addIndex(String attribute, Function<S, ?> extractor) {
+        indexes.put(attribute, new NeutronObjectIndex<>(extractor));
+    }
+
+    /**
+     * Checks whether a read of the given key may be answered from the cache,
+     * and accounts the read accordingly.
+     */
+    boolean canServe(String uuid) {
+        if (primed && !isRecentlyWritten(uuid)) {
+            hits.increment();
+            return true;
+        }
+        bypasses.increment();
+        return false;
+    }
+
+    /**
+     * Checks whether a full listing may be answered from the cache. Recently
+     * written keys must then be patched in from the datastore by the caller.
+     */
+    boolean canServeAll() {
+        if (primed) {
+            hits.increment();
+            return true;
+        }
+        bypasses.increment();
+        return false;
+    }
+
+    S get(String uuid) {
+        return objects.get(uuid);
+    }
+
+    Collection<S> values() {
+        return objects.values();
+    }
+
+    Map<String, S> asMap() {
+        return objects;
+    }
+
+    /**
+     * Returns candidates for the given attribute equalities after the given
+     * key in UUID order, or before it in descending UUID order: a superset of
+     * the matching objects in that range, narrowed by the most selective
+     * applicable index. A null key starts from the first, respectively the
+     * last, object. The caller must still test every candidate.
+     */
+    Iterable<S> walk(Map<String, Object> equalities, String from, boolean descending) {
+        final NavigableSet<String> uuids = narrow(equalities);
+        if (uuids == null) {
+            ConcurrentNavigableMap<String, S> range = objects;
+            if (from != null) {
+                range = descending ? objects.headMap(from, false) : objects.tailMap(from, false);
+            }
+            return descending ? range.descendingMap().values() : range.values();
+        }
+        NavigableSet<String> range = uuids;
+        if (from != null) {
+            range = descending ? uuids.headSet(from, false) : uuids.tailSet(from, false);
+        }
+        final NavigableSet<String> ordered = descending ? range.descendingSet() : range;
+        // an index may briefly list an object the map no longer holds
+        return Iterables.filter(Iterables.transform(ordered, objects::get), Objects::nonNull);
+    }
+
+    /**
+     * Returns candidates for the given attribute equalities: a superset of the
+     * matching objects, narrowed by the most selective applicable index. The
+     * caller must still test every candidate.
+     */
+    Iterable<S> find(Map<String, Object> equalities) {
+        return walk(equalities, null, false);
+    }
+
+    // The UUIDs the ID or the smallest applicable index narrow the equalities down to, or null if none applies.
+    private NavigableSet<String> narrow(Map<String, Object> equalities) {
+        final Object id = equalities.get(NeutronFilter.ID);
+        if (id != null) {
+            return id instanceof String && objects.containsKey(id) ? new TreeSet<>(Collections.singleton((String) id))
+                    : Collections.emptyNavigableSet();
+        }
+        NavigableSet<String> best = null;
+        for (final Map.Entry<String, Object> equality : equalities.entrySet()) {
+            final NeutronObjectIndex<S> index = indexes.get(equality.getKey());
+            if (index != null) {
+                final NavigableSet<String> uuids = index.lookup(equality.getValue());
+                if (best == null || uuids.size() < best.size()) {
+                    best = uuids;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Marks a key as written through this node, so that reads of it go to the
+     * datastore until its change notification has surely been applied.
+     */
+    void markWritten(String uuid) {
+        recentWrites.put(uuid, System.nanoTime() + RECENT_WRITE_WINDOW_NANOS);
+        invalidations.increment();
+    }
+
+    private boolean isRecentlyWritten(String uuid) {
+        final Long deadline = recentWrites.get(uuid);
+        if (deadline == null) {
+            return false;
+        }
+        if (System.nanoTime() - deadline < 0) {
+            return true;
+        }
+        recentWrites.remove(uuid, deadline);
+        return false;
+    }
+
+    /**
+     * Returns the keys currently marked as recently written.
+     */
+    Set<String> recentlyWritten() {
+        if (recentWrites.isEmpty()) {
+            return new HashSet<>();
+        }
+        final Set<String> result = new HashSet<>();
+        final long now = System.nanoTime();
+        for (final Map.Entry<String, Long> entry : recentWrites.entrySet()) {
+            if (now - entry.getValue() < 0) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads the result of the initial datastore read. It is discarded if a
+     * change notification has been applied in the meantime, as that one is
+     * at least as recent.
+     */
+    synchronized void prime(Collection<S> initial) {
+        if (notified) {
+            LOG.debug("{} cache already populated by notification, ignoring initial read", resourceName);
+            return;
+        }
+        load(initial);
+        LOG.debug("{} cache primed with {} objects", resourceName, objects.size());
+    }
+
+    /**
+     * Replaces the complete content, after the container itself was written or deleted.
+     */
+    synchronized void replaceAll(Collection<S> content) {
+        notified = true;
+        load(content);
+        resyncs.increment();
+    }
+
+    private void load(Collection<S> content) {
+        final Set<String> keys = new HashSet<>();
+        for (final S object : content) {
+            store(object);
+            keys.add(object.getID());
+        }
+        for (final String uuid : new ArrayList<>(objects.keySet())) {
+            if (!keys.contains(uuid)) {
+                discard(uuid);
+            }
+        }
+        primed = true;
+    }
+
+    private void store(S object) {
+        final S previous = objects.put(object.getID(), object);
+        for (final NeutronObjectIndex<S> index : indexes.values()) {
+            index.update(previous, object);
+        }
+    }
+
+    private void discard(String uuid) {
+        final S previous = objects.remove(uuid);
+        if (previous != null) {
+            for (final NeutronObjectIndex<S> index : indexes.values()) {
+                index.update(previous, null);
+            }
+        }
+    }
+
+    synchronized void put(S object) {
+        notified = true;
+        store(object);
+        updates.increment();
+        changeApplied();
+    }
+
+    synchronized void remove(String uuid) {
+        notified = true;
+        discard(uuid);
+        removes.increment();
+        changeApplied();
+    }
+
+    /**
+     * Drops an object whose new state could not be converted, so that stale
+     * data is not served for it.
+     */
+    synchronized void conversionFailed(String uuid) {
+        if (uuid != null) {
+            discard(uuid);
+        }
+        conversionFailures.increment();
+        changeApplied();
+    }
+
+    private void changeApplied() {
+        if (++changesSincePurge < PURGE_INTERVAL) {
+            return;
+        }
+        changesSincePurge = 0;
+        final long now = System.nanoTime();
+        final Iterator<Long> it = recentWrites.values().iterator();
+        while (it.hasNext()) {
+            if (now - it.next() >= 0) {
+                it.remove();
+            }
+        }
+    }
+
+    synchronized void clear() {
+        primed = false;
+        notified = false;
+        objects.clear();
+        recentWrites.clear();
+        for (final NeutronObjectIndex<S> index : indexes.values()) {
+            index.clear();
+        }
+    }
+
+    @Override
+    public boolean isPrimed() {
+        return primed;
+    }
+
+    @Override
+    public int getSize() {
+        return objects.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getBypassCount() {
+        return bypasses.sum();
+    }
+
+    @Override
+    public long getUpdateCount() {
+        return updates.sum();
+    }
+
+    @Override
+    public long getRemoveCount() {
+        return removes.sum();
+    }
+
+    @Override
+    public long getResyncCount() {
+        return resyncs.sum();
+    }
+
+    @Override
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public long getConversionFailureCount() {
+        return conversionFailures.sum();
+    }
+}
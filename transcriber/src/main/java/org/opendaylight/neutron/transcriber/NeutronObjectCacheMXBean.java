@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+/**
+ * JMX view of the read cache kept for one neutron resource type.
+ */
+public interface NeutronObjectCacheMXBean {
+
+    /**
+     * Whether the cache holds a complete copy of the resource container.
+     * Until it does, every read is served from the datastore.
+     */
+    boolean isPrimed();
+
+    /**
+     * Number of objects currently cached.
+     */
+    int getSize();
+
+    /**
+     * Reads answered from the cache.
+     */
+    long getHitCount();
+
+    /**
+     * Reads which went to the datastore, either because the cache was not
+     * primed or because the object was written recently through this node.
+     */
+    long getBypassCount();
+
+    /**
+     * Objects added or replaced by datastore change notifications.
+     */
+    long getUpdateCount();
+
+    /**
+     * Objects removed by datastore change notifications.
+     */
+    long getRemoveCount();
+
+    /**
+     * Full reloads of the cache, caused by the resource container itself
+     * being written or deleted.
+     */
+    long getResyncCount();
+
+    /**
+     * Keys marked as recently written, for which reads bypass the cache.
+     */
+    long getInvalidationCount();
+
+    /**
+     * Changed objects which could not be converted and were dropped from the cache.
+     */
+    long getConversionFailureCount();
+}
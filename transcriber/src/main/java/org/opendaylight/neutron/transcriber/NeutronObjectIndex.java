@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import org.opendaylight.neutron.spi.INeutronObject;
+
+/**
+ * Index of the cached neutron objects by the value of one attribute. The
+ * UUIDs of each value are kept in order, so a page of the objects with that
+ * value can be read by walking from its marker.
+ *
+ * <p>
+ * Updates are serialized by the owning {@link NeutronObjectCache}; lookups may
+ * run concurrently with them and only see UUIDs, which the caller resolves
+ * against the cache and re-tests.
+ */
+final class NeutronObjectIndex<S extends INeutronObject<S>> {
+    private final Function<S, ?> extractor;
+    private final ConcurrentMap<Object, NavigableSet<String>> uuidsByValue = new ConcurrentHashMap<>();
+
+    NeutronObjectIndex(Function<S, ?> extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * Moves an object from the entry of its previous value to the entry of
+     * its current value. Either may be null, for an added or removed object.
+     */
+    void update(S previous, S current) {
+        final Object previousValue = previous == null ? null : extractor.apply(previous);
+        final Object currentValue = current == null ? null : extractor.apply(current);
+        if (previousValue != null && previousValue.equals(currentValue)) {
+            return;
+        }
+        if (currentValue != null) {
+            uuidsByValue.computeIfAbsent(currentValue, k -> new ConcurrentSkipListSet<>()).add(current.getID());
+        }
+        if (previousValue != null) {
+            uuidsByValue.computeIfPresent(previousValue, (k, uuids) -> {
+                uuids.remove(previous.getID());
+                return uuids.isEmpty() ? null : uuids;
+            });
+        }
+    }
+
+    NavigableSet<String> lookup(Object value) {
+        final NavigableSet<String> uuids = uuidsByValue.get(value);
+        return uuids == null ? Collections.emptyNavigableSet() : uuids;
+    }
+
+    void clear() {
+        uuidsByValue.clear();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.opendaylight.controller.md.sal.binding.api.ReadTransaction;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write of one object, on condition that it exists or not. Its result is
+ * whether the object was written.
+ */
+final class NeutronObjectWrite<T extends DataObject> implements NeutronWriteTask<Boolean> {
+    private static final Logger LOG = LoggerFactory.getLogger(NeutronObjectWrite.class);
+
+    enum Operation {
+        // the object must not exist
+        CREATE,
+        // the object must exist
+        UPDATE,
+        // the object must exist
+        DELETE
+    }
+
+    private final Operation operation;
+    private final InstanceIdentifier<T> checked;
+    private final InstanceIdentifier<T> path;
+    private final T data;
+    private final Runnable written;
+
+    /**
+     * Creates a write.
+     *
+     * @param operation the kind of write, which says whether the object must exist
+     * @param checked the object whose existence is checked
+     * @param path the object to write, normally the checked one
+     * @param data the object, or null to delete it
+     * @param written run once the commit of the write has completed, whatever its outcome
+     */
+    NeutronObjectWrite(Operation operation, InstanceIdentifier<T> checked, InstanceIdentifier<T> path, T data,
+            Runnable written) {
+        this.operation = operation;
+        this.checked = checked;
+        this.path = path;
+        this.data = data;
+        this.written = written;
+    }
+
+    InstanceIdentifier<T> getPath() {
+        return path;
+    }
+
+    /**
+     * Whether the existence of the written object itself is checked.
+     */
+    boolean isChecked() {
+        return checked.equals(path);
+    }
+
+    /**
+     * Whether the write is to be done, given whether the checked object exists.
+     */
+    boolean isApplicable(boolean exists) {
+        return operation == Operation.CREATE ? !exists : exists;
+    }
+
+    /**
+     * Writes the object in a transaction.
+     *
+     * @return whether the object exists after the write
+     */
+    boolean apply(WriteTransaction tx) {
+        if (data == null) {
+            tx.delete(LogicalDatastoreType.CONFIGURATION, path);
+            return false;
+        }
+        tx.put(LogicalDatastoreType.CONFIGURATION, path, data, true);
+        return true;
+    }
+
+    @Override
+    public ListenableFuture<Boolean> prepare(ReadWriteTransaction tx) {
+        return Futures.transformAsync(exists(checked, tx), exists -> {
+            if (!isApplicable(exists)) {
+                return Futures.immediateFuture(Boolean.FALSE);
+            }
+            apply(tx);
+            return Futures.immediateFuture(Boolean.TRUE);
+        }, MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public void submitted() {
+        written.run();
+    }
+
+    @Override
+    public Boolean result(boolean committed) {
+        return committed;
+    }
+
+    // A failed read counts as a missing object, like the synchronous reads do.
+    static <T extends DataObject> ListenableFuture<Boolean> exists(InstanceIdentifier<T> path, ReadTransaction tx) {
+        final ListenableFuture<Boolean> exists = Futures.transform(
+                tx.read(LogicalDatastoreType.CONFIGURATION, path), Optional::isPresent, MoreExecutors.directExecutor());
+        return Futures.catching(exists, ReadFailedException.class, e -> {
+            LOG.warn("Failed to read {}", path, e);
+            return Boolean.FALSE;
+        }, MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public String toString() {
+        return operation + " " + path;
+    }
+}
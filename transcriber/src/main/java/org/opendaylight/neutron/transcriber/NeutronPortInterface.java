@@ -57,6 +57,10 @@ public final class NeutronPortInterface extends AbstractNeutronInterface<Port, P
 
     NeutronPortInterface(DataBroker db) {
         super(PortBuilder.class, db);
+        addIndex("network_id", NeutronPort::getNetworkUUID);
+        addIndex("device_id", NeutronPort::getDeviceID);
+        addIndex("device_owner", NeutronPort::getDeviceOwner);
+        addIndex("mac_address", NeutronPort::getMacAddress);
     }
 
     // IfNBPortCRUD methods
@@ -48,7 +48,7 @@ public final class NeutronQosPolicyInterface
             for (final NeutronQosBandwidthLimitRule bandwidthLimitRule : qosPolicy.getBandwidthLimitRules()) {
                 final BandwidthLimitRulesBuilder bandwidthLimitRulesBuilder = new BandwidthLimitRulesBuilder();
                 bandwidthLimitRulesBuilder.setUuid(toUuid(bandwidthLimitRule.getID()));
-                bandwidthLimitRulesBuilder.setTenantId(toUuid(bandwidthLimitRule.getTenantID()));
+                bandwidthLimitRulesBuilder.setTenantId(toTenantUuid(bandwidthLimitRule.getTenantID()));
                 bandwidthLimitRulesBuilder.setMaxKbps(bandwidthLimitRule.getMaxKbps());
                 bandwidthLimitRulesBuilder.setMaxBurstKbps(bandwidthLimitRule.getMaxBurstKbps());
                 listBandwith.add(bandwidthLimitRulesBuilder.build());
@@ -60,7 +60,7 @@ public final class NeutronQosPolicyInterface
             for (final NeutronQosDscpMarkingRule dscpMarkingRule : qosPolicy.getDscpMarkingRules()) {
                 final DscpmarkingRulesBuilder dscpmarkingRulesBuilder = new DscpmarkingRulesBuilder();
                 dscpmarkingRulesBuilder.setUuid(toUuid(dscpMarkingRule.getID()));
-                dscpmarkingRulesBuilder.setTenantId(toUuid(dscpMarkingRule.getTenantID()));
+                dscpmarkingRulesBuilder.setTenantId(toTenantUuid(dscpMarkingRule.getTenantID()));
                 dscpmarkingRulesBuilder.setDscpMark(dscpMarkingRule.getDscpMark());
                 listDscpMarking.add(dscpmarkingRulesBuilder.build());
             }
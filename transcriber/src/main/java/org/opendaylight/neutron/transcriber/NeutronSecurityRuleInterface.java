@@ -44,6 +44,7 @@ public final class NeutronSecurityRuleInterface extends
 
     NeutronSecurityRuleInterface(DataBroker db) {
         super(SecurityRuleBuilder.class, db);
+        addIndex("security_group_id", NeutronSecurityRule::getSecurityRuleGroupID);
     }
 
     @Override
@@ -99,7 +100,7 @@ public final class NeutronSecurityRuleInterface extends
         final SecurityRuleBuilder securityRuleBuilder = new SecurityRuleBuilder();
 
         if (securityRule.getTenantID() != null) {
-            securityRuleBuilder.setTenantId(toUuid(securityRule.getTenantID()));
+            securityRuleBuilder.setTenantId(toTenantUuid(securityRule.getTenantID()));
         }
         if (securityRule.getSecurityRuleDirection() != null) {
             final ImmutableBiMap<String, Class<? extends DirectionBase>> mapper = DIRECTION_MAP.inverse();
@@ -53,6 +53,7 @@ public final class NeutronSubnetInterface extends AbstractNeutronInterface<Subne
 
     NeutronSubnetInterface(DataBroker db) {
         super(SubnetBuilder.class, db);
+        addIndex("network_id", NeutronSubnet::getNetworkUUID);
     }
 
     // IfNBSubnetCRUD methods
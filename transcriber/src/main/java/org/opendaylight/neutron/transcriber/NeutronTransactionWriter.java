@@ -0,0 +1,429 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.controller.md.sal.binding.api.BindingTransactionChain;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.OptimisticLockFailedException;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.neutron.spi.NeutronMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writer of the objects of one resource container, through a transaction
+ * chain.
+ *
+ * <p>
+ * Each transaction of the chain sees the writes of the ones before it, even
+ * before they are committed, so the writes of this node to the container do
+ * not conflict with each other. A chain has one transaction open at a time:
+ * tasks are queued and each one gets its transaction once the previous
+ * task has submitted or cancelled its own, while commits proceed in the
+ * background.
+ *
+ * <p>
+ * A commit may still conflict with a write from another node. The task is
+ * then run again in a new transaction after an exponential backoff with
+ * jitter, up to a configured number of times. A failed transaction fails
+ * the whole chain, which is replaced by a new one. The task whose
+ * transaction the chain reports as the cause is given up, unless that
+ * transaction conflicted; the other tasks whose transaction belonged to the
+ * failed chain are run again, including those the failed chain refused a
+ * transaction or a submit before reporting its failure. As the failure of a
+ * commit may be reported before the one of its chain, the decision on a
+ * failed commit waits for the chain to name its cause.
+ *
+ * <p>
+ * The time tasks take to prepare their transaction and the time commits
+ * take are recorded in {@link NeutronMetrics} as "prepare" and "commit".
+ */
+final class NeutronTransactionWriter implements NeutronTransactionWriterMXBean {
+    private static final Logger LOG = LoggerFactory.getLogger(NeutronTransactionWriter.class);
+
+    /**
+     * System property which sets how many times a conflicting write is
+     * retried (5 by default).
+     */
+    static final String RETRIES_PROPERTY = "org.opendaylight.neutron.transcriber.writeRetries";
+
+    /**
+     * System property which sets the backoff before the first retry of a
+     * conflicting write, in milliseconds (10 by default). It doubles with
+     * each retry, and the actual delay is drawn at random below it.
+     */
+    static final String RETRY_DELAY_PROPERTY = "org.opendaylight.neutron.transcriber.writeRetryDelay";
+
+    /**
+     * System property which caps the backoff, in milliseconds (1000 by default).
+     */
+    static final String MAX_RETRY_DELAY_PROPERTY = "org.opendaylight.neutron.transcriber.writeRetryMaxDelay";
+
+    private static final int DEFAULT_RETRIES = 5;
+    private static final long DEFAULT_RETRY_DELAY = 10;
+    private static final long DEFAULT_MAX_RETRY_DELAY = 1000;
+    // beyond this many doublings the backoff is capped anyway
+    private static final int MAX_BACKOFF_SHIFT = 30;
+    // how long a failed commit waits for its chain to report which transaction failed it
+    private static final long CHAIN_FAILURE_TIMEOUT_MILLIS = 10000;
+
+    // runs the retries once their backoff has elapsed, for all resource types
+    private static final ScheduledExecutorService RETRIER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("neutron-write-retry-%d").setDaemon(true).build());
+
+    private final DataBroker db;
+    private final String resourceName;
+    private final int maxRetries;
+    private final long retryDelay;
+    private final long maxRetryDelay;
+
+    // guarded by this
+    private ChainState current;
+    // guarded by this
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    // whether a task has a transaction open, guarded by this
+    private boolean busy;
+    // whether a thread is starting tasks, guarded by this
+    private boolean draining;
+
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder giveUps = new LongAdder();
+    private final LongAdder chainFailures = new LongAdder();
+
+    NeutronTransactionWriter(DataBroker db, String resourceName) {
+        this.db = db;
+        this.resourceName = resourceName;
+        this.maxRetries = Math.max(0, Integer.getInteger(RETRIES_PROPERTY, DEFAULT_RETRIES));
+        this.retryDelay = Math.max(1, Long.getLong(RETRY_DELAY_PROPERTY, DEFAULT_RETRY_DELAY));
+        this.maxRetryDelay = Math.max(retryDelay, Long.getLong(MAX_RETRY_DELAY_PROPERTY, DEFAULT_MAX_RETRY_DELAY));
+    }
+
+    /**
+     * Queues a task.
+     *
+     * @param task the task
+     * @return future of the result of the task, which fails with the cause
+     *         of the last failed commit if the task could not be committed
+     */
+    <R> ListenableFuture<R> write(NeutronWriteTask<R> task) {
+        final SettableFuture<R> result = SettableFuture.create();
+        enqueue(() -> attempt(task, result, 0));
+        return result;
+    }
+
+    private void enqueue(Runnable task) {
+        synchronized (this) {
+            queue.add(task);
+        }
+        drain();
+    }
+
+    // Tasks whose transaction is prepared without waiting release it before
+    // start() returns; the loop then starts the next one instead of nesting.
+    private void drain() {
+        while (true) {
+            final Runnable task;
+            synchronized (this) {
+                if (busy || draining || queue.isEmpty()) {
+                    return;
+                }
+                task = queue.poll();
+                busy = true;
+                draining = true;
+            }
+            try {
+                task.run();
+            } finally {
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+    }
+
+    private void release() {
+        synchronized (this) {
+            busy = false;
+        }
+        drain();
+    }
+
+    // Runs with the transaction of the chain to itself, and calls release()
+    // once it has submitted or cancelled it.
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private <R> void attempt(NeutronWriteTask<R> task, SettableFuture<R> result, int attempt) {
+        final ChainState txChain;
+        final ReadWriteTransaction tx;
+        final ListenableFuture<Boolean> prepared;
+        try {
+            synchronized (this) {
+                if (current == null) {
+                    final ChainState created = new ChainState();
+                    created.chain = db.createTransactionChain(created);
+                    current = created;
+                }
+                txChain = current;
+            }
+        } catch (final RuntimeException e) {
+            release();
+            giveUp(task, result, e);
+            return;
+        }
+        try {
+            tx = txChain.chain.newReadWriteTransaction();
+        } catch (final RuntimeException e) {
+            release();
+            chainRefused(task, result, attempt, txChain, e);
+            return;
+        }
+        final long prepareStart = NeutronMetrics.start();
+        try {
+            prepared = task.prepare(tx);
+        } catch (final RuntimeException e) {
+            tx.cancel();
+            release();
+            giveUp(task, result, e);
+            return;
+        }
+        Futures.addCallback(prepared, new FutureCallback<Boolean>() {
+            @Override
+            public void onSuccess(Boolean submit) {
+                NeutronMetrics.stop(resourceName, "prepare", prepareStart, true);
+                if (!submit) {
+                    tx.cancel();
+                    release();
+                    result.set(task.result(false));
+                    return;
+                }
+                final long commitStart = NeutronMetrics.start();
+                final ListenableFuture<Void> commit;
+                try {
+                    commit = tx.submit();
+                } catch (final RuntimeException e) {
+                    chainRefused(task, result, attempt, txChain, e);
+                    return;
+                } finally {
+                    release();
+                }
+                Futures.addCallback(commit, new FutureCallback<Void>() {
+                    @Override
+                    public void onSuccess(Void value) {
+                        NeutronMetrics.stop(resourceName, "commit", commitStart, true);
+                        commits.increment();
+                        task.submitted();
+                        result.set(task.result(true));
+                    }
+
+                    @Override
+                    public void onFailure(Throwable cause) {
+                        NeutronMetrics.stop(resourceName, "commit", commitStart, false);
+                        task.submitted();
+                        commitFailed(task, result, attempt, txChain, tx, cause);
+                    }
+                }, MoreExecutors.directExecutor());
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                NeutronMetrics.stop(resourceName, "prepare", prepareStart, false);
+                tx.cancel();
+                release();
+                notCommitted(task, result, attempt, txChain, cause);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    // A task which failed before submitting its transaction cannot have failed the chain.
+    private <R> void notCommitted(NeutronWriteTask<R> task, SettableFuture<R> result, int attempt,
+            ChainState txChain, Throwable cause) {
+        final boolean conflict = cause instanceof OptimisticLockFailedException;
+        if (conflict) {
+            conflicts.increment();
+        }
+        final boolean chainFailed;
+        synchronized (this) {
+            chainFailed = txChain.failed;
+        }
+        retryOrGiveUp(task, result, attempt, cause, conflict || chainFailed);
+    }
+
+    // A failed chain refuses new transactions and submits, possibly before it
+    // reports its failure. The chain is replaced, and the task is run again:
+    // it did not commit, so it is not the cause.
+    private <R> void chainRefused(NeutronWriteTask<R> task, SettableFuture<R> result, int attempt,
+            ChainState txChain, Throwable cause) {
+        synchronized (this) {
+            if (current == txChain) {
+                current = null;
+            }
+        }
+        retryOrGiveUp(task, result, attempt, cause, true);
+    }
+
+    private <R> void commitFailed(NeutronWriteTask<R> task, SettableFuture<R> result, int attempt,
+            ChainState txChain, ReadWriteTransaction tx, Throwable cause) {
+        final boolean conflict = cause instanceof OptimisticLockFailedException;
+        if (conflict) {
+            conflicts.increment();
+        }
+        // the transaction which failed the chain is retried only if it conflicted, the others always
+        final Decision decision = culprit -> retryOrGiveUp(task, result, attempt, cause, conflict || !culprit);
+        final boolean culprit;
+        synchronized (this) {
+            if (!txChain.failed) {
+                txChain.undecided.put(tx, decision);
+                RETRIER.schedule(() -> txChain.timedOut(tx), CHAIN_FAILURE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                return;
+            }
+            culprit = tx == txChain.failedTransaction;
+        }
+        decision.decide(culprit);
+    }
+
+    private <R> void retryOrGiveUp(NeutronWriteTask<R> task, SettableFuture<R> result, int attempt,
+            Throwable cause, boolean retriable) {
+        if (retriable && attempt < maxRetries) {
+            retries.increment();
+            final long delay = backoff(attempt);
+            LOG.debug("Writing {} {} failed, retry {} in {} ms", resourceName, task, attempt + 1, delay, cause);
+            RETRIER.schedule(() -> enqueue(() -> attempt(task, result, attempt + 1)), delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+        giveUp(task, result, cause);
+    }
+
+    private <R> void giveUp(NeutronWriteTask<R> task, SettableFuture<R> result, Throwable cause) {
+        giveUps.increment();
+        LOG.error("Failed to write {} {}", resourceName, task, cause);
+        result.setException(cause);
+    }
+
+    // "full jitter": a random delay up to the exponentially growing bound
+    private long backoff(int attempt) {
+        final long bound = Math.min(maxRetryDelay, retryDelay << Math.min(attempt, MAX_BACKOFF_SHIFT));
+        return ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    void close() {
+        final ChainState closing;
+        synchronized (this) {
+            closing = current;
+            current = null;
+        }
+        if (closing != null) {
+            closing.chain.close();
+        }
+    }
+
+    @Override
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    @Override
+    public long getCommitCount() {
+        return commits.sum();
+    }
+
+    @Override
+    public long getConflictCount() {
+        return conflicts.sum();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    @Override
+    public long getGiveUpCount() {
+        return giveUps.sum();
+    }
+
+    @Override
+    public long getChainFailureCount() {
+        return chainFailures.sum();
+    }
+
+    @FunctionalInterface
+    private interface Decision {
+        void decide(boolean culprit);
+    }
+
+    /**
+     * A transaction chain, the transaction it reported as the cause of its
+     * failure, and the failed commits of its transactions waiting for that
+     * report. All but the chain are guarded by the writer.
+     */
+    private final class ChainState implements TransactionChainListener {
+        BindingTransactionChain chain;
+        boolean failed;
+        AsyncTransaction<?, ?> failedTransaction;
+        final Map<AsyncTransaction<?, ?>, Decision> undecided = new HashMap<>();
+
+        @Override
+        public void onTransactionChainFailed(TransactionChain<?, ?> failedChain, AsyncTransaction<?, ?> transaction,
+                Throwable cause) {
+            chainFailures.increment();
+            LOG.debug("Transaction chain of {} failed, replacing it", resourceName, cause);
+            final List<Map.Entry<AsyncTransaction<?, ?>, Decision>> decisions;
+            synchronized (NeutronTransactionWriter.this) {
+                failed = true;
+                failedTransaction = transaction;
+                decisions = new ArrayList<>(undecided.entrySet());
+                undecided.clear();
+                if (current == this) {
+                    current = null;
+                }
+            }
+            failedChain.close();
+            for (final Map.Entry<AsyncTransaction<?, ?>, Decision> decision : decisions) {
+                decision.getValue().decide(decision.getKey() == transaction);
+            }
+        }
+
+        @Override
+        public void onTransactionChainSuccessful(TransactionChain<?, ?> closed) {
+            LOG.debug("Transaction chain of {} closed", resourceName);
+        }
+
+        // A chain which never reports its failure leaves the failed commit as its only suspect.
+        void timedOut(AsyncTransaction<?, ?> transaction) {
+            final Decision decision;
+            synchronized (NeutronTransactionWriter.this) {
+                decision = undecided.remove(transaction);
+            }
+            if (decision != null) {
+                decision.decide(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+/**
+ * JMX view of the writes of one neutron resource type to the datastore.
+ */
+public interface NeutronTransactionWriterMXBean {
+
+    /**
+     * How many times a write is retried after a conflict before it fails.
+     */
+    int getMaxRetries();
+
+    /**
+     * Transactions committed.
+     */
+    long getCommitCount();
+
+    /**
+     * Commits which failed because another transaction changed the data
+     * they read.
+     */
+    long getConflictCount();
+
+    /**
+     * Writes run again after a conflict or the failure of their chain.
+     */
+    long getRetryCount();
+
+    /**
+     * Writes which failed for good, after their retries if any.
+     */
+    long getGiveUpCount();
+
+    /**
+     * Transaction chains which failed and were replaced.
+     */
+    long getChainFailureCount();
+}
@@ -9,12 +9,15 @@
 package org.opendaylight.neutron.transcriber;
 
 import com.google.common.base.Preconditions;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.neutron.spi.INeutronBgpvpnCRUD;
 import org.opendaylight.neutron.spi.INeutronCRUD;
@@ -46,6 +49,7 @@ import org.opendaylight.neutron.spi.INeutronVpnIkePolicyCRUD;
 import org.opendaylight.neutron.spi.INeutronVpnIpSecPolicyCRUD;
 import org.opendaylight.neutron.spi.INeutronVpnIpSecSiteConnectionsCRUD;
 import org.opendaylight.neutron.spi.INeutronVpnServiceCRUD;
+import org.opendaylight.neutron.spi.NeutronMetrics;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
@@ -59,6 +63,7 @@ public final class NeutronTranscriberProvider implements NeutronTranscriber {
     private final DataBroker db;
     private final List<ServiceRegistration<? extends INeutronCRUD<?>>> registrations = new ArrayList<>();
     private final List<AutoCloseable> neutronInterfaces = new ArrayList<>();
+    private ObjectName metricsMBeanName;
 
     @Inject
     public NeutronTranscriberProvider(BundleContext context, DataBroker db) {
@@ -68,7 +73,9 @@ public final class NeutronTranscriberProvider implements NeutronTranscriber {
     }
 
     private <S extends INeutronCRUD<?>,
-            T extends AutoCloseable /* & S */> void registerCRUDInterface(java.lang.Class<S> clazz, T crudInterface) {
+            T extends AbstractTranscriberInterface<?, ?, ?, ?, ?> /* & S */>
+            void registerCRUDInterface(java.lang.Class<S> clazz, T crudInterface) {
+        crudInterface.init();
         neutronInterfaces.add(crudInterface);
         @SuppressWarnings("unchecked")
         S castCrudInterface = (S) crudInterface;
@@ -111,10 +118,34 @@ public final class NeutronTranscriberProvider implements NeutronTranscriber {
                               new NeutronVpnIpSecSiteConnectionsInterface(db));
         registerCRUDInterface(INeutronVpnServiceCRUD.class, new NeutronVpnServiceInterface(db));
 
+        registerMetricsMBean();
+
         // We don't need context any more
         this.context = null;
     }
 
+    private void registerMetricsMBean() {
+        try {
+            final ObjectName name = new ObjectName(NeutronMetrics.MBEAN_NAME);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(NeutronMetrics.getInstance(), name);
+            metricsMBeanName = name;
+        } catch (final JMException e) {
+            LOG.warn("Failed to register metrics MXBean", e);
+        }
+    }
+
+    private void unregisterMetricsMBean() {
+        if (metricsMBeanName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(metricsMBeanName);
+        } catch (final JMException e) {
+            LOG.warn("Failed to unregister metrics MXBean", e);
+        }
+        metricsMBeanName = null;
+    }
+
     @PreDestroy
     public void close() throws Exception {
         for (final ServiceRegistration registration : registrations) {
@@ -124,5 +155,6 @@ public final class NeutronTranscriberProvider implements NeutronTranscriber {
             neutronCRUD.close();
         }
         neutronInterfaces.clear();
+        unregisterMetricsMBean();
     }
 }
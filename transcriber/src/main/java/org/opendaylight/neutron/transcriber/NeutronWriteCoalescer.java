@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.neutron.spi.NeutronMetricHistogram;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Group commit of the single-object writes of one resource container.
+ *
+ * <p>
+ * Writes arriving within a short window, or until a batch is full, are
+ * applied in one transaction: their existence reads are issued together and
+ * each write is checked against the state left by the writes before it in
+ * the batch, as if they had been committed one after the other. Each caller
+ * gets the result of its own write. Should the commit of the batch fail for
+ * good, its writes are run again one by one in their own transactions, so
+ * that a failing write fails only its caller.
+ *
+ * <p>
+ * Group commit is off unless {@link #WINDOW_PROPERTY} is set.
+ */
+final class NeutronWriteCoalescer<T extends DataObject> implements NeutronWriteCoalescerMXBean {
+    private static final Logger LOG = LoggerFactory.getLogger(NeutronWriteCoalescer.class);
+
+    /**
+     * System property which sets how many milliseconds a write waits for
+     * others before its batch is committed; 0, the default, disables group
+     * commit.
+     */
+    static final String WINDOW_PROPERTY = "org.opendaylight.neutron.transcriber.groupCommitWindow";
+
+    /**
+     * System property which sets how many writes are committed at most in
+     * one batch.
+     */
+    static final String BATCH_SIZE_PROPERTY = "org.opendaylight.neutron.transcriber.groupCommitBatchSize";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    // commits the batches whose window has ended, for all resource types
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("neutron-group-commit-%d").setDaemon(true).build());
+
+    private final NeutronTransactionWriter writer;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    // guarded by this
+    private List<Pending<T>> pending = new ArrayList<>();
+    // guarded by this
+    private ScheduledFuture<?> flushTask;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final NeutronMetricHistogram batchSizes = new NeutronMetricHistogram();
+    private final NeutronMetricHistogram waitTimes = new NeutronMetricHistogram();
+
+    NeutronWriteCoalescer(NeutronTransactionWriter writer, long windowMillis, int maxBatchSize) {
+        this.writer = writer;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    static boolean isEnabled() {
+        return getConfiguredWindowMillis() > 0;
+    }
+
+    static <T extends DataObject> NeutronWriteCoalescer<T> create(NeutronTransactionWriter writer) {
+        return new NeutronWriteCoalescer<>(writer, getConfiguredWindowMillis(),
+                Math.max(1, Integer.getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE)));
+    }
+
+    private static long getConfiguredWindowMillis() {
+        return Long.getLong(WINDOW_PROPERTY, 0);
+    }
+
+    /**
+     * Queues a write for the next batch.
+     *
+     * @param write the write, whose existence check must be on the written object
+     * @return future of whether the object was written, false if it did or did not exist
+     */
+    ListenableFuture<Boolean> submit(NeutronObjectWrite<T> write) {
+        Preconditions.checkArgument(write.isChecked(), "%s does not check the written object", write);
+        final Pending<T> pendingWrite = new Pending<>(write);
+        List<Pending<T>> batch = null;
+        synchronized (this) {
+            pending.add(pendingWrite);
+            if (pending.size() >= maxBatchSize) {
+                batch = takePending();
+            } else if (flushTask == null) {
+                flushTask = FLUSHER.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (batch != null) {
+            commit(batch);
+        }
+        return pendingWrite.result;
+    }
+
+    /**
+     * Commits the queued writes now.
+     */
+    void flush() {
+        final List<Pending<T>> batch = takePending();
+        if (!batch.isEmpty()) {
+            commit(batch);
+        }
+    }
+
+    private synchronized List<Pending<T>> takePending() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        final List<Pending<T>> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void commit(List<Pending<T>> batch) {
+        final long now = System.nanoTime();
+        batches.increment();
+        batchSizes.record(batch.size());
+        for (final Pending<T> write : batch) {
+            waitTimes.record(TimeUnit.NANOSECONDS.toMicros(now - write.enqueued));
+        }
+        final List<NeutronObjectWrite<T>> writes = new ArrayList<>(batch.size());
+        batch.forEach(write -> writes.add(write.write));
+        Futures.addCallback(writer.write(new NeutronBatchWrite<>(writes)), new FutureCallback<List<Boolean>>() {
+            @Override
+            public void onSuccess(List<Boolean> results) {
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result.set(results.get(i));
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                fallbacks.increment();
+                LOG.warn("Group commit of {} writes failed, committing them one by one", batch.size(), cause);
+                // the writer runs them in this order
+                for (final Pending<T> write : batch) {
+                    write.result.setFuture(writer.write(write.write));
+                }
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    @Override
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public SortedMap<Long, Long> getBatchSizeHistogram() {
+        return batchSizes.snapshot();
+    }
+
+    @Override
+    public SortedMap<Long, Long> getWaitTimeHistogram() {
+        return waitTimes.snapshot();
+    }
+
+    private static final class Pending<T extends DataObject> {
+        final NeutronObjectWrite<T> write;
+        final SettableFuture<Boolean> result = SettableFuture.create();
+        final long enqueued = System.nanoTime();
+
+        Pending(NeutronObjectWrite<T> write) {
+            this.write = write;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import java.util.SortedMap;
+
+/**
+ * JMX view of the group commit of single-object writes for one neutron
+ * resource type. Histograms map the inclusive upper bound of each bucket
+ * holding values to the number of values in it; the buckets are an eighth
+ * of a power of two wide.
+ */
+public interface NeutronWriteCoalescerMXBean {
+
+    /**
+     * Milliseconds a write waits for others before its batch is committed.
+     */
+    long getWindowMillis();
+
+    /**
+     * Number of writes which causes a batch to be committed without waiting
+     * for the end of the window.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Batches committed.
+     */
+    long getBatchCount();
+
+    /**
+     * Batches whose commit failed, and whose writes were then committed one
+     * by one so that each caller gets its own result.
+     */
+    long getFallbackCount();
+
+    /**
+     * Number of writes per committed batch.
+     */
+    SortedMap<Long, Long> getBatchSizeHistogram();
+
+    /**
+     * Microseconds each write waited before its batch was committed.
+     */
+    SortedMap<Long, Long> getWaitTimeHistogram();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+
+/**
+ * Work done in one transaction by {@link NeutronTransactionWriter}. A task is
+ * run again in a new transaction when its commit conflicts, so it must not
+ * keep state from one run to the next.
+ */
+interface NeutronWriteTask<R> {
+
+    /**
+     * Reads and writes in a transaction, which is not submitted yet.
+     *
+     * @param tx the transaction
+     * @return future of whether the transaction is to be submitted, or else cancelled
+     */
+    ListenableFuture<Boolean> prepare(ReadWriteTransaction tx);
+
+    /**
+     * Called when the commit of a submitted transaction has completed,
+     * whatever the outcome.
+     */
+    void submitted();
+
+    /**
+     * Returns the result of the task.
+     *
+     * @param committed whether the transaction was committed, or cancelled
+     * @return the result
+     */
+    R result(boolean committed);
+}
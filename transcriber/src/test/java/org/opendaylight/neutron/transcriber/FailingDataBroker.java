@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.controller.md.sal.binding.api.BindingTransactionChain;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Data broker which fails, on demand, the commits of the read-write
+ * transactions of its chains the way the data store does when it refuses a
+ * commit: the commit fails and the chain reports the transaction as the
+ * cause of its failure. Commits may also be held, for the test to complete
+ * them. Failed and held transactions are cancelled in the wrapped broker,
+ * the others are committed there. Once a commit has failed, its chain
+ * refuses new transactions and submits, as the data store does, even before
+ * the chain reports its failure.
+ */
+final class FailingDataBroker implements AutoCloseable {
+    private final DataBroker delegate;
+    private final DataBroker dataBroker;
+    private final Set<InstanceIdentifier<?>> refused = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger toHold = new AtomicInteger();
+    private final BlockingQueue<HeldCommit> held = new LinkedBlockingQueue<>();
+    private final AtomicInteger chains = new AtomicInteger();
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor();
+    private volatile boolean chainFailureFirst;
+
+    FailingDataBroker(DataBroker delegate) {
+        this.delegate = delegate;
+        this.dataBroker = proxy(DataBroker.class, (proxy, method, args) -> {
+            if ("createTransactionChain".equals(method.getName())) {
+                return createTransactionChain((TransactionChainListener) args[0]);
+            }
+            return invoke(delegate, method, args);
+        });
+    }
+
+    DataBroker getDataBroker() {
+        return dataBroker;
+    }
+
+    /**
+     * Fails the commits of the transactions which write the given object.
+     *
+     * @param path the object
+     * @param reportChainFailureFirst whether the chain reports its failure
+     *            before the commit fails, or after
+     */
+    void refuse(InstanceIdentifier<?> path, boolean reportChainFailureFirst) {
+        chainFailureFirst = reportChainFailureFirst;
+        refused.add(path);
+    }
+
+    /**
+     * Holds the next commits, which are then taken with {@link #takeHeld()}.
+     */
+    void hold(int commits) {
+        toHold.addAndGet(commits);
+    }
+
+    HeldCommit takeHeld() throws InterruptedException {
+        final HeldCommit commit = held.poll(10, TimeUnit.SECONDS);
+        if (commit == null) {
+            throw new AssertionError("No commit was held");
+        }
+        return commit;
+    }
+
+    int getChainCount() {
+        return chains.get();
+    }
+
+    @Override
+    public void close() {
+        notifier.shutdown();
+    }
+
+    private BindingTransactionChain createTransactionChain(TransactionChainListener listener) {
+        chains.incrementAndGet();
+        final ChainListener chainListener = new ChainListener(listener);
+        final BindingTransactionChain chain = delegate.createTransactionChain(chainListener);
+        chainListener.chain = proxy(BindingTransactionChain.class, (proxy, method, args) -> {
+            if ("newReadWriteTransaction".equals(method.getName())) {
+                if (chainListener.failed) {
+                    throw chainFailed();
+                }
+                final ReadWriteTransaction tx = chain.newReadWriteTransaction();
+                final ReadWriteTransaction txProxy = newReadWriteTransaction(tx, chainListener);
+                chainListener.transactions.put(tx, txProxy);
+                return txProxy;
+            }
+            return invoke(chain, method, args);
+        });
+        return chainListener.chain;
+    }
+
+    private ReadWriteTransaction newReadWriteTransaction(ReadWriteTransaction tx, ChainListener chainListener) {
+        final Set<InstanceIdentifier<?>> written = new HashSet<>();
+        return proxy(ReadWriteTransaction.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "put":
+                case "merge":
+                case "delete":
+                    written.add((InstanceIdentifier<?>) args[1]);
+                    break;
+                case "submit":
+                    if (chainListener.failed) {
+                        tx.cancel();
+                        throw chainFailed();
+                    }
+                    return submit(tx, (ReadWriteTransaction) proxy, written, chainListener);
+                default:
+                    break;
+            }
+            return invoke(tx, method, args);
+        });
+    }
+
+    private Object submit(ReadWriteTransaction tx, ReadWriteTransaction txProxy, Set<InstanceIdentifier<?>> written,
+            ChainListener chainListener) {
+        final boolean refuse = written.stream().anyMatch(refused::contains);
+        final boolean hold = !refuse && toHold.getAndUpdate(count -> Math.max(0, count - 1)) > 0;
+        if (!refuse && !hold) {
+            return tx.submit();
+        }
+        tx.cancel();
+        final SettableFuture<Void> commit = SettableFuture.create();
+        if (hold) {
+            held.add(new HeldCommit(txProxy, commit, chainListener));
+        } else {
+            chainListener.failed = true;
+            final TransactionCommitFailedException cause =
+                    new TransactionCommitFailedException("Refused to commit " + written);
+            final boolean reportFirst = chainFailureFirst;
+            notifier.execute(() -> {
+                if (reportFirst) {
+                    chainListener.fail(txProxy, cause);
+                    commit.setException(cause);
+                } else {
+                    commit.setException(cause);
+                    chainListener.fail(txProxy, cause);
+                }
+            });
+        }
+        return Futures.makeChecked(commit, e -> new TransactionCommitFailedException(e.getMessage(), e));
+    }
+
+    /**
+     * A commit held for the test, which completes it and reports the failure
+     * of its chain as it sees fit.
+     */
+    static final class HeldCommit {
+        final ReadWriteTransaction transaction;
+        final SettableFuture<Void> commit;
+        private final ChainListener chainListener;
+
+        HeldCommit(ReadWriteTransaction transaction, SettableFuture<Void> commit, ChainListener chainListener) {
+            this.transaction = transaction;
+            this.commit = commit;
+            this.chainListener = chainListener;
+        }
+
+        /**
+         * Fails this commit and its chain, which then refuses new
+         * transactions and submits, without reporting the failure of the
+         * chain yet.
+         */
+        void failCommit(Throwable cause) {
+            chainListener.failed = true;
+            commit.setException(cause);
+        }
+
+        /**
+         * Reports the failure of the chain of this commit, caused by it.
+         */
+        void failChain(Throwable cause) {
+            chainListener.fail(transaction, cause);
+        }
+
+        /**
+         * Reports the failure of the chain of this commit, caused by a
+         * transaction the writer does not know of.
+         */
+        void failChainByOther(Throwable cause) {
+            chainListener.fail(null, cause);
+        }
+    }
+
+    // Reports the chain and the transactions seen by the writer, instead of the wrapped ones.
+    private static final class ChainListener implements TransactionChainListener {
+        private final TransactionChainListener listener;
+        private final Map<AsyncTransaction<?, ?>, AsyncTransaction<?, ?>> transactions = new ConcurrentHashMap<>();
+        private volatile BindingTransactionChain chain;
+        private volatile boolean failed;
+
+        ChainListener(TransactionChainListener listener) {
+            this.listener = listener;
+        }
+
+        void fail(AsyncTransaction<?, ?> transaction, Throwable cause) {
+            failed = true;
+            listener.onTransactionChainFailed(chain, transaction, cause);
+        }
+
+        @Override
+        public void onTransactionChainFailed(TransactionChain<?, ?> failedChain, AsyncTransaction<?, ?> transaction,
+                Throwable cause) {
+            fail(transactions.getOrDefault(transaction, transaction), cause);
+        }
+
+        @Override
+        public void onTransactionChainSuccessful(TransactionChain<?, ?> closed) {
+            listener.onTransactionChainSuccessful(chain);
+        }
+    }
+
+    private static IllegalStateException chainFailed() {
+        return new IllegalStateException("Transaction chain has failed");
+    }
+
+    // Proxies keep the identity of their own, the transactions are used as keys.
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return method.getParameterCount() == 1 && proxy == args[0];
+                    case "hashCode":
+                        return method.getParameterCount() == 0 ? System.identityHashCode(proxy)
+                                : handler.invoke(proxy, method, args);
+                    default:
+                        return handler.invoke(proxy, method, args);
+                }
+            }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableSet;
+import java.util.UUID;
+import org.opendaylight.controller.md.sal.binding.test.AbstractConcurrentDataBrokerTest;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.neutron.transcriber.NeutronObjectWrite.Operation;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Uuid;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.Networks;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.NetworkBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.NetworkKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+
+/**
+ * Data broker test of the writes of neutron networks.
+ */
+public abstract class NeutronDataBrokerTest extends AbstractConcurrentDataBrokerTest {
+
+    @Override
+    protected Iterable<YangModuleInfo> getModuleInfos() throws Exception {
+        final ImmutableSet.Builder<YangModuleInfo> moduleInfos = ImmutableSet.builder();
+        collectYangModuleInfo(BindingReflections.getModuleInfo(Neutron.class), moduleInfos);
+        return moduleInfos.build();
+    }
+
+    private static void collectYangModuleInfo(YangModuleInfo moduleInfo,
+            ImmutableSet.Builder<YangModuleInfo> moduleInfos) {
+        moduleInfos.add(moduleInfo);
+        for (final YangModuleInfo dependency : moduleInfo.getImportedModules()) {
+            collectYangModuleInfo(dependency, moduleInfos);
+        }
+    }
+
+    static InstanceIdentifier<Network> newNetworkPath() {
+        final Uuid uuid = new Uuid(UUID.randomUUID().toString());
+        return InstanceIdentifier.create(Neutron.class).child(Networks.class).child(Network.class,
+                new NetworkKey(uuid));
+    }
+
+    static Network network(InstanceIdentifier<Network> path, String name) {
+        return new NetworkBuilder().setUuid(path.firstKeyOf(Network.class).getUuid()).setName(name).build();
+    }
+
+    static NeutronObjectWrite<Network> write(Operation operation, InstanceIdentifier<Network> path, String name) {
+        return new NeutronObjectWrite<>(operation, path, path,
+                operation == Operation.DELETE ? null : network(path, name), () -> { });
+    }
+
+    Optional<Network> read(InstanceIdentifier<Network> path) throws Exception {
+        return getDataBroker().newReadOnlyTransaction().read(LogicalDatastoreType.CONFIGURATION, path).checkedGet();
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.neutron.transcriber.FailingDataBroker.HeldCommit;
+import org.opendaylight.neutron.transcriber.NeutronObjectWrite.Operation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.Network;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class NeutronTransactionWriterTest extends NeutronDataBrokerTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private NeutronTransactionWriter writer;
+    private FailingDataBroker failingBroker;
+
+    @After
+    public void closeWriter() {
+        if (writer != null) {
+            writer.close();
+        }
+        if (failingBroker != null) {
+            failingBroker.close();
+        }
+    }
+
+    private NeutronTransactionWriter newFailingWriter() {
+        failingBroker = new FailingDataBroker(getDataBroker());
+        writer = new NeutronTransactionWriter(failingBroker.getDataBroker(), "Network");
+        return writer;
+    }
+
+    private static <R> R get(ListenableFuture<R> future) throws Exception {
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static Throwable getFailure(ListenableFuture<?> future) throws Exception {
+        try {
+            get(future);
+        } catch (final ExecutionException e) {
+            return e.getCause();
+        }
+        fail("The write did not fail");
+        return null;
+    }
+
+    @Test
+    public void testWritesCheckTheObject() throws Exception {
+        writer = new NeutronTransactionWriter(getDataBroker(), "Network");
+        final InstanceIdentifier<Network> path = newNetworkPath();
+
+        assertFalse(get(writer.write(write(Operation.UPDATE, path, "updated"))));
+        assertFalse(get(writer.write(write(Operation.DELETE, path, null))));
+        assertTrue(get(writer.write(write(Operation.CREATE, path, "created"))));
+        assertFalse(get(writer.write(write(Operation.CREATE, path, "again"))));
+        assertEquals("created", read(path).get().getName());
+        assertTrue(get(writer.write(write(Operation.UPDATE, path, "updated"))));
+        assertEquals("updated", read(path).get().getName());
+        assertTrue(get(writer.write(write(Operation.DELETE, path, null))));
+        assertFalse(read(path).isPresent());
+
+        assertEquals(3, writer.getCommitCount());
+        assertEquals(0, writer.getRetryCount());
+        assertEquals(0, writer.getGiveUpCount());
+    }
+
+    @Test
+    public void testConflictIsRetriedInNewChain() throws Exception {
+        writer = new NeutronTransactionWriter(getDataBroker(), "Network");
+        final InstanceIdentifier<Network> path = newNetworkPath();
+        final AtomicInteger attempts = new AtomicInteger();
+        // the first run writes the object behind the back of its transaction, which then conflicts
+        final NeutronWriteTask<Boolean> task = new NeutronWriteTask<Boolean>() {
+            @Override
+            public ListenableFuture<Boolean> prepare(ReadWriteTransaction tx) {
+                // the read makes the transaction take its snapshot
+                return Futures.transformAsync(NeutronObjectWrite.exists(path, tx), exists -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        final WriteTransaction concurrent = getDataBroker().newWriteOnlyTransaction();
+                        concurrent.put(LogicalDatastoreType.CONFIGURATION, path, network(path, "concurrent"), true);
+                        concurrent.submit().checkedGet();
+                    }
+                    tx.put(LogicalDatastoreType.CONFIGURATION, path, network(path, "retried"), true);
+                    return Futures.immediateFuture(Boolean.TRUE);
+                }, MoreExecutors.directExecutor());
+            }
+
+            @Override
+            public void submitted() {
+            }
+
+            @Override
+            public Boolean result(boolean committed) {
+                return committed;
+            }
+        };
+
+        assertTrue(get(writer.write(task)));
+        assertEquals(2, attempts.get());
+        assertEquals("retried", read(path).get().getName());
+        assertEquals(1, writer.getConflictCount());
+        assertEquals(1, writer.getRetryCount());
+        assertEquals(0, writer.getGiveUpCount());
+        assertEquals(1, writer.getChainFailureCount());
+        assertEquals(1, writer.getCommitCount());
+    }
+
+    @Test
+    public void testTransactionFailingTheChainIsGivenUp() throws Exception {
+        assertGivenUp(true);
+    }
+
+    @Test
+    public void testTransactionFailingTheChainIsGivenUpWhenReportedLate() throws Exception {
+        assertGivenUp(false);
+    }
+
+    private void assertGivenUp(boolean reportChainFailureFirst) throws Exception {
+        newFailingWriter();
+        final InstanceIdentifier<Network> refused = newNetworkPath();
+        failingBroker.refuse(refused, reportChainFailureFirst);
+
+        final Throwable cause = getFailure(writer.write(write(Operation.CREATE, refused, "refused")));
+        assertTrue(cause instanceof TransactionCommitFailedException);
+        assertFalse(read(refused).isPresent());
+        assertEquals(0, writer.getRetryCount());
+        assertEquals(1, writer.getGiveUpCount());
+        assertEquals(1, writer.getChainFailureCount());
+
+        // the next write gets a new chain
+        final InstanceIdentifier<Network> path = newNetworkPath();
+        assertTrue(get(writer.write(write(Operation.CREATE, path, "created"))));
+        assertTrue(read(path).isPresent());
+        assertEquals(2, failingBroker.getChainCount());
+    }
+
+    @Test
+    public void testOtherTransactionsOfFailedChainAreRetried() throws Exception {
+        newFailingWriter();
+        final InstanceIdentifier<Network> culpritPath = newNetworkPath();
+        final InstanceIdentifier<Network> bystanderPath = newNetworkPath();
+        failingBroker.hold(2);
+        final ListenableFuture<Boolean> culprit = writer.write(write(Operation.CREATE, culpritPath, "culprit"));
+        final ListenableFuture<Boolean> bystander = writer.write(write(Operation.CREATE, bystanderPath, "bystander"));
+        final HeldCommit culpritCommit = failingBroker.takeHeld();
+        final HeldCommit bystanderCommit = failingBroker.takeHeld();
+
+        // the commit of the bystander fails before the chain tells which transaction failed it
+        final TransactionCommitFailedException cause = new TransactionCommitFailedException("refused");
+        bystanderCommit.commit.setException(new TransactionCommitFailedException("chain failed"));
+        assertFalse(bystander.isDone());
+        culpritCommit.failChain(cause);
+        culpritCommit.commit.setException(cause);
+
+        assertSame(cause, getFailure(culprit));
+        assertTrue(get(bystander));
+        assertFalse(read(culpritPath).isPresent());
+        assertEquals("bystander", read(bystanderPath).get().getName());
+        assertEquals(1, writer.getRetryCount());
+        assertEquals(1, writer.getGiveUpCount());
+        assertEquals(1, writer.getChainFailureCount());
+        assertEquals(2, failingBroker.getChainCount());
+    }
+
+    @Test
+    public void testSubmitRefusedByFailedChainIsRetried() throws Exception {
+        newFailingWriter();
+        final InstanceIdentifier<Network> culpritPath = newNetworkPath();
+        final InstanceIdentifier<Network> bystanderPath = newNetworkPath();
+        failingBroker.hold(1);
+        final ListenableFuture<Boolean> culprit = writer.write(write(Operation.CREATE, culpritPath, "culprit"));
+        final HeldCommit culpritCommit = failingBroker.takeHeld();
+        // the bystander has its transaction open when the commit of the culprit fails
+        final SettableFuture<Boolean> gate = SettableFuture.create();
+        final NeutronWriteTask<Boolean> create = write(Operation.CREATE, bystanderPath, "bystander");
+        final ListenableFuture<Boolean> bystander = writer.write(new NeutronWriteTask<Boolean>() {
+            @Override
+            public ListenableFuture<Boolean> prepare(ReadWriteTransaction tx) {
+                return Futures.transformAsync(gate, open -> create.prepare(tx), MoreExecutors.directExecutor());
+            }
+
+            @Override
+            public void submitted() {
+                create.submitted();
+            }
+
+            @Override
+            public Boolean result(boolean committed) {
+                return create.result(committed);
+            }
+        });
+
+        // the chain refuses the submit of the bystander before it reports its failure
+        final TransactionCommitFailedException cause = new TransactionCommitFailedException("refused");
+        culpritCommit.failCommit(cause);
+        gate.set(Boolean.TRUE);
+        assertTrue(get(bystander));
+        assertFalse(culprit.isDone());
+        culpritCommit.failChain(cause);
+
+        assertSame(cause, getFailure(culprit));
+        assertFalse(read(culpritPath).isPresent());
+        assertEquals("bystander", read(bystanderPath).get().getName());
+        assertEquals(1, writer.getRetryCount());
+        assertEquals(1, writer.getGiveUpCount());
+        assertEquals(2, failingBroker.getChainCount());
+    }
+
+    @Test
+    public void testTransactionRefusedByFailedChainIsRetried() throws Exception {
+        newFailingWriter();
+        final InstanceIdentifier<Network> culpritPath = newNetworkPath();
+        final InstanceIdentifier<Network> path = newNetworkPath();
+        failingBroker.hold(1);
+        final ListenableFuture<Boolean> culprit = writer.write(write(Operation.CREATE, culpritPath, "culprit"));
+        final HeldCommit culpritCommit = failingBroker.takeHeld();
+
+        // the chain refuses the transaction of the next write before it reports its failure
+        final TransactionCommitFailedException cause = new TransactionCommitFailedException("refused");
+        culpritCommit.failCommit(cause);
+        assertTrue(get(writer.write(write(Operation.CREATE, path, "created"))));
+        assertFalse(culprit.isDone());
+        culpritCommit.failChain(cause);
+
+        assertSame(cause, getFailure(culprit));
+        assertEquals("created", read(path).get().getName());
+        assertEquals(1, writer.getRetryCount());
+        assertEquals(1, writer.getGiveUpCount());
+        assertEquals(2, failingBroker.getChainCount());
+    }
+
+    @Test
+    public void testRetriesAreBounded() throws Exception {
+        newFailingWriter();
+        final InstanceIdentifier<Network> path = newNetworkPath();
+        final int commits = writer.getMaxRetries() + 1;
+        failingBroker.hold(commits);
+        final ListenableFuture<Boolean> result = writer.write(write(Operation.CREATE, path, "created"));
+
+        // each commit is a bystander of the failure of its chain, so it is retried up to the bound
+        final TransactionCommitFailedException cause = new TransactionCommitFailedException("chain failed");
+        for (int i = 0; i < commits; i++) {
+            final HeldCommit commit = failingBroker.takeHeld();
+            commit.failChainByOther(new TransactionCommitFailedException("other transaction"));
+            commit.commit.setException(i < commits - 1 ? new TransactionCommitFailedException("chain failed")
+                    : cause);
+        }
+
+        assertSame(cause, getFailure(result));
+        assertEquals(writer.getMaxRetries(), writer.getRetryCount());
+        assertEquals(1, writer.getGiveUpCount());
+        assertEquals(commits, failingBroker.getChainCount());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017 OpenDaylight Neutron contributors and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.transcriber;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.neutron.transcriber.NeutronObjectWrite.Operation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.Network;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class NeutronWriteCoalescerTest extends NeutronDataBrokerTest {
+    private static final long TIMEOUT_SECONDS = 10;
+    // long enough for the batches of the tests to be committed when full or flushed only
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private FailingDataBroker failingBroker;
+    private NeutronTransactionWriter writer;
+
+    @Before
+    public void createWriter() {
+        failingBroker = new FailingDataBroker(getDataBroker());
+        writer = new NeutronTransactionWriter(failingBroker.getDataBroker(), "Network");
+    }
+
+    @After
+    public void closeWriter() {
+        writer.close();
+        failingBroker.close();
+    }
+
+    private static <R> R get(ListenableFuture<R> future) throws Exception {
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testWritesAreCheckedAgainstTheWritesBeforeThem() throws Exception {
+        final NeutronWriteCoalescer<Network> coalescer = new NeutronWriteCoalescer<>(writer, WINDOW_MILLIS, 6);
+        final InstanceIdentifier<Network> existing = newNetworkPath();
+        assertTrue(get(writer.write(write(Operation.CREATE, existing, "existing"))));
+        final InstanceIdentifier<Network> path = newNetworkPath();
+        final InstanceIdentifier<Network> missing = newNetworkPath();
+
+        final ListenableFuture<Boolean> create = coalescer.submit(write(Operation.CREATE, path, "created"));
+        final ListenableFuture<Boolean> createAgain = coalescer.submit(write(Operation.CREATE, path, "again"));
+        final ListenableFuture<Boolean> update = coalescer.submit(write(Operation.UPDATE, path, "updated"));
+        final ListenableFuture<Boolean> updateMissing = coalescer.submit(write(Operation.UPDATE, missing, "missing"));
+        final ListenableFuture<Boolean> delete = coalescer.submit(write(Operation.DELETE, existing, null));
+        assertFalse(create.isDone());
+        // the batch is full
+        final ListenableFuture<Boolean> deleteAgain = coalescer.submit(write(Operation.DELETE, existing, null));
+
+        assertTrue(get(create));
+        assertFalse(get(createAgain));
+        assertTrue(get(update));
+        assertFalse(get(updateMissing));
+        assertTrue(get(delete));
+        assertFalse(get(deleteAgain));
+        assertEquals("updated", read(path).get().getName());
+        assertFalse(read(missing).isPresent());
+        assertFalse(read(existing).isPresent());
+        assertEquals(1, coalescer.getBatchCount());
+        assertEquals(0, coalescer.getFallbackCount());
+        // the creation of the existing network and the batch
+        assertEquals(2, writer.getCommitCount());
+    }
+
+    @Test
+    public void testFlushCommitsPartialBatch() throws Exception {
+        final NeutronWriteCoalescer<Network> coalescer = new NeutronWriteCoalescer<>(writer, WINDOW_MILLIS, 100);
+        final InstanceIdentifier<Network> path = newNetworkPath();
+        final ListenableFuture<Boolean> create = coalescer.submit(write(Operation.CREATE, path, "created"));
+        assertFalse(create.isDone());
+
+        coalescer.flush();
+        assertTrue(get(create));
+        assertTrue(read(path).isPresent());
+        assertEquals(1, coalescer.getBatchCount());
+    }
+
+    @Test
+    public void testFailingWriteFailsOnlyItsCaller() throws Exception {
+        final NeutronWriteCoalescer<Network> coalescer = new NeutronWriteCoalescer<>(writer, WINDOW_MILLIS, 3);
+        final InstanceIdentifier<Network> before = newNetworkPath();
+        final InstanceIdentifier<Network> refused = newNetworkPath();
+        final InstanceIdentifier<Network> after = newNetworkPath();
+        failingBroker.refuse(refused, true);
+
+        final ListenableFuture<Boolean> createBefore = coalescer.submit(write(Operation.CREATE, before, "before"));
+        final ListenableFuture<Boolean> createRefused = coalescer.submit(write(Operation.CREATE, refused, "refused"));
+        final ListenableFuture<Boolean> createAfter = coalescer.submit(write(Operation.CREATE, after, "after"));
+
+        assertTrue(get(createBefore));
+        assertTrue(get(createAfter));
+        try {
+            get(createRefused);
+            fail("The refused write did not fail");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransactionCommitFailedException);
+        }
+        assertTrue(read(before).isPresent());
+        assertFalse(read(refused).isPresent());
+        assertTrue(read(after).isPresent());
+        assertEquals(1, coalescer.getBatchCount());
+        assertEquals(1, coalescer.getFallbackCount());
+        // the batch and the refused write on its own
+        assertEquals(2, writer.getGiveUpCount());
+    }
+}